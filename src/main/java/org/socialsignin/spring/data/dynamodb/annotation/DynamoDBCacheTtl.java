@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the time entities of the annotated class stay in the entity cache of the
+ * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate}.
+ *
+ * <p>Has no effect unless the entity cache is enabled with an
+ * {@link org.socialsignin.spring.data.dynamodb.core.EntityCacheConfig}. A TTL of {@code 0} excludes the entity class
+ * from caching, e.g. for entities that are modified outside of this application.
+ *
+ * <p><b>Example:</b>
+ * <pre>
+ * {@code @DynamoDbBean}
+ * {@code @DynamoDBCacheTtl(5000)}
+ * public class ExchangeRate {
+ *     // ...
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ * @see org.socialsignin.spring.data.dynamodb.core.EntityCache
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DynamoDBCacheTtl {
+
+    /**
+     * The time entities stay cached, in milliseconds.
+     * @return the TTL, {@code 0} to not cache the entities
+     */
+    long value();
+}
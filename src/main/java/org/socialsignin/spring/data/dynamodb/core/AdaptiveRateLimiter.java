@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Token bucket for one direction (reads or writes) of a table whose rate adapts with AIMD.
+ * <p>
+ * Callers reserve the estimated capacity units of a request before sending it and wait until the bucket can cover
+ * them; the estimate is corrected with the consumed capacity DynamoDB reports. Throttling multiplies the rate by the
+ * configured decrease factor, after which it recovers linearly up to the configured ceiling.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class AdaptiveRateLimiter {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maxRate;
+    private final double minRate;
+    private final double decreaseFactor;
+    private final double increasePerSecond;
+    @NonNull
+    private final LongSupplier nanoTime;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a rate limiter.
+     * @param capacityUnitsPerSecond Ceiling of the rate, {@link RateLimitConfig#UNLIMITED} disables limiting
+     * @param config Adaptation settings
+     */
+    public AdaptiveRateLimiter(double capacityUnitsPerSecond, @NonNull RateLimitConfig config) {
+        this(capacityUnitsPerSecond, config, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(double capacityUnitsPerSecond, @NonNull RateLimitConfig config, @NonNull LongSupplier nanoTime) {
+        this.maxRate = capacityUnitsPerSecond;
+        this.minRate = Math.min(config.getMinCapacityUnitsPerSecond(), capacityUnitsPerSecond);
+        this.decreaseFactor = config.getDecreaseFactor();
+        this.increasePerSecond = capacityUnitsPerSecond * config.getRecoveryRatePerSecond();
+        this.nanoTime = nanoTime;
+        this.rate = capacityUnitsPerSecond;
+        this.tokens = capacityUnitsPerSecond;
+        this.lastRefillNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Whether this limiter limits requests at all.
+     * @return false if the ceiling is {@link RateLimitConfig#UNLIMITED}
+     */
+    public boolean isLimited() {
+        return maxRate > 0;
+    }
+
+    /**
+     * Gets the current adaptive rate.
+     * @return The capacity units per second currently allowed
+     */
+    public synchronized double getRate() {
+        refill();
+        return rate;
+    }
+
+    /**
+     * Executes a request once the bucket covers its estimated cost and corrects the estimate with the capacity the
+     * request consumed. Throttling exceptions decrease the rate before they are rethrown.
+     * @param estimatedUnits Capacity units the request is expected to consume
+     * @param request The request to execute
+     * @param consumedCapacity Extracts the consumed capacity from the response, may return {@code null}
+     * @param <R> The response type
+     * @return The response
+     */
+    public <R> R execute(double estimatedUnits, @NonNull Supplier<R> request,
+                         @NonNull Function<R, ConsumedCapacity> consumedCapacity) {
+        if (!isLimited()) {
+            return request.get();
+        }
+        acquire(estimatedUnits);
+        R response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            if (isThrottling(e)) {
+                onThrottle();
+            }
+            throw e;
+        }
+        ConsumedCapacity consumed = response != null ? consumedCapacity.apply(response) : null;
+        if (consumed != null && consumed.capacityUnits() != null) {
+            record(estimatedUnits, consumed.capacityUnits());
+        }
+        return response;
+    }
+
+    /**
+     * Reserves the given capacity units, waiting until the bucket covers them.
+     * <p>
+     * If the thread is interrupted while waiting, the reservation is given back and the request must not be sent.
+     * @param units Capacity units to reserve
+     * @throws IllegalStateException if the thread was interrupted while waiting, with its interrupt flag restored
+     */
+    public void acquire(double units) {
+        if (!isLimited()) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= units;
+            waitNanos = tokens < 0 ? (long) (-tokens / rate * NANOS_PER_SECOND) : 0;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                synchronized (this) {
+                    tokens += units;
+                }
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for capacity", e);
+            }
+        }
+    }
+
+    /**
+     * Corrects an earlier reservation with the capacity units the request actually consumed.
+     * @param estimatedUnits Capacity units reserved for the request
+     * @param consumedUnits Capacity units the request consumed
+     */
+    public synchronized void record(double estimatedUnits, double consumedUnits) {
+        tokens -= consumedUnits - estimatedUnits;
+    }
+
+    /**
+     * Decreases the rate multiplicatively after DynamoDB throttled a request or left items unprocessed.
+     */
+    public synchronized void onThrottle() {
+        if (!isLimited()) {
+            return;
+        }
+        refill();
+        rate = Math.max(minRate, rate * decreaseFactor);
+        tokens = Math.min(tokens, 0);
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        double elapsedSeconds = (now - lastRefillNanos) / NANOS_PER_SECOND;
+        lastRefillNanos = now;
+        if (elapsedSeconds <= 0) {
+            return;
+        }
+        rate = Math.min(maxRate, rate + increasePerSecond * elapsedSeconds);
+        // The bucket holds at most one second worth of capacity
+        tokens = Math.min(rate, tokens + rate * elapsedSeconds);
+    }
+
+    /**
+     * Whether the given exception signals that DynamoDB throttled the request.
+     * @param throwable The exception thrown by a request
+     * @return true for throttling errors
+     */
+    public static boolean isThrottling(@Nullable Throwable throwable) {
+        return throwable instanceof ProvisionedThroughputExceededException
+                || (throwable instanceof SdkServiceException serviceException && serviceException.isThrottlingException());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for batch load ({@code BatchGetItem}) execution.
+ * <p>
+ * Keys are split into chunks of 100 (the DynamoDB limit per request) which are dispatched concurrently, bounded by
+ * {@link #getMaxConcurrency()}. Keys returned as {@code UnprocessedKeys} are resubmitted using the exponential
+ * backoff of the configured {@link BatchWriteRetryConfig}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public BatchLoadConfig batchLoadConfig() {
+ *     return new BatchLoadConfig.Builder()
+ *         .maxConcurrency(16)
+ *         .preserveInputOrder(true)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class BatchLoadConfig {
+
+    /**
+     * Default maximum number of {@code BatchGetItem} requests in flight per batch load.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /**
+     * Default setting for result ordering. Results are returned in completion order unless enabled.
+     */
+    public static final boolean DEFAULT_PRESERVE_INPUT_ORDER = false;
+
+    private final int maxConcurrency;
+    private final boolean preserveInputOrder;
+    @NonNull
+    private final BatchWriteRetryConfig retryConfig;
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * Creates a default batch load configuration:
+     * - Max concurrency: 8
+     * - Results in completion order
+     * - Default {@link BatchWriteRetryConfig} for unprocessed keys
+     * - Virtual threads for concurrent requests
+     */
+    public BatchLoadConfig() {
+        this(DEFAULT_MAX_CONCURRENCY, DEFAULT_PRESERVE_INPUT_ORDER, new BatchWriteRetryConfig(), null);
+    }
+
+    /**
+     * Creates a custom batch load configuration.
+     * @param maxConcurrency Maximum number of concurrent requests (must be > 0, 1 disables concurrency)
+     * @param preserveInputOrder Whether results are returned in the order of the requested keys
+     * @param retryConfig Backoff policy applied to unprocessed keys
+     * @param executor Executor running the requests, or {@code null} to use virtual threads
+     */
+    public BatchLoadConfig(int maxConcurrency, boolean preserveInputOrder, @NonNull BatchWriteRetryConfig retryConfig,
+                           @Nullable Executor executor) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+        if (retryConfig == null) {
+            throw new IllegalArgumentException("retryConfig must not be null");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.preserveInputOrder = preserveInputOrder;
+        this.retryConfig = retryConfig;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the maximum number of concurrent {@code BatchGetItem} requests.
+     * @return The maximum concurrency
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Whether results are returned in the order of the requested keys.
+     * @return True if the input order is preserved, false for completion order
+     */
+    public boolean isPreserveInputOrder() {
+        return preserveInputOrder;
+    }
+
+    /**
+     * Gets the backoff policy applied to unprocessed keys.
+     * @return The retry configuration
+     */
+    @NonNull
+    public BatchWriteRetryConfig getRetryConfig() {
+        return retryConfig;
+    }
+
+    /**
+     * Gets the executor running concurrent requests.
+     * @return The executor, or {@code null} if virtual threads are used
+     */
+    @Nullable
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Builder for creating custom BatchLoadConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default batch load configuration values.
+         */
+        public Builder() {
+        }
+
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+        private boolean preserveInputOrder = DEFAULT_PRESERVE_INPUT_ORDER;
+        @NonNull
+        private BatchWriteRetryConfig retryConfig = new BatchWriteRetryConfig();
+        @Nullable
+        private Executor executor;
+
+        /**
+         * Sets the maximum number of concurrent {@code BatchGetItem} requests.
+         * @param maxConcurrency Maximum concurrency (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets whether results are returned in the order of the requested keys.
+         * @param preserveInputOrder True to preserve the input order
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder preserveInputOrder(boolean preserveInputOrder) {
+            this.preserveInputOrder = preserveInputOrder;
+            return this;
+        }
+
+        /**
+         * Sets the backoff policy applied to unprocessed keys.
+         * @param retryConfig The retry configuration
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder retryConfig(@NonNull BatchWriteRetryConfig retryConfig) {
+            this.retryConfig = retryConfig;
+            return this;
+        }
+
+        /**
+         * Sets the executor running concurrent requests.
+         * @param executor The executor, or {@code null} to use virtual threads
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new BatchLoadConfig instance with the configured settings.
+         * @return A new BatchLoadConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public BatchLoadConfig build() {
+            return new BatchLoadConfig(maxConcurrency, preserveInputOrder, retryConfig, executor);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.exception.BatchLoadException;
+import org.springframework.lang.NonNull;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Executes {@code BatchGetItem} requests for {@link DynamoDBTemplate#batchLoad(Map)}.
+ * <p>
+ * Duplicate keys are removed before sending, the keys are split into chunks of 100 which are loaded concurrently,
+ * and {@code UnprocessedKeys} are resubmitted with the exponential backoff of the configured
+ * {@link BatchWriteRetryConfig}, as long as its {@link RetryBudget} allows.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+final class BatchLoader {
+
+    /**
+     * DynamoDB BatchGetItem has a limit of 100 items per request.
+     * @see <a href="https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_BatchGetItem.html">BatchGetItem</a>
+     */
+    static final int MAX_KEYS_PER_REQUEST = 100;
+
+    @NonNull
+    private final DynamoDbEnhancedClient enhancedClient;
+    @NonNull
+    private final BatchLoadConfig config;
+    @NonNull
+    private final Map<DynamoDbTable<?>, TableRateLimiter> rateLimiters;
+
+    BatchLoader(@NonNull DynamoDbEnhancedClient enhancedClient, @NonNull BatchLoadConfig config) {
+        this(enhancedClient, config, Map.of());
+    }
+
+    BatchLoader(@NonNull DynamoDbEnhancedClient enhancedClient, @NonNull BatchLoadConfig config,
+                @NonNull Map<DynamoDbTable<?>, TableRateLimiter> rateLimiters) {
+        this.enhancedClient = enhancedClient;
+        this.config = config;
+        this.rateLimiters = rateLimiters;
+    }
+
+    /**
+     * Loads the entities stored under the given keys.
+     * @param keysByTable the keys to load, per table
+     * @return the loaded entities, in key order per table if {@link BatchLoadConfig#isPreserveInputOrder()} is set
+     */
+    @NonNull
+    List<Object> load(@NonNull Map<DynamoDbTable<?>, List<Key>> keysByTable) {
+        Map<DynamoDbTable<?>, List<Key>> uniqueKeysByTable = new LinkedHashMap<>();
+        List<Supplier<List<?>>> tasks = new ArrayList<>();
+        for (Map.Entry<DynamoDbTable<?>, List<Key>> entry : keysByTable.entrySet()) {
+            DynamoDbTable<?> table = entry.getKey();
+            // DynamoDB rejects a batch with duplicate keys, which includes numbers differing only in their format
+            Map<Key, Key> keysByNormalizedKey = new LinkedHashMap<>();
+            entry.getValue().forEach(key -> keysByNormalizedKey.putIfAbsent(KeyAttributeValues.normalize(key), key));
+            List<Key> uniqueKeys = new ArrayList<>(keysByNormalizedKey.values());
+            uniqueKeysByTable.put(table, uniqueKeys);
+
+            for (int startIndex = 0; startIndex < uniqueKeys.size(); startIndex += MAX_KEYS_PER_REQUEST) {
+                List<Key> chunk = uniqueKeys.subList(startIndex, Math.min(startIndex + MAX_KEYS_PER_REQUEST, uniqueKeys.size()));
+                tasks.add(() -> loadChunk(table, chunk));
+            }
+        }
+
+        List<List<?>> chunkResults = ChunkDispatcher.dispatch(tasks, config.getMaxConcurrency(), config.getExecutor());
+
+        List<Object> results = new ArrayList<>();
+        if (!config.isPreserveInputOrder()) {
+            chunkResults.forEach(results::addAll);
+            return results;
+        }
+
+        // Chunk results are in task order, i.e. grouped by table in the same order the chunks were created
+        int chunkIndex = 0;
+        for (Map.Entry<DynamoDbTable<?>, List<Key>> entry : uniqueKeysByTable.entrySet()) {
+            List<Key> uniqueKeys = entry.getValue();
+            int chunkCount = (uniqueKeys.size() + MAX_KEYS_PER_REQUEST - 1) / MAX_KEYS_PER_REQUEST;
+
+            Map<Key, Object> entitiesByKey = new HashMap<>(uniqueKeys.size() * 2);
+            for (int i = 0; i < chunkCount; i++) {
+                for (Object entity : chunkResults.get(chunkIndex++)) {
+                    // The table schema may render numbers differently than the requested key, e.g. 5.0 for 5
+                    entitiesByKey.put(KeyAttributeValues.normalize(keyFrom(entry.getKey(), entity)), entity);
+                }
+            }
+            for (Key key : uniqueKeys) {
+                Object entity = entitiesByKey.get(KeyAttributeValues.normalize(key));
+                if (entity != null) {
+                    results.add(entity);
+                }
+            }
+        }
+        return results;
+    }
+
+    @NonNull
+    private <T> List<T> loadChunk(@NonNull DynamoDbTable<T> table, @NonNull List<Key> keys) {
+        BatchWriteRetryConfig retryConfig = config.getRetryConfig();
+        TableRateLimiter rateLimiter = rateLimiters.get(table);
+        List<T> results = new ArrayList<>(keys.size());
+        List<Key> pendingKeys = keys;
+        int retries = 0;
+
+        while (true) {
+            ReadBatch.Builder<T> batchBuilder = ReadBatch.builder(table.tableSchema().itemType().rawClass())
+                    .mappedTableResource(table);
+            pendingKeys.forEach(batchBuilder::addGetItem);
+            BatchGetItemEnhancedRequest.Builder requestBuilder = BatchGetItemEnhancedRequest.builder()
+                    .addReadBatch(batchBuilder.build());
+            if (rateLimiter != null) {
+                requestBuilder.returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+            }
+            BatchGetItemEnhancedRequest request = requestBuilder.build();
+
+            // Only the first page is consumed: iterating further would let the enhanced client resubmit the
+            // unprocessed keys immediately, without any backoff
+            Supplier<BatchGetResultPage> batchGet = () -> enhancedClient.batchGetItem(request).iterator().next();
+            BatchGetResultPage page = rateLimiter != null
+                    // Consumption is estimated at one capacity unit per key and corrected with the reported one
+                    ? rateLimiter.reads().execute(pendingKeys.size(), batchGet,
+                            response -> TableRateLimiter.consumedCapacityOf(response.consumedCapacity(),
+                                    table.tableName()))
+                    : batchGet.get();
+            results.addAll(page.resultsForTable(table));
+
+            pendingKeys = page.unprocessedKeysForTable(table);
+            if (pendingKeys.isEmpty()) {
+                return results;
+            }
+            if (rateLimiter != null) {
+                rateLimiter.reads().onThrottle();
+            }
+            if (retries >= retryConfig.getMaxRetries() || !retryConfig.getRetryBudget().tryAcquire()) {
+                throw new BatchLoadException(String.format("Batch load failed: %d keys of table %s remained unprocessed after %d retries",
+                        pendingKeys.size(), table.tableName(), retries), pendingKeys, retries, null);
+            }
+
+            try {
+                Thread.sleep(retryConfig.getDelayBeforeRetry(retries));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BatchLoadException("Batch load interrupted while waiting to retry unprocessed keys",
+                        pendingKeys, retries, e);
+            }
+            retries++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private static <T> Key keyFrom(@NonNull DynamoDbTable<T> table, @NonNull Object entity) {
+        return table.keyFrom((T) entity);
+    }
+}
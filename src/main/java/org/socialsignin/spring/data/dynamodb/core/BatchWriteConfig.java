@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for batch save and delete ({@code BatchWriteItem}) execution.
+ * <p>
+ * Items are split into chunks of 25 (the DynamoDB limit per request) which are written concurrently, with at most
+ * {@link #getMaxConcurrency()} requests in flight. Retries of unprocessed items are configured separately with
+ * {@link BatchWriteRetryConfig}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public BatchWriteConfig batchWriteConfig() {
+ *     return new BatchWriteConfig.Builder()
+ *         .maxConcurrency(32)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class BatchWriteConfig {
+
+    /**
+     * Default maximum number of {@code BatchWriteItem} requests in flight per batch operation.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private final int maxConcurrency;
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * Creates a default batch write configuration:
+     * - Max concurrency: 8
+     * - Virtual threads for concurrent requests
+     */
+    public BatchWriteConfig() {
+        this(DEFAULT_MAX_CONCURRENCY, null);
+    }
+
+    /**
+     * Creates a custom batch write configuration.
+     * @param maxConcurrency Maximum number of requests in flight (must be > 0, 1 writes chunks sequentially on the
+     *            calling thread)
+     * @param executor Executor running the requests, or {@code null} to use virtual threads
+     */
+    public BatchWriteConfig(int maxConcurrency, @Nullable Executor executor) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the maximum number of {@code BatchWriteItem} requests in flight.
+     * @return The maximum concurrency
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the executor running concurrent requests.
+     * @return The executor, or {@code null} if virtual threads are used
+     */
+    @Nullable
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Builder for creating custom BatchWriteConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default batch write configuration values.
+         */
+        public Builder() {
+        }
+
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+        @Nullable
+        private Executor executor;
+
+        /**
+         * Sets the maximum number of {@code BatchWriteItem} requests in flight.
+         * @param maxConcurrency Maximum concurrency (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Writes the chunks one after another on the calling thread.
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder sequential() {
+            this.maxConcurrency = 1;
+            return this;
+        }
+
+        /**
+         * Sets the executor running concurrent requests.
+         * @param executor The executor, or {@code null} to use virtual threads
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new BatchWriteConfig instance with the configured settings.
+         * @return A new BatchWriteConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public BatchWriteConfig build() {
+            return new BatchWriteConfig(maxConcurrency, executor);
+        }
+    }
+}
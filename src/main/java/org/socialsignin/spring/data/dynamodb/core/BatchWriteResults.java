@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Results of a batch save or delete, one {@link BatchWriteResult} per chunk of up to 25 items.
+ * <p>
+ * Each result is the outcome of the chunk's last attempt, so its unprocessed items are the items that remained
+ * unprocessed after all retries.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class BatchWriteResults extends AbstractList<BatchWriteResult> {
+
+    @NonNull
+    private final List<BatchWriteResult> results;
+    private final int retriesAttempted;
+
+    /**
+     * Creates batch write results.
+     * @param results The outcome of every chunk's last attempt
+     * @param retriesAttempted The number of retry attempts made by the chunk that needed the most retries
+     */
+    public BatchWriteResults(@NonNull List<BatchWriteResult> results, int retriesAttempted) {
+        this.results = List.copyOf(results);
+        this.retriesAttempted = retriesAttempted;
+    }
+
+    /**
+     * Returns the number of retry attempts made by the chunk that needed the most retries.
+     * @return Number of retries attempted
+     */
+    public int getRetriesAttempted() {
+        return retriesAttempted;
+    }
+
+    /**
+     * Returns the number of retry attempts made for the given batch results.
+     * @param results Results returned by {@link DynamoDBOperations#batchSave(Iterable)} or
+     *            {@link DynamoDBOperations#batchDelete(Iterable)}
+     * @return Number of retries attempted, or 0 if the results don't carry retry information
+     */
+    public static int retriesAttempted(@NonNull List<BatchWriteResult> results) {
+        return results instanceof BatchWriteResults batchWriteResults ? batchWriteResults.getRetriesAttempted() : 0;
+    }
+
+    @Override
+    public BatchWriteResult get(int index) {
+        return results.get(index);
+    }
+
+    @Override
+    public int size() {
+        return results.size();
+    }
+}
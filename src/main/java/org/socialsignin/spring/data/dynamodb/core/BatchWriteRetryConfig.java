@@ -66,6 +66,8 @@ public class BatchWriteRetryConfig {
     private final boolean useJitter;
     @Nullable
     private final Random random;
+    @NonNull
+    private final RetryBudget retryBudget;
 
     /**
      * Creates a default retry configuration with AWS SDK for Java 2.x settings:
@@ -73,6 +75,7 @@ public class BatchWriteRetryConfig {
      * - Base delay: 100ms (doubles with each retry: 100, 200, 400, 800, 1600...)
      * - Max delay: 20 seconds
      * - Jitter enabled
+     * - Default {@link RetryBudget}
      */
     public BatchWriteRetryConfig() {
         this(DEFAULT_MAX_RETRIES, DEFAULT_BASE_DELAY_MS, DEFAULT_MAX_DELAY_MS, DEFAULT_USE_JITTER);
@@ -86,6 +89,19 @@ public class BatchWriteRetryConfig {
      * @param useJitter Whether to add random jitter to delays
      */
     public BatchWriteRetryConfig(int maxRetries, long baseDelayMs, long maxDelayMs, boolean useJitter) {
+        this(maxRetries, baseDelayMs, maxDelayMs, useJitter, new RetryBudget());
+    }
+
+    /**
+     * Creates a custom retry configuration with a retry budget.
+     * @param maxRetries Maximum number of retry attempts (must be >= 0)
+     * @param baseDelayMs Base delay in milliseconds before first retry (must be > 0)
+     * @param maxDelayMs Maximum delay in milliseconds between retries (must be >= baseDelayMs)
+     * @param useJitter Whether to add random jitter to delays
+     * @param retryBudget Budget shared by all retries issued with this configuration
+     */
+    public BatchWriteRetryConfig(int maxRetries, long baseDelayMs, long maxDelayMs, boolean useJitter,
+                                 @NonNull RetryBudget retryBudget) {
         if (maxRetries < 0) {
             throw new IllegalArgumentException("maxRetries must be >= 0");
         }
@@ -95,12 +111,16 @@ public class BatchWriteRetryConfig {
         if (maxDelayMs < baseDelayMs) {
             throw new IllegalArgumentException("maxDelayMs must be >= baseDelayMs");
         }
+        if (retryBudget == null) {
+            throw new IllegalArgumentException("retryBudget must not be null");
+        }
 
         this.maxRetries = maxRetries;
         this.baseDelayMs = baseDelayMs;
         this.maxDelayMs = maxDelayMs;
         this.useJitter = useJitter;
         this.random = useJitter ? new Random() : null;
+        this.retryBudget = retryBudget;
     }
 
     /**
@@ -171,6 +191,15 @@ public class BatchWriteRetryConfig {
         return useJitter;
     }
 
+    /**
+     * Gets the budget limiting the retries issued with this configuration.
+     * @return The retry budget
+     */
+    @NonNull
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
     /**
      * Builder for creating custom BatchWriteRetryConfig instances.
      * <p>
@@ -198,6 +227,8 @@ public class BatchWriteRetryConfig {
         private long baseDelayMs = DEFAULT_BASE_DELAY_MS;
         private long maxDelayMs = DEFAULT_MAX_DELAY_MS;
         private boolean useJitter = DEFAULT_USE_JITTER;
+        @NonNull
+        private RetryBudget retryBudget = new RetryBudget();
 
         /**
          * Sets the maximum number of retry attempts.
@@ -243,6 +274,17 @@ public class BatchWriteRetryConfig {
             return this;
         }
 
+        /**
+         * Sets the budget limiting the retries issued with this configuration.
+         * @param retryBudget The retry budget, e.g. {@link RetryBudget#unlimited()}
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder retryBudget(@NonNull RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
         /**
          * Disables retry logic completely by setting maxRetries to 0.
          * @return This builder instance for method chaining
@@ -260,7 +302,7 @@ public class BatchWriteRetryConfig {
          */
         @NonNull
         public BatchWriteRetryConfig build() {
-            return new BatchWriteRetryConfig(maxRetries, baseDelayMs, maxDelayMs, useJitter);
+            return new BatchWriteRetryConfig(maxRetries, baseDelayMs, maxDelayMs, useJitter, retryBudget);
         }
     }
 
@@ -272,6 +314,7 @@ public class BatchWriteRetryConfig {
                 ", baseDelayMs=" + baseDelayMs +
                 ", maxDelayMs=" + maxDelayMs +
                 ", useJitter=" + useJitter +
+                ", retryBudget=" + retryBudget +
                 '}';
     }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Executes {@code BatchWriteItem} requests for {@link DynamoDBTemplate#batchSave(Iterable)} and
+ * {@link DynamoDBTemplate#batchDelete(Iterable)}.
+ * <p>
+ * Items are split into chunks of 25 which are written concurrently as configured by {@link BatchWriteConfig}. Items a
+ * chunk's request returns as unprocessed are resubmitted using the exponential backoff of the configured
+ * {@link BatchWriteRetryConfig}, as long as its {@link RetryBudget} allows.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+final class BatchWriter {
+
+    /**
+     * DynamoDB BatchWriteItem has a limit of 25 items per request.
+     * @see <a href="https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_BatchWriteItem.html">BatchWriteItem</a>
+     */
+    static final int MAX_ITEMS_PER_REQUEST = 25;
+
+    /**
+     * The kind of write request issued for every item.
+     */
+    enum Operation {
+        PUT, DELETE
+    }
+
+    @NonNull
+    private final DynamoDbEnhancedClient enhancedClient;
+    @NonNull
+    private final BatchWriteConfig config;
+    @NonNull
+    private final BatchWriteRetryConfig retryConfig;
+    @NonNull
+    private final Function<Class<?>, DynamoDbTable<Object>> tableResolver;
+    @NonNull
+    private final Function<Class<?>, TableRateLimiter> rateLimiterResolver;
+
+    BatchWriter(@NonNull DynamoDbEnhancedClient enhancedClient, @NonNull BatchWriteConfig config,
+                @NonNull BatchWriteRetryConfig retryConfig,
+                @NonNull Function<Class<?>, DynamoDbTable<Object>> tableResolver) {
+        this(enhancedClient, config, retryConfig, tableResolver, domainClass -> null);
+    }
+
+    BatchWriter(@NonNull DynamoDbEnhancedClient enhancedClient, @NonNull BatchWriteConfig config,
+                @NonNull BatchWriteRetryConfig retryConfig,
+                @NonNull Function<Class<?>, DynamoDbTable<Object>> tableResolver,
+                @NonNull Function<Class<?>, TableRateLimiter> rateLimiterResolver) {
+        this.enhancedClient = enhancedClient;
+        this.config = config;
+        this.retryConfig = retryConfig;
+        this.tableResolver = tableResolver;
+        this.rateLimiterResolver = rateLimiterResolver;
+    }
+
+    /**
+     * Writes the given entities.
+     * @param entities the entities to put or delete
+     * @param operation the write request issued for every entity
+     * @return the outcome of every chunk's last attempt, in chunk order
+     */
+    @NonNull
+    BatchWriteResults write(@NonNull List<Object> entities, @NonNull Operation operation) {
+        List<Supplier<ChunkResult>> tasks = new ArrayList<>();
+        for (int startIndex = 0; startIndex < entities.size(); startIndex += MAX_ITEMS_PER_REQUEST) {
+            List<Object> chunk = entities.subList(startIndex, Math.min(startIndex + MAX_ITEMS_PER_REQUEST, entities.size()));
+            tasks.add(() -> writeChunk(chunk, operation));
+        }
+
+        // Results stay in chunk order, one per chunk, regardless of completion order
+        List<BatchWriteResult> results = new ArrayList<>(tasks.size());
+        int retriesAttempted = 0;
+        for (ChunkResult chunkResult : ChunkDispatcher.dispatch(tasks, config.getMaxConcurrency(), config.getExecutor())) {
+            results.add(chunkResult.result());
+            retriesAttempted = Math.max(retriesAttempted, chunkResult.retries());
+        }
+        return new BatchWriteResults(results, retriesAttempted);
+    }
+
+    @NonNull
+    private ChunkResult writeChunk(@NonNull List<Object> chunk, @NonNull Operation operation) {
+        // Pending items per table: entities on the first attempt, entities (puts) or keys (deletes) on retries
+        Map<DynamoDbTable<Object>, List<?>> pendingItems = new LinkedHashMap<>();
+        Map<DynamoDbTable<Object>, TableRateLimiter> rateLimiters = new LinkedHashMap<>();
+        Map<Class<?>, List<Object>> chunkByClass = new LinkedHashMap<>();
+        for (Object entity : chunk) {
+            chunkByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+        }
+        chunkByClass.forEach((domainClass, classEntities) -> {
+            DynamoDbTable<Object> table = tableResolver.apply(domainClass);
+            pendingItems.put(table, classEntities);
+            TableRateLimiter rateLimiter = rateLimiterResolver.apply(domainClass);
+            if (rateLimiter != null) {
+                rateLimiters.put(table, rateLimiter);
+            }
+        });
+
+        int retries = 0;
+        while (true) {
+            Map<DynamoDbTable<Object>, Integer> reservedUnits = reserve(pendingItems, rateLimiters);
+
+            BatchWriteResult result;
+            try {
+                result = enhancedClient.batchWriteItem(buildRequest(pendingItems, operation, !rateLimiters.isEmpty()));
+            } catch (RuntimeException e) {
+                if (AdaptiveRateLimiter.isThrottling(e)) {
+                    rateLimiters.values().forEach(rateLimiter -> rateLimiter.writes().onThrottle());
+                }
+                throw e;
+            }
+
+            // Correct the estimates with the capacity DynamoDB reports per table
+            for (Map.Entry<DynamoDbTable<Object>, Integer> entry : reservedUnits.entrySet()) {
+                ConsumedCapacity consumed = TableRateLimiter.consumedCapacityOf(result.consumedCapacity(),
+                        entry.getKey().tableName());
+                if (consumed != null && consumed.capacityUnits() != null) {
+                    rateLimiters.get(entry.getKey()).writes().record(entry.getValue(), consumed.capacityUnits());
+                }
+            }
+
+            Map<DynamoDbTable<Object>, List<?>> unprocessedItems = new LinkedHashMap<>();
+            for (DynamoDbTable<Object> table : pendingItems.keySet()) {
+                List<?> unprocessed = operation == Operation.PUT
+                        ? result.unprocessedPutItemsForTable(table)
+                        : result.unprocessedDeleteItemsForTable(table);
+                if (unprocessed != null && !unprocessed.isEmpty()) {
+                    unprocessedItems.put(table, unprocessed);
+                    TableRateLimiter rateLimiter = rateLimiters.get(table);
+                    if (rateLimiter != null) {
+                        rateLimiter.writes().onThrottle();
+                    }
+                }
+            }
+
+            if (unprocessedItems.isEmpty() || retries >= retryConfig.getMaxRetries()
+                    || !retryConfig.getRetryBudget().tryAcquire()) {
+                return new ChunkResult(result, retries);
+            }
+
+            try {
+                Thread.sleep(retryConfig.getDelayBeforeRetry(retries));
+            } catch (InterruptedException e) {
+                // Report the remaining items as unprocessed
+                Thread.currentThread().interrupt();
+                return new ChunkResult(result, retries);
+            }
+            retries++;
+            pendingItems = unprocessedItems;
+        }
+    }
+
+    /**
+     * Reserves the write capacity of the pending items of every rate limited table, estimated at one capacity unit per
+     * item. If a reservation fails, the ones made before it are given back.
+     * @return the reserved capacity units per rate limited table
+     */
+    @NonNull
+    private static Map<DynamoDbTable<Object>, Integer> reserve(@NonNull Map<DynamoDbTable<Object>, List<?>> pendingItems,
+                                                               @NonNull Map<DynamoDbTable<Object>, TableRateLimiter> rateLimiters) {
+        Map<DynamoDbTable<Object>, Integer> reservedUnits = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<DynamoDbTable<Object>, List<?>> entry : pendingItems.entrySet()) {
+                TableRateLimiter rateLimiter = rateLimiters.get(entry.getKey());
+                if (rateLimiter != null) {
+                    rateLimiter.writes().acquire(entry.getValue().size());
+                    reservedUnits.put(entry.getKey(), entry.getValue().size());
+                }
+            }
+        } catch (RuntimeException e) {
+            reservedUnits.forEach((table, units) -> rateLimiters.get(table).writes().record(units, 0));
+            throw e;
+        }
+        return reservedUnits;
+    }
+
+    @NonNull
+    private static BatchWriteItemEnhancedRequest buildRequest(@NonNull Map<DynamoDbTable<Object>, List<?>> itemsByTable,
+                                                              @NonNull Operation operation,
+                                                              boolean returnConsumedCapacity) {
+        BatchWriteItemEnhancedRequest.Builder requestBuilder = BatchWriteItemEnhancedRequest.builder();
+        if (returnConsumedCapacity) {
+            requestBuilder.returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+        }
+        for (Map.Entry<DynamoDbTable<Object>, List<?>> entry : itemsByTable.entrySet()) {
+            DynamoDbTable<Object> table = entry.getKey();
+            WriteBatch.Builder<Object> batchBuilder = WriteBatch.builder(table.tableSchema().itemType().rawClass())
+                    .mappedTableResource(table);
+
+            for (Object item : entry.getValue()) {
+                if (operation == Operation.PUT) {
+                    batchBuilder.addPutItem(item);
+                } else if (item instanceof Key key) {
+                    batchBuilder.addDeleteItem(key);
+                } else {
+                    batchBuilder.addDeleteItem(item);
+                }
+            }
+
+            requestBuilder.addWriteBatch(batchBuilder.build());
+        }
+        return requestBuilder.build();
+    }
+
+    private record ChunkResult(@NonNull BatchWriteResult result, int retries) {
+    }
+}
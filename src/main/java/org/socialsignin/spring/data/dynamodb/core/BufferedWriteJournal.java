@@ -0,0 +1,324 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only file recording the items buffered by a {@link BufferedWriter} until they are written.
+ * <p>
+ * Every buffered item is appended as a write record, and an acknowledgement record is appended once the item was
+ * written. Items whose write failed are not acknowledged. Write records without acknowledgement found when the journal
+ * is opened are recovered, so that the items of a crashed process or of failed writes can be written again. The file
+ * is truncated whenever all recorded items are acknowledged.
+ * <p>
+ * Records are handed to the operating system as soon as they are appended, which protects them against a crash of
+ * the process but not of the host.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+final class BufferedWriteJournal implements Closeable {
+
+    private static final byte WRITE_RECORD = 'W';
+    private static final byte ACK_RECORD = 'A';
+
+    /**
+     * An item recorded in the journal.
+     * @param sequence the sequence number acknowledging the item
+     * @param domainClassName the entity class of the item
+     * @param item the attributes of the item
+     */
+    record Entry(long sequence, @NonNull String domainClassName, @NonNull Map<String, AttributeValue> item) {
+    }
+
+    @NonNull
+    private final FileOutputStream out;
+    @NonNull
+    private final List<Entry> recovered;
+    private long nextSequence;
+    private int outstanding;
+
+    BufferedWriteJournal(@NonNull Path path) {
+        try {
+            Map<Long, Entry> unacknowledged = read(path);
+            this.recovered = List.copyOf(unacknowledged.values());
+            this.nextSequence = unacknowledged.keySet().stream().mapToLong(Long::longValue).max().orElse(-1L) + 1;
+            this.outstanding = recovered.size();
+            this.out = new FileOutputStream(path.toFile(), true);
+            if (outstanding == 0) {
+                out.getChannel().truncate(0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal " + path, e);
+        }
+    }
+
+    /**
+     * Gets the items that were recorded but not acknowledged when the journal was opened.
+     * @return the recovered items, in the order they were recorded
+     */
+    @NonNull
+    List<Entry> getRecovered() {
+        return recovered;
+    }
+
+    /**
+     * Records an item.
+     * @param domainClass the entity class of the item
+     * @param item the attributes of the item
+     * @return the sequence number acknowledging the item
+     */
+    synchronized long append(@NonNull Class<?> domainClass, @NonNull Map<String, AttributeValue> item) {
+        long sequence = nextSequence++;
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(record)) {
+            data.writeByte(WRITE_RECORD);
+            data.writeLong(sequence);
+            writeString(data, domainClass.getName());
+            writeItem(data, item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writeRecord(record.toByteArray());
+        outstanding++;
+        return sequence;
+    }
+
+    /**
+     * Acknowledges that a recorded item was written.
+     * @param sequence the sequence number returned when the item was recorded
+     */
+    synchronized void acknowledge(long sequence) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(record)) {
+            data.writeByte(ACK_RECORD);
+            data.writeLong(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writeRecord(record.toByteArray());
+        if (--outstanding == 0) {
+            try {
+                out.getChannel().truncate(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRecord(byte[] record) {
+        try {
+            // A single write keeps records whole unless the process dies mid-write
+            out.write(record);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @NonNull
+    private static Map<Long, Entry> read(@NonNull Path path) throws IOException {
+        Map<Long, Entry> unacknowledged = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return unacknowledged;
+        }
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                int type = data.read();
+                if (type == -1) {
+                    break;
+                }
+                long sequence = data.readLong();
+                if (type == WRITE_RECORD) {
+                    String domainClassName = readString(data);
+                    unacknowledged.put(sequence, new Entry(sequence, domainClassName, readItem(data)));
+                } else if (type == ACK_RECORD) {
+                    unacknowledged.remove(sequence);
+                } else {
+                    throw new IOException("Corrupt journal record of type " + type);
+                }
+            }
+        } catch (EOFException e) {
+            // The last record was cut off by a crash before it was acknowledged to the caller
+        }
+        return unacknowledged;
+    }
+
+    private static void writeItem(@NonNull DataOutputStream data, @NonNull Map<String, AttributeValue> item)
+            throws IOException {
+        data.writeInt(item.size());
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            writeString(data, attribute.getKey());
+            writeValue(data, attribute.getValue());
+        }
+    }
+
+    @NonNull
+    private static Map<String, AttributeValue> readItem(@NonNull DataInputStream data) throws IOException {
+        int size = data.readInt();
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            item.put(readString(data), readValue(data));
+        }
+        return item;
+    }
+
+    private static void writeValue(@NonNull DataOutputStream data, @NonNull AttributeValue value) throws IOException {
+        AttributeValue.Type type = value.type();
+        // The type is recorded by name, as the constant order may change between SDK versions
+        writeString(data, type.name());
+        switch (type) {
+            case S -> writeString(data, value.s());
+            case N -> writeString(data, value.n());
+            case B -> writeBytes(data, value.b());
+            case BOOL -> data.writeBoolean(value.bool());
+            case NUL -> {
+            }
+            case SS -> writeStrings(data, value.ss());
+            case NS -> writeStrings(data, value.ns());
+            case BS -> {
+                data.writeInt(value.bs().size());
+                for (SdkBytes bytes : value.bs()) {
+                    writeBytes(data, bytes);
+                }
+            }
+            case M -> writeItem(data, value.m());
+            case L -> {
+                data.writeInt(value.l().size());
+                for (AttributeValue element : value.l()) {
+                    writeValue(data, element);
+                }
+            }
+            default -> throw new IOException("Unsupported attribute value type " + type);
+        }
+    }
+
+    @NonNull
+    private static AttributeValue readValue(@NonNull DataInputStream data) throws IOException {
+        AttributeValue.Type type;
+        try {
+            type = AttributeValue.Type.valueOf(readString(data));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt journal attribute value type", e);
+        }
+        return switch (type) {
+            case S -> AttributeValue.fromS(readString(data));
+            case N -> AttributeValue.fromN(readString(data));
+            case B -> AttributeValue.fromB(readBytes(data));
+            case BOOL -> AttributeValue.fromBool(data.readBoolean());
+            case NUL -> AttributeValue.fromNul(true);
+            case SS -> AttributeValue.fromSs(readStrings(data));
+            case NS -> AttributeValue.fromNs(readStrings(data));
+            case BS -> {
+                int size = data.readInt();
+                List<SdkBytes> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(readBytes(data));
+                }
+                yield AttributeValue.fromBs(values);
+            }
+            case M -> AttributeValue.fromM(readItem(data));
+            case L -> {
+                int size = data.readInt();
+                List<AttributeValue> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(readValue(data));
+                }
+                yield AttributeValue.fromL(values);
+            }
+            default -> throw new IOException("Unsupported attribute value type " + type);
+        };
+    }
+
+    private static void writeStrings(@NonNull DataOutputStream data, @NonNull List<String> values) throws IOException {
+        data.writeInt(values.size());
+        for (String value : values) {
+            writeString(data, value);
+        }
+    }
+
+    @NonNull
+    private static List<String> readStrings(@NonNull DataInputStream data) throws IOException {
+        int size = data.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(data));
+        }
+        return values;
+    }
+
+    // DataOutputStream#writeUTF is limited to 64KB, while items can hold up to 400KB
+    private static void writeString(@NonNull DataOutputStream data, @NonNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    @NonNull
+    private static String readString(@NonNull DataInputStream data) throws IOException {
+        return new String(readByteArray(data), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(@NonNull DataOutputStream data, @NonNull SdkBytes value) throws IOException {
+        byte[] bytes = value.asByteArrayUnsafe();
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    @NonNull
+    private static SdkBytes readBytes(@NonNull DataInputStream data) throws IOException {
+        return SdkBytes.fromByteArrayUnsafe(readByteArray(data));
+    }
+
+    @NonNull
+    private static byte[] readByteArray(@NonNull DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            throw new IOException("Corrupt journal length " + length);
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind buffer coalescing individual saves into {@code BatchWriteItem} requests.
+ * <p>
+ * Saved entities are queued and written by a background thread in batches as configured by
+ * {@link BufferedWriterConfig}, trading a few milliseconds of latency for far fewer requests. Within a batch, saves of
+ * the same key are coalesced: the last save wins and the futures of all of them complete with the entity written.
+ * Batches are written one after another, so saves of the same key in different batches are applied in order.
+ * Batches are written through {@link DynamoDBOperations#batchSave(Iterable)}, including its events and retries of
+ * unprocessed items.
+ * <p>
+ * Entities must not be modified after they were handed to {@link #save(Object)}. If a journal is configured, entities
+ * recorded but not written, because a previous process crashed or their write failed, are written again when the next
+ * buffered writer is created on the journal.
+ * <p>
+ * Example usage:
+ * <pre>
+ * try (BufferedWriter writer = dynamoDBOperations.newBufferedWriter(new BufferedWriterConfig())) {
+ *     for (Event event : events) {
+ *         writer.save(event).exceptionally(e -&gt; deadLetter(event, e));
+ *     }
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class BufferedWriter implements AutoCloseable {
+
+    /**
+     * DynamoDB limits the size of an item to 400 KB.
+     */
+    private static final long MAX_ITEM_BYTES = 400L * 1024;
+    private static final long POLL_INTERVAL_MS = 50L;
+
+    @NonNull
+    private final DynamoDBOperations dynamoDBOperations;
+    @NonNull
+    private final BufferedWriterConfig config;
+    @NonNull
+    private final BlockingQueue<PendingWrite> queue;
+    @Nullable
+    private final BufferedWriteJournal journal;
+    private final boolean estimateSizes;
+    private final Set<CompletableFuture<Object>> outstanding = ConcurrentHashMap.newKeySet();
+    // Saves hold the read lock while queueing, so that no save is queued after close() stopped the flusher
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    // Queued to cut the linger time short on flush() and close()
+    private final PendingWrite wakeUp = new PendingWrite(new Object(), null, 0, -1);
+    @NonNull
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    BufferedWriter(@NonNull DynamoDBOperations dynamoDBOperations, @NonNull BufferedWriterConfig config) {
+        this.dynamoDBOperations = dynamoDBOperations;
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.journal = config.getJournal() != null ? new BufferedWriteJournal(config.getJournal()) : null;
+        // A batch of maximum size items can't exceed the byte limit, so sizes only need to be estimated below it
+        this.estimateSizes = config.getMaxBatchBytes() < config.getMaxBatchSize() * MAX_ITEM_BYTES;
+        this.flusher = Thread.ofVirtual().name("dynamodb-buffered-writer").start(this::run);
+
+        if (journal != null) {
+            try {
+                for (BufferedWriteJournal.Entry entry : journal.getRecovered()) {
+                    enqueue(recover(entry));
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Buffers an entity to be saved, blocking while the queue is full.
+     * @param entity the entity to save
+     * @param <T> the entity type
+     * @return a future completing with the entity written once its batch was written, or exceptionally with a
+     *         {@link BatchWriteException} if the entity remained unprocessed
+     * @throws IllegalStateException if the buffered writer is closed
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> save(@NonNull T entity) {
+        Assert.notNull(entity, "entity must not be null!");
+        TableSchema<T> tableSchema = dynamoDBOperations.getTableModel((Class<T>) entity.getClass());
+        Map<String, AttributeValue> item = estimateSizes || journal != null ? tableSchema.itemToMap(entity, true) : null;
+
+        Lock lock = lifecycleLock.readLock();
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("BufferedWriter is closed");
+            }
+            long journalSequence = journal != null ? journal.append(entity.getClass(), item) : -1;
+            return (CompletableFuture<T>) enqueue(new PendingWrite(entity, keyOf(entity),
+                    estimateSizes ? estimateItemSize(item) : 0, journalSequence));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until all entities buffered so far are written or failed.
+     */
+    public void flush() {
+        queue.offer(wakeUp);
+        CompletableFuture.allOf(outstanding.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+    }
+
+    /**
+     * Gets the number of buffered entities whose write did not complete yet.
+     * @return the number of pending writes
+     */
+    public int getPendingCount() {
+        return outstanding.size();
+    }
+
+    /**
+     * Writes all buffered entities and stops the background thread. Entities can't be saved afterwards.
+     */
+    @Override
+    public void close() {
+        Lock lock = lifecycleLock.writeLock();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // A full queue is drained without lingering anyway
+            queue.offer(wakeUp);
+        } finally {
+            lock.unlock();
+        }
+
+        // The flusher is still writing, so an interrupt doesn't stop waiting for it but is restored afterwards
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    flusher.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @NonNull
+    private CompletableFuture<Object> enqueue(@NonNull PendingWrite pending) {
+        outstanding.add(pending.future);
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.fail(e);
+        }
+        return pending.future;
+    }
+
+    @NonNull
+    private PendingWrite recover(@NonNull BufferedWriteJournal.Entry entry) {
+        Class<?> domainClass;
+        try {
+            domainClass = ClassUtils.forName(entry.domainClassName(), null);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalStateException("Cannot recover journal entry of unknown class " + entry.domainClassName(), e);
+        }
+        Object entity = dynamoDBOperations.getTableModel(domainClass).mapToItem(entry.item());
+        return new PendingWrite(entity, keyOf(entity), estimateSizes ? estimateItemSize(entry.item()) : 0,
+                entry.sequence());
+    }
+
+    private void run() {
+        long lingerNanos = TimeUnit.MILLISECONDS.toNanos(config.getLingerMs());
+        while (true) {
+            PendingWrite first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null || first == wakeUp) {
+                // No saves are queued once closed, so an empty queue is final
+                if (closed && queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+
+            Map<Object, PendingWrite> batch = new LinkedHashMap<>();
+            add(batch, first);
+            long batchBytes = first.size;
+            long deadline = System.nanoTime() + lingerNanos;
+            while (batch.size() < config.getMaxBatchSize() && batchBytes < config.getMaxBatchBytes()) {
+                long remainingNanos = deadline - System.nanoTime();
+                PendingWrite next;
+                try {
+                    next = remainingNanos > 0 && !closed ? queue.poll(remainingNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                } catch (InterruptedException e) {
+                    next = null;
+                }
+                if (next == null || next == wakeUp) {
+                    break;
+                }
+                add(batch, next);
+                batchBytes += next.size;
+            }
+            write(batch.values());
+        }
+    }
+
+    private static void add(@NonNull Map<Object, PendingWrite> batch, @NonNull PendingWrite pending) {
+        // Entities without a complete key (e.g. auto-generated ones) are never coalesced
+        PendingWrite previous = batch.put(pending.key != null ? pending.key : pending, pending);
+        if (previous != null) {
+            pending.superseded.addAll(previous.superseded);
+            pending.superseded.add(previous);
+        }
+    }
+
+    private void write(@NonNull Collection<PendingWrite> writes) {
+        List<Object> entities = new ArrayList<>(writes.size());
+        Map<Class<?>, List<Object>> entitiesByClass = new LinkedHashMap<>();
+        for (PendingWrite write : writes) {
+            entities.add(write.entity);
+            entitiesByClass.computeIfAbsent(write.entity.getClass(), k -> new ArrayList<>()).add(write.entity);
+        }
+
+        try {
+            List<BatchWriteResult> results = dynamoDBOperations.batchSave(entities);
+            List<Object> unprocessedEntities = dynamoDBOperations.extractUnprocessedPutItems(results, entitiesByClass);
+            Set<Object> unprocessedKeys = new HashSet<>();
+            for (Object unprocessed : unprocessedEntities) {
+                Object key = keyOf(unprocessed);
+                if (key != null) {
+                    unprocessedKeys.add(key);
+                }
+            }
+            int retriesAttempted = BatchWriteResults.retriesAttempted(results);
+
+            for (PendingWrite write : writes) {
+                // Keys are determined again, as keys may have been generated while saving
+                Object key = unprocessedKeys.isEmpty() ? null : keyOf(write.entity);
+                if (key != null && unprocessedKeys.contains(key)) {
+                    write.fail(new BatchWriteException("Buffered write remained unprocessed after "
+                            + retriesAttempted + " retries", List.of(write.entity), retriesAttempted, null));
+                } else {
+                    write.succeed();
+                }
+            }
+        } catch (RuntimeException e) {
+            writes.forEach(write -> write.fail(e));
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private Object keyOf(@NonNull Object entity) {
+        TableSchema<Object> tableSchema = dynamoDBOperations.getTableModel((Class<Object>) entity.getClass());
+        Collection<String> keyAttributes = tableSchema.tableMetadata().primaryKeys();
+        Map<String, AttributeValue> key = tableSchema.itemToMap(entity, keyAttributes);
+        if (key.size() < keyAttributes.size()) {
+            return null;
+        }
+        return new EntityKey(entity.getClass(), key);
+    }
+
+    private static long estimateItemSize(@NonNull Map<String, AttributeValue> item) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            size += attribute.getKey().length() + estimateValueSize(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long estimateValueSize(@NonNull AttributeValue value) {
+        return switch (value.type()) {
+            case S -> value.s().length();
+            case N -> value.n().length();
+            case B -> value.b().asByteArrayUnsafe().length;
+            case SS -> value.ss().stream().mapToLong(String::length).sum();
+            case NS -> value.ns().stream().mapToLong(String::length).sum();
+            case BS -> value.bs().stream().mapToLong(bytes -> bytes.asByteArrayUnsafe().length).sum();
+            case M -> 3 + estimateItemSize(value.m());
+            case L -> 3 + value.l().stream().mapToLong(BufferedWriter::estimateValueSize).sum();
+            default -> 1;
+        };
+    }
+
+    private record EntityKey(@NonNull Class<?> domainClass, @NonNull Map<String, AttributeValue> key) {
+    }
+
+    private final class PendingWrite {
+
+        @NonNull
+        private final Object entity;
+        @Nullable
+        private final Object key;
+        private final long size;
+        private final long journalSequence;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final List<PendingWrite> superseded = new ArrayList<>();
+
+        private PendingWrite(@NonNull Object entity, @Nullable Object key, long size, long journalSequence) {
+            this.entity = entity;
+            this.key = key;
+            this.size = size;
+            this.journalSequence = journalSequence;
+        }
+
+        private void succeed() {
+            acknowledge();
+            superseded.forEach(PendingWrite::acknowledge);
+            finish(entity, null);
+            superseded.forEach(previous -> previous.finish(entity, null));
+        }
+
+        private void fail(@NonNull Throwable e) {
+            finish(null, e);
+            superseded.forEach(previous -> previous.finish(null, e));
+        }
+
+        // Only written entities are acknowledged. Failed ones stay in the journal and are written again when it is
+        // recovered. The journal is acknowledged before the future completes, so that flush() observes it
+        private void acknowledge() {
+            if (journal != null && journalSequence >= 0) {
+                try {
+                    journal.acknowledge(journalSequence);
+                } catch (UncheckedIOException ignored) {
+                    // Only means the write is repeated when the journal is recovered
+                }
+            }
+        }
+
+        private void finish(@Nullable Object written, @Nullable Throwable e) {
+            outstanding.remove(future);
+            if (e != null) {
+                future.completeExceptionally(e);
+            } else {
+                future.complete(written);
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of a {@link BufferedWriter}.
+ * <p>
+ * A batch is written as soon as it holds {@link #getMaxBatchSize()} distinct items, its estimated size reaches
+ * {@link #getMaxBatchBytes()}, or {@link #getLingerMs()} passed since its first item was buffered. Callers of
+ * {@link BufferedWriter#save(Object)} block once {@link #getQueueCapacity()} items are waiting to be written.
+ * <p>
+ * Example usage:
+ * <pre>
+ * BufferedWriter writer = dynamoDBOperations.newBufferedWriter(new BufferedWriterConfig.Builder()
+ *         .lingerMs(10L)
+ *         .journal(Path.of("/var/lib/ingest/dynamodb.journal"))
+ *         .build());
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class BufferedWriterConfig {
+
+    /**
+     * Default maximum number of distinct items per batch, the DynamoDB limit per {@code BatchWriteItem} request.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = BatchWriter.MAX_ITEMS_PER_REQUEST;
+    /**
+     * Default maximum estimated size of a batch, the DynamoDB limit per {@code BatchWriteItem} request.
+     */
+    public static final long DEFAULT_MAX_BATCH_BYTES = 16L * 1024 * 1024;
+    /**
+     * Default time a batch waits for more items after its first item.
+     */
+    public static final long DEFAULT_LINGER_MS = 5L;
+    /**
+     * Default maximum number of items waiting to be written.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final long lingerMs;
+    private final int queueCapacity;
+    @Nullable
+    private final Path journal;
+
+    /**
+     * Creates a default buffered writer configuration:
+     * - Max batch size: 25 items
+     * - Max batch bytes: 16 MB
+     * - Linger: 5ms
+     * - Queue capacity: 10000 items
+     * - No journal
+     */
+    public BufferedWriterConfig() {
+        this(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_BYTES, DEFAULT_LINGER_MS, DEFAULT_QUEUE_CAPACITY, null);
+    }
+
+    /**
+     * Creates a custom buffered writer configuration.
+     * @param maxBatchSize Maximum number of distinct items per batch (must be between 1 and 25)
+     * @param maxBatchBytes Maximum estimated size of a batch in bytes (must be > 0)
+     * @param lingerMs Time a batch waits for more items after its first item (must be >= 0)
+     * @param queueCapacity Maximum number of items waiting to be written (must be > 0)
+     * @param journal File recording buffered items until they are written, or {@code null} for no journal
+     */
+    public BufferedWriterConfig(int maxBatchSize, long maxBatchBytes, long lingerMs, int queueCapacity,
+                                @Nullable Path journal) {
+        if (maxBatchSize <= 0 || maxBatchSize > BatchWriter.MAX_ITEMS_PER_REQUEST) {
+            throw new IllegalArgumentException("maxBatchSize must be between 1 and " + BatchWriter.MAX_ITEMS_PER_REQUEST);
+        }
+        if (maxBatchBytes <= 0) {
+            throw new IllegalArgumentException("maxBatchBytes must be > 0");
+        }
+        if (lingerMs < 0) {
+            throw new IllegalArgumentException("lingerMs must be >= 0");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be > 0");
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.lingerMs = lingerMs;
+        this.queueCapacity = queueCapacity;
+        this.journal = journal;
+    }
+
+    /**
+     * Gets the maximum number of distinct items per batch.
+     * @return The maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Gets the maximum estimated size of a batch.
+     * @return The maximum batch size in bytes
+     */
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * Gets the time a batch waits for more items after its first item.
+     * @return The linger time in milliseconds
+     */
+    public long getLingerMs() {
+        return lingerMs;
+    }
+
+    /**
+     * Gets the maximum number of items waiting to be written.
+     * @return The queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets the file recording buffered items until they are written.
+     * @return The journal file, or {@code null} if no journal is kept
+     */
+    @Nullable
+    public Path getJournal() {
+        return journal;
+    }
+
+    /**
+     * Builder for creating custom BufferedWriterConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default buffered writer configuration values.
+         */
+        public Builder() {
+        }
+
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+        private long lingerMs = DEFAULT_LINGER_MS;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        @Nullable
+        private Path journal;
+
+        /**
+         * Sets the maximum number of distinct items per batch.
+         * @param maxBatchSize Maximum batch size (must be between 1 and 25)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum estimated size of a batch.
+         * @param maxBatchBytes Maximum batch size in bytes (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxBatchBytes(long maxBatchBytes) {
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
+        /**
+         * Sets the time a batch waits for more items after its first item.
+         * @param lingerMs Linger time in milliseconds (must be >= 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder lingerMs(long lingerMs) {
+            this.lingerMs = lingerMs;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of items waiting to be written.
+         * @param queueCapacity Queue capacity (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the file recording buffered items until they are written.
+         * @param journal The journal file, or {@code null} for no journal
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder journal(@Nullable Path journal) {
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new BufferedWriterConfig instance with the configured settings.
+         * @return A new BufferedWriterConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public BufferedWriterConfig build() {
+            return new BufferedWriterConfig(maxBatchSize, maxBatchBytes, lingerMs, queueCapacity, journal);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BufferedWriterConfig{" +
+                "maxBatchSize=" + maxBatchSize +
+                ", maxBatchBytes=" + maxBatchBytes +
+                ", lingerMs=" + lingerMs +
+                ", queueCapacity=" + queueCapacity +
+                ", journal=" + journal +
+                '}';
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent batch requests (one per chunk) concurrently with a bounded number of requests in flight.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+final class ChunkDispatcher {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("dynamodb-batch-", 0).factory();
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = command -> VIRTUAL_THREADS.newThread(command).start();
+
+    private ChunkDispatcher() {
+    }
+
+    /**
+     * Executes the given tasks and returns their results in task order.
+     * <p>
+     * A single task, or a concurrency of 1, runs on the calling thread. Once a task fails no further tasks are
+     * started and its exception is rethrown after the tasks in flight have finished.
+     * @param tasks the tasks to run
+     * @param maxConcurrency the maximum number of tasks running at the same time
+     * @param executor the executor running the tasks, or {@code null} to start a virtual thread per task
+     * @param <R> the task result type
+     * @return the task results, in the order of {@code tasks}
+     */
+    @NonNull
+    static <R> List<R> dispatch(@NonNull List<Supplier<R>> tasks, int maxConcurrency, @Nullable Executor executor) {
+        List<R> results = new ArrayList<>(tasks.size());
+        if (tasks.size() <= 1 || maxConcurrency <= 1) {
+            for (Supplier<R> task : tasks) {
+                results.add(task.get());
+            }
+            return results;
+        }
+
+        Executor target = executor != null ? executor : VIRTUAL_THREAD_EXECUTOR;
+        Semaphore permits = new Semaphore(maxConcurrency);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<R>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Supplier<R> task : tasks) {
+                permits.acquire();
+                if (failed.get()) {
+                    permits.release();
+                    break;
+                }
+                CompletableFuture<R> future;
+                try {
+                    future = CompletableFuture.supplyAsync(task, target);
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                future.whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        failed.set(true);
+                    }
+                    permits.release();
+                });
+                futures.add(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while dispatching batch requests", e);
+        }
+
+        // Wait for every request in flight before surfacing a failure, so no request outlives the call
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(throwable -> null).join();
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+}
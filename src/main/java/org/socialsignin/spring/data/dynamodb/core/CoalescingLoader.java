@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-item loads into {@code BatchGetItem} requests, as configured by
+ * {@link LoadCoalescingConfig}.
+ * <p>
+ * The first load of a batch waits for the configured window and then fetches the batch on its own thread, unless the
+ * batch filled up before, in which case the load completing it fetches it right away. Every load then waits for the
+ * result of its key; loads of a key already being fetched share that fetch.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+final class CoalescingLoader {
+
+    @NonNull
+    private final LoadCoalescingConfig config;
+    @NonNull
+    private final Function<Map<DynamoDbTable<?>, List<Key>>, List<Object>> batchGet;
+    // Guarded by this
+    private final Map<LoadKey, CompletableFuture<Object>> inFlight = new HashMap<>();
+    @Nullable
+    private Batch openBatch;
+
+    /**
+     * Creates a coalescing loader.
+     * @param config the window and batch size
+     * @param batchGet loads the entities stored under the given keys, in any order, omitting missing ones
+     */
+    CoalescingLoader(@NonNull LoadCoalescingConfig config,
+                     @NonNull Function<Map<DynamoDbTable<?>, List<Key>>, List<Object>> batchGet) {
+        this.config = config;
+        this.batchGet = batchGet;
+    }
+
+    /**
+     * Loads the entity stored under the given key, together with the keys other threads load concurrently.
+     * @param table the table to load from
+     * @param key the key to load
+     * @param <T> the entity type
+     * @return the entity, or {@code null} if no item is stored under the key
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    <T> T load(@NonNull DynamoDbTable<T> table, @NonNull Key key) {
+        LoadKey loadKey = new LoadKey(table.tableName(), KeyAttributeValues.normalize(key));
+        CompletableFuture<Object> future;
+        Batch ownBatch = null;
+        Batch fullBatch = null;
+        synchronized (this) {
+            future = inFlight.get(loadKey);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                inFlight.put(loadKey, future);
+                if (openBatch == null) {
+                    openBatch = new Batch();
+                    ownBatch = openBatch;
+                }
+                openBatch.add(table, key, loadKey, future);
+                if (openBatch.size() >= config.getMaxBatchSize()) {
+                    fullBatch = openBatch;
+                    openBatch = null;
+                }
+            }
+        }
+
+        if (fullBatch != null) {
+            fetch(fullBatch);
+        } else if (ownBatch != null) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(config.getWindowMicros()));
+            synchronized (this) {
+                if (openBatch == ownBatch) {
+                    openBatch = null;
+                } else {
+                    // Another load filled up the batch and fetched it
+                    ownBatch = null;
+                }
+            }
+            if (ownBatch != null) {
+                fetch(ownBatch);
+            }
+        }
+
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void fetch(@NonNull Batch batch) {
+        try {
+            List<Object> entities = batchGet.apply(batch.keysByTable);
+            Map<LoadKey, Object> entitiesByKey = new HashMap<>();
+            for (Object entity : entities) {
+                DynamoDbTable<Object> table = batch.tablesByClass.get(entity.getClass());
+                if (table != null) {
+                    // The table schema may render numbers differently than the requested key, e.g. 5.0 for 5
+                    entitiesByKey.put(new LoadKey(table.tableName(), KeyAttributeValues.normalize(table.keyFrom(entity))),
+                            entity);
+                }
+            }
+            complete(batch);
+            batch.futures.forEach((loadKey, future) -> future.complete(entitiesByKey.get(loadKey)));
+        } catch (RuntimeException e) {
+            complete(batch);
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private synchronized void complete(@NonNull Batch batch) {
+        // Loads arriving from now on fetch again, as they may be issued after a concurrent write
+        batch.futures.keySet().forEach(inFlight::remove);
+    }
+
+    private record LoadKey(@NonNull String tableName, @NonNull Key key) {
+    }
+
+    private static final class Batch {
+
+        private final Map<DynamoDbTable<?>, List<Key>> keysByTable = new LinkedHashMap<>();
+        private final Map<Class<?>, DynamoDbTable<Object>> tablesByClass = new HashMap<>();
+        private final Map<LoadKey, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private void add(@NonNull DynamoDbTable<?> table, @NonNull Key key, @NonNull LoadKey loadKey,
+                         @NonNull CompletableFuture<Object> future) {
+            keysByTable.computeIfAbsent(table, k -> new ArrayList<>()).add(key);
+            tablesByClass.putIfAbsent(table.tableSchema().itemType().rawClass(), (DynamoDbTable<Object>) table);
+            futures.put(loadKey, future);
+        }
+
+        private int size() {
+            return futures.size();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches item counts per table and count request for a fixed time.
+ * <p>
+ * Writes through the {@link DynamoDBTemplate} evict the counts of the written table. A count racing with a write is
+ * not cached, as it may not include the write.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+final class CountCache {
+
+    private final long ttlNanos;
+    @NonNull
+    private final LongSupplier nanoTime;
+    // Guarded by itself
+    private final LinkedHashMap<CacheKey, CachedCount> counts;
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    CountCache(@NonNull CountConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    CountCache(@NonNull CountConfig config, @NonNull LongSupplier nanoTime) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(config.getCacheTtlMs());
+        this.nanoTime = nanoTime;
+        int maxCachedCounts = config.getMaxCachedCounts();
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedCount> eldest) {
+                return size() > maxCachedCounts;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached count of a request, or counts and caches it.
+     * @param tableName the counted table
+     * @param request the count request, must implement {@code equals} and {@code hashCode}
+     * @param counter counts the items
+     * @return the count
+     */
+    int getOrCount(@NonNull String tableName, @NonNull Object request, @NonNull IntSupplier counter) {
+        CacheKey cacheKey = new CacheKey(tableName, request);
+        synchronized (counts) {
+            CachedCount cached = counts.get(cacheKey);
+            if (cached != null && cached.expiresAtNanos - nanoTime.getAsLong() > 0) {
+                return cached.count;
+            }
+        }
+
+        AtomicLong tableVersion = tableVersions.computeIfAbsent(tableName, k -> new AtomicLong());
+        long version = tableVersion.get();
+        int count = counter.getAsInt();
+        synchronized (counts) {
+            if (tableVersion.get() == version) {
+                counts.put(cacheKey, new CachedCount(count, nanoTime.getAsLong() + ttlNanos));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Evicts the counts of the given table.
+     * @param tableName the written table
+     */
+    void invalidateTable(@NonNull String tableName) {
+        tableVersions.computeIfAbsent(tableName, k -> new AtomicLong()).incrementAndGet();
+        synchronized (counts) {
+            Iterator<CacheKey> keys = counts.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().tableName().equals(tableName)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    private record CacheKey(@NonNull String tableName, @NonNull Object request) {
+    }
+
+    private record CachedCount(int count, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration of how the {@link DynamoDBTemplate} counts items.
+ * <p>
+ * Counts always select only the number of matching items ({@code Select.COUNT}), so no items are transferred or
+ * unmarshalled. Beyond that, scan counts can be split into parallel segments, unfiltered table counts can be answered
+ * approximately from the {@code ItemCount} of {@code DescribeTable} and counts can be cached for a while, e.g. so that
+ * paging through a {@code Page} query doesn't count the table again for every page. The total count of a {@code Page}
+ * query runs concurrently with reading its content.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public CountConfig countConfig() {
+ *     return new CountConfig.Builder()
+ *         .scanSegments(8)
+ *         .cacheTtlMs(30_000L)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class CountConfig {
+
+    /**
+     * Default maximum number of cached counts.
+     */
+    public static final int DEFAULT_MAX_CACHED_COUNTS = 1_000;
+
+    private final int scanSegments;
+    private final boolean approximate;
+    private final long cacheTtlMs;
+    private final int maxCachedCounts;
+    private final boolean concurrentPageCount;
+    @Nullable
+    private final Executor pageCountExecutor;
+
+    /**
+     * Creates a default count configuration:
+     * - Scan segments: 1 (sequential)
+     * - Exact counts
+     * - Counts are not cached
+     * - Page counts run concurrently with reading the page, on a virtual thread
+     */
+    public CountConfig() {
+        this(1, false, 0L, DEFAULT_MAX_CACHED_COUNTS);
+    }
+
+    /**
+     * Creates a custom count configuration whose page counts run concurrently on a virtual thread.
+     * @param scanSegments Number of segments scan counts are split into and counted in parallel, unless the caller
+     *            sets the segments itself (must be > 0, 1 counts sequentially)
+     * @param approximate Whether unfiltered table counts are answered from {@code DescribeTable}, which DynamoDB
+     *            updates approximately every six hours
+     * @param cacheTtlMs Time a count stays cached (must be >= 0, 0 disables caching)
+     * @param maxCachedCounts Maximum number of cached counts, the least recently used are evicted first (must be > 0)
+     */
+    public CountConfig(int scanSegments, boolean approximate, long cacheTtlMs, int maxCachedCounts) {
+        this(scanSegments, approximate, cacheTtlMs, maxCachedCounts, true, null);
+    }
+
+    /**
+     * Creates a custom count configuration.
+     * @param scanSegments Number of segments scan counts are split into and counted in parallel, unless the caller
+     *            sets the segments itself (must be > 0, 1 counts sequentially)
+     * @param approximate Whether unfiltered table counts are answered from {@code DescribeTable}, which DynamoDB
+     *            updates approximately every six hours
+     * @param cacheTtlMs Time a count stays cached (must be >= 0, 0 disables caching)
+     * @param maxCachedCounts Maximum number of cached counts, the least recently used are evicted first (must be > 0)
+     * @param concurrentPageCount Whether the total count of a {@code Page} query runs concurrently with reading its
+     *            content
+     * @param pageCountExecutor Executor running the concurrent page counts, or {@code null} to start a virtual thread
+     *            per count
+     */
+    public CountConfig(int scanSegments, boolean approximate, long cacheTtlMs, int maxCachedCounts,
+                       boolean concurrentPageCount, @Nullable Executor pageCountExecutor) {
+        if (scanSegments <= 0) {
+            throw new IllegalArgumentException("scanSegments must be > 0");
+        }
+        if (cacheTtlMs < 0) {
+            throw new IllegalArgumentException("cacheTtlMs must be >= 0");
+        }
+        if (maxCachedCounts <= 0) {
+            throw new IllegalArgumentException("maxCachedCounts must be > 0");
+        }
+
+        this.scanSegments = scanSegments;
+        this.approximate = approximate;
+        this.cacheTtlMs = cacheTtlMs;
+        this.maxCachedCounts = maxCachedCounts;
+        this.concurrentPageCount = concurrentPageCount;
+        this.pageCountExecutor = pageCountExecutor;
+    }
+
+    /**
+     * Gets the number of segments scan counts are split into, unless the caller sets the segments itself.
+     * @return The number of segments
+     */
+    public int getScanSegments() {
+        return scanSegments;
+    }
+
+    /**
+     * Whether unfiltered table counts are answered from the approximate {@code ItemCount} of {@code DescribeTable}.
+     * @return true if table counts are approximate
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Gets the time a count stays cached.
+     * @return The TTL in milliseconds, 0 if counts are not cached
+     */
+    public long getCacheTtlMs() {
+        return cacheTtlMs;
+    }
+
+    /**
+     * Gets the maximum number of cached counts.
+     * @return The maximum number of cached counts
+     */
+    public int getMaxCachedCounts() {
+        return maxCachedCounts;
+    }
+
+    /**
+     * Whether the total count of a {@code Page} query runs concurrently with reading its content.
+     * @return true if page counts are concurrent
+     */
+    public boolean isConcurrentPageCount() {
+        return concurrentPageCount;
+    }
+
+    /**
+     * Gets the executor running the concurrent page counts.
+     * @return The executor, or {@code null} if every count runs on its own virtual thread
+     */
+    @Nullable
+    public Executor getPageCountExecutor() {
+        return pageCountExecutor;
+    }
+
+    /**
+     * Builder for creating custom CountConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default count configuration values.
+         */
+        public Builder() {
+        }
+
+        private int scanSegments = 1;
+        private boolean approximate = false;
+        private long cacheTtlMs = 0L;
+        private int maxCachedCounts = DEFAULT_MAX_CACHED_COUNTS;
+        private boolean concurrentPageCount = true;
+        @Nullable
+        private Executor pageCountExecutor;
+
+        /**
+         * Sets the number of segments scan counts are split into and counted in parallel.
+         * @param scanSegments Number of segments (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder scanSegments(int scanSegments) {
+            this.scanSegments = scanSegments;
+            return this;
+        }
+
+        /**
+         * Sets whether unfiltered table counts are answered from the approximate {@code ItemCount} of
+         * {@code DescribeTable}.
+         * @param approximate true for approximate table counts
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder approximate(boolean approximate) {
+            this.approximate = approximate;
+            return this;
+        }
+
+        /**
+         * Sets the time a count stays cached.
+         * @param cacheTtlMs TTL in milliseconds (must be >= 0, 0 disables caching)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder cacheTtlMs(long cacheTtlMs) {
+            this.cacheTtlMs = cacheTtlMs;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached counts.
+         * @param maxCachedCounts Maximum number of cached counts (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxCachedCounts(int maxCachedCounts) {
+            this.maxCachedCounts = maxCachedCounts;
+            return this;
+        }
+
+        /**
+         * Sets whether the total count of a {@code Page} query runs concurrently with reading its content.
+         * @param concurrentPageCount false to count after reading the content, on the calling thread
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder concurrentPageCount(boolean concurrentPageCount) {
+            this.concurrentPageCount = concurrentPageCount;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the concurrent page counts.
+         * @param pageCountExecutor Executor, or {@code null} to start a virtual thread per count
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder pageCountExecutor(@Nullable Executor pageCountExecutor) {
+            this.pageCountExecutor = pageCountExecutor;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new CountConfig instance with the configured settings.
+         * @return A new CountConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public CountConfig build() {
+            return new CountConfig(scanSegments, approximate, cacheTtlMs, maxCachedCounts, concurrentPageCount,
+                    pageCountExecutor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CountConfig{" +
+                "scanSegments=" + scanSegments +
+                ", approximate=" + approximate +
+                ", cacheTtlMs=" + cacheTtlMs +
+                ", maxCachedCounts=" + maxCachedCounts +
+                ", concurrentPageCount=" + concurrentPageCount +
+                ", pageCountExecutor=" + pageCountExecutor +
+                '}';
+    }
+}
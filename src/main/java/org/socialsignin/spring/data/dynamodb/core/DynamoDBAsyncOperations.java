@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link DynamoDBOperations}.
+ * <p>
+ * Every operation returns immediately with a {@link CompletableFuture} that is completed by the
+ * AWS SDK v2 asynchronous client once DynamoDB has responded. Entity events and
+ * {@link org.socialsignin.spring.data.dynamodb.mapping.event.BeforeConvertCallback} are applied with
+ * the same semantics as the blocking {@link DynamoDBTemplate}.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ * @see DynamoDBAsyncTemplate
+ */
+public interface DynamoDBAsyncOperations {
+
+    /**
+     * Counts items matching the query request.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param queryExpression the query request
+     * @return future completed with the count of matching items
+     */
+    <T> CompletableFuture<Integer> count(Class<T> domainClass, QueryEnhancedRequest queryExpression);
+
+    /**
+     * Counts items matching the scan request.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param scanExpression the scan request
+     * @return future completed with the count of matching items
+     */
+    <T> CompletableFuture<Integer> count(Class<T> domainClass, ScanEnhancedRequest scanExpression);
+
+    /**
+     * Counts items matching the query request.
+     *
+     * @param <T> the entity type
+     * @param clazz the entity class
+     * @param queryRequest the query request
+     * @return future completed with the count of matching items
+     */
+    <T> CompletableFuture<Integer> count(Class<T> clazz, QueryRequest queryRequest);
+
+    /**
+     * Executes a query using the low-level query request and collects all pages.
+     *
+     * @param <T> the entity type
+     * @param clazz the entity class
+     * @param queryRequest the query request
+     * @return future completed with the matching entities
+     */
+    <T> CompletableFuture<List<T>> query(Class<T> clazz, QueryRequest queryRequest);
+
+    /**
+     * Executes a query using the enhanced query request and collects all pages.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param queryExpression the query request
+     * @return future completed with the matching entities
+     */
+    <T> CompletableFuture<List<T>> query(Class<T> domainClass, QueryEnhancedRequest queryExpression);
+
+    /**
+     * Executes a scan operation and collects all pages.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param scanExpression the scan request
+     * @return future completed with the scanned entities
+     */
+    <T> CompletableFuture<List<T>> scan(Class<T> domainClass, ScanEnhancedRequest scanExpression);
+
+    /**
+     * Publishes the entities matching the low-level query request.
+     * <p>
+     * Pages are requested from DynamoDB only as downstream demand requires them.
+     *
+     * @param <T> the entity type
+     * @param clazz the entity class
+     * @param queryRequest the query request
+     * @return publisher of the matching entities
+     */
+    <T> SdkPublisher<T> queryPublisher(Class<T> clazz, QueryRequest queryRequest);
+
+    /**
+     * Publishes the result pages of the enhanced query request.
+     * <p>
+     * Pages are requested from DynamoDB only as downstream demand requires them.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param queryExpression the query request
+     * @return publisher of result pages
+     */
+    <T> PagePublisher<T> queryPublisher(Class<T> domainClass, QueryEnhancedRequest queryExpression);
+
+    /**
+     * Publishes the result pages of the scan request.
+     * <p>
+     * Pages are requested from DynamoDB only as downstream demand requires them.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param scanExpression the scan request
+     * @return publisher of result pages
+     */
+    <T> PagePublisher<T> scanPublisher(Class<T> domainClass, ScanEnhancedRequest scanExpression);
+
+    /**
+     * Loads an entity by hash and range key.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param hashKey the hash key value
+     * @param rangeKey the range key value
+     * @return future completed with the loaded entity, or {@code null} if not found
+     */
+    <T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, Object rangeKey);
+
+    /**
+     * Loads an entity by hash key.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param hashKey the hash key value
+     * @return future completed with the loaded entity, or {@code null} if not found
+     */
+    <T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey);
+
+    /**
+     * Loads multiple entities in a batch operation.
+     *
+     * @param <T> the entity type
+     * @param itemsToGet map of entity classes to lists of keys
+     * @return future completed with the loaded entities
+     */
+    <T> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<Key>> itemsToGet);
+
+    /**
+     * Saves an entity.
+     *
+     * @param <T> the entity type
+     * @param entity the entity to save
+     * @return future completed with the saved entity
+     */
+    <T> CompletableFuture<T> save(T entity);
+
+    /**
+     * Saves multiple entities in batch write requests of at most 25 items.
+     *
+     * @param entities the entities to save
+     * @return future completed with one batch write result per request sent
+     */
+    CompletableFuture<List<BatchWriteResult>> batchSave(Iterable<?> entities);
+
+    /**
+     * Deletes an entity.
+     *
+     * @param <T> the entity type
+     * @param entity the entity to delete
+     * @return future completed with the deleted entity
+     */
+    <T> CompletableFuture<T> delete(T entity);
+
+    /**
+     * Deletes multiple entities in batch write requests of at most 25 items.
+     *
+     * @param entities the entities to delete
+     * @return future completed with one batch write result per request sent
+     */
+    CompletableFuture<List<BatchWriteResult>> batchDelete(Iterable<?> entities);
+
+    /**
+     * Extracts unprocessed put items from batch write results.
+     *
+     * @param results the batch write results
+     * @param entitiesByClass map of entity classes to entity lists
+     * @return list of unprocessed entities
+     */
+    List<Object> extractUnprocessedPutItems(
+            List<BatchWriteResult> results,
+            Map<Class<?>, List<Object>> entitiesByClass);
+
+    /**
+     * Extracts unprocessed delete items from batch write results.
+     *
+     * @param results the batch write results
+     * @param entitiesByClass map of entity classes to entity lists
+     * @return list of unprocessed entities
+     */
+    List<Object> extractUnprocessedDeleteItems(
+            List<BatchWriteResult> results,
+            Map<Class<?>, List<Object>> entitiesByClass);
+
+    /**
+     * Gets the overridden table name for the domain class.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param tableName the base table name
+     * @return the overridden table name
+     */
+    <T> String getOverriddenTableName(Class<T> domainClass, String tableName);
+
+    /**
+     * Get the TableSchema for the domain class.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @return the table schema
+     */
+    <T> TableSchema<T> getTableModel(Class<T> domainClass);
+
+    /**
+     * Provides access to the DynamoDB mapping context.
+     *
+     * @return DynamoDB mapping context
+     */
+    DynamoDBMappingContext getMappingContext();
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+import org.socialsignin.spring.data.dynamodb.mapping.event.*;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Non-blocking implementation of {@link DynamoDBAsyncOperations} using the AWS SDK v2
+ * {@link DynamoDbAsyncClient} and {@link DynamoDbEnhancedAsyncClient}.
+ * <p>
+ * Table schemas are resolved through {@link TableSchemaFactory} (and therefore cached by
+ * {@link DynamoDbTableSchemaRegistry}) and table names through the optional {@link TableNameResolver},
+ * exactly like {@link DynamoDBTemplate}. Before-events and {@link BeforeConvertCallback} run on the
+ * calling thread; after-events are published once the corresponding future completes successfully.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class DynamoDBAsyncTemplate implements DynamoDBAsyncOperations, ApplicationContextAware {
+
+    /** DynamoDB BatchGetItem accepts at most 100 keys per request. */
+    private static final int BATCH_GET_MAX_SIZE = 100;
+    /** DynamoDB BatchWriteItem accepts at most 25 items per request. */
+    private static final int BATCH_WRITE_MAX_SIZE = 25;
+
+    @NonNull
+    private final DynamoDbEnhancedAsyncClient enhancedClient;
+    @NonNull
+    private final DynamoDbAsyncClient amazonDynamoDB;
+    @Nullable
+    private final TableNameResolver tableNameResolver;
+    @NonNull
+    private final DynamoDBMappingContext mappingContext;
+    private final Map<Class<?>, DynamoDbAsyncTable<?>> tableCache = new ConcurrentHashMap<>();
+    private ApplicationEventPublisher eventPublisher;
+    @Nullable
+    private EntityCallbacks entityCallbacks;
+
+    /**
+     * Initializes a new {@code DynamoDBAsyncTemplate} using AWS SDK v2.
+     * @param amazonDynamoDB
+     *            The low-level asynchronous DynamoDB client, must not be {@code null}
+     * @param enhancedClient
+     *            The asynchronous DynamoDB Enhanced Client for object mapping, must not be {@code null}
+     * @param tableNameResolver
+     *            Optional resolver for table name overrides/prefixes, can be {@code null}
+     * @param mappingContext
+     *            The DynamoDB mapping context (uses default SDK_V2_NATIVE if null)
+     */
+    public DynamoDBAsyncTemplate(@NonNull DynamoDbAsyncClient amazonDynamoDB,
+                                 @NonNull DynamoDbEnhancedAsyncClient enhancedClient,
+                                 @Nullable TableNameResolver tableNameResolver,
+                                 @Nullable DynamoDBMappingContext mappingContext) {
+        Assert.notNull(amazonDynamoDB, "amazonDynamoDB must not be null!");
+        Assert.notNull(enhancedClient, "enhancedClient must not be null!");
+
+        this.amazonDynamoDB = amazonDynamoDB;
+        this.enhancedClient = enhancedClient;
+        this.tableNameResolver = tableNameResolver;
+        this.mappingContext = mappingContext != null ? mappingContext : new DynamoDBMappingContext();
+    }
+
+    @Override
+    public void setApplicationContext(@NonNull ApplicationContext applicationContext) throws BeansException {
+        this.eventPublisher = applicationContext;
+
+        // Try to obtain EntityCallbacks if available in the application context
+        try {
+            this.entityCallbacks = EntityCallbacks.create(applicationContext);
+        } catch (Exception e) {
+            // EntityCallbacks not available, callbacks won't be invoked
+            this.entityCallbacks = null;
+        }
+    }
+
+    /**
+     * Gets or creates a DynamoDbAsyncTable instance for the given domain class.
+     * Tables are cached for performance.
+     * @param <T>         The domain class type
+     * @param domainClass The domain class
+     * @return The DynamoDbAsyncTable instance for the given class
+     */
+    @SuppressWarnings("unchecked")
+    private <T> DynamoDbAsyncTable<T> getTable(@NonNull Class<T> domainClass) {
+        return (DynamoDbAsyncTable<T>) tableCache.computeIfAbsent(domainClass, clazz -> {
+            TableSchema<T> schema = TableSchemaFactory.createTableSchema(domainClass);
+            String tableName = resolveTableName(domainClass);
+            return enhancedClient.table(tableName, schema);
+        });
+    }
+
+    /**
+     * Resolves the table name for the given domain class, applying any configured overrides.
+     * @param <T>         The domain class type
+     * @param domainClass The domain class
+     * @return The resolved table name
+     */
+    private <T> String resolveTableName(@NonNull Class<T> domainClass) {
+        String baseTableName = domainClass.getSimpleName();
+
+        if (tableNameResolver != null) {
+            return tableNameResolver.resolveTableName(domainClass, baseTableName);
+        }
+
+        return baseTableName;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> load(@NonNull Class<T> domainClass, @NonNull Object hashKey, Object rangeKey) {
+        DynamoDbAsyncTable<T> table = getTable(domainClass);
+        Key key = KeyAttributeValues.buildKey(hashKey, rangeKey, mappingContext.getMarshallingMode());
+        return table.getItem(key).thenApply(entity -> {
+            maybeEmitEvent(entity, AfterLoadEvent::new);
+            return entity;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> load(@NonNull Class<T> domainClass, @NonNull Object hashKey) {
+        return load(domainClass, hashKey, null);
+    }
+
+    @NonNull
+    @Override
+    public <T> CompletableFuture<List<T>> batchLoad(@NonNull Map<Class<?>, List<Key>> itemsToGet) {
+        List<CompletableFuture<List<Object>>> chunkFutures = new ArrayList<>();
+
+        // SDK v2 Enhanced Client requires separate batch requests per table
+        for (Map.Entry<Class<?>, List<Key>> entry : itemsToGet.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Class<Object> domainClass = (Class<Object>) entry.getKey();
+            List<Key> keys = entry.getValue();
+            DynamoDbAsyncTable<Object> table = getTable(domainClass);
+
+            // All chunks are sent without waiting for each other
+            for (int startIndex = 0; startIndex < keys.size(); startIndex += BATCH_GET_MAX_SIZE) {
+                List<Key> keysBatch = keys.subList(startIndex, Math.min(startIndex + BATCH_GET_MAX_SIZE, keys.size()));
+
+                ReadBatch.Builder<Object> batchBuilder = ReadBatch.builder(domainClass)
+                        .mappedTableResource(table);
+                keysBatch.forEach(batchBuilder::addGetItem);
+
+                BatchGetItemEnhancedRequest request = BatchGetItemEnhancedRequest.builder()
+                        .addReadBatch(batchBuilder.build())
+                        .build();
+
+                List<Object> chunkResults = Collections.synchronizedList(new ArrayList<>(keysBatch.size()));
+                chunkFutures.add(enhancedClient.batchGetItem(request)
+                        .subscribe(page -> chunkResults.addAll(page.resultsForTable(table)))
+                        .thenApply(ignored -> chunkResults));
+            }
+        }
+
+        return allOf(chunkFutures).thenApply(chunks -> {
+            List<T> results = new ArrayList<>();
+            for (List<Object> chunk : chunks) {
+                for (Object entity : chunk) {
+                    maybeEmitEvent(entity, AfterLoadEvent::new);
+                    @SuppressWarnings("unchecked")
+                    T typed = (T) entity;
+                    results.add(typed);
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> save(T entity) {
+        // Same ordering as DynamoDBTemplate.save: callback first, then key generation and events
+        entity = maybeCallBeforeConvert(entity, resolveTableName(entity.getClass()));
+
+        if (mappingContext.getMarshallingMode() == MarshallingMode.SDK_V1_COMPATIBLE) {
+            AutoGeneratedKeyHelper.processAutoGeneratedKeys(entity);
+        }
+
+        maybeEmitEvent(entity, BeforeSaveEvent::new);
+
+        @SuppressWarnings("unchecked")
+        DynamoDbAsyncTable<T> table = (DynamoDbAsyncTable<T>) getTable(entity.getClass());
+
+        // updateItem (not putItem) so that @DynamoDbVersionAttribute is reflected on the returned entity
+        return table.updateItem(entity).thenApply(savedEntity -> {
+            maybeEmitEvent(savedEntity, AfterSaveEvent::new);
+            return savedEntity;
+        });
+    }
+
+    /**
+     * Invokes {@link BeforeConvertCallback} if {@link EntityCallbacks} are available.
+     * @param entity the entity to process
+     * @param tableName the table name
+     * @param <T> entity type
+     * @return the potentially modified entity
+     */
+    @NonNull
+    private <T> T maybeCallBeforeConvert(@NonNull T entity, String tableName) {
+        if (entityCallbacks != null) {
+            return entityCallbacks.callback(BeforeConvertCallback.class, entity, tableName);
+        }
+        return entity;
+    }
+
+    @NonNull
+    @Override
+    public CompletableFuture<List<BatchWriteResult>> batchSave(@NonNull Iterable<?> entities) {
+        if (mappingContext.getMarshallingMode() == MarshallingMode.SDK_V1_COMPATIBLE) {
+            entities.forEach(AutoGeneratedKeyHelper::processAutoGeneratedKeys);
+        }
+
+        entities.forEach(it -> maybeEmitEvent(it, BeforeSaveEvent::new));
+
+        return batchWrite(entities, WriteBatch.Builder::addPutItem).thenApply(results -> {
+            entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
+            return results;
+        });
+    }
+
+    @NonNull
+    @Override
+    public <T> CompletableFuture<T> delete(@NonNull T entity) {
+        maybeEmitEvent(entity, BeforeDeleteEvent::new);
+
+        @SuppressWarnings("unchecked")
+        DynamoDbAsyncTable<T> table = (DynamoDbAsyncTable<T>) getTable(entity.getClass());
+
+        return table.deleteItem(entity).thenApply(deleted -> {
+            maybeEmitEvent(entity, AfterDeleteEvent::new);
+            return entity;
+        });
+    }
+
+    @NonNull
+    @Override
+    public CompletableFuture<List<BatchWriteResult>> batchDelete(@NonNull Iterable<?> entities) {
+        entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
+
+        return batchWrite(entities, WriteBatch.Builder::addDeleteItem).thenApply(results -> {
+            entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
+            return results;
+        });
+    }
+
+    /**
+     * Groups the entities by class, splits them into requests of at most 25 items and sends all
+     * requests concurrently.
+     * @param entities the entities to write
+     * @param operation adds a single entity to the write batch (put or delete)
+     * @return future completed with one result per request, in request order
+     */
+    private CompletableFuture<List<BatchWriteResult>> batchWrite(@NonNull Iterable<?> entities,
+                                                                 @NonNull WriteOperation operation) {
+        Map<Class<?>, List<Object>> entitiesByClass = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            entitiesByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+        }
+
+        List<Object> allEntities = new ArrayList<>();
+        entitiesByClass.values().forEach(allEntities::addAll);
+
+        List<CompletableFuture<BatchWriteResult>> chunkFutures = new ArrayList<>();
+        for (int i = 0; i < allEntities.size(); i += BATCH_WRITE_MAX_SIZE) {
+            List<Object> chunk = allEntities.subList(i, Math.min(i + BATCH_WRITE_MAX_SIZE, allEntities.size()));
+
+            Map<Class<?>, List<Object>> chunkByClass = new LinkedHashMap<>();
+            for (Object entity : chunk) {
+                chunkByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+            }
+
+            BatchWriteItemEnhancedRequest.Builder requestBuilder = BatchWriteItemEnhancedRequest.builder();
+            for (Map.Entry<Class<?>, List<Object>> entry : chunkByClass.entrySet()) {
+                @SuppressWarnings("unchecked")
+                Class<Object> domainClass = (Class<Object>) entry.getKey();
+
+                WriteBatch.Builder<Object> batchBuilder = WriteBatch.builder(domainClass)
+                        .mappedTableResource(getTable(domainClass));
+                for (Object entity : entry.getValue()) {
+                    operation.add(batchBuilder, entity);
+                }
+                requestBuilder.addWriteBatch(batchBuilder.build());
+            }
+
+            chunkFutures.add(enhancedClient.batchWriteItem(requestBuilder.build()));
+        }
+
+        return allOf(chunkFutures);
+    }
+
+    @NonNull
+    @Override
+    public List<Object> extractUnprocessedPutItems(
+            @NonNull List<BatchWriteResult> results,
+            @NonNull Map<Class<?>, List<Object>> entitiesByClass) {
+
+        List<Object> unprocessedEntities = new ArrayList<>();
+
+        for (BatchWriteResult result : results) {
+            for (Class<?> domainClass : entitiesByClass.keySet()) {
+                List<?> unprocessedPuts = result.unprocessedPutItemsForTable(getTable(domainClass));
+                if (unprocessedPuts != null) {
+                    unprocessedEntities.addAll(unprocessedPuts);
+                }
+            }
+        }
+
+        return unprocessedEntities;
+    }
+
+    @NonNull
+    @Override
+    public List<Object> extractUnprocessedDeleteItems(
+            @NonNull List<BatchWriteResult> results,
+            @NonNull Map<Class<?>, List<Object>> entitiesByClass) {
+
+        List<Object> unprocessedEntities = new ArrayList<>();
+
+        for (BatchWriteResult result : results) {
+            for (Map.Entry<Class<?>, List<Object>> entry : entitiesByClass.entrySet()) {
+                @SuppressWarnings("unchecked")
+                Class<Object> domainClass = (Class<Object>) entry.getKey();
+                DynamoDbAsyncTable<Object> table = getTable(domainClass);
+
+                // Deletes report keys, so match them back to the original entities
+                List<Key> unprocessedKeys = result.unprocessedDeleteItemsForTable(table);
+                if (unprocessedKeys != null) {
+                    for (Key key : unprocessedKeys) {
+                        for (Object originalEntity : entry.getValue()) {
+                            if (table.keyFrom(originalEntity).equals(key)) {
+                                unprocessedEntities.add(originalEntity);
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return unprocessedEntities;
+    }
+
+    @NonNull
+    @Override
+    public <T> CompletableFuture<List<T>> query(@NonNull Class<T> clazz, QueryRequest queryRequest) {
+        DynamoDbAsyncTable<T> table = getTable(clazz);
+        return queryPages(table, queryRequest, new ArrayList<>());
+    }
+
+    /**
+     * Follows {@code LastEvaluatedKey} until the query is exhausted, mapping every item to the entity type.
+     */
+    private <T> CompletableFuture<List<T>> queryPages(DynamoDbAsyncTable<T> table, QueryRequest queryRequest,
+                                                     List<T> accumulated) {
+        return amazonDynamoDB.query(queryRequest).thenCompose(queryResult -> {
+            queryResult.items().forEach(item -> accumulated.add(table.tableSchema().mapToItem(item)));
+
+            if (!hasMorePages(queryResult.lastEvaluatedKey())) {
+                return CompletableFuture.completedFuture(accumulated);
+            }
+            return queryPages(table, queryRequest.toBuilder()
+                    .exclusiveStartKey(queryResult.lastEvaluatedKey())
+                    .build(), accumulated);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> query(@NonNull Class<T> domainClass, QueryEnhancedRequest queryRequest) {
+        DynamoDbAsyncTable<T> table = getTable(domainClass);
+        return collectItems(table.query(queryRequest)).thenApply(items -> {
+            maybeEmitEvent(asPageIterable(items), AfterQueryEvent::new);
+            return items;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> scan(@NonNull Class<T> domainClass, ScanEnhancedRequest scanRequest) {
+        DynamoDbAsyncTable<T> table = getTable(domainClass);
+        return collectItems(table.scan(scanRequest)).thenApply(items -> {
+            maybeEmitEvent(asPageIterable(items), AfterScanEvent::new);
+            return items;
+        });
+    }
+
+    @NonNull
+    @Override
+    public <T> SdkPublisher<T> queryPublisher(@NonNull Class<T> clazz, QueryRequest queryRequest) {
+        DynamoDbAsyncTable<T> table = getTable(clazz);
+        return amazonDynamoDB.queryPaginator(queryRequest).items()
+                .map(item -> table.tableSchema().mapToItem(item));
+    }
+
+    @NonNull
+    @Override
+    public <T> PagePublisher<T> queryPublisher(@NonNull Class<T> domainClass, QueryEnhancedRequest queryRequest) {
+        return getTable(domainClass).query(queryRequest);
+    }
+
+    @NonNull
+    @Override
+    public <T> PagePublisher<T> scanPublisher(@NonNull Class<T> domainClass, ScanEnhancedRequest scanRequest) {
+        return getTable(domainClass).scan(scanRequest);
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> count(@NonNull Class<T> domainClass, QueryEnhancedRequest queryRequest) {
+        DynamoDbAsyncTable<T> table = getTable(domainClass);
+        AtomicInteger count = new AtomicInteger();
+        return table.query(queryRequest)
+                .subscribe(page -> count.addAndGet(page.items().size()))
+                .thenApply(ignored -> count.get());
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> count(@NonNull Class<T> domainClass, @NonNull ScanEnhancedRequest scanRequest) {
+        DynamoDbAsyncTable<T> table = getTable(domainClass);
+
+        // Convert ScanEnhancedRequest to low-level ScanRequest with SELECT COUNT
+        ScanRequest.Builder scanBuilder = ScanRequest.builder()
+                .tableName(table.tableName())
+                .select(Select.COUNT);
+
+        if (scanRequest.filterExpression() != null) {
+            scanBuilder.filterExpression(scanRequest.filterExpression().expression());
+            if (scanRequest.filterExpression().expressionValues() != null) {
+                scanBuilder.expressionAttributeValues(scanRequest.filterExpression().expressionValues());
+            }
+            if (scanRequest.filterExpression().expressionNames() != null) {
+                scanBuilder.expressionAttributeNames(scanRequest.filterExpression().expressionNames());
+            }
+        }
+
+        if (scanRequest.limit() != null) {
+            scanBuilder.limit(scanRequest.limit());
+        }
+
+        return countScanPages(scanBuilder.build(), 0);
+    }
+
+    private CompletableFuture<Integer> countScanPages(ScanRequest scanRequest, int countSoFar) {
+        return amazonDynamoDB.scan(scanRequest).thenCompose(scanResult -> {
+            int count = countSoFar + scanResult.count();
+            if (!hasMorePages(scanResult.lastEvaluatedKey())) {
+                return CompletableFuture.completedFuture(count);
+            }
+            return countScanPages(scanRequest.toBuilder()
+                    .exclusiveStartKey(scanResult.lastEvaluatedKey())
+                    .build(), count);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> count(Class<T> clazz, QueryRequest queryRequest) {
+        return countQueryPages(queryRequest.toBuilder().select(Select.COUNT).build(), 0);
+    }
+
+    private CompletableFuture<Integer> countQueryPages(QueryRequest queryRequest, int countSoFar) {
+        return amazonDynamoDB.query(queryRequest).thenCompose(queryResult -> {
+            int count = countSoFar + queryResult.count();
+            if (!hasMorePages(queryResult.lastEvaluatedKey())) {
+                return CompletableFuture.completedFuture(count);
+            }
+            return countQueryPages(queryRequest.toBuilder()
+                    .exclusiveStartKey(queryResult.lastEvaluatedKey())
+                    .build(), count);
+        });
+    }
+
+    @Override
+    public <T> String getOverriddenTableName(Class<T> domainClass, String tableName) {
+        if (tableNameResolver != null) {
+            return tableNameResolver.resolveTableName(domainClass, tableName);
+        }
+        return tableName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> TableSchema<T> getTableModel(Class<T> domainClass) {
+        return TableSchemaFactory.createTableSchema(domainClass);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public DynamoDBMappingContext getMappingContext() {
+        return mappingContext;
+    }
+
+    /**
+     * Emits a DynamoDB mapping event if an event publisher is configured.
+     * @param source the source object for the event
+     * @param factory the factory function to create the event
+     * @param <T> the type of the source object
+     */
+    protected <T> void maybeEmitEvent(@Nullable T source, @NonNull Function<T, DynamoDBMappingEvent<T>> factory) {
+        if (eventPublisher != null && source != null) {
+            eventPublisher.publishEvent(factory.apply(source));
+        }
+    }
+
+    private static <T> CompletableFuture<List<T>> collectItems(PagePublisher<T> pages) {
+        List<T> items = Collections.synchronizedList(new ArrayList<>());
+        return pages.subscribe(page -> items.addAll(page.items())).thenApply(ignored -> items);
+    }
+
+    private static <T> PageIterable<T> asPageIterable(List<T> items) {
+        List<Page<T>> pages = List.of(Page.create(items));
+        return PageIterable.create(pages::iterator);
+    }
+
+    private static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private static boolean hasMorePages(@Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+        // lastEvaluatedKey can be an empty map {} instead of null
+        return lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty();
+    }
+
+    /**
+     * Adds a single entity to a write batch, either as put or as delete request.
+     */
+    @FunctionalInterface
+    private interface WriteOperation {
+        void add(WriteBatch.Builder<Object> batchBuilder, Object entity);
+    }
+}
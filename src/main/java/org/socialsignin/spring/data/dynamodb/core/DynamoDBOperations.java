@@ -52,6 +52,22 @@ public interface DynamoDBOperations {
      */
     <T> int count(Class<T> domainClass, ScanEnhancedRequest scanExpression);
 
+    /**
+     * Counts items matching the scan request, splitting the table into segments that are counted in parallel.
+     * <p>
+     * The default implementation ignores {@code totalSegments} and counts sequentially.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param scanExpression the scan request, without segment settings
+     * @param totalSegments the number of segments, 1 counts sequentially
+     * @return the count of matching items
+     * @since 8.0.1
+     */
+    default <T> int parallelCount(Class<T> domainClass, ScanEnhancedRequest scanExpression, int totalSegments) {
+        return count(domainClass, scanExpression);
+    }
+
     /**
      * Counts items matching the query request.
      *
@@ -92,6 +108,38 @@ public interface DynamoDBOperations {
      */
     <T> PageIterable<T> scan(Class<T> domainClass, ScanEnhancedRequest scanExpression);
 
+    /**
+     * Scans for all items matching the scan request, splitting the table into segments that are scanned in
+     * parallel.
+     * <p>
+     * The default implementation ignores {@code totalSegments} and scans the table sequentially.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param scanExpression the enhanced scan request, without segment settings
+     * @param totalSegments the number of segments, 1 scans sequentially
+     * @return the scanned items, grouped by segment
+     * @since 8.0.1
+     */
+    default <T> List<T> parallelScan(Class<T> domainClass, ScanEnhancedRequest scanExpression, int totalSegments) {
+        return scan(domainClass, scanExpression).items().stream().toList();
+    }
+
+    /**
+     * Wraps the pages of a query or scan so that each iteration fetches the following pages in the background while
+     * the current one is processed.
+     * <p>
+     * The default implementation returns the pages unchanged, fetching each page when it is requested.
+     *
+     * @param <T> the entity type
+     * @param pages the pages returned by {@link #query} or {@link #scan}
+     * @return the pages, prefetched if configured
+     * @since 8.0.1
+     */
+    default <T> PageIterable<T> prefetching(PageIterable<T> pages) {
+        return pages;
+    }
+
     /**
      * Loads an item by hash key and range key.
      *
@@ -113,8 +161,45 @@ public interface DynamoDBOperations {
      */
     <T> T load(Class<T> domainClass, Object hashKey);
 
+    /**
+     * Loads only the given attributes of an item, leaving the other properties of the returned entity unset. Meant for
+     * entities that are only read through a projection.
+     * <p>
+     * The default implementation loads the whole item.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param hashKey the hash key value
+     * @param rangeKey the range key value, or null for tables without range key
+     * @param attributesToProject the names of the attributes to read
+     * @return the loaded item, or null if not found
+     * @since 8.0.1
+     */
+    default <T> T load(Class<T> domainClass, Object hashKey, Object rangeKey, List<String> attributesToProject) {
+        return rangeKey != null ? load(domainClass, hashKey, rangeKey) : load(domainClass, hashKey);
+    }
+
+    /**
+     * Checks whether an item exists, reading only its key attributes.
+     * <p>
+     * The default implementation loads the whole item.
+     *
+     * @param <T> the entity type
+     * @param domainClass the entity class
+     * @param hashKey the hash key value
+     * @param rangeKey the range key value, or null for tables without range key
+     * @return true if the item exists
+     * @since 8.0.1
+     */
+    default <T> boolean exists(Class<T> domainClass, Object hashKey, Object rangeKey) {
+        T entity = rangeKey != null ? load(domainClass, hashKey, rangeKey) : load(domainClass, hashKey);
+        return entity != null;
+    }
+
     /**
      * Batch loads multiple items.
+     * <p>
+     * Duplicate keys are loaded once. Keys whose items don't exist are omitted from the result.
      *
      * @param <T> the entity type
      * @param itemsToGet map of entity classes to lists of keys to load
@@ -133,9 +218,12 @@ public interface DynamoDBOperations {
 
     /**
      * Batch saves multiple entities.
+     * <p>
+     * Unprocessed items are resubmitted according to the configured {@link BatchWriteRetryConfig}. Items still
+     * unprocessed afterwards are reported by the returned results; see {@link BatchWriteResults}.
      *
      * @param entities the entities to save
-     * @return list of batch write results
+     * @return list of batch write results, one per chunk of up to 25 items
      */
     List<BatchWriteResult> batchSave(Iterable<?> entities);
 
@@ -150,12 +238,27 @@ public interface DynamoDBOperations {
 
     /**
      * Batch deletes multiple entities.
+     * <p>
+     * Unprocessed items are resubmitted according to the configured {@link BatchWriteRetryConfig}. Items still
+     * unprocessed afterwards are reported by the returned results; see {@link BatchWriteResults}.
      *
      * @param entities the entities to delete
-     * @return list of batch write results
+     * @return list of batch write results, one per chunk of up to 25 items
      */
     List<BatchWriteResult> batchDelete(Iterable<?> entities);
 
+    /**
+     * Creates a write-behind buffer that coalesces individual saves into {@code BatchWriteItem} requests.
+     * <p>
+     * The returned writer owns a background thread and must be closed once it is no longer needed.
+     * @param config the batching, backpressure and journal configuration
+     * @return a new buffered writer
+     * @since 8.0.1
+     */
+    default BufferedWriter newBufferedWriter(BufferedWriterConfig config) {
+        return new BufferedWriter(this, config);
+    }
+
     /**
      * Extracts unprocessed put items (saves) from batch write results.
      * <p>
@@ -17,9 +17,8 @@ package org.socialsignin.spring.data.dynamodb.core;
 
 import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
 import org.socialsignin.spring.data.dynamodb.mapping.event.*;
-import org.socialsignin.spring.data.dynamodb.marshaller.Date2IsoDynamoDBMarshaller;
-import org.socialsignin.spring.data.dynamodb.marshaller.Instant2IsoDynamoDBMarshaller;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
@@ -29,21 +28,34 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.*;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.Select;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +63,9 @@ import java.util.stream.Collectors;
  * @author Prasanna Kumar Ramachandran
  */
 public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextAware {
+    // DynamoDB limit of segments per parallel scan
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+
     @NonNull
     private final DynamoDbEnhancedClient enhancedClient;
     @NonNull
@@ -63,6 +78,32 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
     private ApplicationEventPublisher eventPublisher;
     @Nullable
     private EntityCallbacks entityCallbacks;
+    @NonNull
+    private BatchLoadConfig batchLoadConfig = new BatchLoadConfig();
+    @NonNull
+    private BatchWriteConfig batchWriteConfig = new BatchWriteConfig();
+    @NonNull
+    private BatchWriteRetryConfig batchWriteRetryConfig = new BatchWriteRetryConfig();
+    @NonNull
+    private ParallelScanConfig parallelScanConfig = new ParallelScanConfig();
+    @NonNull
+    private volatile CountConfig countConfig = new CountConfig();
+    @Nullable
+    private volatile CountCache countCache;
+    private final Map<Class<?>, RateLimitConfig> rateLimitConfigs = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile RateLimitConfig defaultRateLimitConfig;
+    private final Map<String, TableRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile CoalescingLoader coalescingLoader;
+    @Nullable
+    private volatile EntityCache entityCache;
+    private final QueryResultCache queryResultCache = new QueryResultCache(
+            domainClass -> getTable(domainClass).tableName(), this::getTableModel);
+    @Nullable
+    private volatile PageTokenCache pageTokenCache;
+    @Nullable
+    private volatile PrefetchConfig prefetchConfig;
 
     /**
      * Initializes a new {@code DynamoDBTemplate} using AWS SDK v2.
@@ -100,6 +141,269 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
             // EntityCallbacks not available, callbacks won't be invoked
             this.entityCallbacks = null;
         }
+
+        BatchLoadConfig contextBatchLoadConfig = getOptionalBean(applicationContext, BatchLoadConfig.class);
+        if (contextBatchLoadConfig != null) {
+            this.batchLoadConfig = contextBatchLoadConfig;
+        }
+        BatchWriteConfig contextBatchWriteConfig = getOptionalBean(applicationContext, BatchWriteConfig.class);
+        if (contextBatchWriteConfig != null) {
+            this.batchWriteConfig = contextBatchWriteConfig;
+        }
+        BatchWriteRetryConfig contextBatchWriteRetryConfig = getOptionalBean(applicationContext, BatchWriteRetryConfig.class);
+        if (contextBatchWriteRetryConfig != null) {
+            this.batchWriteRetryConfig = contextBatchWriteRetryConfig;
+        }
+        ParallelScanConfig contextParallelScanConfig = getOptionalBean(applicationContext, ParallelScanConfig.class);
+        if (contextParallelScanConfig != null) {
+            this.parallelScanConfig = contextParallelScanConfig;
+        }
+        CountConfig contextCountConfig = getOptionalBean(applicationContext, CountConfig.class);
+        if (contextCountConfig != null) {
+            setCountConfig(contextCountConfig);
+        }
+        EntityCacheConfig contextEntityCacheConfig = getOptionalBean(applicationContext, EntityCacheConfig.class);
+        if (contextEntityCacheConfig != null) {
+            setEntityCacheConfig(contextEntityCacheConfig);
+        }
+        PageTokenCacheConfig contextPageTokenCacheConfig = getOptionalBean(applicationContext, PageTokenCacheConfig.class);
+        if (contextPageTokenCacheConfig != null) {
+            setPageTokenCacheConfig(contextPageTokenCacheConfig);
+        }
+        PrefetchConfig contextPrefetchConfig = getOptionalBean(applicationContext, PrefetchConfig.class);
+        if (contextPrefetchConfig != null) {
+            setPrefetchConfig(contextPrefetchConfig);
+        }
+        LoadCoalescingConfig contextLoadCoalescingConfig = getOptionalBean(applicationContext, LoadCoalescingConfig.class);
+        if (contextLoadCoalescingConfig != null) {
+            setLoadCoalescingConfig(contextLoadCoalescingConfig);
+        }
+        RateLimitConfig contextRateLimitConfig = getOptionalBean(applicationContext, RateLimitConfig.class);
+        if (contextRateLimitConfig != null) {
+            setDefaultRateLimitConfig(contextRateLimitConfig);
+        }
+    }
+
+    @Nullable
+    private static <B> B getOptionalBean(@NonNull ApplicationContext applicationContext, @NonNull Class<B> beanType) {
+        try {
+            ObjectProvider<B> provider = applicationContext.getBeanProvider(beanType);
+            return provider != null ? provider.getIfUnique() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets the configuration used by {@link #batchLoad(Map)}.
+     * <p>
+     * A {@link BatchLoadConfig} bean in the application context is picked up automatically.
+     * @param batchLoadConfig the batch load configuration, must not be {@code null}
+     * @since 8.0.1
+     */
+    public void setBatchLoadConfig(@NonNull BatchLoadConfig batchLoadConfig) {
+        Assert.notNull(batchLoadConfig, "batchLoadConfig must not be null!");
+        this.batchLoadConfig = batchLoadConfig;
+    }
+
+    /**
+     * Sets the configuration used by {@link #batchSave(Iterable)} and {@link #batchDelete(Iterable)} to write
+     * chunks concurrently.
+     * <p>
+     * A {@link BatchWriteConfig} bean in the application context is picked up automatically.
+     * @param batchWriteConfig the batch write configuration, must not be {@code null}
+     * @since 8.0.1
+     */
+    public void setBatchWriteConfig(@NonNull BatchWriteConfig batchWriteConfig) {
+        Assert.notNull(batchWriteConfig, "batchWriteConfig must not be null!");
+        this.batchWriteConfig = batchWriteConfig;
+    }
+
+    /**
+     * Sets the retry configuration applied to unprocessed items of {@link #batchSave(Iterable)} and
+     * {@link #batchDelete(Iterable)}.
+     * <p>
+     * A {@link BatchWriteRetryConfig} bean in the application context is picked up automatically.
+     * @param batchWriteRetryConfig the retry configuration, must not be {@code null}
+     * @since 8.0.1
+     */
+    public void setBatchWriteRetryConfig(@NonNull BatchWriteRetryConfig batchWriteRetryConfig) {
+        Assert.notNull(batchWriteRetryConfig, "batchWriteRetryConfig must not be null!");
+        this.batchWriteRetryConfig = batchWriteRetryConfig;
+    }
+
+    /**
+     * Sets the configuration used by {@link #parallelScan(Class, ScanEnhancedRequest, int)} and
+     * {@link #parallelCount(Class, ScanEnhancedRequest, int)} to scan segments concurrently.
+     * <p>
+     * A {@link ParallelScanConfig} bean in the application context is picked up automatically.
+     * @param parallelScanConfig the parallel scan configuration, must not be {@code null}
+     * @since 8.0.1
+     */
+    public void setParallelScanConfig(@NonNull ParallelScanConfig parallelScanConfig) {
+        Assert.notNull(parallelScanConfig, "parallelScanConfig must not be null!");
+        this.parallelScanConfig = parallelScanConfig;
+    }
+
+    /**
+     * Sets how items are counted, i.e. the default segments of scan counts, whether table counts are approximate and
+     * how long counts are cached.
+     * <p>
+     * A {@link CountConfig} bean in the application context is picked up automatically.
+     * @param countConfig the count configuration, must not be {@code null}
+     * @since 8.0.1
+     */
+    public void setCountConfig(@NonNull CountConfig countConfig) {
+        Assert.notNull(countConfig, "countConfig must not be null!");
+        this.countConfig = countConfig;
+        this.countCache = countConfig.getCacheTtlMs() > 0 ? new CountCache(countConfig) : null;
+    }
+
+    /**
+     * Gets the configuration of how items are counted.
+     * @return the count configuration
+     * @since 8.0.1
+     */
+    @NonNull
+    public CountConfig getCountConfig() {
+        return countConfig;
+    }
+
+    /**
+     * Enables the in-process entity cache serving {@link #load} calls, see {@link EntityCache}.
+     * <p>
+     * An {@link EntityCacheConfig} bean in the application context is picked up automatically.
+     * @param entityCacheConfig the cache configuration, or {@code null} to disable the cache
+     * @since 8.0.1
+     */
+    public void setEntityCacheConfig(@Nullable EntityCacheConfig entityCacheConfig) {
+        this.entityCache = entityCacheConfig != null ? new EntityCache(entityCacheConfig) : null;
+    }
+
+    /**
+     * Gets the in-process entity cache, e.g. to read its statistics.
+     * @return the entity cache, or {@code null} if it is disabled
+     * @since 8.0.1
+     */
+    @Nullable
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Gets the cache of query results, used by repository methods annotated with
+     * {@link org.socialsignin.spring.data.dynamodb.repository.CachedQuery}.
+     * @return the query result cache
+     * @since 8.0.1
+     */
+    @NonNull
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    /**
+     * Enables the page token cache, which lets offset-based {@link org.springframework.data.domain.Pageable} queries
+     * and scans continue at the {@code LastEvaluatedKey} of a previously read page, see {@link PageTokenCache}.
+     * <p>
+     * A {@link PageTokenCacheConfig} bean in the application context is picked up automatically.
+     * @param pageTokenCacheConfig the cache configuration, or {@code null} to read every page from the start
+     * @since 8.0.1
+     */
+    public void setPageTokenCacheConfig(@Nullable PageTokenCacheConfig pageTokenCacheConfig) {
+        this.pageTokenCache = pageTokenCacheConfig != null
+                ? new PageTokenCache(pageTokenCacheConfig, domainClass -> getTable(domainClass).tableName())
+                : null;
+    }
+
+    /**
+     * Gets the page token cache, e.g. to read its statistics.
+     * @return the page token cache, or {@code null} if it is disabled
+     * @since 8.0.1
+     */
+    @Nullable
+    public PageTokenCache getPageTokenCache() {
+        return pageTokenCache;
+    }
+
+    /**
+     * Enables background prefetching of query and scan pages passed to {@link #prefetching(PageIterable)}.
+     * <p>
+     * A {@link PrefetchConfig} bean in the application context is picked up automatically.
+     * @param prefetchConfig the prefetch configuration, or {@code null} to fetch each page when it is requested
+     * @since 8.0.1
+     */
+    public void setPrefetchConfig(@Nullable PrefetchConfig prefetchConfig) {
+        this.prefetchConfig = prefetchConfig;
+    }
+
+    /**
+     * Enables coalescing of concurrent single-item loads into {@code BatchGetItem} requests.
+     * <p>
+     * A {@link LoadCoalescingConfig} bean in the application context is picked up automatically.
+     * @param loadCoalescingConfig the coalescing configuration, or {@code null} to load every item with its own
+     *            {@code GetItem} request
+     * @since 8.0.1
+     */
+    public void setLoadCoalescingConfig(@Nullable LoadCoalescingConfig loadCoalescingConfig) {
+        this.coalescingLoader = loadCoalescingConfig != null
+                ? new CoalescingLoader(loadCoalescingConfig, this::batchGet)
+                : null;
+    }
+
+    /**
+     * Sets the client-side rate limit of the table of the given entity class, overriding the default rate limit.
+     * <p>
+     * Repositories annotated with {@link org.socialsignin.spring.data.dynamodb.repository.RateLimited} register
+     * their rate limit through this method.
+     * @param domainClass the entity class
+     * @param rateLimitConfig the rate limit, or {@code null} to fall back to the default rate limit
+     * @since 8.0.1
+     */
+    public void setRateLimitConfig(@NonNull Class<?> domainClass, @Nullable RateLimitConfig rateLimitConfig) {
+        Assert.notNull(domainClass, "domainClass must not be null!");
+        if (rateLimitConfig != null) {
+            rateLimitConfigs.put(domainClass, rateLimitConfig);
+        } else {
+            rateLimitConfigs.remove(domainClass);
+        }
+        rateLimiters.clear();
+    }
+
+    /**
+     * Sets the client-side rate limit applied to every table without a rate limit of its own.
+     * <p>
+     * A {@link RateLimitConfig} bean in the application context is picked up automatically.
+     * @param defaultRateLimitConfig the rate limit, or {@code null} to not limit these tables
+     * @since 8.0.1
+     */
+    public void setDefaultRateLimitConfig(@Nullable RateLimitConfig defaultRateLimitConfig) {
+        this.defaultRateLimitConfig = defaultRateLimitConfig;
+        rateLimiters.clear();
+    }
+
+    /**
+     * Gets the rate limiter of the table of the given entity class.
+     * <p>
+     * Entity classes mapped to the same table share a rate limiter.
+     * @param domainClass the entity class
+     * @return the rate limiter, or {@code null} if the table is not rate limited
+     * @since 8.0.1
+     */
+    @Nullable
+    public TableRateLimiter getRateLimiter(@NonNull Class<?> domainClass) {
+        RateLimitConfig rateLimitConfig = rateLimitConfigs.getOrDefault(domainClass, defaultRateLimitConfig);
+        if (rateLimitConfig == null) {
+            return null;
+        }
+        return rateLimiters.computeIfAbsent(getTable(domainClass).tableName(),
+                tableName -> new TableRateLimiter(rateLimitConfig));
+    }
+
+    @NonNull
+    @SuppressWarnings("unchecked")
+    private BatchWriter newBatchWriter() {
+        return new BatchWriter(enhancedClient, batchWriteConfig, batchWriteRetryConfig,
+                domainClass -> (DynamoDbTable<Object>) getTable(domainClass), this::getRateLimiter);
     }
 
     /**
@@ -153,85 +457,14 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
      */
     @NonNull
     private Key buildKey(@NonNull Object hashKeyValue, @Nullable Object rangeKeyValue) {
-        Key.Builder keyBuilder = Key.builder()
-                .partitionValue(toAttributeValue(hashKeyValue));
-
-        if (rangeKeyValue != null) {
-            keyBuilder.sortValue(toAttributeValue(rangeKeyValue));
-        }
-
-        return keyBuilder.build();
-    }
-
-    /**
-     * Converts a Java object to SDK v2 AttributeValue.
-     * <p>
-     * Marshalling behavior depends on the configured MarshallingMode.
-     * @param value The Java object to convert
-     * @return The SDK v2 AttributeValue
-     */
-    private AttributeValue toAttributeValue(@NonNull Object value) {
-        switch (value) {
-            case AttributeValue attributeValue -> {
-                return attributeValue;
-            }
-            case String s -> {
-                return AttributeValue.builder().s(s).build();
-            }
-            case Number number -> {
-                return AttributeValue.builder().n(value.toString()).build();
-            }
-            case Boolean b -> {
-                if (mappingContext.getMarshallingMode() == MarshallingMode.SDK_V1_COMPATIBLE) {
-                    // SDK v1 compatibility: Boolean stored as "1" or "0" in Number format
-                    boolean boolValue = b;
-                    return AttributeValue.builder().n(boolValue ? "1" : "0").build();
-                } else {
-                    // SDK v2 native: Boolean stored as BOOL type
-                    return AttributeValue.builder().bool(b).build();
-                }
-            }
-            case java.util.Date date -> {
-                if (mappingContext.getMarshallingMode() == MarshallingMode.SDK_V1_COMPATIBLE) {
-                    // SDK v1 compatibility: Date marshalled to ISO format string
-                    String marshalledDate = new Date2IsoDynamoDBMarshaller().marshall(date);
-                    return AttributeValue.builder().s(marshalledDate).build();
-                } else {
-                    // SDK v2 native: Date as epoch milliseconds in Number format
-                    return AttributeValue.builder().n(String.valueOf(date.getTime())).build();
-                }
-            }
-            case java.time.Instant instant -> {
-                // Both SDK v1 and v2 store Instant as String (ISO-8601 format)
-                // AWS SDK v2 uses InstantAsStringAttributeConverter by default
-                if (mappingContext.getMarshallingMode() == MarshallingMode.SDK_V1_COMPATIBLE) {
-                    // SDK v1 compatibility: Instant marshalled to ISO format string with millisecond precision
-                    String marshalledDate = new Instant2IsoDynamoDBMarshaller().marshall(instant);
-                    return AttributeValue.builder().s(marshalledDate).build();
-                } else {
-                    // SDK v2 native: Instant as ISO-8601 string (matches AWS SDK v2 InstantAsStringAttributeConverter)
-                    // Format: ISO-8601 with nanosecond precision, e.g., "1970-01-01T00:00:00.001Z"
-                    return AttributeValue.builder().s(instant.toString()).build();
-                }
-                // Both SDK v1 and v2 store Instant as String (ISO-8601 format)
-                // AWS SDK v2 uses InstantAsStringAttributeConverter by default
-            }
-            case byte[] bytes -> {
-                return AttributeValue.builder().b(software.amazon.awssdk.core.SdkBytes.fromByteArray(bytes)).build();
-            }
-            default -> {
-                // Fallback: convert to string
-                return AttributeValue.builder().s(value.toString()).build();
-            }
-        }
-
+        return KeyAttributeValues.buildKey(hashKeyValue, rangeKeyValue, mappingContext.getMarshallingMode());
     }
 
     @Override
     public <T> T load(@NonNull Class<T> domainClass, @NonNull Object hashKey, Object rangeKey) {
         DynamoDbTable<T> table = getTable(domainClass);
         Key key = buildKey(hashKey, rangeKey);
-        T entity = table.getItem(key);
+        T entity = getItem(domainClass, table, key);
         maybeEmitEvent(entity, AfterLoadEvent::new);
 
         return entity;
@@ -241,68 +474,153 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
     public <T> T load(@NonNull Class<T> domainClass, @NonNull Object hashKey) {
         DynamoDbTable<T> table = getTable(domainClass);
         Key key = buildKey(hashKey, null);
-        T entity = table.getItem(key);
+        T entity = getItem(domainClass, table, key);
         maybeEmitEvent(entity, AfterLoadEvent::new);
 
         return entity;
     }
 
-    @NonNull
-    @SuppressWarnings("unchecked")
     @Override
-    public <T> List<T> batchLoad(@NonNull Map<Class<?>, List<Key>> itemsToGet) {
-        // Pre-allocate result list to avoid resizing
-        int totalKeys = itemsToGet.values().stream().mapToInt(List::size).sum();
-        List<T> results = new ArrayList<>(totalKeys);
-
-        // SDK v2 Enhanced Client requires separate batch requests per table
-        for (Map.Entry<Class<?>, List<Key>> entry : itemsToGet.entrySet()) {
-            @SuppressWarnings("unchecked")
-            Class<Object> domainClass = (Class<Object>) entry.getKey();
-            List<Key> keys = entry.getValue();
-
-            if (keys.isEmpty()) {
-                continue;
+    public <T> boolean exists(@NonNull Class<T> domainClass, @NonNull Object hashKey, @Nullable Object rangeKey) {
+        DynamoDbTable<T> table = getTable(domainClass);
+        Key key = buildKey(hashKey, rangeKey);
+        EntityCache cache = entityCache;
+        if (cache != null && cache.isCached(domainClass)) {
+            EntityCache.CachedItem cached = cache.get(table.tableName(), key);
+            if (cached != null) {
+                return cached.attributes() != null;
             }
+        }
 
-            DynamoDbTable<Object> table = getTable(domainClass);
-
-            // DynamoDB BatchGetItem has a limit of 100 items per request
-            // See: https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_BatchGetItem.html
-            // If more than 100 items are requested, chunk them into multiple batches
-            final int batchSize = 100;
-            int totalKeyCount = keys.size();
+        // Only the key attributes are returned, which saves transferring and mapping the rest of the item. The read
+        // capacity consumed still depends on the size of the whole item
+        Map<String, AttributeValue> keyAttributes = key.primaryKeyMap(table.tableSchema());
+        return getItemAttributes(domainClass, table, key, keyAttributes.keySet(), "#key").hasItem();
+    }
 
-            for (int startIndex = 0; startIndex < totalKeyCount; startIndex += batchSize) {
-                int endIndex = Math.min(startIndex + batchSize, totalKeyCount);
-                List<Key> keysBatch = keys.subList(startIndex, endIndex);
+    @Override
+    public <T> T load(@NonNull Class<T> domainClass, @NonNull Object hashKey, @Nullable Object rangeKey,
+                      @NonNull List<String> attributesToProject) {
+        if (attributesToProject.isEmpty()) {
+            return rangeKey != null ? load(domainClass, hashKey, rangeKey) : load(domainClass, hashKey);
+        }
+        DynamoDbTable<T> table = getTable(domainClass);
+        Key key = buildKey(hashKey, rangeKey);
+        T entity;
+        EntityCache cache = entityCache;
+        EntityCache.CachedItem cached = cache != null && cache.isCached(domainClass)
+                ? cache.get(table.tableName(), key)
+                : null;
+        if (cached != null) {
+            entity = cached.attributes() != null ? table.tableSchema().mapToItem(cached.attributes()) : null;
+        } else {
+            // The partial item is mapped without being cached, as it doesn't represent the stored entity
+            GetItemResponse response = getItemAttributes(domainClass, table, key, attributesToProject, "#proj");
+            entity = response.hasItem() ? table.tableSchema().mapToItem(response.item()) : null;
+        }
+        maybeEmitEvent(entity, AfterLoadEvent::new);
 
-                // Create batch get request for this chunk
-                BatchGetItemEnhancedRequest.Builder requestBuilder = BatchGetItemEnhancedRequest.builder();
+        return entity;
+    }
 
-                ReadBatch.Builder<Object> batchBuilder = ReadBatch.builder(domainClass)
-                        .mappedTableResource(table);
+    /**
+     * Reads the given attributes of an item with a low-level {@code GetItem} request, passing the read limiter of the
+     * table.
+     */
+    @NonNull
+    private <T> GetItemResponse getItemAttributes(@NonNull Class<T> domainClass, @NonNull DynamoDbTable<T> table,
+                                                  @NonNull Key key, @NonNull Iterable<String> attributeNames,
+                                                  @NonNull String placeholderPrefix) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (String attributeName : attributeNames) {
+            names.put(placeholderPrefix + names.size(), attributeName);
+        }
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(table.tableName())
+                .key(key.primaryKeyMap(table.tableSchema()))
+                .projectionExpression(String.join(", ", names.keySet()))
+                .expressionAttributeNames(names)
+                .build();
+        TableRateLimiter rateLimiter = getRateLimiter(domainClass);
+        return rateLimiter == null
+                ? amazonDynamoDB.getItem(request)
+                : rateLimiter.reads().execute(1, () -> amazonDynamoDB.getItem(request.toBuilder()
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                        .build()), GetItemResponse::consumedCapacity);
+    }
 
-                for (Key key : keysBatch) {
-                    batchBuilder.addGetItem(key);
-                }
+    @Nullable
+    private <T> T getItem(@NonNull Class<T> domainClass, @NonNull DynamoDbTable<T> table, @NonNull Key key) {
+        EntityCache cache = entityCache;
+        if (cache == null || !cache.isCached(domainClass)) {
+            return fetchItem(domainClass, table, key);
+        }
+        String tableName = table.tableName();
+        EntityCache.CachedItem cached = cache.get(tableName, key);
+        if (cached != null) {
+            return cached.attributes() != null ? table.tableSchema().mapToItem(cached.attributes()) : null;
+        }
+        long version = cache.version(tableName, key);
+        T entity = fetchItem(domainClass, table, key);
+        cache.putLoaded(domainClass, tableName, key,
+                entity != null ? table.tableSchema().itemToMap(entity, true) : null, version);
+        return entity;
+    }
 
-                requestBuilder.addReadBatch(batchBuilder.build());
+    @Nullable
+    private <T> T fetchItem(@NonNull Class<T> domainClass, @NonNull DynamoDbTable<T> table, @NonNull Key key) {
+        CoalescingLoader loader = coalescingLoader;
+        if (loader != null) {
+            return loader.load(table, key);
+        }
+        TableRateLimiter rateLimiter = getRateLimiter(domainClass);
+        if (rateLimiter == null) {
+            return table.getItem(key);
+        }
+        GetItemEnhancedRequest request = GetItemEnhancedRequest.builder()
+                .key(key)
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+        return rateLimiter.reads().execute(1, () -> table.getItemWithResponse(request),
+                GetItemEnhancedResponse::consumedCapacity).attributes();
+    }
 
-                // Execute batch get
-                BatchGetResultPageIterable resultPages = enhancedClient.batchGetItem(requestBuilder.build());
+    @NonNull
+    private List<Object> batchGet(@NonNull Map<DynamoDbTable<?>, List<Key>> keysByTable) {
+        Map<DynamoDbTable<?>, TableRateLimiter> tableRateLimiters = new HashMap<>();
+        for (DynamoDbTable<?> table : keysByTable.keySet()) {
+            TableRateLimiter rateLimiter = getRateLimiter(table.tableSchema().itemType().rawClass());
+            if (rateLimiter != null) {
+                tableRateLimiters.put(table, rateLimiter);
+            }
+        }
+        return new BatchLoader(enhancedClient, batchLoadConfig, tableRateLimiters).load(keysByTable);
+    }
 
-                // Collect results
-                for (BatchGetResultPage page : resultPages) {
-                    List<?> pageResults = page.resultsForTable(table);
-                    for (Object entity : pageResults) {
-                        maybeEmitEvent(entity, AfterLoadEvent::new);
-                        results.add((T) entity);
-                    }
+    @NonNull
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> batchLoad(@NonNull Map<Class<?>, List<Key>> itemsToGet) {
+        // SDK v2 Enhanced Client requires separate read batches per table
+        Map<DynamoDbTable<?>, List<Key>> keysByTable = new LinkedHashMap<>();
+        Map<DynamoDbTable<?>, TableRateLimiter> tableRateLimiters = new HashMap<>();
+        for (Map.Entry<Class<?>, List<Key>> entry : itemsToGet.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                DynamoDbTable<?> table = getTable(entry.getKey());
+                keysByTable.put(table, entry.getValue());
+                TableRateLimiter rateLimiter = getRateLimiter(entry.getKey());
+                if (rateLimiter != null) {
+                    tableRateLimiters.put(table, rateLimiter);
                 }
             }
         }
 
+        List<Object> entities = new BatchLoader(enhancedClient, batchLoadConfig, tableRateLimiters).load(keysByTable);
+        List<T> results = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            maybeEmitEvent(entity, AfterLoadEvent::new);
+            results.add((T) entity);
+        }
         return results;
     }
 
@@ -332,12 +650,80 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
         // updateItem works for both new items (insert) and existing items (update).
         //
         // See: https://github.com/aws/aws-sdk-java-v2/issues/3278
-        T savedEntity = table.updateItem(entity);
+        T savedEntity;
+        try {
+            savedEntity = updateItem(table, entity);
+        } catch (RuntimeException e) {
+            // The item may have been written nevertheless
+            invalidateCached(List.of(entity));
+            throw e;
+        }
+        EntityCache cache = entityCache;
+        if (cache != null) {
+            cache.putWritten(savedEntity.getClass(), table.tableName(), table.keyFrom(savedEntity),
+                    table.tableSchema().itemToMap(savedEntity, true));
+        }
+        invalidateTableResults(table.tableName());
 
         maybeEmitEvent(savedEntity, AfterSaveEvent::new);
         return savedEntity;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T updateItem(@NonNull DynamoDbTable<T> table, @NonNull T entity) {
+        TableRateLimiter rateLimiter = getRateLimiter(entity.getClass());
+        if (rateLimiter == null) {
+            return table.updateItem(entity);
+        }
+        UpdateItemEnhancedRequest<T> request = UpdateItemEnhancedRequest.builder((Class<T>) entity.getClass())
+                .item(entity)
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+        return rateLimiter.writes().execute(1, () -> table.updateItemWithResponse(request),
+                UpdateItemEnhancedResponse::consumedCapacity).attributes();
+    }
+
+    /**
+     * Removes the items of the given entities from the entity cache and the query results, counts and page tokens of
+     * their tables from the other caches, as far as these are in use.
+     */
+    private void invalidateCached(@NonNull List<?> entities) {
+        EntityCache cache = entityCache;
+        boolean tableResultsCached = queryResultCache.isInUse() || countCache != null || pageTokenCache != null;
+        if (cache == null && !tableResultsCached) {
+            return;
+        }
+        Set<String> tableNames = new HashSet<>();
+        for (Object entity : entities) {
+            @SuppressWarnings("unchecked")
+            DynamoDbTable<Object> table = (DynamoDbTable<Object>) getTable(entity.getClass());
+            tableNames.add(table.tableName());
+            if (cache != null) {
+                cache.invalidate(table.tableName(), table.keyFrom(entity));
+            }
+        }
+        if (tableResultsCached) {
+            tableNames.forEach(this::invalidateTableResults);
+        }
+    }
+
+    /**
+     * Evicts the cached query results, counts and page tokens of the given table.
+     */
+    private void invalidateTableResults(@NonNull String tableName) {
+        if (queryResultCache.isInUse()) {
+            queryResultCache.invalidateTable(tableName);
+        }
+        CountCache counts = countCache;
+        if (counts != null) {
+            counts.invalidateTable(tableName);
+        }
+        PageTokenCache pageTokens = pageTokenCache;
+        if (pageTokens != null) {
+            pageTokens.invalidateTable(tableName);
+        }
+    }
+
     /**
      * Invokes {@link BeforeConvertCallback} if {@link EntityCallbacks} are available.
      * <p>
@@ -371,57 +757,22 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
             entitiesByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
         }
 
-        List<BatchWriteResult> results = new ArrayList<>();
-
         // If no entities to save, return empty results
         if (entitiesByClass.isEmpty()) {
-            return results;
+            return new BatchWriteResults(List.of(), 0);
         }
 
-        // DynamoDB has a limit of 25 items per batch write request
-        // We need to split entities into chunks and process them separately
-        final int BATCH_WRITE_MAX_SIZE = 25;
-
-        // Collect all entities into a flat list for batching
+        // Collect all entities into a flat list, grouped by class, so that chunks mostly target a single table
         List<Object> allEntities = new ArrayList<>();
         for (List<Object> classEntities : entitiesByClass.values()) {
             allEntities.addAll(classEntities);
         }
 
-        // Process in chunks of 25
-        for (int i = 0; i < allEntities.size(); i += BATCH_WRITE_MAX_SIZE) {
-            int endIndex = Math.min(i + BATCH_WRITE_MAX_SIZE, allEntities.size());
-            List<Object> chunk = allEntities.subList(i, endIndex);
-
-            // Re-group this chunk by class
-            Map<Class<?>, List<Object>> chunkByClass = new HashMap<>();
-            for (Object entity : chunk) {
-                chunkByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
-            }
-
-            // Create batch write request for this chunk
-            BatchWriteItemEnhancedRequest.Builder requestBuilder = BatchWriteItemEnhancedRequest.builder();
-
-            for (Map.Entry<Class<?>, List<Object>> entry : chunkByClass.entrySet()) {
-                @SuppressWarnings("unchecked")
-                Class<Object> domainClass = (Class<Object>) entry.getKey();
-                List<Object> classEntities = entry.getValue();
-
-                DynamoDbTable<Object> table = getTable(domainClass);
-
-                WriteBatch.Builder<Object> batchBuilder = WriteBatch.builder(domainClass)
-                        .mappedTableResource(table);
-
-                for (Object entity : classEntities) {
-                    batchBuilder.addPutItem(entity);
-                }
-
-                requestBuilder.addWriteBatch(batchBuilder.build());
-            }
-
-            // Execute batch write for this chunk
-            BatchWriteResult result = enhancedClient.batchWriteItem(requestBuilder.build());
-            results.add(result);
+        BatchWriteResults results;
+        try {
+            results = newBatchWriter().write(allEntities, BatchWriter.Operation.PUT);
+        } finally {
+            invalidateCached(allEntities);
         }
 
         entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
@@ -435,7 +786,21 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
         @SuppressWarnings("unchecked")
         DynamoDbTable<T> table = (DynamoDbTable<T>) getTable(entity.getClass());
-        table.deleteItem(entity);
+        TableRateLimiter rateLimiter = getRateLimiter(entity.getClass());
+        try {
+            if (rateLimiter == null) {
+                table.deleteItem(entity);
+            } else {
+                DeleteItemEnhancedRequest request = DeleteItemEnhancedRequest.builder()
+                        .key(table.keyFrom(entity))
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                        .build();
+                rateLimiter.writes().execute(1, () -> table.deleteItemWithResponse(request),
+                        DeleteItemEnhancedResponse::consumedCapacity);
+            }
+        } finally {
+            invalidateCached(List.of(entity));
+        }
 
         maybeEmitEvent(entity, AfterDeleteEvent::new);
         return entity;
@@ -452,57 +817,22 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
             entitiesByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
         }
 
-        List<BatchWriteResult> results = new ArrayList<>();
-
         // If no entities to delete, return empty results
         if (entitiesByClass.isEmpty()) {
-            return results;
+            return new BatchWriteResults(List.of(), 0);
         }
 
-        // DynamoDB has a limit of 25 items per batch write request
-        // We need to split entities into chunks and process them separately
-        final int BATCH_WRITE_MAX_SIZE = 25;
-
-        // Collect all entities into a flat list for batching
+        // Collect all entities into a flat list, grouped by class, so that chunks mostly target a single table
         List<Object> allEntities = new ArrayList<>();
         for (List<Object> classEntities : entitiesByClass.values()) {
             allEntities.addAll(classEntities);
         }
 
-        // Process in chunks of 25
-        for (int i = 0; i < allEntities.size(); i += BATCH_WRITE_MAX_SIZE) {
-            int endIndex = Math.min(i + BATCH_WRITE_MAX_SIZE, allEntities.size());
-            List<Object> chunk = allEntities.subList(i, endIndex);
-
-            // Re-group this chunk by class
-            Map<Class<?>, List<Object>> chunkByClass = new HashMap<>();
-            for (Object entity : chunk) {
-                chunkByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
-            }
-
-            // Create batch write request for this chunk
-            BatchWriteItemEnhancedRequest.Builder requestBuilder = BatchWriteItemEnhancedRequest.builder();
-
-            for (Map.Entry<Class<?>, List<Object>> entry : chunkByClass.entrySet()) {
-                @SuppressWarnings("unchecked")
-                Class<Object> domainClass = (Class<Object>) entry.getKey();
-                List<Object> classEntities = entry.getValue();
-
-                DynamoDbTable<Object> table = getTable(domainClass);
-
-                WriteBatch.Builder<Object> batchBuilder = WriteBatch.builder(domainClass)
-                        .mappedTableResource(table);
-
-                for (Object entity : classEntities) {
-                    batchBuilder.addDeleteItem(entity);
-                }
-
-                requestBuilder.addWriteBatch(batchBuilder.build());
-            }
-
-            // Execute batch write for this chunk
-            BatchWriteResult result = enhancedClient.batchWriteItem(requestBuilder.build());
-            results.add(result);
+        BatchWriteResults results;
+        try {
+            results = newBatchWriter().write(allEntities, BatchWriter.Operation.DELETE);
+        } finally {
+            invalidateCached(allEntities);
         }
 
         entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
@@ -596,41 +926,15 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
     public <T> PageIterable<T> query(@NonNull Class<T> clazz, QueryRequest queryRequest) {
         DynamoDbTable<T> table = getTable(clazz);
 
-        // Manually paginate through query results to avoid infinite iterator issue
-        List<Page<T>> allPages = new ArrayList<>();
-        QueryResponse queryResult;
-        QueryRequest mutableQueryRequest = queryRequest;
-
-        do {
-            queryResult = amazonDynamoDB.query(mutableQueryRequest);
-
-            // Convert items from the response to entities
-            List<T> items = queryResult.items().stream()
-                    .map(itemMap -> table.tableSchema().mapToItem(itemMap))
-                    .collect(Collectors.toList());
-
-            // Create a Page with the items and add to results
-            allPages.add(Page.builder(clazz).items(items).build());
-
-            // Check if there are more pages - lastEvaluatedKey can be empty map {} instead of null
-            if (queryResult.lastEvaluatedKey() == null || queryResult.lastEvaluatedKey().isEmpty()) {
-                break;
-            }
-
-            // Set up the next request with the lastEvaluatedKey
-            mutableQueryRequest = mutableQueryRequest.toBuilder()
-                    .exclusiveStartKey(queryResult.lastEvaluatedKey())
-                    .build();
-        } while (true);
-
-        // Convert List<Page<T>> to PageIterable<T>
-        return PageIterable.create(allPages::iterator);
+        // Pages are fetched lazily while iterating, so callers that stop early (e.g. limiting queries) don't
+        // read the remainder of the partition. Every call to iterator() starts over from the first page.
+        TableRateLimiter rateLimiter = getRateLimiter(clazz);
+        return PageIterable.create(() -> new QueryRequestPageIterator<>(amazonDynamoDB, rateLimiter, table.tableSchema(), queryRequest));
     }
 
     @Override
     public <T> PageIterable<T> query(@NonNull Class<T> domainClass, QueryEnhancedRequest queryRequest) {
-        DynamoDbTable<T> table = getTable(domainClass);
-        PageIterable<T> results = table.query(queryRequest);
+        PageIterable<T> results = queryPages(domainClass, queryRequest);
         maybeEmitEvent(results, AfterQueryEvent::new);
         return results;
     }
@@ -638,29 +942,149 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
     @Override
     public <T> PageIterable<T> scan(@NonNull Class<T> domainClass, ScanEnhancedRequest scanRequest) {
         DynamoDbTable<T> table = getTable(domainClass);
-        PageIterable<T> results = table.scan(scanRequest);
+        TableRateLimiter rateLimiter = getRateLimiter(domainClass);
+        PageIterable<T> results = rateLimiter == null
+                ? table.scan(scanRequest)
+                : rateLimited(rateLimiter, table.scan(scanRequest.toBuilder()
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                        .build()));
         maybeEmitEvent(results, AfterScanEvent::new);
         return results;
     }
 
     @Override
-    public <T> int count(@NonNull Class<T> domainClass, QueryEnhancedRequest queryRequest) {
+    public <T> PageIterable<T> prefetching(@NonNull PageIterable<T> pages) {
+        PrefetchConfig config = prefetchConfig;
+        if (config == null) {
+            return pages;
+        }
+        // Every iteration gets its own prefetcher, reading the pages from its own iterator
+        return PageIterable.create(
+                () -> new PrefetchingPageIterator<>(pages.iterator(), config.getDepth(), config.getExecutor()));
+    }
+
+    @NonNull
+    @Override
+    public <T> List<T> parallelScan(@NonNull Class<T> domainClass, @NonNull ScanEnhancedRequest scanRequest,
+                                    int totalSegments) {
+        if (totalSegments <= 1) {
+            return scan(domainClass, scanRequest).items().stream().toList();
+        }
+        Assert.isTrue(totalSegments <= MAX_TOTAL_SEGMENTS, "totalSegments must be <= " + MAX_TOTAL_SEGMENTS);
+
         DynamoDbTable<T> table = getTable(domainClass);
-        PageIterable<T> results = table.query(queryRequest);
+        TableRateLimiter rateLimiter = getRateLimiter(domainClass);
+        List<Supplier<List<T>>> tasks = new ArrayList<>(totalSegments);
+        for (int segment = 0; segment < totalSegments; segment++) {
+            ScanEnhancedRequest.Builder segmentRequest = scanRequest.toBuilder()
+                    .segment(segment)
+                    .totalSegments(totalSegments);
+            if (rateLimiter != null) {
+                segmentRequest.returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+            }
+            PageIterable<T> pages = table.scan(segmentRequest.build());
+            PageIterable<T> segmentPages = rateLimiter != null ? rateLimited(rateLimiter, pages) : pages;
+            tasks.add(() -> segmentPages.items().stream().toList());
+        }
 
-        // Count all items across all pages
-        int count = 0;
-        for (Page<T> page : results) {
-            count += page.items().size();
+        List<T> results = new ArrayList<>();
+        for (List<T> segmentResults : ChunkDispatcher.dispatch(tasks, parallelScanConfig.getMaxConcurrency(),
+                parallelScanConfig.getExecutor())) {
+            results.addAll(segmentResults);
         }
-        return count;
+        maybeEmitEvent(PageIterable.create(() -> List.of(Page.create(results)).iterator()), AfterScanEvent::new);
+        return results;
     }
 
-    @Override
-    public <T> int count(@NonNull Class<T> domainClass, @NonNull ScanEnhancedRequest scanRequest) {
+    @NonNull
+    private <T> PageIterable<T> queryPages(@NonNull Class<T> domainClass, QueryEnhancedRequest queryRequest) {
         DynamoDbTable<T> table = getTable(domainClass);
-        String tableName = table.tableName();
+        TableRateLimiter rateLimiter = getRateLimiter(domainClass);
+        if (rateLimiter == null) {
+            return table.query(queryRequest);
+        }
+        return rateLimited(rateLimiter, table.query(queryRequest.toBuilder()
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build()));
+    }
 
+    /**
+     * Wraps the lazily fetched pages so that every page request passes the read limiter of the table.
+     */
+    @NonNull
+    private static <T> PageIterable<T> rateLimited(@NonNull TableRateLimiter rateLimiter, @NonNull PageIterable<T> pages) {
+        return PageIterable.create(() -> {
+            Iterator<Page<T>> iterator = pages.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Page<T> next() {
+                    return rateLimiter.reads().execute(1, iterator::next, Page::consumedCapacity);
+                }
+            };
+        });
+    }
+
+    @Override
+    public <T> int count(@NonNull Class<T> domainClass, QueryEnhancedRequest queryRequest) {
+        // Select only the count instead of reading and unmarshalling every item
+        return count(domainClass, countQueryRequest(getTable(domainClass), queryRequest));
+    }
+
+    /**
+     * Converts the enhanced query request to a low-level query request selecting only the count.
+     */
+    @NonNull
+    private static <T> QueryRequest countQueryRequest(@NonNull DynamoDbTable<T> table,
+                                                      @NonNull QueryEnhancedRequest queryRequest) {
+        Expression keyCondition = queryRequest.queryConditional()
+                .expression(table.tableSchema(), TableMetadata.primaryIndexName());
+        Map<String, String> expressionNames = new HashMap<>();
+        Map<String, AttributeValue> expressionValues = new HashMap<>();
+        addExpressionAttributes(keyCondition, expressionNames, expressionValues);
+
+        QueryRequest.Builder builder = QueryRequest.builder()
+                .tableName(table.tableName())
+                .select(Select.COUNT)
+                .keyConditionExpression(keyCondition.expression())
+                .consistentRead(queryRequest.consistentRead())
+                .limit(queryRequest.limit())
+                .exclusiveStartKey(queryRequest.exclusiveStartKey());
+        Expression filterExpression = queryRequest.filterExpression();
+        if (filterExpression != null) {
+            builder.filterExpression(filterExpression.expression());
+            addExpressionAttributes(filterExpression, expressionNames, expressionValues);
+        }
+        if (!expressionNames.isEmpty()) {
+            builder.expressionAttributeNames(expressionNames);
+        }
+        if (!expressionValues.isEmpty()) {
+            builder.expressionAttributeValues(expressionValues);
+        }
+        return builder.build();
+    }
+
+    private static void addExpressionAttributes(@NonNull Expression expression,
+                                                @NonNull Map<String, String> expressionNames,
+                                                @NonNull Map<String, AttributeValue> expressionValues) {
+        if (expression.expressionNames() != null) {
+            expressionNames.putAll(expression.expressionNames());
+        }
+        if (expression.expressionValues() != null) {
+            expressionValues.putAll(expression.expressionValues());
+        }
+    }
+
+    /**
+     * Converts the scan request to a low-level scan request selecting only the count.
+     */
+    @NonNull
+    private static software.amazon.awssdk.services.dynamodb.model.ScanRequest countScanRequest(
+            @NonNull String tableName, @NonNull ScanEnhancedRequest scanRequest) {
         // Convert ScanEnhancedRequest to low-level ScanRequest with SELECT COUNT
         software.amazon.awssdk.services.dynamodb.model.ScanRequest.Builder scanBuilder =
             software.amazon.awssdk.services.dynamodb.model.ScanRequest.builder()
@@ -683,19 +1107,91 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
             scanBuilder.limit(scanRequest.limit());
         }
 
-        // Paginate through scan results counting items
+        return scanBuilder.build();
+    }
+
+    @Override
+    public <T> int count(@NonNull Class<T> domainClass, @NonNull ScanEnhancedRequest scanRequest) {
+        return parallelCount(domainClass, scanRequest, countConfig.getScanSegments());
+    }
+
+    @Override
+    public <T> int parallelCount(@NonNull Class<T> domainClass, @NonNull ScanEnhancedRequest scanRequest,
+                                 int totalSegments) {
+        Assert.isTrue(totalSegments <= MAX_TOTAL_SEGMENTS, "totalSegments must be <= " + MAX_TOTAL_SEGMENTS);
+        String tableName = getTable(domainClass).tableName();
+        CountConfig config = countConfig;
+        if (config.isApproximate() && scanRequest.filterExpression() == null && scanRequest.limit() == null) {
+            DescribeTableRequest describeTableRequest = DescribeTableRequest.builder().tableName(tableName).build();
+            return cachedCount(tableName, describeTableRequest, () -> approximateCount(describeTableRequest));
+        }
+
+        TableRateLimiter rateLimiter = getRateLimiter(domainClass);
+        software.amazon.awssdk.services.dynamodb.model.ScanRequest countRequest =
+                countScanRequest(tableName, scanRequest);
+        if (totalSegments <= 1) {
+            return cachedCount(tableName, countRequest, () -> countScan(rateLimiter, countRequest));
+        }
+        return cachedCount(tableName, countRequest, () -> countSegments(rateLimiter, countRequest, totalSegments));
+    }
+
+    /**
+     * Counts the segments of the scan in parallel.
+     */
+    private int countSegments(@Nullable TableRateLimiter rateLimiter,
+                              @NonNull software.amazon.awssdk.services.dynamodb.model.ScanRequest countRequest,
+                              int totalSegments) {
+        List<Supplier<Integer>> tasks = new ArrayList<>(totalSegments);
+        for (int segment = 0; segment < totalSegments; segment++) {
+            software.amazon.awssdk.services.dynamodb.model.ScanRequest segmentRequest = countRequest.toBuilder()
+                    .segment(segment)
+                    .totalSegments(totalSegments)
+                    .build();
+            tasks.add(() -> countScan(rateLimiter, segmentRequest));
+        }
+
+        int count = 0;
+        for (int segmentCount : ChunkDispatcher.dispatch(tasks, parallelScanConfig.getMaxConcurrency(),
+                parallelScanConfig.getExecutor())) {
+            count += segmentCount;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the count from the count cache if it is enabled, otherwise counts.
+     */
+    private int cachedCount(@NonNull String tableName, @NonNull Object countRequest, @NonNull IntSupplier counter) {
+        CountCache counts = countCache;
+        return counts != null ? counts.getOrCount(tableName, countRequest, counter) : counter.getAsInt();
+    }
+
+    /**
+     * Gets the item count DynamoDB maintains for the table, which is updated approximately every six hours.
+     */
+    private int approximateCount(@NonNull DescribeTableRequest describeTableRequest) {
+        Long itemCount = amazonDynamoDB.describeTable(describeTableRequest).table().itemCount();
+        return itemCount != null ? (int) Math.min(itemCount, Integer.MAX_VALUE) : 0;
+    }
+
+    /**
+     * Paginates through the scan results, counting the items.
+     */
+    private int countScan(@Nullable TableRateLimiter rateLimiter,
+                          @NonNull software.amazon.awssdk.services.dynamodb.model.ScanRequest countRequest) {
         int count = 0;
         software.amazon.awssdk.services.dynamodb.model.ScanResponse scanResult;
-        software.amazon.awssdk.services.dynamodb.model.ScanRequest mutableScanRequest = scanBuilder.build();
+        software.amazon.awssdk.services.dynamodb.model.ScanRequest mutableScanRequest = countRequest;
 
         do {
-            scanResult = amazonDynamoDB.scan(mutableScanRequest);
+            scanResult = scan(rateLimiter, mutableScanRequest);
             count += scanResult.count();
 
             // Check if there are more pages to scan
             if (scanResult.lastEvaluatedKey() == null || scanResult.lastEvaluatedKey().isEmpty()) {
                 break;
             }
+            assertNotInterrupted(countRequest.tableName());
 
             mutableScanRequest = mutableScanRequest.toBuilder()
                 .exclusiveStartKey(scanResult.lastEvaluatedKey())
@@ -707,19 +1203,29 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
     @Override
     public <T> int count(Class<T> clazz, QueryRequest mutableQueryRequest) {
-        mutableQueryRequest = mutableQueryRequest.toBuilder().select(Select.COUNT).build();
+        QueryRequest countRequest = mutableQueryRequest.toBuilder().select(Select.COUNT).build();
+        TableRateLimiter rateLimiter = getRateLimiter(clazz);
+        return cachedCount(countRequest.tableName(), countRequest, () -> countQuery(rateLimiter, countRequest));
+    }
+
+    /**
+     * Paginates through the query results, counting the items.
+     */
+    private int countQuery(@Nullable TableRateLimiter rateLimiter, @NonNull QueryRequest countRequest) {
+        QueryRequest mutableQueryRequest = countRequest;
 
         // Count queries can also be truncated for large datasets
         int count = 0;
         QueryResponse queryResult;
         do {
-            queryResult = amazonDynamoDB.query(mutableQueryRequest);
+            queryResult = query(amazonDynamoDB, rateLimiter, mutableQueryRequest);
             count += queryResult.count();
 
             // Check if there are more pages - lastEvaluatedKey can be empty map {} instead of null
             if (queryResult.lastEvaluatedKey() == null || queryResult.lastEvaluatedKey().isEmpty()) {
                 break;
             }
+            assertNotInterrupted(countRequest.tableName());
 
             mutableQueryRequest = mutableQueryRequest.toBuilder().exclusiveStartKey(queryResult.lastEvaluatedKey()).build();
         } while (true);
@@ -727,6 +1233,41 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
         return count;
     }
 
+    /**
+     * Stops counting between pages once the counting thread is interrupted, e.g. as a concurrent {@code Page} total
+     * was cancelled.
+     */
+    private static void assertNotInterrupted(@NonNull String tableName) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException("Interrupted while counting the items of table " + tableName);
+        }
+    }
+
+    @NonNull
+    private software.amazon.awssdk.services.dynamodb.model.ScanResponse scan(@Nullable TableRateLimiter rateLimiter,
+            @NonNull software.amazon.awssdk.services.dynamodb.model.ScanRequest scanRequest) {
+        if (rateLimiter == null) {
+            return amazonDynamoDB.scan(scanRequest);
+        }
+        software.amazon.awssdk.services.dynamodb.model.ScanRequest request = scanRequest.toBuilder()
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+        return rateLimiter.reads().execute(1, () -> amazonDynamoDB.scan(request),
+                software.amazon.awssdk.services.dynamodb.model.ScanResponse::consumedCapacity);
+    }
+
+    @NonNull
+    private static QueryResponse query(@NonNull DynamoDbClient amazonDynamoDB, @Nullable TableRateLimiter rateLimiter,
+                                       @NonNull QueryRequest queryRequest) {
+        if (rateLimiter == null) {
+            return amazonDynamoDB.query(queryRequest);
+        }
+        QueryRequest request = queryRequest.toBuilder()
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build();
+        return rateLimiter.reads().execute(1, () -> amazonDynamoDB.query(request), QueryResponse::consumedCapacity);
+    }
+
     @Override
     public <T> String getOverriddenTableName(Class<T> domainClass, String tableName) {
         if (tableNameResolver != null) {
@@ -768,4 +1309,55 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
         }
 
     }
+
+    /**
+     * Iterator issuing one {@link QueryRequest} per page, following {@code LastEvaluatedKey} only when the next page
+     * is requested.
+     * @param <T> the entity type
+     */
+    private static final class QueryRequestPageIterator<T> implements Iterator<Page<T>> {
+        private final DynamoDbClient amazonDynamoDB;
+        @Nullable
+        private final TableRateLimiter rateLimiter;
+        private final TableSchema<T> tableSchema;
+        @Nullable
+        private QueryRequest nextRequest;
+
+        QueryRequestPageIterator(DynamoDbClient amazonDynamoDB, @Nullable TableRateLimiter rateLimiter,
+                                 TableSchema<T> tableSchema, QueryRequest queryRequest) {
+            this.amazonDynamoDB = amazonDynamoDB;
+            this.rateLimiter = rateLimiter;
+            this.tableSchema = tableSchema;
+            this.nextRequest = queryRequest;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRequest != null;
+        }
+
+        @Override
+        public Page<T> next() {
+            if (nextRequest == null) {
+                throw new NoSuchElementException();
+            }
+            QueryResponse queryResult = query(amazonDynamoDB, rateLimiter, nextRequest);
+
+            // Check if there are more pages - lastEvaluatedKey can be empty map {} instead of null
+            Map<String, AttributeValue> lastEvaluatedKey = queryResult.lastEvaluatedKey();
+            boolean hasMorePages = lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty();
+            nextRequest = hasMorePages ? nextRequest.toBuilder().exclusiveStartKey(lastEvaluatedKey).build() : null;
+
+            List<T> items = queryResult.items().stream()
+                    .map(tableSchema::mapToItem)
+                    .collect(Collectors.toList());
+            return Page.builder(tableSchema.itemType().rawClass())
+                    .items(items)
+                    .lastEvaluatedKey(hasMorePages ? lastEvaluatedKey : null)
+                    .count(queryResult.count())
+                    .scannedCount(queryResult.scannedCount())
+                    .consumedCapacity(queryResult.consumedCapacity())
+                    .build();
+        }
+    }
 }
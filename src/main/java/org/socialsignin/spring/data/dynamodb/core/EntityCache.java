@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.annotation.DynamoDBCacheTtl;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-process cache of the items loaded by the {@link DynamoDBTemplate}, keyed by table and {@link Key}.
+ * <p>
+ * Items are evicted least recently used first once {@link EntityCacheConfig#getMaximumSize()} is exceeded, and expire
+ * after the TTL of their entity class, see {@link DynamoDBCacheTtl}. Keys without item are cached as well, for
+ * {@link EntityCacheConfig#getNegativeTtlMs()}. Saves populate the cache, while deletes and batch writes invalidate it.
+ * <p>
+ * Items are cached as attribute maps and mapped to a new entity on every hit, so callers never share instances.
+ * Writes bypassing this template, e.g. by other applications, become visible only once the cached item expired.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class EntityCache {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    @NonNull
+    private final EntityCacheConfig config;
+    @NonNull
+    private final LongSupplier nanoTime;
+    // Guarded by itself
+    private final LinkedHashMap<CacheKey, CachedItem> items;
+    private final Map<Class<?>, Long> ttlNanosByClass = new ConcurrentHashMap<>();
+    // Bumped by every write, so that loads racing with a write don't cache the item read before it
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    EntityCache(@NonNull EntityCacheConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    EntityCache(@NonNull EntityCacheConfig config, @NonNull LongSupplier nanoTime) {
+        this.config = config;
+        this.nanoTime = nanoTime;
+        this.items = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedItem> eldest) {
+                if (size() > config.getMaximumSize()) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Whether items of the given entity class are cached.
+     * @param domainClass the entity class
+     * @return false if the TTL of the entity class is 0
+     */
+    boolean isCached(@NonNull Class<?> domainClass) {
+        return ttlNanos(domainClass) > 0;
+    }
+
+    /**
+     * Looks up the item stored under a key.
+     * @param tableName the table of the item
+     * @param key the key of the item
+     * @return the cached lookup, with {@code null} attributes if the item is known not to exist, or {@code null} on
+     *         a cache miss
+     */
+    @Nullable
+    CachedItem get(@NonNull String tableName, @NonNull Key key) {
+        CacheKey cacheKey = new CacheKey(tableName, key);
+        synchronized (items) {
+            CachedItem cached = items.get(cacheKey);
+            if (cached != null && cached.expiresAtNanos - nanoTime.getAsLong() <= 0) {
+                items.remove(cacheKey);
+                cached = null;
+            }
+            if (cached != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Gets the version of a key, to be passed to {@link #putLoaded} after loading the key.
+     * @param tableName the table of the item
+     * @param key the key of the item
+     * @return the current version
+     */
+    long version(@NonNull String tableName, @NonNull Key key) {
+        return versions.get(stripe(new CacheKey(tableName, key)));
+    }
+
+    /**
+     * Caches a loaded item, unless the key was written since {@link #version} was called.
+     * @param domainClass the entity class of the item
+     * @param tableName the table of the item
+     * @param key the key of the item
+     * @param attributes the attributes of the item, or {@code null} if no item is stored under the key
+     * @param version the version of the key before the item was loaded
+     */
+    void putLoaded(@NonNull Class<?> domainClass, @NonNull String tableName, @NonNull Key key,
+                   @Nullable Map<String, AttributeValue> attributes, long version) {
+        long ttlNanos = attributes != null
+                ? ttlNanos(domainClass)
+                : Math.min(ttlNanos(domainClass), TimeUnit.MILLISECONDS.toNanos(config.getNegativeTtlMs()));
+        if (ttlNanos <= 0) {
+            return;
+        }
+        CacheKey cacheKey = new CacheKey(tableName, key);
+        synchronized (items) {
+            if (versions.get(stripe(cacheKey)) == version) {
+                items.put(cacheKey, new CachedItem(attributes, nanoTime.getAsLong() + ttlNanos));
+            }
+        }
+    }
+
+    /**
+     * Caches an item that was just written.
+     * @param domainClass the entity class of the item
+     * @param tableName the table of the item
+     * @param key the key of the item
+     * @param attributes the attributes of the item as stored
+     */
+    void putWritten(@NonNull Class<?> domainClass, @NonNull String tableName, @NonNull Key key,
+                    @NonNull Map<String, AttributeValue> attributes) {
+        CacheKey cacheKey = new CacheKey(tableName, key);
+        long ttlNanos = ttlNanos(domainClass);
+        synchronized (items) {
+            versions.incrementAndGet(stripe(cacheKey));
+            if (ttlNanos > 0) {
+                items.put(cacheKey, new CachedItem(attributes, nanoTime.getAsLong() + ttlNanos));
+            } else {
+                items.remove(cacheKey);
+            }
+        }
+    }
+
+    /**
+     * Removes the item stored under a key, e.g. after it was deleted or written by a batch.
+     * @param tableName the table of the item
+     * @param key the key of the item
+     */
+    void invalidate(@NonNull String tableName, @NonNull Key key) {
+        CacheKey cacheKey = new CacheKey(tableName, key);
+        synchronized (items) {
+            versions.incrementAndGet(stripe(cacheKey));
+            items.remove(cacheKey);
+        }
+    }
+
+    /**
+     * Removes all cached items of a table.
+     * @param tableName the table name
+     */
+    public void invalidateAll(@NonNull String tableName) {
+        synchronized (items) {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            Iterator<CacheKey> keys = items.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().tableName().equals(tableName)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all cached items.
+     */
+    public void clear() {
+        synchronized (items) {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            items.clear();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     * @return the statistics
+     */
+    @NonNull
+    public Stats getStats() {
+        synchronized (items) {
+            return new Stats(hitCount, missCount, evictionCount, items.size());
+        }
+    }
+
+    private long ttlNanos(@NonNull Class<?> domainClass) {
+        return ttlNanosByClass.computeIfAbsent(domainClass, clazz -> {
+            DynamoDBCacheTtl ttl = AnnotatedElementUtils.findMergedAnnotation(clazz, DynamoDBCacheTtl.class);
+            return TimeUnit.MILLISECONDS.toNanos(ttl != null ? ttl.value() : config.getTtlMs());
+        });
+    }
+
+    private static int stripe(@NonNull CacheKey cacheKey) {
+        return Math.floorMod(cacheKey.hashCode(), VERSION_STRIPES);
+    }
+
+    /**
+     * Statistics of an {@link EntityCache}.
+     * @param hitCount lookups answered from the cache, including cached misses
+     * @param missCount lookups that had to load the item
+     * @param evictionCount items evicted because the cache was full
+     * @param size items currently cached, including expired ones not yet removed
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount, long size) {
+
+        /**
+         * Gets the ratio of lookups answered from the cache.
+         * @return the hit rate, 1.0 if there were no lookups yet
+         */
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+    }
+
+    /**
+     * A cached lookup.
+     * @param attributes the attributes of the item, or {@code null} if no item is stored under the key
+     * @param expiresAtNanos when the lookup expires
+     */
+    record CachedItem(@Nullable Map<String, AttributeValue> attributes, long expiresAtNanos) {
+    }
+
+    private record CacheKey(@NonNull String tableName, @NonNull Key key) {
+    }
+}
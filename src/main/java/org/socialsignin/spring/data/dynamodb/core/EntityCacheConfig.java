@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Configuration of the in-process entity cache of the {@link DynamoDBTemplate}, see {@link EntityCache}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public EntityCacheConfig entityCacheConfig() {
+ *     return new EntityCacheConfig.Builder()
+ *         .maximumSize(50_000)
+ *         .ttlMs(30_000L)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class EntityCacheConfig {
+
+    /**
+     * Default maximum number of cached items.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    /**
+     * Default time an item stays cached, unless its entity class declares
+     * {@link org.socialsignin.spring.data.dynamodb.annotation.DynamoDBCacheTtl}.
+     */
+    public static final long DEFAULT_TTL_MS = 60_000L;
+    /**
+     * Default time a missing item stays cached.
+     */
+    public static final long DEFAULT_NEGATIVE_TTL_MS = 1_000L;
+
+    private final int maximumSize;
+    private final long ttlMs;
+    private final long negativeTtlMs;
+
+    /**
+     * Creates a default entity cache configuration:
+     * - Maximum size: 10000 items
+     * - TTL: 60 seconds
+     * - Negative TTL: 1 second
+     */
+    public EntityCacheConfig() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL_MS, DEFAULT_NEGATIVE_TTL_MS);
+    }
+
+    /**
+     * Creates a custom entity cache configuration.
+     * @param maximumSize Maximum number of cached items, the least recently used are evicted first (must be > 0)
+     * @param ttlMs Time an item stays cached (must be >= 0, 0 disables caching unless entity classes declare a TTL)
+     * @param negativeTtlMs Time a missing item stays cached (must be >= 0, 0 disables caching of misses)
+     */
+    public EntityCacheConfig(int maximumSize, long ttlMs, long negativeTtlMs) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be > 0");
+        }
+        if (ttlMs < 0) {
+            throw new IllegalArgumentException("ttlMs must be >= 0");
+        }
+        if (negativeTtlMs < 0) {
+            throw new IllegalArgumentException("negativeTtlMs must be >= 0");
+        }
+
+        this.maximumSize = maximumSize;
+        this.ttlMs = ttlMs;
+        this.negativeTtlMs = negativeTtlMs;
+    }
+
+    /**
+     * Gets the maximum number of cached items.
+     * @return The maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the time an item stays cached, unless its entity class declares a TTL.
+     * @return The TTL in milliseconds
+     */
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    /**
+     * Gets the time a missing item stays cached.
+     * @return The negative TTL in milliseconds, 0 if misses are not cached
+     */
+    public long getNegativeTtlMs() {
+        return negativeTtlMs;
+    }
+
+    /**
+     * Builder for creating custom EntityCacheConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default entity cache configuration values.
+         */
+        public Builder() {
+        }
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private long ttlMs = DEFAULT_TTL_MS;
+        private long negativeTtlMs = DEFAULT_NEGATIVE_TTL_MS;
+
+        /**
+         * Sets the maximum number of cached items.
+         * @param maximumSize Maximum size (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the time an item stays cached, unless its entity class declares a TTL.
+         * @param ttlMs TTL in milliseconds (must be >= 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder ttlMs(long ttlMs) {
+            this.ttlMs = ttlMs;
+            return this;
+        }
+
+        /**
+         * Sets the time a missing item stays cached.
+         * @param negativeTtlMs Negative TTL in milliseconds (must be >= 0, 0 disables caching of misses)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder negativeTtlMs(long negativeTtlMs) {
+            this.negativeTtlMs = negativeTtlMs;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new EntityCacheConfig instance with the configured settings.
+         * @return A new EntityCacheConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public EntityCacheConfig build() {
+            return new EntityCacheConfig(maximumSize, ttlMs, negativeTtlMs);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCacheConfig{" +
+                "maximumSize=" + maximumSize +
+                ", ttlMs=" + ttlMs +
+                ", negativeTtlMs=" + negativeTtlMs +
+                '}';
+    }
+}
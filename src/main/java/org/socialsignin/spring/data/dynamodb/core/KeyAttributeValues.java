@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.marshaller.Date2IsoDynamoDBMarshaller;
+import org.socialsignin.spring.data.dynamodb.marshaller.Instant2IsoDynamoDBMarshaller;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Builds SDK v2 {@link Key} instances from plain Java hash and range key values.
+ * <p>
+ * Shared by {@link DynamoDBTemplate} and {@link DynamoDBAsyncTemplate} so both templates
+ * marshal key values identically for the configured {@link MarshallingMode}.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+final class KeyAttributeValues {
+
+    private KeyAttributeValues() {
+    }
+
+    /**
+     * Builds a Key object for SDK v2 operations.
+     * @param hashKeyValue  The partition key value
+     * @param rangeKeyValue The sort key value (can be null for hash-key-only tables)
+     * @param marshallingMode The marshalling mode used to convert the key values
+     * @return The constructed Key
+     */
+    @NonNull
+    static Key buildKey(@NonNull Object hashKeyValue, @Nullable Object rangeKeyValue, @NonNull MarshallingMode marshallingMode) {
+        Key.Builder keyBuilder = Key.builder()
+                .partitionValue(toAttributeValue(hashKeyValue, marshallingMode));
+
+        if (rangeKeyValue != null) {
+            keyBuilder.sortValue(toAttributeValue(rangeKeyValue, marshallingMode));
+        }
+
+        return keyBuilder.build();
+    }
+
+    /**
+     * Converts a Java object to SDK v2 AttributeValue.
+     * <p>
+     * Marshalling behavior depends on the given MarshallingMode.
+     * @param value The Java object to convert
+     * @param marshallingMode The marshalling mode
+     * @return The SDK v2 AttributeValue
+     */
+    @NonNull
+    static AttributeValue toAttributeValue(@NonNull Object value, @NonNull MarshallingMode marshallingMode) {
+        switch (value) {
+            case AttributeValue attributeValue -> {
+                return attributeValue;
+            }
+            case String s -> {
+                return AttributeValue.builder().s(s).build();
+            }
+            case Number number -> {
+                return AttributeValue.builder().n(value.toString()).build();
+            }
+            case Boolean b -> {
+                if (marshallingMode == MarshallingMode.SDK_V1_COMPATIBLE) {
+                    // SDK v1 compatibility: Boolean stored as "1" or "0" in Number format
+                    boolean boolValue = b;
+                    return AttributeValue.builder().n(boolValue ? "1" : "0").build();
+                } else {
+                    // SDK v2 native: Boolean stored as BOOL type
+                    return AttributeValue.builder().bool(b).build();
+                }
+            }
+            case java.util.Date date -> {
+                if (marshallingMode == MarshallingMode.SDK_V1_COMPATIBLE) {
+                    // SDK v1 compatibility: Date marshalled to ISO format string
+                    String marshalledDate = new Date2IsoDynamoDBMarshaller().marshall(date);
+                    return AttributeValue.builder().s(marshalledDate).build();
+                } else {
+                    // SDK v2 native: Date as epoch milliseconds in Number format
+                    return AttributeValue.builder().n(String.valueOf(date.getTime())).build();
+                }
+            }
+            case java.time.Instant instant -> {
+                // Both SDK v1 and v2 store Instant as String (ISO-8601 format)
+                // AWS SDK v2 uses InstantAsStringAttributeConverter by default
+                if (marshallingMode == MarshallingMode.SDK_V1_COMPATIBLE) {
+                    // SDK v1 compatibility: Instant marshalled to ISO format string with millisecond precision
+                    String marshalledDate = new Instant2IsoDynamoDBMarshaller().marshall(instant);
+                    return AttributeValue.builder().s(marshalledDate).build();
+                } else {
+                    // SDK v2 native: Instant as ISO-8601 string (matches AWS SDK v2 InstantAsStringAttributeConverter)
+                    // Format: ISO-8601 with nanosecond precision, e.g., "1970-01-01T00:00:00.001Z"
+                    return AttributeValue.builder().s(instant.toString()).build();
+                }
+            }
+            case byte[] bytes -> {
+                return AttributeValue.builder().b(SdkBytes.fromByteArray(bytes)).build();
+            }
+            default -> {
+                // Fallback: convert to string
+                return AttributeValue.builder().s(value.toString()).build();
+            }
+        }
+    }
+
+    /**
+     * Normalizes the number values of a key, so that keys addressing the same item compare equal.
+     * <p>
+     * DynamoDB compares numbers by value, so a key built from {@code 5} loads the item the table schema reads back
+     * with the key {@code 5.0}.
+     * @param key the key to normalize
+     * @return the key with its number values in canonical form
+     */
+    @NonNull
+    static Key normalize(@NonNull Key key) {
+        Key.Builder keyBuilder = Key.builder()
+                .partitionValue(normalize(key.partitionKeyValue()));
+        key.sortKeyValue().ifPresent(sortValue -> keyBuilder.sortValue(normalize(sortValue)));
+        return keyBuilder.build();
+    }
+
+    @NonNull
+    private static AttributeValue normalize(@NonNull AttributeValue value) {
+        if (value.n() == null) {
+            return value;
+        }
+        try {
+            return AttributeValue.fromN(new BigDecimal(value.n()).stripTrailingZeros().toPlainString());
+        } catch (NumberFormatException e) {
+            // Left for DynamoDB to reject
+            return value;
+        }
+    }
+}
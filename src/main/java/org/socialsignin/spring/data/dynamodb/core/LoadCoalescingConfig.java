@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Configuration for coalescing concurrent single-item loads into {@code BatchGetItem} requests.
+ * <p>
+ * When set on the {@link DynamoDBTemplate}, a load opens a window of {@link #getWindowMicros()} during which the loads
+ * of other threads join it, and all of them are fetched with one {@code BatchGetItem} request once the window closes
+ * or {@link #getMaxBatchSize()} keys were collected. Concurrent loads of the same key share a single fetch. This
+ * trades up to one window of latency for far fewer requests on hot read paths.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public LoadCoalescingConfig loadCoalescingConfig() {
+ *     return new LoadCoalescingConfig.Builder()
+ *         .windowMicros(500L)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class LoadCoalescingConfig {
+
+    /**
+     * Default time a load waits for other loads to join its batch.
+     */
+    public static final long DEFAULT_WINDOW_MICROS = 1000L;
+    /**
+     * Default maximum number of keys per batch, the DynamoDB limit per {@code BatchGetItem} request.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = BatchLoader.MAX_KEYS_PER_REQUEST;
+
+    private final long windowMicros;
+    private final int maxBatchSize;
+
+    /**
+     * Creates a default load coalescing configuration:
+     * - Window: 1ms
+     * - Max batch size: 100 keys
+     */
+    public LoadCoalescingConfig() {
+        this(DEFAULT_WINDOW_MICROS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a custom load coalescing configuration.
+     * @param windowMicros Time a load waits for other loads to join its batch (must be >= 0)
+     * @param maxBatchSize Maximum number of keys per batch (must be between 1 and 100)
+     */
+    public LoadCoalescingConfig(long windowMicros, int maxBatchSize) {
+        if (windowMicros < 0) {
+            throw new IllegalArgumentException("windowMicros must be >= 0");
+        }
+        if (maxBatchSize <= 0 || maxBatchSize > BatchLoader.MAX_KEYS_PER_REQUEST) {
+            throw new IllegalArgumentException("maxBatchSize must be between 1 and " + BatchLoader.MAX_KEYS_PER_REQUEST);
+        }
+
+        this.windowMicros = windowMicros;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Gets the time a load waits for other loads to join its batch.
+     * @return The window in microseconds
+     */
+    public long getWindowMicros() {
+        return windowMicros;
+    }
+
+    /**
+     * Gets the maximum number of keys per batch.
+     * @return The maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Builder for creating custom LoadCoalescingConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default load coalescing configuration values.
+         */
+        public Builder() {
+        }
+
+        private long windowMicros = DEFAULT_WINDOW_MICROS;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+        /**
+         * Sets the time a load waits for other loads to join its batch.
+         * @param windowMicros Window in microseconds (must be >= 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder windowMicros(long windowMicros) {
+            this.windowMicros = windowMicros;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of keys per batch.
+         * @param maxBatchSize Maximum batch size (must be between 1 and 100)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new LoadCoalescingConfig instance with the configured settings.
+         * @return A new LoadCoalescingConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public LoadCoalescingConfig build() {
+            return new LoadCoalescingConfig(windowMicros, maxBatchSize);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LoadCoalescingConfig{" +
+                "windowMicros=" + windowMicros +
+                ", maxBatchSize=" + maxBatchSize +
+                '}';
+    }
+}
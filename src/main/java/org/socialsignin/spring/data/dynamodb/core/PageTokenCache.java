@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers where offset-based pages of queries and scans start, so that reading page {@code n + 1} continues at the
+ * {@code LastEvaluatedKey} reached by page {@code n} instead of reading and discarding all items before it.
+ * <p>
+ * Checkpoints map the offset of an item to the {@code ExclusiveStartKey} to resume reading at, per table and
+ * canonical form of the request. Any write through the template to a table evicts the checkpoints of that table, as
+ * it may shift the offsets of the following items.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class PageTokenCache {
+
+    @NonNull
+    private final Function<Class<?>, String> tableNameResolver;
+    @NonNull
+    private final LongSupplier nanoTime;
+    private final long ttlNanos;
+    private final int maxCheckpointsPerRequest;
+    // Guarded by itself
+    private final LinkedHashMap<CacheKey, Checkpoints> entries;
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+    private long hitCount;
+    private long missCount;
+
+    PageTokenCache(@NonNull PageTokenCacheConfig config, @NonNull Function<Class<?>, String> tableNameResolver) {
+        this(config, tableNameResolver, System::nanoTime);
+    }
+
+    PageTokenCache(@NonNull PageTokenCacheConfig config, @NonNull Function<Class<?>, String> tableNameResolver,
+                   @NonNull LongSupplier nanoTime) {
+        this.tableNameResolver = tableNameResolver;
+        this.nanoTime = nanoTime;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(config.getTtlMs());
+        this.maxCheckpointsPerRequest = config.getMaxCheckpointsPerRequest();
+        int maxRequests = config.getMaxRequests();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Checkpoints> eldest) {
+                return size() > maxRequests;
+            }
+        };
+    }
+
+    /**
+     * Gets a cursor at the closest checkpoint at or before the given offset.
+     * @param domainClass the entity class of the results
+     * @param request the canonical form of the request without {@code ExclusiveStartKey} and limit, must implement
+     *            {@code equals} and {@code hashCode}
+     * @param offset the offset of the first item to read
+     * @return the cursor, at offset 0 if there is no checkpoint
+     */
+    @NonNull
+    public Cursor seek(@NonNull Class<?> domainClass, @NonNull Object request, long offset) {
+        String tableName = tableNameResolver.apply(domainClass);
+        CacheKey cacheKey = new CacheKey(tableName, request);
+        long version = tableVersion(tableName);
+        synchronized (entries) {
+            Checkpoints checkpoints = entries.get(cacheKey);
+            if (checkpoints != null && checkpoints.expiresAtNanos - nanoTime.getAsLong() <= 0) {
+                entries.remove(cacheKey);
+                checkpoints = null;
+            }
+            Map.Entry<Long, Map<String, AttributeValue>> checkpoint = checkpoints != null
+                    ? checkpoints.byOffset.floorEntry(offset)
+                    : null;
+            if (checkpoint == null) {
+                missCount++;
+                return new Cursor(cacheKey, version, 0, null);
+            }
+            hitCount++;
+            checkpoints.expiresAtNanos = nanoTime.getAsLong() + ttlNanos;
+            return new Cursor(cacheKey, version, checkpoint.getKey(), checkpoint.getValue());
+        }
+    }
+
+    /**
+     * Evicts all checkpoints of the table of the given entity class.
+     * @param domainClass the entity class
+     */
+    public void invalidate(@NonNull Class<?> domainClass) {
+        invalidateTable(tableNameResolver.apply(domainClass));
+    }
+
+    /**
+     * Evicts all checkpoints of the given table.
+     * @param tableName the table name
+     */
+    void invalidateTable(@NonNull String tableName) {
+        tableVersions.computeIfAbsent(tableName, k -> new AtomicLong()).incrementAndGet();
+        synchronized (entries) {
+            Iterator<CacheKey> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().tableName().equals(tableName)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts all checkpoints.
+     */
+    public void clear() {
+        tableVersions.values().forEach(AtomicLong::incrementAndGet);
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of reads that started at a checkpoint.
+     * @return the hit count
+     */
+    public long getHitCount() {
+        synchronized (entries) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Gets the number of reads that started at the first item.
+     * @return the miss count
+     */
+    public long getMissCount() {
+        synchronized (entries) {
+            return missCount;
+        }
+    }
+
+    private long tableVersion(@NonNull String tableName) {
+        return tableVersions.computeIfAbsent(tableName, k -> new AtomicLong()).get();
+    }
+
+    private void put(@NonNull CacheKey cacheKey, long version, long offset,
+                     @NonNull Map<String, AttributeValue> exclusiveStartKey) {
+        synchronized (entries) {
+            // Checkpoints read before a write to the table may point to the wrong offsets
+            if (tableVersion(cacheKey.tableName()) != version) {
+                return;
+            }
+            Checkpoints checkpoints = entries.computeIfAbsent(cacheKey, k -> new Checkpoints());
+            checkpoints.byOffset.put(offset, exclusiveStartKey);
+            if (checkpoints.byOffset.size() > maxCheckpointsPerRequest) {
+                // The pages at the lowest offsets are the cheapest to read again from the start
+                checkpoints.byOffset.pollFirstEntry();
+            }
+            checkpoints.expiresAtNanos = nanoTime.getAsLong() + ttlNanos;
+        }
+    }
+
+    /**
+     * A position in the results of a request, advanced page by page while reading.
+     */
+    public final class Cursor {
+
+        @NonNull
+        private final CacheKey cacheKey;
+        private final long version;
+        private long offset;
+        // Null at the start of the results, empty at their end
+        @Nullable
+        private Map<String, AttributeValue> exclusiveStartKey;
+
+        private Cursor(@NonNull CacheKey cacheKey, long version, long offset,
+                       @Nullable Map<String, AttributeValue> exclusiveStartKey) {
+            this.cacheKey = cacheKey;
+            this.version = version;
+            this.offset = offset;
+            this.exclusiveStartKey = exclusiveStartKey;
+        }
+
+        /**
+         * Gets the offset of the next item to read.
+         * @return the offset
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Gets the {@code ExclusiveStartKey} to read the next page with.
+         * @return the key, or {@code null} to read from the start of the results
+         */
+        @Nullable
+        public Map<String, AttributeValue> getExclusiveStartKey() {
+            return exclusiveStartKey == null || exclusiveStartKey.isEmpty() ? null : exclusiveStartKey;
+        }
+
+        /**
+         * Whether all results have been read, i.e. there is no next page.
+         * @return true if the end of the results was reached
+         */
+        public boolean isExhausted() {
+            return exclusiveStartKey != null && exclusiveStartKey.isEmpty();
+        }
+
+        /**
+         * Moves the cursor behind a page read at its position and remembers the new position as checkpoint.
+         * @param itemCount the number of items of the page
+         * @param lastEvaluatedKey the {@code LastEvaluatedKey} of the page, {@code null} or empty if it was the last
+         */
+        public void advance(int itemCount, @Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+            offset += itemCount;
+            exclusiveStartKey = lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()
+                    ? Map.of()
+                    : Map.copyOf(lastEvaluatedKey);
+            put(cacheKey, version, offset, exclusiveStartKey);
+        }
+    }
+
+    private static final class Checkpoints {
+        private final TreeMap<Long, Map<String, AttributeValue>> byOffset = new TreeMap<>();
+        private long expiresAtNanos;
+    }
+
+    private record CacheKey(@NonNull String tableName, @NonNull Object request) {
+    }
+}
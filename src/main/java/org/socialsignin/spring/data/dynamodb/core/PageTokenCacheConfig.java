@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Configuration of the page token cache of the {@link DynamoDBTemplate}, see {@link PageTokenCache}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public PageTokenCacheConfig pageTokenCacheConfig() {
+ *     return new PageTokenCacheConfig.Builder()
+ *         .maxRequests(5_000)
+ *         .ttlMs(600_000L)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class PageTokenCacheConfig {
+
+    /**
+     * Default maximum number of distinct queries with cached checkpoints.
+     */
+    public static final int DEFAULT_MAX_REQUESTS = 1_000;
+    /**
+     * Default maximum number of checkpoints per query.
+     */
+    public static final int DEFAULT_MAX_CHECKPOINTS_PER_REQUEST = 100;
+    /**
+     * Default time the checkpoints of a query stay cached after they were last used.
+     */
+    public static final long DEFAULT_TTL_MS = 300_000L;
+
+    private final int maxRequests;
+    private final int maxCheckpointsPerRequest;
+    private final long ttlMs;
+
+    /**
+     * Creates a default page token cache configuration:
+     * - Maximum requests: 1000
+     * - Maximum checkpoints per request: 100
+     * - TTL: 5 minutes
+     */
+    public PageTokenCacheConfig() {
+        this(DEFAULT_MAX_REQUESTS, DEFAULT_MAX_CHECKPOINTS_PER_REQUEST, DEFAULT_TTL_MS);
+    }
+
+    /**
+     * Creates a custom page token cache configuration.
+     * @param maxRequests Maximum number of distinct queries with cached checkpoints, the least recently used are
+     *            evicted first (must be > 0)
+     * @param maxCheckpointsPerRequest Maximum number of checkpoints per query (must be > 0)
+     * @param ttlMs Time the checkpoints of a query stay cached after they were last used (must be > 0)
+     */
+    public PageTokenCacheConfig(int maxRequests, int maxCheckpointsPerRequest, long ttlMs) {
+        if (maxRequests <= 0) {
+            throw new IllegalArgumentException("maxRequests must be > 0");
+        }
+        if (maxCheckpointsPerRequest <= 0) {
+            throw new IllegalArgumentException("maxCheckpointsPerRequest must be > 0");
+        }
+        if (ttlMs <= 0) {
+            throw new IllegalArgumentException("ttlMs must be > 0");
+        }
+
+        this.maxRequests = maxRequests;
+        this.maxCheckpointsPerRequest = maxCheckpointsPerRequest;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Gets the maximum number of distinct queries with cached checkpoints.
+     * @return The maximum number of requests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Gets the maximum number of checkpoints per query.
+     * @return The maximum number of checkpoints
+     */
+    public int getMaxCheckpointsPerRequest() {
+        return maxCheckpointsPerRequest;
+    }
+
+    /**
+     * Gets the time the checkpoints of a query stay cached after they were last used.
+     * @return The TTL in milliseconds
+     */
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    /**
+     * Builder for creating custom PageTokenCacheConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default page token cache configuration values.
+         */
+        public Builder() {
+        }
+
+        private int maxRequests = DEFAULT_MAX_REQUESTS;
+        private int maxCheckpointsPerRequest = DEFAULT_MAX_CHECKPOINTS_PER_REQUEST;
+        private long ttlMs = DEFAULT_TTL_MS;
+
+        /**
+         * Sets the maximum number of distinct queries with cached checkpoints.
+         * @param maxRequests Maximum number of requests (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of checkpoints per query.
+         * @param maxCheckpointsPerRequest Maximum number of checkpoints (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxCheckpointsPerRequest(int maxCheckpointsPerRequest) {
+            this.maxCheckpointsPerRequest = maxCheckpointsPerRequest;
+            return this;
+        }
+
+        /**
+         * Sets the time the checkpoints of a query stay cached after they were last used.
+         * @param ttlMs TTL in milliseconds (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder ttlMs(long ttlMs) {
+            this.ttlMs = ttlMs;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new PageTokenCacheConfig instance with the configured settings.
+         * @return A new PageTokenCacheConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public PageTokenCacheConfig build() {
+            return new PageTokenCacheConfig(maxRequests, maxCheckpointsPerRequest, ttlMs);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageTokenCacheConfig{" +
+                "maxRequests=" + maxRequests +
+                ", maxCheckpointsPerRequest=" + maxCheckpointsPerRequest +
+                ", ttlMs=" + ttlMs +
+                '}';
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for parallel (segmented) scan execution.
+ * <p>
+ * A parallel scan splits the table into {@code totalSegments} segments which are scanned concurrently, with at most
+ * {@link #getMaxConcurrency()} segments in flight. The number of segments is set per repository or repository method
+ * with {@link org.socialsignin.spring.data.dynamodb.repository.EnableScan#segments()}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public ParallelScanConfig parallelScanConfig() {
+ *     return new ParallelScanConfig.Builder()
+ *         .maxConcurrency(32)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class ParallelScanConfig {
+
+    /**
+     * Default maximum number of segments scanned at the same time per scan operation.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final int maxConcurrency;
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * Creates a default parallel scan configuration:
+     * - Max concurrency: 16
+     * - Virtual threads for concurrent requests
+     */
+    public ParallelScanConfig() {
+        this(DEFAULT_MAX_CONCURRENCY, null);
+    }
+
+    /**
+     * Creates a custom parallel scan configuration.
+     * @param maxConcurrency Maximum number of segments scanned at the same time (must be > 0, 1 scans the segments
+     *            one after another on the calling thread)
+     * @param executor Executor running the segment scans, or {@code null} to use virtual threads
+     */
+    public ParallelScanConfig(int maxConcurrency, @Nullable Executor executor) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the maximum number of segments scanned at the same time.
+     * @return The maximum concurrency
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the executor running the segment scans.
+     * @return The executor, or {@code null} if virtual threads are used
+     */
+    @Nullable
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Builder for creating custom ParallelScanConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default parallel scan configuration values.
+         */
+        public Builder() {
+        }
+
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+        @Nullable
+        private Executor executor;
+
+        /**
+         * Sets the maximum number of segments scanned at the same time.
+         * @param maxConcurrency Maximum concurrency (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the segment scans.
+         * @param executor The executor, or {@code null} to use virtual threads
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new ParallelScanConfig instance with the configured settings.
+         * @return A new ParallelScanConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public ParallelScanConfig build() {
+            return new ParallelScanConfig(maxConcurrency, executor);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for prefetching the pages of queries and scans in the background.
+ * <p>
+ * While the consumer processes a page, the following pages are already requested, up to {@link #getDepth()} pages
+ * ahead, so that network and processing time overlap. Once that many pages are buffered, fetching pauses until the
+ * consumer takes the next page. Prefetching applies to {@link DynamoDBOperations#prefetching} and to the streams of
+ * repository query methods, see {@link PrefetchingPageIterator}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Bean
+ * public PrefetchConfig prefetchConfig() {
+ *     return new PrefetchConfig.Builder()
+ *         .depth(3)
+ *         .build();
+ * }
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class PrefetchConfig {
+
+    /**
+     * Default number of pages fetched ahead of the consumer.
+     */
+    public static final int DEFAULT_DEPTH = 2;
+
+    private final int depth;
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * Creates a default prefetch configuration:
+     * - Depth: 2 pages
+     * - Virtual threads for the background requests
+     */
+    public PrefetchConfig() {
+        this(DEFAULT_DEPTH, null);
+    }
+
+    /**
+     * Creates a custom prefetch configuration.
+     * @param depth Maximum number of pages fetched ahead of the consumer (must be > 0)
+     * @param executor Executor running the background requests, or {@code null} to use virtual threads
+     */
+    public PrefetchConfig(int depth, @Nullable Executor executor) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth must be > 0");
+        }
+
+        this.depth = depth;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the maximum number of pages fetched ahead of the consumer.
+     * @return The depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the executor running the background requests.
+     * @return The executor, or {@code null} if virtual threads are used
+     */
+    @Nullable
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Builder for creating custom PrefetchConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder with default prefetch configuration values.
+         */
+        public Builder() {
+        }
+
+        private int depth = DEFAULT_DEPTH;
+        @Nullable
+        private Executor executor;
+
+        /**
+         * Sets the maximum number of pages fetched ahead of the consumer.
+         * @param depth Depth (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the background requests.
+         * @param executor Executor, or {@code null} to use virtual threads
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new PrefetchConfig instance with the configured settings.
+         * @return A new PrefetchConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public PrefetchConfig build() {
+            return new PrefetchConfig(depth, executor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PrefetchConfig{" +
+                "depth=" + depth +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Iterates over pages while fetching the following pages in the background, up to a fixed number of pages ahead.
+ * <p>
+ * The pages of a query or scan depend on each other through their {@code LastEvaluatedKey}, so they are still fetched
+ * one after another, but while the consumer processes a page rather than after it. A single background task fetches
+ * until {@code depth} pages are buffered and ends; taking a page from the buffer starts it again. No thread waits for
+ * a consumer that stopped iterating, so an abandoned iterator only holds its buffered pages.
+ * @param <T> the entity type
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class PrefetchingPageIterator<T> implements Iterator<Page<T>>, AutoCloseable {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("dynamodb-prefetch-", 0).factory();
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = command -> VIRTUAL_THREADS.newThread(command).start();
+
+    @NonNull
+    private final Iterator<Page<T>> source;
+    private final int depth;
+    @NonNull
+    private final Executor executor;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    // Guarded by lock
+    private final ArrayDeque<Page<T>> buffer = new ArrayDeque<>();
+    private boolean fetching;
+    private boolean exhausted;
+    private boolean closed;
+    @Nullable
+    private Throwable failure;
+
+    /**
+     * Creates an iterator prefetching the pages of the given iterator. Nothing is fetched before the first call to
+     * {@link #hasNext()} or {@link #next()}.
+     * @param source the pages to prefetch, only accessed by one background task at a time
+     * @param depth the maximum number of pages fetched ahead of the consumer (must be > 0)
+     * @param executor the executor running the background task, or {@code null} to start a virtual thread per task
+     */
+    public PrefetchingPageIterator(@NonNull Iterator<Page<T>> source, int depth, @Nullable Executor executor) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth must be > 0");
+        }
+        this.source = source;
+        this.depth = depth;
+        this.executor = executor != null ? executor : VIRTUAL_THREAD_EXECUTOR;
+    }
+
+    @Override
+    public boolean hasNext() {
+        lock.lock();
+        try {
+            while (buffer.isEmpty()) {
+                if (failure != null) {
+                    Throwable cause = failure;
+                    // Report the failure once, the pages after it can't be fetched
+                    failure = null;
+                    exhausted = true;
+                    if (cause instanceof Error error) {
+                        throw error;
+                    }
+                    throw (RuntimeException) cause;
+                }
+                if (exhausted || closed) {
+                    return false;
+                }
+                fetchAhead();
+                if (!fetching) {
+                    // The executor ran the task on this thread
+                    continue;
+                }
+                try {
+                    changed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the next page", e);
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Page<T> next() {
+        lock.lock();
+        try {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Page<T> page = buffer.poll();
+            fetchAhead();
+            return page;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops fetching further pages and drops the buffered ones. A request in flight is completed, but its page is
+     * dropped as well.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            buffer.clear();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts the background task unless it is running, the buffer is full or there is nothing left to fetch. Must be
+     * called holding the lock.
+     */
+    private void fetchAhead() {
+        if (fetching || exhausted || closed || failure != null || buffer.size() >= depth) {
+            return;
+        }
+        fetching = true;
+        try {
+            executor.execute(this::fetch);
+        } catch (RuntimeException e) {
+            fetching = false;
+            throw e;
+        }
+    }
+
+    private void fetch() {
+        while (true) {
+            Page<T> page = null;
+            Throwable pageFailure = null;
+            try {
+                if (source.hasNext()) {
+                    page = source.next();
+                }
+            } catch (RuntimeException | Error e) {
+                pageFailure = e;
+            }
+
+            lock.lock();
+            try {
+                if (pageFailure != null) {
+                    failure = pageFailure;
+                } else if (page == null) {
+                    exhausted = true;
+                } else if (!closed) {
+                    buffer.add(page);
+                }
+                changed.signalAll();
+                if (failure != null || exhausted || closed || buffer.size() >= depth) {
+                    fetching = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
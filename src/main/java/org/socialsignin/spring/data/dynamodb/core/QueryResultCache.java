@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of query and scan results of the {@link DynamoDBTemplate}, used by repository methods annotated
+ * with {@link org.socialsignin.spring.data.dynamodb.repository.CachedQuery}.
+ * <p>
+ * Every cached method has its own {@link Region} with its own TTL and maximum number of entries, keyed by the
+ * canonical form of the executed request. Any write through the template to a table evicts the cached results of
+ * that table from all regions. Results are cached as attribute maps and mapped to new entities on every hit, so
+ * callers never share instances.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class QueryResultCache {
+
+    @NonNull
+    private final Function<Class<?>, String> tableNameResolver;
+    @NonNull
+    private final Function<Class<?>, TableSchema<?>> tableSchemaResolver;
+    @NonNull
+    private final LongSupplier nanoTime;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    // Bumped by every write, so that queries racing with a write don't cache the results read before it
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    QueryResultCache(@NonNull Function<Class<?>, String> tableNameResolver,
+                     @NonNull Function<Class<?>, TableSchema<?>> tableSchemaResolver) {
+        this(tableNameResolver, tableSchemaResolver, System::nanoTime);
+    }
+
+    QueryResultCache(@NonNull Function<Class<?>, String> tableNameResolver,
+                     @NonNull Function<Class<?>, TableSchema<?>> tableSchemaResolver, @NonNull LongSupplier nanoTime) {
+        this.tableNameResolver = tableNameResolver;
+        this.tableSchemaResolver = tableSchemaResolver;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Gets the region with the given name, creating it with the given settings if it doesn't exist yet.
+     * @param name the region name, e.g. the query method
+     * @param ttlMs the time results stay cached (must be > 0)
+     * @param maxEntries the maximum number of cached results, the least recently used are evicted first (must be > 0)
+     * @return the region
+     */
+    @NonNull
+    public Region getRegion(@NonNull String name, long ttlMs, int maxEntries) {
+        Assert.isTrue(ttlMs > 0, "ttlMs must be > 0");
+        Assert.isTrue(maxEntries > 0, "maxEntries must be > 0");
+        return regions.computeIfAbsent(name, k -> new Region(TimeUnit.MILLISECONDS.toNanos(ttlMs), maxEntries));
+    }
+
+    /**
+     * Whether any results are cached, i.e. any region exists.
+     * @return false if no region was created yet
+     */
+    boolean isInUse() {
+        return !regions.isEmpty();
+    }
+
+    /**
+     * Evicts all cached results of the table of the given entity class.
+     * @param domainClass the entity class
+     */
+    public void invalidate(@NonNull Class<?> domainClass) {
+        invalidateTable(tableNameResolver.apply(domainClass));
+    }
+
+    /**
+     * Evicts all cached results of the given table.
+     * @param tableName the table name
+     */
+    void invalidateTable(@NonNull String tableName) {
+        if (regions.isEmpty()) {
+            return;
+        }
+        tableVersions.computeIfAbsent(tableName, k -> new AtomicLong()).incrementAndGet();
+        regions.values().forEach(region -> region.invalidate(tableName));
+    }
+
+    /**
+     * Evicts all cached results.
+     */
+    public void clear() {
+        tableVersions.values().forEach(AtomicLong::incrementAndGet);
+        regions.values().forEach(Region::clear);
+    }
+
+    private long tableVersion(@NonNull String tableName) {
+        return tableVersions.computeIfAbsent(tableName, k -> new AtomicLong()).get();
+    }
+
+    /**
+     * The cached results of one query method.
+     */
+    public final class Region {
+
+        private final long ttlNanos;
+        // Guarded by itself
+        private final LinkedHashMap<CacheKey, CachedResults> entries;
+        private long hitCount;
+        private long missCount;
+
+        private Region(long ttlNanos, int maxEntries) {
+            this.ttlNanos = ttlNanos;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResults> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        /**
+         * Gets the cached results of a request, or executes the request and caches its results.
+         * @param domainClass the entity class of the results
+         * @param request the canonical form of the request, must implement {@code equals} and {@code hashCode}
+         * @param query executes the request
+         * @param <T> the entity type
+         * @return the results
+         */
+        @NonNull
+        @SuppressWarnings("unchecked")
+        public <T> List<T> getOrLoad(@NonNull Class<T> domainClass, @NonNull Object request,
+                                     @NonNull Supplier<List<T>> query) {
+            String tableName = tableNameResolver.apply(domainClass);
+            TableSchema<T> tableSchema = (TableSchema<T>) tableSchemaResolver.apply(domainClass);
+            CacheKey cacheKey = new CacheKey(tableName, request);
+            synchronized (entries) {
+                CachedResults cached = entries.get(cacheKey);
+                if (cached != null && cached.expiresAtNanos - nanoTime.getAsLong() > 0) {
+                    hitCount++;
+                    List<T> results = new ArrayList<>(cached.items.size());
+                    for (Map<String, AttributeValue> item : cached.items) {
+                        results.add(tableSchema.mapToItem(item));
+                    }
+                    return results;
+                }
+                if (cached != null) {
+                    entries.remove(cacheKey);
+                }
+                missCount++;
+            }
+
+            long version = tableVersion(tableName);
+            List<T> results = query.get();
+            List<Map<String, AttributeValue>> items = new ArrayList<>(results.size());
+            for (T result : results) {
+                items.add(tableSchema.itemToMap(result, true));
+            }
+            synchronized (entries) {
+                if (tableVersion(tableName) == version) {
+                    entries.put(cacheKey, new CachedResults(items, nanoTime.getAsLong() + ttlNanos));
+                }
+            }
+            return results;
+        }
+
+        /**
+         * Gets the number of requests answered from the cache.
+         * @return the hit count
+         */
+        public long getHitCount() {
+            synchronized (entries) {
+                return hitCount;
+            }
+        }
+
+        /**
+         * Gets the number of requests that had to be executed.
+         * @return the miss count
+         */
+        public long getMissCount() {
+            synchronized (entries) {
+                return missCount;
+            }
+        }
+
+        /**
+         * Gets the number of cached results, including expired ones not yet removed.
+         * @return the size
+         */
+        public int size() {
+            synchronized (entries) {
+                return entries.size();
+            }
+        }
+
+        private void invalidate(@NonNull String tableName) {
+            synchronized (entries) {
+                Iterator<CacheKey> keys = entries.keySet().iterator();
+                while (keys.hasNext()) {
+                    if (keys.next().tableName().equals(tableName)) {
+                        keys.remove();
+                    }
+                }
+            }
+        }
+
+        private void clear() {
+            synchronized (entries) {
+                entries.clear();
+            }
+        }
+    }
+
+    private record CacheKey(@NonNull String tableName, @NonNull Object request) {
+    }
+
+    private record CachedResults(@NonNull Collection<Map<String, AttributeValue>> items, long expiresAtNanos) {
+    }
+}
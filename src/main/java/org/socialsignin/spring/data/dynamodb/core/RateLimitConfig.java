@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Configuration of the client-side rate limit applied to a table by {@link DynamoDBTemplate}.
+ * <p>
+ * The configured capacity units per second are the ceiling a repository may consume from its table. The actual rate
+ * adapts below the ceiling: it is cut by {@link #getDecreaseFactor()} whenever DynamoDB throttles a request and
+ * recovers additively by {@link #getRecoveryRatePerSecond()} of the ceiling per second (AIMD). The cost of every
+ * request is taken from the consumed capacity DynamoDB reports.
+ * <p>
+ * Example usage:
+ * <pre>
+ * RateLimitConfig config = new RateLimitConfig.Builder()
+ *     .readCapacityUnitsPerSecond(100)
+ *     .writeCapacityUnitsPerSecond(25)
+ *     .build();
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ * @see org.socialsignin.spring.data.dynamodb.repository.RateLimited
+ */
+public class RateLimitConfig {
+
+    /**
+     * Value of the read/write capacity unit settings disabling the limit for that direction.
+     */
+    public static final double UNLIMITED = 0;
+
+    /**
+     * Default lower bound of the adaptive rate, in capacity units per second.
+     */
+    public static final double DEFAULT_MIN_CAPACITY_UNITS_PER_SECOND = 1.0;
+
+    /**
+     * Default factor the rate is multiplied with when a request is throttled.
+     */
+    public static final double DEFAULT_DECREASE_FACTOR = 0.5;
+
+    /**
+     * Default fraction of the configured ceiling the rate recovers per second.
+     */
+    public static final double DEFAULT_RECOVERY_RATE_PER_SECOND = 0.05;
+
+    private final double readCapacityUnitsPerSecond;
+    private final double writeCapacityUnitsPerSecond;
+    private final double minCapacityUnitsPerSecond;
+    private final double decreaseFactor;
+    private final double recoveryRatePerSecond;
+
+    /**
+     * Creates a rate limit configuration with default adaptation settings.
+     * @param readCapacityUnitsPerSecond Read capacity units per second, {@link #UNLIMITED} for no read limit
+     * @param writeCapacityUnitsPerSecond Write capacity units per second, {@link #UNLIMITED} for no write limit
+     */
+    public RateLimitConfig(double readCapacityUnitsPerSecond, double writeCapacityUnitsPerSecond) {
+        this(readCapacityUnitsPerSecond, writeCapacityUnitsPerSecond, DEFAULT_MIN_CAPACITY_UNITS_PER_SECOND,
+                DEFAULT_DECREASE_FACTOR, DEFAULT_RECOVERY_RATE_PER_SECOND);
+    }
+
+    /**
+     * Creates a custom rate limit configuration.
+     * @param readCapacityUnitsPerSecond Read capacity units per second, {@link #UNLIMITED} for no read limit
+     * @param writeCapacityUnitsPerSecond Write capacity units per second, {@link #UNLIMITED} for no write limit
+     * @param minCapacityUnitsPerSecond Lower bound of the adaptive rate (must be > 0)
+     * @param decreaseFactor Factor applied to the rate on throttling (must be > 0 and < 1)
+     * @param recoveryRatePerSecond Fraction of the ceiling regained per second (must be > 0)
+     */
+    public RateLimitConfig(double readCapacityUnitsPerSecond, double writeCapacityUnitsPerSecond,
+                           double minCapacityUnitsPerSecond, double decreaseFactor, double recoveryRatePerSecond) {
+        if (readCapacityUnitsPerSecond < 0 || writeCapacityUnitsPerSecond < 0) {
+            throw new IllegalArgumentException("capacity units per second must be >= 0");
+        }
+        if (minCapacityUnitsPerSecond <= 0) {
+            throw new IllegalArgumentException("minCapacityUnitsPerSecond must be > 0");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("decreaseFactor must be > 0 and < 1");
+        }
+        if (recoveryRatePerSecond <= 0) {
+            throw new IllegalArgumentException("recoveryRatePerSecond must be > 0");
+        }
+
+        this.readCapacityUnitsPerSecond = readCapacityUnitsPerSecond;
+        this.writeCapacityUnitsPerSecond = writeCapacityUnitsPerSecond;
+        this.minCapacityUnitsPerSecond = minCapacityUnitsPerSecond;
+        this.decreaseFactor = decreaseFactor;
+        this.recoveryRatePerSecond = recoveryRatePerSecond;
+    }
+
+    /**
+     * Gets the ceiling for read capacity units per second.
+     * @return The read ceiling, or {@link #UNLIMITED}
+     */
+    public double getReadCapacityUnitsPerSecond() {
+        return readCapacityUnitsPerSecond;
+    }
+
+    /**
+     * Gets the ceiling for write capacity units per second.
+     * @return The write ceiling, or {@link #UNLIMITED}
+     */
+    public double getWriteCapacityUnitsPerSecond() {
+        return writeCapacityUnitsPerSecond;
+    }
+
+    /**
+     * Gets the lower bound of the adaptive rate.
+     * @return The minimum capacity units per second
+     */
+    public double getMinCapacityUnitsPerSecond() {
+        return minCapacityUnitsPerSecond;
+    }
+
+    /**
+     * Gets the factor the rate is multiplied with when a request is throttled.
+     * @return The multiplicative decrease factor
+     */
+    public double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    /**
+     * Gets the fraction of the ceiling the rate recovers per second after throttling.
+     * @return The additive recovery rate
+     */
+    public double getRecoveryRatePerSecond() {
+        return recoveryRatePerSecond;
+    }
+
+    /**
+     * Builder for creating custom RateLimitConfig instances.
+     */
+    public static class Builder {
+        /**
+         * Creates a new Builder without read and write limits.
+         */
+        public Builder() {
+        }
+
+        private double readCapacityUnitsPerSecond = UNLIMITED;
+        private double writeCapacityUnitsPerSecond = UNLIMITED;
+        private double minCapacityUnitsPerSecond = DEFAULT_MIN_CAPACITY_UNITS_PER_SECOND;
+        private double decreaseFactor = DEFAULT_DECREASE_FACTOR;
+        private double recoveryRatePerSecond = DEFAULT_RECOVERY_RATE_PER_SECOND;
+
+        /**
+         * Sets the ceiling for read capacity units per second.
+         * @param readCapacityUnitsPerSecond Read capacity units per second
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder readCapacityUnitsPerSecond(double readCapacityUnitsPerSecond) {
+            this.readCapacityUnitsPerSecond = readCapacityUnitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the ceiling for write capacity units per second.
+         * @param writeCapacityUnitsPerSecond Write capacity units per second
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder writeCapacityUnitsPerSecond(double writeCapacityUnitsPerSecond) {
+            this.writeCapacityUnitsPerSecond = writeCapacityUnitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the lower bound of the adaptive rate.
+         * @param minCapacityUnitsPerSecond Minimum capacity units per second (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder minCapacityUnitsPerSecond(double minCapacityUnitsPerSecond) {
+            this.minCapacityUnitsPerSecond = minCapacityUnitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the factor the rate is multiplied with when a request is throttled.
+         * @param decreaseFactor Multiplicative decrease factor (must be > 0 and < 1)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder decreaseFactor(double decreaseFactor) {
+            this.decreaseFactor = decreaseFactor;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of the ceiling the rate recovers per second after throttling.
+         * @param recoveryRatePerSecond Additive recovery rate (must be > 0)
+         * @return This builder instance for method chaining
+         */
+        @NonNull
+        public Builder recoveryRatePerSecond(double recoveryRatePerSecond) {
+            this.recoveryRatePerSecond = recoveryRatePerSecond;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new RateLimitConfig instance with the configured settings.
+         * @return A new RateLimitConfig instance
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        @NonNull
+        public RateLimitConfig build() {
+            return new RateLimitConfig(readCapacityUnitsPerSecond, writeCapacityUnitsPerSecond,
+                    minCapacityUnitsPerSecond, decreaseFactor, recoveryRatePerSecond);
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "RateLimitConfig{" +
+                "readCapacityUnitsPerSecond=" + readCapacityUnitsPerSecond +
+                ", writeCapacityUnitsPerSecond=" + writeCapacityUnitsPerSecond +
+                ", minCapacityUnitsPerSecond=" + minCapacityUnitsPerSecond +
+                ", decreaseFactor=" + decreaseFactor +
+                ", recoveryRatePerSecond=" + recoveryRatePerSecond +
+                '}';
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Token bucket limiting how many batch retries may be issued, shared by every operation using the same
+ * {@link BatchWriteRetryConfig}.
+ * <p>
+ * Each retry of unprocessed items consumes one token; tokens are refilled at a fixed rate up to the capacity. When
+ * a table is throttled, retries beyond the budget are not attempted and the items are reported as unprocessed
+ * instead, so a throttled table cannot cause a retry storm across all callers.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class RetryBudget {
+
+    /**
+     * Default number of retries that may be issued in a burst.
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * Default number of retries added back to the budget per second.
+     */
+    public static final double DEFAULT_REFILL_PER_SECOND = 10.0;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a retry budget with the default capacity of 100 retries, refilled at 10 retries per second.
+     */
+    public RetryBudget() {
+        this(DEFAULT_CAPACITY, DEFAULT_REFILL_PER_SECOND);
+    }
+
+    /**
+     * Creates a custom retry budget.
+     * @param capacity Maximum number of retries that may be issued in a burst (must be >= 0)
+     * @param refillPerSecond Number of retries added back to the budget per second (must be >= 0)
+     */
+    public RetryBudget(int capacity, double refillPerSecond) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must be >= 0");
+        }
+        if (refillPerSecond < 0) {
+            throw new IllegalArgumentException("refillPerSecond must be >= 0");
+        }
+
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a budget that never limits retries.
+     * @return An unlimited retry budget
+     */
+    @NonNull
+    public static RetryBudget unlimited() {
+        return new RetryBudget(Integer.MAX_VALUE, 0) {
+            @Override
+            public boolean tryAcquire() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Takes one retry from the budget.
+     * @return true if the retry may be issued, false if the budget is exhausted
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Gets the maximum number of retries that may be issued in a burst.
+     * @return The capacity of the budget
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of retries added back to the budget per second.
+     * @return The refill rate
+     */
+    public double getRefillPerSecond() {
+        return refillPerNano * NANOS_PER_SECOND;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "RetryBudget{" +
+                "capacity=" + capacity +
+                ", refillPerSecond=" + getRefillPerSecond() +
+                '}';
+    }
+}
@@ -17,8 +17,10 @@ package org.socialsignin.spring.data.dynamodb.core;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NativeDetector;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
@@ -29,6 +31,8 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -39,14 +43,17 @@ import java.lang.reflect.Type;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Generates {@link StaticTableSchema} instances from {@code @DynamoDbBean} annotated classes
- * using reflection and MethodHandles instead of LambdaMetafactory.
+ * using reflection, without {@code TableSchema.fromBean()}.
  *
- * <p>This generator is compatible with GraalVM native images because it uses
- * {@link MethodHandle#invoke} which works with ahead-of-time compilation,
- * unlike {@code TableSchema.fromBean()} which uses {@code LambdaMetafactory}.
+ * <p>This generator is compatible with GraalVM native images. On the JVM, the getters,
+ * setters and constructors of the domain class are bound with {@link LambdaMetafactory},
+ * so every accessor is a class of its own that calls the bean method directly. In a
+ * native image, where such classes can't be defined at runtime, and for methods that
+ * can't be bound that way, the accessors call {@link MethodHandle#invoke} instead.
  *
  * <p><b>Supported Annotations:</b></p>
  * <ul>
@@ -62,9 +69,10 @@ import java.util.function.Function;
  * </ul>
  *
  * <p><b>Performance Note:</b></p>
- * <p>MethodHandle-based getters/setters are slightly slower than lambda-based ones
- * (generated by {@code TableSchema.fromBean()}), but the difference is typically
- * negligible for most applications. The tradeoff is GraalVM native image compatibility.
+ * <p>The accessors bound with {@code LambdaMetafactory} can be inlined by the JIT like
+ * direct calls, as the ones generated by {@code TableSchema.fromBean()}. The MethodHandle
+ * based accessors used in native images are slightly slower, but the difference is
+ * typically negligible for most applications.
  *
  * @author Prasanna Kumar Ramachandran
  * @since 7.0.0
@@ -76,12 +84,40 @@ public class StaticTableSchemaGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(StaticTableSchemaGenerator.class);
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
+    /**
+     * How an accessor of a domain class is bound.
+     */
+    enum AccessorBinding {
+        /** A class generated by {@link LambdaMetafactory} calls the bean method directly. */
+        LAMBDA_METAFACTORY,
+        /** A closure calls the bean method through {@link MethodHandle#invoke}. */
+        METHOD_HANDLE
+    }
+
+    /**
+     * Marks the accessors that fall back to {@link MethodHandle#invoke}.
+     */
+    private interface MethodHandleAccessor {
+    }
+
     /**
      * Private constructor to prevent instantiation.
      */
     private StaticTableSchemaGenerator() {
     }
 
+    /**
+     * Gets how an accessor created by this generator is bound.
+     *
+     * @param accessor a getter, setter or new item supplier created by this generator
+     * @return the binding of the accessor
+     */
+    @NonNull
+    static AccessorBinding getAccessorBinding(@NonNull Object accessor) {
+        return accessor instanceof MethodHandleAccessor ? AccessorBinding.METHOD_HANDLE
+                : AccessorBinding.LAMBDA_METAFACTORY;
+    }
+
     /**
      * Generates a StaticTableSchema for the given domain class.
      *
@@ -126,10 +162,16 @@ public class StaticTableSchemaGenerator {
      * Creates a supplier for new instances of the domain class.
      */
     @NonNull
-    private static <T> java.util.function.Supplier<T> createNewItemSupplier(@NonNull Class<T> domainClass) {
+    @SuppressWarnings("unchecked")
+    static <T> Supplier<T> createNewItemSupplier(@NonNull Class<T> domainClass) {
         try {
             MethodHandle constructor = LOOKUP.findConstructor(domainClass, MethodType.methodType(void.class));
-            return () -> {
+            Supplier<T> supplier = bindAccessor(domainClass, Supplier.class, "get", constructor,
+                    MethodType.methodType(Object.class), MethodType.methodType(domainClass));
+            if (supplier != null) {
+                return supplier;
+            }
+            return (Supplier<T> & MethodHandleAccessor) () -> {
                 try {
                     @SuppressWarnings("unchecked")
                     T instance = (T) constructor.invoke();
@@ -305,13 +347,21 @@ public class StaticTableSchemaGenerator {
     }
 
     /**
-     * Creates a getter function using MethodHandle.
+     * Creates a getter function, bound with LambdaMetafactory if possible, otherwise using MethodHandle.
      */
     @NonNull
-    private static <T> Function<T, Object> createGetterFunction(@NonNull Class<T> domainClass, @NonNull Method getter) {
+    @SuppressWarnings("unchecked")
+    static <T> Function<T, Object> createGetterFunction(@NonNull Class<T> domainClass, @NonNull Method getter) {
         try {
             MethodHandle handle = LOOKUP.unreflect(getter);
-            return instance -> {
+            // Primitive values are boxed inside the generated class
+            Function<T, Object> function = bindAccessor(domainClass, Function.class, "apply", handle,
+                    MethodType.methodType(Object.class, Object.class),
+                    MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(getter.getReturnType()), domainClass));
+            if (function != null) {
+                return function;
+            }
+            return (Function<T, Object> & MethodHandleAccessor) instance -> {
                 try {
                     return handle.invoke(instance);
                 } catch (Throwable t) {
@@ -324,16 +374,24 @@ public class StaticTableSchemaGenerator {
     }
 
     /**
-     * Creates a setter consumer using MethodHandle.
+     * Creates a setter consumer, bound with LambdaMetafactory if possible, otherwise using MethodHandle.
      */
     @NonNull
-    private static <T> BiConsumer<T, Object> createSetterConsumer(
+    @SuppressWarnings("unchecked")
+    static <T> BiConsumer<T, Object> createSetterConsumer(
             @NonNull Class<T> domainClass,
             @NonNull Method setter,
             @NonNull Class<?> attributeType) {
         try {
             MethodHandle handle = LOOKUP.unreflect(setter);
-            return (instance, value) -> {
+            // Values of primitive properties are unboxed inside the generated class
+            BiConsumer<T, Object> consumer = bindAccessor(domainClass, BiConsumer.class, "accept", handle,
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    MethodType.methodType(void.class, domainClass, ClassUtils.resolvePrimitiveIfNecessary(attributeType)));
+            if (consumer != null) {
+                return consumer;
+            }
+            return (BiConsumer<T, Object> & MethodHandleAccessor) (instance, value) -> {
                 try {
                     handle.invoke(instance, value);
                 } catch (Throwable t) {
@@ -345,6 +403,43 @@ public class StaticTableSchemaGenerator {
         }
     }
 
+    /**
+     * Binds a method of the domain class to a functional interface with LambdaMetafactory. The generated class is
+     * defined in the domain class's nest, so it is created through a lookup in the domain class.
+     *
+     * @param domainClass         the domain class
+     * @param functionalInterface the functional interface to implement
+     * @param interfaceMethodName the name of the functional interface method
+     * @param implementation      a direct method handle for the method to call
+     * @param erasedType          the erased signature of the functional interface method
+     * @param instantiatedType    the signature of the functional interface method for the domain class
+     * @return the functional interface instance, or {@code null} in a native image or if the method can't be bound
+     */
+    @Nullable
+    private static <F> F bindAccessor(
+            @NonNull Class<?> domainClass,
+            @NonNull Class<F> functionalInterface,
+            @NonNull String interfaceMethodName,
+            @NonNull MethodHandle implementation,
+            @NonNull MethodType erasedType,
+            @NonNull MethodType instantiatedType) {
+        if (NativeDetector.inNativeImage()) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(domainClass, LOOKUP);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, interfaceMethodName,
+                    MethodType.methodType(functionalInterface), erasedType, implementation, instantiatedType);
+            return functionalInterface.cast(callSite.getTarget().invoke());
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            LOGGER.debug("Falling back to MethodHandle accessor for {} of {}: {}", implementation,
+                    domainClass.getName(), t.toString());
+            return null;
+        }
+    }
+
     /**
      * Determines the attribute tags based on annotations.
      */
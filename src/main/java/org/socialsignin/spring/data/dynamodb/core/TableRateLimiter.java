@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+import java.util.List;
+
+/**
+ * Client-side rate limit of a table, with independent {@link AdaptiveRateLimiter}s for reads and writes.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ * @see DynamoDBTemplate#setRateLimitConfig(Class, RateLimitConfig)
+ */
+public final class TableRateLimiter {
+
+    @NonNull
+    private final RateLimitConfig config;
+    @NonNull
+    private final AdaptiveRateLimiter reads;
+    @NonNull
+    private final AdaptiveRateLimiter writes;
+
+    /**
+     * Creates the rate limiter of a table.
+     * @param config The rate limit configuration
+     */
+    public TableRateLimiter(@NonNull RateLimitConfig config) {
+        this.config = config;
+        this.reads = new AdaptiveRateLimiter(config.getReadCapacityUnitsPerSecond(), config);
+        this.writes = new AdaptiveRateLimiter(config.getWriteCapacityUnitsPerSecond(), config);
+    }
+
+    /**
+     * Gets the configuration this limiter was created with.
+     * @return The rate limit configuration
+     */
+    @NonNull
+    public RateLimitConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the limiter applied to reads (get, batch get, query and scan).
+     * @return The read limiter
+     */
+    @NonNull
+    public AdaptiveRateLimiter reads() {
+        return reads;
+    }
+
+    /**
+     * Gets the limiter applied to writes (save, delete and batch writes).
+     * @return The write limiter
+     */
+    @NonNull
+    public AdaptiveRateLimiter writes() {
+        return writes;
+    }
+
+    /**
+     * Finds the capacity a request consumed on the given table.
+     * @param consumedCapacities The consumed capacity per table reported by a batch request, may be {@code null}
+     * @param tableName The name of the table
+     * @return The consumed capacity of the table, or {@code null} if none was reported
+     */
+    @Nullable
+    static ConsumedCapacity consumedCapacityOf(@Nullable List<ConsumedCapacity> consumedCapacities,
+                                               @NonNull String tableName) {
+        if (consumedCapacities == null) {
+            return null;
+        }
+        for (ConsumedCapacity consumedCapacity : consumedCapacities) {
+            if (tableName.equals(consumedCapacity.tableName())) {
+                return consumedCapacity;
+            }
+        }
+        return null;
+    }
+}
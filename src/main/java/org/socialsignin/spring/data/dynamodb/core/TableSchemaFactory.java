@@ -26,8 +26,8 @@ import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
  *
  * <p><b>GraalVM Native Image Support:</b></p>
  * <p>This factory uses {@link DynamoDbTableSchemaRegistry} which provides GraalVM-compatible
- * schema generation using {@link StaticTableSchemaGenerator}. The generator uses MethodHandles
- * instead of LambdaMetafactory, making it compatible with native image compilation.
+ * schema generation using {@link StaticTableSchemaGenerator}. In a native image the generator
+ * uses MethodHandles instead of LambdaMetafactory, making it compatible with native image compilation.
  *
  * <p><b>For SDK_V1_COMPATIBLE mode, users MUST annotate their entity fields with
  * {@code @DynamoDbConvertedBy} to specify the appropriate converter.</b> See the
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts between DynamoDB's {@code LastEvaluatedKey}/{@code ExclusiveStartKey} and Spring Data
+ * {@link ScrollPosition}s.
+ * <p>
+ * A position after a window is a {@link KeysetScrollPosition} holding the {@code LastEvaluatedKey} of the window as
+ * an opaque, URL-safe token under the {@link #EXCLUSIVE_START_KEY} key, e.g. to hand it to a client as a cursor:
+ * <pre>
+ * String cursor = (String) ((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys()
+ *         .get(DynamoDBScrollPositions.EXCLUSIVE_START_KEY);
+ * ScrollPosition next = DynamoDBScrollPositions.fromToken(cursor);
+ * </pre>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class DynamoDBScrollPositions {
+
+    /**
+     * The key of the token in the keys of a {@link KeysetScrollPosition}.
+     */
+    public static final String EXCLUSIVE_START_KEY = "exclusiveStartKey";
+
+    private static final byte TOKEN_VERSION = 1;
+
+    /**
+     * DynamoDB limits partition and sort key values to 2048 and 1024 bytes.
+     */
+    private static final int MAX_KEY_ATTRIBUTE_LENGTH = 2048;
+
+    private DynamoDBScrollPositions() {
+    }
+
+    /**
+     * Creates the position after the item with the given {@code LastEvaluatedKey}.
+     * @param lastEvaluatedKey the key to resume after, or {@code null}/empty for the initial position
+     * @return the scroll position
+     */
+    @NonNull
+    public static KeysetScrollPosition after(@Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        return ScrollPosition.forward(Map.of(EXCLUSIVE_START_KEY, encode(lastEvaluatedKey)));
+    }
+
+    /**
+     * Creates the position encoded by the given token.
+     * @param token a token of a position created by this class, or {@code null} for the initial position
+     * @return the scroll position
+     */
+    @NonNull
+    public static KeysetScrollPosition fromToken(@Nullable String token) {
+        return token == null || token.isEmpty()
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(Map.of(EXCLUSIVE_START_KEY, token));
+    }
+
+    /**
+     * Gets the {@code ExclusiveStartKey} to resume reading at the given position.
+     * @param scrollPosition a position created by this class, or an initial keyset position
+     * @return the exclusive start key, or {@code null} for the initial position
+     * @throws IllegalArgumentException if the position is not a forward keyset position created by this class
+     */
+    @Nullable
+    public static Map<String, AttributeValue> exclusiveStartKey(@NonNull ScrollPosition scrollPosition) {
+        if (!(scrollPosition instanceof KeysetScrollPosition keysetPosition)) {
+            if (scrollPosition.isInitial()) {
+                return null;
+            }
+            throw new IllegalArgumentException("DynamoDB supports keyset scrolling only, but got " + scrollPosition);
+        }
+        if (keysetPosition.scrollsBackward()) {
+            throw new IllegalArgumentException("DynamoDB supports forward scrolling only");
+        }
+        if (keysetPosition.isInitial()) {
+            return null;
+        }
+        Object token = keysetPosition.getKeys().get(EXCLUSIVE_START_KEY);
+        if (!(token instanceof String encoded) || keysetPosition.getKeys().size() != 1) {
+            throw new IllegalArgumentException("Scroll position " + scrollPosition
+                    + " was not created by DynamoDBScrollPositions");
+        }
+        return decode(encoded);
+    }
+
+    @NonNull
+    private static String encode(@NonNull Map<String, AttributeValue> key) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(TOKEN_VERSION);
+            out.writeShort(key.size());
+            for (Map.Entry<String, AttributeValue> entry : key.entrySet()) {
+                out.writeUTF(entry.getKey());
+                AttributeValue value = entry.getValue();
+                // Key attributes are scalars
+                if (value.s() != null) {
+                    out.writeByte('S');
+                    out.writeUTF(value.s());
+                } else if (value.n() != null) {
+                    out.writeByte('N');
+                    out.writeUTF(value.n());
+                } else if (value.b() != null) {
+                    byte[] binary = value.b().asByteArray();
+                    out.writeByte('B');
+                    out.writeInt(binary.length);
+                    out.write(binary);
+                } else {
+                    throw new IllegalArgumentException("Unsupported key attribute " + entry.getKey() + ": " + value);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    @NonNull
+    private static Map<String, AttributeValue> decode(@NonNull String token) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != TOKEN_VERSION) {
+                throw new IllegalArgumentException("Unsupported scroll position token: " + token);
+            }
+            int size = in.readUnsignedShort();
+            Map<String, AttributeValue> key = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                String name = in.readUTF();
+                byte type = in.readByte();
+                AttributeValue value = switch (type) {
+                    case 'S' -> AttributeValue.fromS(in.readUTF());
+                    case 'N' -> AttributeValue.fromN(in.readUTF());
+                    case 'B' -> {
+                        int length = in.readInt();
+                        // The length comes from the client, so check it before allocating
+                        if (length < 0 || length > MAX_KEY_ATTRIBUTE_LENGTH || length > in.available()) {
+                            throw new IllegalArgumentException("Invalid scroll position token: " + token);
+                        }
+                        byte[] binary = new byte[length];
+                        in.readFully(binary);
+                        yield AttributeValue.fromB(SdkBytes.fromByteArray(binary));
+                    }
+                    default -> throw new IllegalArgumentException("Invalid scroll position token: " + token);
+                };
+                key.put(name, value);
+            }
+            return key;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid scroll position token: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.exception;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exception thrown when batch load operations fail after exhausting retries.
+ *
+ * This exception provides access to:
+ * <ul>
+ * <li>Keys that DynamoDB kept returning as unprocessed</li>
+ * <li>Number of retry attempts that were made</li>
+ * <li>Original exception if one was thrown (vs. keys just being unprocessed)</li>
+ * </ul>
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+@SuppressWarnings("serial")
+public class BatchLoadException extends DataAccessException {
+
+    /** List of keys that could not be loaded */
+    @NonNull
+    private final List<Key> unprocessedKeys;
+    /** Number of retry attempts made */
+    private final int retriesAttempted;
+
+    /**
+     * Creates a BatchLoadException with full context about the failure.
+     * @param msg Error message describing the failure
+     * @param unprocessedKeys List of keys that could not be loaded
+     * @param retriesAttempted Number of retry attempts that were made
+     * @param cause Original exception if one was thrown, or null if keys were just unprocessed
+     */
+    public BatchLoadException(String msg, @Nullable List<Key> unprocessedKeys, int retriesAttempted, @Nullable Throwable cause) {
+        super(msg, cause);
+        this.unprocessedKeys = unprocessedKeys != null
+            ? Collections.unmodifiableList(unprocessedKeys)
+            : Collections.emptyList();
+        this.retriesAttempted = retriesAttempted;
+    }
+
+    /**
+     * Returns the keys that remained unprocessed after all retries.
+     * @return Unmodifiable list of unprocessed keys
+     */
+    @NonNull
+    public List<Key> getUnprocessedKeys() {
+        return unprocessedKeys;
+    }
+
+    /**
+     * Returns the number of retry attempts that were made before giving up.
+     * @return Number of retries attempted
+     */
+    public int getRetriesAttempted() {
+        return retriesAttempted;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return super.toString() + "; unprocessedCount=" + unprocessedKeys.size() + "; retriesAttempted=" + retriesAttempted;
+    }
+}
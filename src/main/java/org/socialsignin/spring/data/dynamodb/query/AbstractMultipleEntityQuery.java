@@ -16,10 +16,30 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.PageTokenCache;
+import org.socialsignin.spring.data.dynamodb.core.PrefetchingPageIterator;
+import org.socialsignin.spring.data.dynamodb.core.QueryResultCache;
+import org.socialsignin.spring.data.dynamodb.domain.DynamoDBScrollPositions;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Base abstract class for queries that return multiple entities.
@@ -37,15 +57,183 @@ public abstract class AbstractMultipleEntityQuery<T> extends AbstractDynamicQuer
         super(dynamoDBOperations, clazz);
     }
 
+    /**
+     * The cache region the results of this query are cached in, or {@code null} if they are not cached.
+     */
+    @Nullable
+    protected QueryResultCache.Region resultCache;
+
+    /**
+     * Caches the results of this query in the given region.
+     * @param resultCache the cache region, or {@code null} to not cache the results
+     */
+    public void setResultCache(@Nullable QueryResultCache.Region resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * The cache of page checkpoints used by {@link #getResultPage(long, int)}, or {@code null} if pages are read from
+     * the start.
+     */
+    @Nullable
+    protected PageTokenCache pageTokenCache;
+
+    /**
+     * Lets offset-based pages of this query continue at checkpoints of the given cache.
+     * @param pageTokenCache the page token cache, or {@code null} to read every page from the start
+     */
+    public void setPageTokenCache(@Nullable PageTokenCache pageTokenCache) {
+        this.pageTokenCache = pageTokenCache;
+    }
+
+    /**
+     * Gets the canonical form of the request of this query for the page token cache, without the options that don't
+     * affect which results are read in which order.
+     * @return the request, or {@code null} if this query can't be read page by page
+     */
+    @Nullable
+    protected Object getPageTokenKey() {
+        return null;
+    }
+
+    /**
+     * Whether {@link #getResultPage(long, int)} can read pages of this query. Queries with cached results are not
+     * read page by page, as their result list doesn't cost any reads.
+     * @return true if the results of this query can be read page by page
+     */
+    public boolean supportsResultPages() {
+        return resultCache == null && getPageTokenKey() != null;
+    }
+
+    /**
+     * Reads at most {@code pageSize} results from the given offset on, reading no further than the end of the page.
+     * <p>
+     * Each request is limited to the results still to skip or to read, so requests end at the offsets of pages. If a
+     * page token cache is set, reading starts at its closest checkpoint instead of the first result, and the
+     * {@code LastEvaluatedKey}s of the requests become checkpoints for reading the following pages.
+     * @param offset the offset of the first result
+     * @param pageSize the maximum number of results (must be > 0)
+     * @return the results, empty if the offset is beyond the results, with the {@code LastEvaluatedKey} after them,
+     *         which is {@code null} if there are no more results
+     * @throws IllegalStateException if {@link #supportsResultPages()} is false
+     */
+    @NonNull
+    public Page<T> getResultPage(long offset, int pageSize) {
+        Assert.isTrue(pageSize > 0, "pageSize must be > 0");
+        Object pageTokenKey = getPageTokenKey();
+        Assert.state(resultCache == null && pageTokenKey != null, "This query can't be read page by page");
+
+        PageTokenCache.Cursor cursor = pageTokenCache != null ? pageTokenCache.seek(clazz, pageTokenKey, offset) : null;
+        long position = cursor != null ? cursor.getOffset() : 0;
+        Map<String, AttributeValue> exclusiveStartKey = cursor != null ? cursor.getExclusiveStartKey() : null;
+        boolean exhausted = cursor != null && cursor.isExhausted();
+        List<T> results = new ArrayList<>();
+        while (!exhausted && results.size() < pageSize) {
+            long toSkip = offset - position;
+            int limit = toSkip > 0 ? (int) Math.min(toSkip, Integer.MAX_VALUE) : pageSize - results.size();
+            Page<T> page = readPage(exclusiveStartKey, limit);
+            List<T> items = page.items();
+            if (toSkip < items.size()) {
+                results.addAll(items.subList((int) Math.max(toSkip, 0), items.size()));
+            }
+            position += items.size();
+            exclusiveStartKey = page.lastEvaluatedKey();
+            exhausted = exclusiveStartKey == null || exclusiveStartKey.isEmpty();
+            if (cursor != null) {
+                cursor.advance(items.size(), exclusiveStartKey);
+            }
+        }
+        List<T> pageResults = results.size() > pageSize ? new ArrayList<>(results.subList(0, pageSize)) : results;
+        return Page.create(pageResults, exhausted ? null : exclusiveStartKey);
+    }
+
+    /**
+     * Reads the window of at most {@code size} results following the given position.
+     * <p>
+     * Reading resumes at the {@code ExclusiveStartKey} the position encodes, so every window costs the same no matter
+     * how deep it is. Each request is limited to the results still missing in the window, so the window ends at a
+     * {@code LastEvaluatedKey} and the next window neither re-reads nor skips results. Only the position after the
+     * last result of a window is known.
+     * @param scrollPosition the position to resume at, see {@link DynamoDBScrollPositions}
+     * @param size the maximum number of results (must be > 0)
+     * @return the window of results
+     */
+    @NonNull
+    public Window<T> getResultWindow(@NonNull ScrollPosition scrollPosition, int size) {
+        Assert.isTrue(size > 0, "size must be > 0");
+        Map<String, AttributeValue> exclusiveStartKey = DynamoDBScrollPositions.exclusiveStartKey(scrollPosition);
+        List<T> results = new ArrayList<>();
+        do {
+            Page<T> page = readPage(exclusiveStartKey, size - results.size());
+            results.addAll(page.items());
+            exclusiveStartKey = page.lastEvaluatedKey();
+        } while (results.size() < size && exclusiveStartKey != null && !exclusiveStartKey.isEmpty());
+
+        Map<String, AttributeValue> lastEvaluatedKey = exclusiveStartKey;
+        boolean hasNext = lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty();
+        int lastIndex = results.size() - 1;
+        return Window.from(results, index -> {
+            if (index != lastIndex) {
+                throw new UnsupportedOperationException("Only the position after the last result of a window is known");
+            }
+            return DynamoDBScrollPositions.after(lastEvaluatedKey);
+        }, hasNext);
+    }
+
+    /**
+     * Reads a single page of results, as used by {@link #getResultWindow(ScrollPosition, int)}.
+     * @param exclusiveStartKey the key to resume after, or {@code null} to start at the beginning
+     * @param limit the maximum number of items to evaluate
+     * @return the page including its {@code LastEvaluatedKey}
+     * @throws UnsupportedOperationException if this query can't be read page by page
+     */
+    @NonNull
+    protected Page<T> readPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support scrolling");
+    }
+
+    /**
+     * Streams the items of the given pages, fetching the next page only once the items of the previous one were
+     * consumed. Closing the stream stops fetching and releases the current page.
+     * @param pages the pages to stream, fetched lazily
+     * @param limit the maximum number of items, or {@code null} for all items
+     * @param <T> the entity type
+     * @return the stream of items
+     */
+    @NonNull
+    protected static <T> Stream<T> streamItems(@NonNull PageIterable<T> pages, @Nullable Integer limit) {
+        PageItemIterator<T> iterator = new PageItemIterator<>(pages.iterator());
+        Stream<T> items = StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+        return limit != null ? items.limit(limit) : items;
+    }
+
+    /**
+     * Combines the limit of a request with the maximum number of results a query reads beyond it.
+     * @param limit the limit of the request, or {@code null}
+     * @param maxResults the maximum number of results, or {@code null}
+     * @return the smaller of both, or {@code null} if neither is set
+     * @since 8.0.1
+     */
+    @Nullable
+    protected static Integer minLimit(@Nullable Integer limit, @Nullable Integer maxResults) {
+        if (limit == null) {
+            return maxResults;
+        }
+        return maxResults != null ? Math.min(limit, maxResults) : limit;
+    }
+
     @Nullable
     @Override
     public T getSingleResult() {
-        List<T> results = getResultList();
-        if (results != null && results.size() > 1) {
+        // A second result is enough to tell that the result isn't unique
+        List<T> results = getFirstResults(2);
+        if (results.size() > 1) {
             throw new IncorrectResultSizeDataAccessException("result returns more than one elements", 1,
                     results.size());
         }
-        if (results == null || results.isEmpty()) {
+        if (results.isEmpty()) {
             // return null here as Spring will convert that to Optional if nessassary
             // https://jira.spring.io/browse/DATACMNS-483
             return null;
@@ -53,4 +241,67 @@ public abstract class AbstractMultipleEntityQuery<T> extends AbstractDynamicQuer
             return results.getFirst();
         }
     }
+
+    @Override
+    public boolean exists() {
+        return !getFirstResults(1).isEmpty();
+    }
+
+    /**
+     * Gets the first results of the query. Subclasses override this to stop reading pages once enough results were
+     * found; the default implementation reads all results.
+     * @param maxResults the maximum number of results
+     * @return up to {@code maxResults} results
+     * @since 8.0.1
+     */
+    @NonNull
+    protected List<T> getFirstResults(int maxResults) {
+        List<T> results = getResultList();
+        if (results == null) {
+            return List.of();
+        }
+        return results.size() > maxResults ? results.subList(0, maxResults) : results;
+    }
+
+    /**
+     * Iterates over the items of pages, requesting the next page once the items of the current one are exhausted.
+     */
+    private static final class PageItemIterator<T> implements Iterator<T> {
+
+        @Nullable
+        private Iterator<Page<T>> pages;
+        @NonNull
+        private Iterator<T> items = Collections.emptyIterator();
+
+        private PageItemIterator(@NonNull Iterator<Page<T>> pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!items.hasNext()) {
+                if (pages == null || !pages.hasNext()) {
+                    return false;
+                }
+                items = pages.next().items().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        private void close() {
+            if (pages instanceof PrefetchingPageIterator<?> prefetching) {
+                prefetching.close();
+            }
+            pages = null;
+            items = Collections.emptyIterator();
+        }
+    }
 }
@@ -15,6 +15,13 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Base abstract query class providing common query functionality for DynamoDB operations.
  * @param <T> the entity type
@@ -38,6 +45,11 @@ public abstract class AbstractQuery<T> implements Query<T> {
      */
     protected boolean scanCountEnabled = false;
 
+    /**
+     * Number of segments a scan executing this query is split into.
+     */
+    protected int scanSegments = 1;
+
     @Override
     public boolean isScanCountEnabled() {
         return scanCountEnabled;
@@ -58,4 +70,34 @@ public abstract class AbstractQuery<T> implements Query<T> {
         return scanEnabled;
     }
 
+    @Override
+    public void setScanSegments(int scanSegments) {
+        this.scanSegments = scanSegments;
+    }
+
+    @Override
+    public int getScanSegments() {
+        return scanSegments;
+    }
+
+    @NonNull
+    @Override
+    public Stream<T> getResultStream() {
+        List<T> results = getResultList();
+        return results != null ? results.stream() : Stream.empty();
+    }
+
+    @Override
+    public boolean exists() {
+        try (Stream<T> results = getResultStream()) {
+            return results.findFirst().isPresent();
+        }
+    }
+
+    @Override
+    public SdkPublisher<T> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support non-blocking execution");
+    }
+
 }
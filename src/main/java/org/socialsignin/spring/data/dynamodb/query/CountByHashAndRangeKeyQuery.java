@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
 import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
 
 /**
  * Counts entities in DynamoDB matching hash and range key query criteria.
@@ -50,4 +53,11 @@ public class CountByHashAndRangeKeyQuery<T> extends AbstractSingleEntityQuery<Lo
         return dynamoDBOperations.load(entityClass, hashKey, rangeKey) == null ? 0L : 1L;
     }
 
+    @NonNull
+    @Override
+    public SdkPublisher<Long> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        return FuturePublisher.of(() -> asyncOperations.load(entityClass, hashKey, rangeKey)
+                .thenApply(entity -> entity == null ? 0L : 1L));
+    }
+
 }
@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
 import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
 
 /**
  * Counts entities in DynamoDB matching a hash key query.
@@ -46,4 +49,11 @@ public class CountByHashKeyQuery<T> extends AbstractSingleEntityQuery<Long> impl
         return dynamoDBOperations.load(entityClass, hashKey) == null ? 0L : 1L;
     }
 
+    @NonNull
+    @Override
+    public SdkPublisher<Long> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        return FuturePublisher.of(() -> asyncOperations.load(entityClass, hashKey)
+                .thenApply(entity -> entity == null ? 0L : 1L));
+    }
+
 }
@@ -15,14 +15,24 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
 
 /**
  * Executes a DynamoDB query request that returns multiple entities.
@@ -32,6 +42,8 @@ public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQu
 
     private final DynamoDBOperations dynamoDBOperations;
     private final QueryRequest queryRequest;
+    @Nullable
+    private final Integer maxResults;
 
     /**
      * Creates a new query for executing a DynamoDB query request.
@@ -41,14 +53,127 @@ public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQu
      */
     public MultipleEntityQueryRequestQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
             QueryRequest queryRequest) {
+        this(dynamoDBOperations, clazz, queryRequest, null);
+    }
+
+    /**
+     * Creates a new query for executing a DynamoDB query request that stops reading pages once it found the given
+     * number of results. Unlike the limit of the request, this doesn't restrict the number of items a single request
+     * evaluates, which matters when a filter drops most of them.
+     * @param dynamoDBOperations the DynamoDB operations instance
+     * @param clazz the entity class
+     * @param queryRequest the query request to execute
+     * @param maxResults the maximum number of results, or {@code null} to only apply the limit of the request
+     * @since 8.0.1
+     */
+    public MultipleEntityQueryRequestQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+            QueryRequest queryRequest, @Nullable Integer maxResults) {
         super(null, clazz);
         this.queryRequest = queryRequest;
+        this.maxResults = maxResults;
         this.dynamoDBOperations = dynamoDBOperations;
     }
 
     @NonNull
     @Override
     public List<T> getResultList() {
+        if (resultCache != null) {
+            Object key = maxResults != null ? List.of(cacheKey(), maxResults) : cacheKey();
+            return resultCache.getOrLoad(clazz, key, this::queryResultList);
+        }
+        return queryResultList();
+    }
+
+    @NonNull
+    @Override
+    public Stream<T> getResultStream() {
+        if (resultCache != null) {
+            return getResultList().stream();
+        }
+        // Same limit semantics as getResultList(), but pages are only fetched as the stream is consumed. Without a
+        // limit the stream is expected to read on, so the following pages may be prefetched
+        PageIterable<T> pages = dynamoDBOperations.query(clazz, queryRequest);
+        Integer limit = resultLimit();
+        return streamItems(limit == null ? dynamoDBOperations.prefetching(pages) : pages, limit);
+    }
+
+    @NonNull
+    @Override
+    protected List<T> getFirstResults(int maxResults) {
+        if (resultCache != null) {
+            return super.getFirstResults(maxResults);
+        }
+        // Pages are read until enough results were found, without prefetching the ones after them
+        try (Stream<T> results = streamItems(dynamoDBOperations.query(clazz, queryRequest), resultLimit())) {
+            return results.limit(maxResults).toList();
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        if (resultCache != null) {
+            return !getResultList().isEmpty();
+        }
+        try (Stream<T> results = streamItems(dynamoDBOperations.query(clazz, existsRequest()), null)) {
+            return results.findFirst().isPresent();
+        }
+    }
+
+    @NonNull
+    private QueryRequest existsRequest() {
+        // The key attributes are enough to tell that an item matches. The keys of the table are projected into
+        // every index, so this also holds for index queries
+        Map<String, String> names = new HashMap<>(queryRequest.expressionAttributeNames());
+        StringJoiner projection = new StringJoiner(", ");
+        for (String attributeName : dynamoDBOperations.getTableModel(clazz).tableMetadata().primaryKeys()) {
+            String placeholder = "#key" + names.size();
+            names.put(placeholder, attributeName);
+            projection.add(placeholder);
+        }
+        QueryRequest.Builder request = queryRequest.toBuilder()
+                .select(Select.SPECIFIC_ATTRIBUTES)
+                .projectionExpression(projection.toString())
+                .expressionAttributeNames(names);
+        if (queryRequest.filterExpression() == null) {
+            // Without filter every item read matches, so reading one is enough
+            request.limit(1);
+        }
+        return request.build();
+    }
+
+    @Nullable
+    @Override
+    protected Object getPageTokenKey() {
+        // The limit of the request restricts the total number of results, which pages don't keep track of
+        return resultLimit() == null ? cacheKey() : null;
+    }
+
+    @Nullable
+    private Integer resultLimit() {
+        return minLimit(queryRequest.limit(), maxResults);
+    }
+
+    @NonNull
+    private QueryRequest cacheKey() {
+        // Request options that don't affect the results are not part of the cache key
+        return queryRequest.toBuilder()
+                .overrideConfiguration((AwsRequestOverrideConfiguration) null)
+                .returnConsumedCapacity((String) null)
+                .build();
+    }
+
+    @NonNull
+    @Override
+    protected Page<T> readPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+        QueryRequest pageRequest = queryRequest.toBuilder()
+                .exclusiveStartKey(exclusiveStartKey)
+                .limit(limit)
+                .build();
+        return dynamoDBOperations.query(clazz, pageRequest).iterator().next();
+    }
+
+    @NonNull
+    private List<T> queryResultList() {
         // SDK v2: query() returns PageIterable<T>, convert to List<T>
         PageIterable<T> pageIterable = dynamoDBOperations.query(clazz, queryRequest);
         List<T> results = new ArrayList<>();
@@ -57,23 +182,20 @@ public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQu
         // DynamoDB's limit parameter specifies the max number of items to EXAMINE (before filtering),
         // not the number to RETURN (after filtering). When a filterExpression is present, multiple
         // pages may be returned, each with items that passed the filter. We need to stop collecting
-        // once we reach the user-specified limit.
-        Integer userLimit = queryRequest.limit();
+        // once we reach the user-specified limit. Pages are fetched lazily, so breaking out of the loop
+        // also stops further query requests.
+        Integer userLimit = resultLimit();
 
         for (Page<T> page : pageIterable) {
-            if (userLimit != null && results.size() >= userLimit) {
-                break; // Stop collecting once we've reached the limit
-            }
-
             if (userLimit != null) {
                 // Add only as many items as needed to reach the limit
                 int remainingSlots = userLimit - results.size();
                 List<T> pageItems = page.items();
-                if (pageItems.size() <= remainingSlots) {
+                if (pageItems.size() < remainingSlots) {
                     results.addAll(pageItems);
                 } else {
                     results.addAll(pageItems.subList(0, remainingSlots));
-                    break;
+                    break; // Stop before the next page is requested
                 }
             } else {
                 // No limit specified, add all items
@@ -83,4 +205,13 @@ public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQu
         return results;
     }
 
+    @NonNull
+    @Override
+    public SdkPublisher<T> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        SdkPublisher<T> results = asyncOperations.queryPublisher(clazz, queryRequest);
+        // Same limit semantics as getResultList(): stop once the user-specified number of items was emitted
+        Integer userLimit = resultLimit();
+        return userLimit != null ? results.limit(userLimit) : results;
+    }
+
 }
@@ -15,16 +15,22 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -34,6 +40,8 @@ import java.util.stream.StreamSupport;
 public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntityQuery<T> {
 
     private final ScanEnhancedRequest scanRequest;
+    @Nullable
+    private final Integer maxResults;
 
     /**
      * Creates a new query for executing a DynamoDB scan request.
@@ -43,8 +51,23 @@ public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntity
      */
     public MultipleEntityScanExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
             ScanEnhancedRequest scanRequest) {
+        this(dynamoDBOperations, clazz, scanRequest, null);
+    }
+
+    /**
+     * Creates a new query for executing a DynamoDB scan request that stops reading pages once it found the given
+     * number of results, without restricting the number of items a single request evaluates.
+     * @param dynamoDBOperations the DynamoDB operations instance
+     * @param clazz the entity class
+     * @param scanRequest the scan request to execute
+     * @param maxResults the maximum number of results, or {@code null} to only apply the limit of the request
+     * @since 8.0.1
+     */
+    public MultipleEntityScanExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+            ScanEnhancedRequest scanRequest, @Nullable Integer maxResults) {
         super(dynamoDBOperations, clazz);
         this.scanRequest = scanRequest;
+        this.maxResults = maxResults;
     }
 
     @NonNull
@@ -52,6 +75,93 @@ public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntity
     public List<T> getResultList() {
         assertScanEnabled(isScanEnabled());
 
+        if (resultCache != null) {
+            Object key = maxResults != null ? List.of(scanRequest, maxResults) : scanRequest;
+            return resultCache.getOrLoad(clazz, key, this::scanResultList);
+        }
+        return scanResultList();
+    }
+
+    @NonNull
+    @Override
+    public Stream<T> getResultStream() {
+        assertScanEnabled(isScanEnabled());
+
+        if (resultCache != null) {
+            return getResultList().stream();
+        }
+        // Segments are not scanned in parallel here, as that would read the whole table into memory. Same limit
+        // semantics as getResultList(), but pages are only fetched as the stream is consumed. Without a limit the
+        // stream is expected to read on, so the following pages may be prefetched
+        PageIterable<T> pages = dynamoDBOperations.scan(clazz, scanRequest);
+        Integer limit = resultLimit();
+        return streamItems(limit == null ? dynamoDBOperations.prefetching(pages) : pages, limit);
+    }
+
+    @NonNull
+    @Override
+    protected List<T> getFirstResults(int maxResults) {
+        assertScanEnabled(isScanEnabled());
+
+        if (resultCache != null) {
+            return super.getFirstResults(maxResults);
+        }
+        // Pages are scanned until enough results were found, without prefetching the ones after them
+        try (Stream<T> results = streamItems(dynamoDBOperations.scan(clazz, scanRequest), resultLimit())) {
+            return results.limit(maxResults).toList();
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        assertScanEnabled(isScanEnabled());
+
+        if (resultCache != null) {
+            return !getResultList().isEmpty();
+        }
+        // The key attributes are enough to tell that an item matches
+        ScanEnhancedRequest.Builder existsRequest = scanRequest.toBuilder()
+                .attributesToProject(dynamoDBOperations.getTableModel(clazz).tableMetadata().primaryKeys());
+        if (scanRequest.filterExpression() == null) {
+            // Without filter every item read matches, so reading one is enough
+            existsRequest.limit(1);
+        }
+        try (Stream<T> results = streamItems(dynamoDBOperations.scan(clazz, existsRequest.build()), null)) {
+            return results.findFirst().isPresent();
+        }
+    }
+
+    @Nullable
+    @Override
+    protected Object getPageTokenKey() {
+        // The limit of the request restricts the total number of results, which pages don't keep track of
+        return resultLimit() == null ? scanRequest : null;
+    }
+
+    @Nullable
+    private Integer resultLimit() {
+        return minLimit(scanRequest.limit(), maxResults);
+    }
+
+    @NonNull
+    @Override
+    protected Page<T> readPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+        assertScanEnabled(isScanEnabled());
+
+        ScanEnhancedRequest pageRequest = scanRequest.toBuilder()
+                .exclusiveStartKey(exclusiveStartKey)
+                .limit(limit)
+                .build();
+        return dynamoDBOperations.scan(clazz, pageRequest).iterator().next();
+    }
+
+    @NonNull
+    private List<T> scanResultList() {
+        // Without limit the whole table is read anyway, so its segments can be scanned in parallel
+        if (scanSegments > 1 && resultLimit() == null) {
+            return dynamoDBOperations.parallelScan(clazz, scanRequest, scanSegments);
+        }
+
         // SDK v2 returns PageIterable, convert to List
         PageIterable<T> pageIterable = dynamoDBOperations.scan(clazz, scanRequest);
 
@@ -59,8 +169,9 @@ public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntity
         // DynamoDB's limit parameter specifies the max number of items to EXAMINE (before filtering),
         // not the number to RETURN (after filtering). When a filterExpression is present, multiple
         // pages may be returned, each with items that passed the filter. We need to stop collecting
-        // once we reach the user-specified limit.
-        Integer userLimit = scanRequest.limit();
+        // once we reach the user-specified limit. Pages are fetched lazily, so breaking out of the loop
+        // also stops further scan requests.
+        Integer userLimit = resultLimit();
 
         if (userLimit == null) {
             // No limit specified, collect all items
@@ -71,23 +182,30 @@ public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntity
         // Limit specified, collect up to the limit
         List<T> results = new ArrayList<>();
         for (Page<T> page : pageIterable) {
-            if (results.size() >= userLimit) {
-                break; // Stop collecting once we've reached the limit
-            }
-
             // Add only as many items as needed to reach the limit
             int remainingSlots = userLimit - results.size();
             List<T> pageItems = page.items();
-            if (pageItems.size() <= remainingSlots) {
+            if (pageItems.size() < remainingSlots) {
                 results.addAll(pageItems);
             } else {
                 results.addAll(pageItems.subList(0, remainingSlots));
-                break;
+                break; // Stop before the next page is requested
             }
         }
         return results;
     }
 
+    @NonNull
+    @Override
+    public SdkPublisher<T> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        assertScanEnabled(isScanEnabled());
+
+        SdkPublisher<T> results = asyncOperations.scanPublisher(clazz, scanRequest).items();
+        // Same limit semantics as getResultList(): stop once the user-specified number of items was emitted
+        Integer userLimit = resultLimit();
+        return userLimit != null ? results.limit(userLimit) : results;
+    }
+
     /**
      * Validates that scan operations are enabled for this query.
      * @param scanEnabled whether scan is enabled
@@ -15,9 +15,13 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import software.amazon.awssdk.core.async.SdkPublisher;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface representing a query that can be executed against DynamoDB.
@@ -35,6 +39,17 @@ public interface Query<T> {
     @Nullable
     List<T> getResultList();
 
+    /**
+     * Execute a SELECT query and stream its results.
+     * <p>
+     * Queries reading multiple pages fetch the next page only once the results of the previous one were consumed,
+     * so the results don't have to fit into memory. The stream should be closed after use, which stops fetching
+     * further pages.
+     * @return a stream of the results
+     */
+    @NonNull
+    Stream<T> getResultStream();
+
     /**
      * Execute a SELECT query that returns a single result.
      * @return the result
@@ -42,6 +57,15 @@ public interface Query<T> {
     @Nullable
     T getSingleResult();
 
+    /**
+     * Execute a SELECT query and check whether it has any result.
+     * <p>
+     * Queries reading multiple pages stop at the first result and may read only the key attributes of the items.
+     * @return true if the query has at least one result
+     * @since 8.0.1
+     */
+    boolean exists();
+
     /**
      * Enables or disables scan operations for this query.
      * @param scanEnabled true to enable scan operations, false otherwise
@@ -66,4 +90,27 @@ public interface Query<T> {
      */
     boolean isScanEnabled();
 
+    /**
+     * Sets the number of segments a scan executing this query is split into and scanned in parallel.
+     * @param scanSegments the number of segments, 1 scans sequentially
+     */
+    void setScanSegments(int scanSegments);
+
+    /**
+     * Gets the number of segments a scan executing this query is split into.
+     * @return the number of segments, 1 scans sequentially
+     */
+    int getScanSegments();
+
+    /**
+     * Executes the query without blocking and publishes its results.
+     * <p>
+     * Results are fetched from DynamoDB as downstream demand requires them.
+     * @param asyncOperations the asynchronous operations used to execute the query
+     * @return a publisher of the results
+     * @throws UnsupportedOperationException
+     *             if the query has no non-blocking execution
+     */
+    SdkPublisher<T> getResultPublisher(DynamoDBAsyncOperations asyncOperations);
+
 }
@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
 import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 
 /**
@@ -51,4 +54,10 @@ public class QueryExpressionCountQuery<T> extends AbstractSingleEntityQuery<Long
         return (long) dynamoDBOperations.count(domainClass, queryRequest);
     }
 
+    @NonNull
+    @Override
+    public SdkPublisher<Long> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        return FuturePublisher.of(() -> asyncOperations.count(domainClass, queryRequest).thenApply(Integer::longValue));
+    }
+
 }
@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
 import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 
 /**
@@ -45,4 +48,10 @@ public class QueryRequestCountQuery extends AbstractSingleEntityQuery<Long> {
         return (long) dynamoDBOperations.count(clazz, queryRequest);
     }
 
+    @NonNull
+    @Override
+    public SdkPublisher<Long> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        return FuturePublisher.of(() -> asyncOperations.count(clazz, queryRequest).thenApply(Integer::longValue));
+    }
+
 }
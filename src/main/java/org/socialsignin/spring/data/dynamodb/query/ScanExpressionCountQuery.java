@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
 import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import org.springframework.util.Assert;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 
@@ -52,9 +55,20 @@ public class ScanExpressionCountQuery<T> extends AbstractSingleEntityQuery<Long>
     @Override
     public Long getSingleResult() {
         assertScanCountEnabled(isScanCountEnabled());
+        if (scanSegments > 1) {
+            return (long) dynamoDBOperations.parallelCount(domainClass, scanExpression, scanSegments);
+        }
         return (long) dynamoDBOperations.count(domainClass, scanExpression);
     }
 
+    @NonNull
+    @Override
+    public SdkPublisher<Long> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        assertScanCountEnabled(isScanCountEnabled());
+        return FuturePublisher.of(() -> asyncOperations.count(domainClass, scanExpression)
+                .thenApply(Integer::longValue));
+    }
+
     /**
      * Validates that scan count operations are enabled for this query.
      * @param scanCountEnabled whether scan count is enabled
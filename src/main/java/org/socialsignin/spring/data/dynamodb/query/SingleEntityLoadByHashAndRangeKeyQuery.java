@@ -15,7 +15,12 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+import java.util.List;
 
 /**
  * Loads a single entity from DynamoDB using hash and range keys.
@@ -26,6 +31,7 @@ public class SingleEntityLoadByHashAndRangeKeyQuery<T> extends AbstractSingleEnt
 
     private final Object hashKey;
     private final Object rangeKey;
+    private final List<String> attributesToProject;
 
     /**
      * Creates a new query for loading an entity by hash and range key.
@@ -36,14 +42,37 @@ public class SingleEntityLoadByHashAndRangeKeyQuery<T> extends AbstractSingleEnt
      */
     public SingleEntityLoadByHashAndRangeKeyQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz, Object hashKey,
             Object rangeKey) {
+        this(dynamoDBOperations, clazz, hashKey, rangeKey, List.of());
+    }
+
+    /**
+     * Creates a new query for loading only some attributes of an entity by hash and range key.
+     * @param dynamoDBOperations the DynamoDB operations instance
+     * @param clazz the entity class
+     * @param hashKey the hash key value
+     * @param rangeKey the range key value
+     * @param attributesToProject the attributes to read, or an empty list to read the whole item
+     * @since 8.0.1
+     */
+    public SingleEntityLoadByHashAndRangeKeyQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz, Object hashKey,
+            Object rangeKey, List<String> attributesToProject) {
         super(dynamoDBOperations, clazz);
         this.hashKey = hashKey;
         this.rangeKey = rangeKey;
+        this.attributesToProject = attributesToProject;
     }
 
     @Override
     public T getSingleResult() {
-        return dynamoDBOperations.load(clazz, hashKey, rangeKey);
+        if (attributesToProject.isEmpty()) {
+            return dynamoDBOperations.load(clazz, hashKey, rangeKey);
+        }
+        return dynamoDBOperations.load(clazz, hashKey, rangeKey, attributesToProject);
+    }
+
+    @Override
+    public SdkPublisher<T> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        return FuturePublisher.of(() -> asyncOperations.load(clazz, hashKey, rangeKey));
     }
 
 }
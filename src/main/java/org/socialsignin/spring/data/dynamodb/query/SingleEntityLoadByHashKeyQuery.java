@@ -15,7 +15,12 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+import java.util.List;
 
 /**
  * Loads a single entity from DynamoDB using only a hash key.
@@ -25,6 +30,7 @@ import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 public class SingleEntityLoadByHashKeyQuery<T> extends AbstractSingleEntityQuery<T> implements Query<T> {
 
     private final Object hashKey;
+    private final List<String> attributesToProject;
 
     /**
      * Creates a new query for loading an entity by hash key.
@@ -33,13 +39,35 @@ public class SingleEntityLoadByHashKeyQuery<T> extends AbstractSingleEntityQuery
      * @param hashKey the hash key value
      */
     public SingleEntityLoadByHashKeyQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz, Object hashKey) {
+        this(dynamoDBOperations, clazz, hashKey, List.of());
+    }
+
+    /**
+     * Creates a new query for loading only some attributes of an entity by hash key.
+     * @param dynamoDBOperations the DynamoDB operations instance
+     * @param clazz the entity class
+     * @param hashKey the hash key value
+     * @param attributesToProject the attributes to read, or an empty list to read the whole item
+     * @since 8.0.1
+     */
+    public SingleEntityLoadByHashKeyQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz, Object hashKey,
+            List<String> attributesToProject) {
         super(dynamoDBOperations, clazz);
         this.hashKey = hashKey;
+        this.attributesToProject = attributesToProject;
     }
 
     @Override
     public T getSingleResult() {
-        return dynamoDBOperations.load(clazz, hashKey);
+        if (attributesToProject.isEmpty()) {
+            return dynamoDBOperations.load(clazz, hashKey);
+        }
+        return dynamoDBOperations.load(clazz, hashKey, null, attributesToProject);
+    }
+
+    @Override
+    public SdkPublisher<T> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        return FuturePublisher.of(() -> asyncOperations.load(clazz, hashKey));
     }
 
 }
@@ -15,10 +15,14 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
 import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A static query implementation that returns a pre-computed result.
@@ -50,4 +54,10 @@ public class StaticQuery<T> extends AbstractQuery<T> {
     public T getSingleResult() {
         return result;
     }
+
+    @NonNull
+    @Override
+    public SdkPublisher<T> getResultPublisher(DynamoDBAsyncOperations asyncOperations) {
+        return FuturePublisher.of(() -> CompletableFuture.completedFuture(result));
+    }
 }
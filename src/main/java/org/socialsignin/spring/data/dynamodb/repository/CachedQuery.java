@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.*;
+
+/**
+ * Caches the results of a DynamoDB repository query method in-process.
+ * <p>
+ * Results are cached per distinct request, i.e. per combination of table, index, expressions, values, limit and
+ * direction the method arguments lead to. Any save or delete through the
+ * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate} evicts the cached results of the affected table,
+ * while writes by other applications become visible once the results expire.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ * @see org.socialsignin.spring.data.dynamodb.core.QueryResultCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CachedQuery {
+
+    /**
+     * The time results stay cached, in milliseconds.
+     * @return the TTL
+     */
+    long ttlMs() default 60_000L;
+
+    /**
+     * The maximum number of distinct requests whose results are cached, the least recently used are evicted first.
+     * @return the maximum number of entries
+     */
+    int maxEntries() default 1_000;
+}
@@ -18,6 +18,9 @@ package org.socialsignin.spring.data.dynamodb.repository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * DynamoDB specific extension of {@link org.springframework.data.repository.Repository}.
  * @param <T> the entity type
@@ -27,4 +30,20 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface DynamoDBCrudRepository<T, ID> extends CrudRepository<T, ID> {
 
+    /**
+     * Streams all entities of the table.
+     * <p>
+     * Unlike {@link #findAll()}, the table is scanned page by page as the stream is consumed, so it doesn't have to
+     * fit into memory; the segments configured with {@link EnableScan#segments()} are therefore not scanned in
+     * parallel. Requires the same {@link EnableScan} permission as {@code findAll()}. The stream should be closed
+     * after use, e.g. with try-with-resources, which stops fetching further pages.
+     * <p>
+     * The default implementation streams the result of {@link #findAll()}, so that repositories implemented before
+     * this method was added keep compiling; it reads all entities up front.
+     * @return the stream of all entities
+     * @since 8.0.1
+     */
+    default Stream<T> streamAll() {
+        return StreamSupport.stream(findAll().spliterator(), false);
+    }
 }
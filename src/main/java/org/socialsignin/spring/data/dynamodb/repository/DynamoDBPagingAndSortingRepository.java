@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository;
 
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -27,4 +29,23 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 @NoRepositoryBean
 public interface DynamoDBPagingAndSortingRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
 
+    /**
+     * Scans the window of at most {@code size} entities following the given position.
+     * <p>
+     * Unlike {@link #findAll(org.springframework.data.domain.Pageable)}, which reads and discards all entities before
+     * the requested page, every window costs the same: the scan resumes at the {@code ExclusiveStartKey} encoded in
+     * the position, see {@link org.socialsignin.spring.data.dynamodb.domain.DynamoDBScrollPositions}. Requires the
+     * same {@link EnableScan} permission as {@code findAll(Pageable)}.
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}, so that repositories implemented
+     * before this method was added keep compiling.
+     * @param scrollPosition the position to resume at, {@link ScrollPosition#keyset()} for the first window
+     * @param size the maximum number of entities in the window (must be > 0)
+     * @return the window of entities
+     * @throws UnsupportedOperationException if the repository does not support scrolling
+     * @since 8.0.1
+     */
+    default Window<T> findAll(ScrollPosition scrollPosition, int size) {
+        throw new UnsupportedOperationException("Scrolling is not supported by " + getClass().getName());
+    }
 }
@@ -19,6 +19,9 @@ import java.lang.annotation.*;
 
 /**
  * Enables scan operation for DynamoDB repository methods.
+ * <p>
+ * Scans of large tables can be split into {@link #segments()} that are scanned in parallel, see
+ * {@link org.socialsignin.spring.data.dynamodb.core.ParallelScanConfig}.
  * @author Prasanna Kumar Ramachandran
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -26,4 +29,12 @@ import java.lang.annotation.*;
 @Documented
 public @interface EnableScan {
 
+    /**
+     * The number of segments unpaginated scans are split into and scanned in parallel. Applies to
+     * {@code findAll()}, {@code count()}, {@code deleteAll()} and scan-backed query methods without limit, a method
+     * level annotation overrides the repository level one.
+     * @return the number of segments, 1 scans sequentially
+     * @since 8.0.1
+     */
+    int segments() default 1;
 }
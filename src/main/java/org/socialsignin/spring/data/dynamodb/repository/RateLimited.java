@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.*;
+
+/**
+ * Limits the capacity units per second a DynamoDB repository consumes from its table.
+ * <p>
+ * The limits are client-side ceilings: the actual rate backs off on throttling and recovers gradually, see
+ * {@link org.socialsignin.spring.data.dynamodb.core.AdaptiveRateLimiter}. A value of {@code 0} leaves the
+ * respective operations unlimited.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface RateLimited {
+
+    /**
+     * The maximum read capacity units per second, {@code 0} for unlimited reads.
+     * @return the read capacity units per second
+     */
+    double readCapacityUnitsPerSecond() default 0;
+
+    /**
+     * The maximum write capacity units per second, {@code 0} for unlimited writes.
+     * @return the write capacity units per second
+     */
+    double writeCapacityUnitsPerSecond() default 0;
+
+}
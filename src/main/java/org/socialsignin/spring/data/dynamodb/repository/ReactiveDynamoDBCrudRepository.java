@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Non-blocking DynamoDB repository returning Reactive Streams {@link Publisher}s.
+ * <p>
+ * Results are backed by the AWS SDK v2 asynchronous client: query and scan pages are only requested
+ * from DynamoDB when the subscriber signals demand. Derived query methods declared on sub-interfaces
+ * have to return {@link Publisher} as well. A {@link java.util.concurrent.Flow.Publisher} view can be
+ * obtained via {@code org.reactivestreams.FlowAdapters#toFlowPublisher}.
+ * <p>
+ * Enable by setting
+ * {@code @EnableDynamoDBRepositories(repositoryFactoryBeanClass = ReactiveDynamoDBRepositoryFactoryBean.class)}.
+ * @param <T> the entity type
+ * @param <ID> the ID type
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+@NoRepositoryBean
+public interface ReactiveDynamoDBCrudRepository<T, ID> extends Repository<T, ID> {
+
+    /**
+     * Saves the given entity.
+     * @param entity the entity to save, must not be {@code null}
+     * @param <S> the entity type
+     * @return publisher emitting the saved entity
+     */
+    <S extends T> Publisher<S> save(S entity);
+
+    /**
+     * Saves all given entities using batch writes.
+     * @param entities the entities to save, must not be {@code null}
+     * @param <S> the entity type
+     * @return publisher emitting the saved entities
+     */
+    <S extends T> Publisher<S> saveAll(Iterable<S> entities);
+
+    /**
+     * Retrieves an entity by its id.
+     * @param id the id, must not be {@code null}
+     * @return publisher emitting the entity, or completing empty if none was found
+     */
+    Publisher<T> findById(ID id);
+
+    /**
+     * Returns whether an entity with the given id exists.
+     * @param id the id, must not be {@code null}
+     * @return publisher emitting {@code true} if the entity exists
+     */
+    Publisher<Boolean> existsById(ID id);
+
+    /**
+     * Returns all entities of the table using a scan.
+     * @return publisher emitting all entities
+     */
+    Publisher<T> findAll();
+
+    /**
+     * Returns all entities with the given ids using batch loads.
+     * @param ids the ids, must not be {@code null}
+     * @return publisher emitting the found entities
+     */
+    Publisher<T> findAllById(Iterable<ID> ids);
+
+    /**
+     * Returns the number of entities of the table using a scan.
+     * @return publisher emitting the number of entities
+     */
+    Publisher<Long> count();
+
+    /**
+     * Deletes the entity with the given id.
+     * @param id the id, must not be {@code null}
+     * @return publisher completing once the entity was deleted
+     */
+    Publisher<Void> deleteById(ID id);
+
+    /**
+     * Deletes the given entity.
+     * @param entity the entity, must not be {@code null}
+     * @return publisher completing once the entity was deleted
+     */
+    Publisher<Void> delete(T entity);
+
+    /**
+     * Deletes the given entities using batch writes.
+     * @param entities the entities, must not be {@code null}
+     * @return publisher completing once all entities were deleted
+     */
+    Publisher<Void> deleteAll(Iterable<? extends T> entities);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.*;
+
+/**
+ * Skips the total count of a {@code Page} returning DynamoDB repository query method.
+ * <p>
+ * Counting all matching items costs a query or scan over all of them, even though callers that only page forward
+ * just need to know whether there is a next page. With this annotation only the page itself is read and
+ * {@link org.springframework.data.domain.Page#getTotalElements()} is the number of items up to the end of the page,
+ * plus one if DynamoDB reports more items after it, so that {@link org.springframework.data.domain.Page#hasNext()}
+ * stays accurate while the total pages are not.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface SkipTotalCount {
+}
@@ -22,6 +22,7 @@ import org.socialsignin.spring.data.dynamodb.core.MarshallingMode;
 import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBRepositoryFactoryBean;
 import org.socialsignin.spring.data.dynamodb.repository.util.DynamoDBMappingContextProcessor;
 import org.socialsignin.spring.data.dynamodb.repository.util.Entity2DynamoDBTableSynchronizer;
@@ -86,7 +87,8 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
     @NonNull
     @Override
     protected Collection<Class<?>> getIdentifyingTypes() {
-        return List.of(DynamoDBPagingAndSortingRepository.class, DynamoDBCrudRepository.class);
+        return List.of(DynamoDBPagingAndSortingRepository.class, DynamoDBCrudRepository.class,
+                ReactiveDynamoDBCrudRepository.class);
     }
 
     @NonNull
@@ -15,10 +15,15 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.CountConfig;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
+import org.socialsignin.spring.data.dynamodb.core.QueryResultCache;
 import org.socialsignin.spring.data.dynamodb.domain.UnpagedPageImpl;
 import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.query.AbstractMultipleEntityQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.CachedQuery;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
 import org.springframework.data.domain.*;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -28,8 +33,13 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Stream;
 
 /**
  * Abstract base class for DynamoDB repository queries that handles execution of queries
@@ -40,6 +50,10 @@ import java.util.*;
  */
 public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, ExceptionHandler {
 
+    private static final Executor PAGE_COUNT_EXECUTOR = command -> Thread.ofVirtual()
+            .name("dynamodb-page-count")
+            .start(command);
+
     /**
      * DynamoDB operations instance used to execute queries against DynamoDB.
      */
@@ -60,11 +74,15 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
      * Determines and returns the appropriate query execution strategy based on the query method type
      * and result restriction settings.
      * @return a QueryExecution instance configured for the appropriate result type
-     *         (collection, slice, page, single entity, or delete)
+     *         (window, stream, collection, slice, page, single entity, or delete)
      */
     @NonNull
     protected QueryExecution<T, ID> getExecution() {
-        if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
+        if (method.isScrollQuery()) {
+            return new ScrollExecution(method.getParameters());
+        } else if (method.isStreamQuery()) {
+            return new StreamExecution();
+        } else if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
             return new CollectionExecution();
         } else if (method.isSliceQuery() && !isSingleEntityResultsRestriction()) {
             return new SlicedExecution(method.getParameters());
@@ -144,9 +162,30 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
     protected Query<T> doCreateQueryWithPermissions(Object[] values) {
         Query<T> query = doCreateQuery(values);
         query.setScanEnabled(method.isScanEnabled());
+        query.setScanSegments(method.getScanSegments());
+        if (query instanceof AbstractMultipleEntityQuery<T> multipleEntityQuery) {
+            multipleEntityQuery.setResultCache(getResultCache());
+            if (dynamoDBOperations instanceof DynamoDBTemplate template) {
+                multipleEntityQuery.setPageTokenCache(template.getPageTokenCache());
+            }
+        }
         return query;
     }
 
+    /**
+     * Gets the cache region of this query method if it is annotated with {@link CachedQuery}.
+     * @return the cache region, or {@code null} if the results of this query method are not cached
+     */
+    @Nullable
+    private QueryResultCache.Region getResultCache() {
+        Optional<CachedQuery> cachedQuery = method.getCachedQuery();
+        if (cachedQuery.isEmpty() || !(dynamoDBOperations instanceof DynamoDBTemplate template)) {
+            return null;
+        }
+        return template.getQueryResultCache().getRegion(method.getUniqueName(), cachedQuery.get().ttlMs(),
+                cachedQuery.get().maxEntries());
+    }
+
     /**
      * Creates a count Query object with scan count permissions configured based on the query method settings.
      * This method wraps doCreateCountQuery() and sets scan count permissions if enabled.
@@ -158,6 +197,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
     protected Query<Long> doCreateCountQueryWithPermissions(Object[] values, boolean pageQuery) {
         Query<Long> query = doCreateCountQuery(values, pageQuery);
         query.setScanCountEnabled(method.isScanCountEnabled());
+        query.setScanSegments(method.getScanSegments());
         return query;
     }
 
@@ -254,16 +294,61 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
             Pageable pageable = accessor.getPageable();
             Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
 
-            List<T> results = query.getResultList();
-            if (results == null) {
-                results = Collections.emptyList();
+            // The total count doesn't depend on the content, so it is counted while the content is read
+            TotalCount totalCount = method.isTotalCountEnabled() ? startTotalCount(dynamoDBQuery, values) : null;
+            try {
+                if (!pageable.isUnpaged() && query instanceof AbstractMultipleEntityQuery<T> multipleEntityQuery
+                        && multipleEntityQuery.supportsResultPages()) {
+                    return createBoundedPage(multipleEntityQuery, pageable, totalCount);
+                }
+
+                List<T> results = query.getResultList();
+                if (results == null) {
+                    results = Collections.emptyList();
+                }
+                return createPage(results, pageable, totalCount);
+            } finally {
+                if (totalCount != null) {
+                    totalCount.cancel();
+                }
             }
-            return createPage(results, pageable, dynamoDBQuery, values);
         }
 
+        /**
+         * Reads only the results up to the end of the requested page, continuing at the closest checkpoint of the
+         * page token cache if it is enabled.
+         */
         @NonNull
-        private Page<T> createPage(@NonNull List<T> allResults, @NonNull Pageable pageable, @NonNull AbstractDynamoDBQuery<T, ID> dynamoDBQuery,
-                                   Object[] values) {
+        private Page<T> createBoundedPage(@NonNull AbstractMultipleEntityQuery<T> query, @NonNull Pageable pageable,
+                                          @Nullable TotalCount totalCount) {
+            Integer maxResults = getResultsRestrictionIfApplicable();
+            int toProcess = maxResults != null
+                    ? Math.min(pageable.getPageSize(), maxResults)
+                    : pageable.getPageSize();
+            software.amazon.awssdk.enhanced.dynamodb.model.Page<T> resultPage = query
+                    .getResultPage(pageable.getOffset(), toProcess);
+            List<T> results = resultPage.items();
+            if (results.isEmpty() && pageable.getOffset() > 0) {
+                return new PageImpl<>(Collections.emptyList());
+            }
+
+            long count;
+            if (totalCount != null) {
+                count = totalCount.get();
+            } else {
+                // Without total count, there is a next page as long as DynamoDB reports more results
+                Map<String, AttributeValue> lastEvaluatedKey = resultPage.lastEvaluatedKey();
+                count = pageable.getOffset() + results.size() + (lastEvaluatedKey != null ? 1 : 0);
+            }
+            if (maxResults != null) {
+                count = Math.min(count, maxResults);
+            }
+            return new PageImpl<>(results, pageable, count);
+        }
+
+        @NonNull
+        private Page<T> createPage(@NonNull List<T> allResults, @NonNull Pageable pageable,
+                                   @Nullable TotalCount totalCount) {
 
             // Get the result = this list might be a lazy list
             Iterator<T> iterator = allResults.iterator();
@@ -276,24 +361,89 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
                 }
             }
 
-            // Then Count the result set size
-            Query<Long> countQuery = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true);
-            Long countResult = countQuery.getSingleResult();
-            long count = countResult != null ? countResult : 0L;
-
             // Finally wrap the result in a page -
             if (!pageable.isUnpaged()) {
                 // either seek to the proper part of the result set
                 Integer maxResults = getResultsRestrictionIfApplicable();
+                List<T> results = readPageOfResultsRestrictMaxResultsIfNecessary(iterator, pageable.getPageSize());
+                long count = totalCount != null
+                        ? totalCount.get()
+                        : pageable.getOffset() + results.size() + (iterator.hasNext() ? 1 : 0);
                 if (maxResults != null) {
                     count = Math.min(count, maxResults);
                 }
-
-                List<T> results = readPageOfResultsRestrictMaxResultsIfNecessary(iterator, pageable.getPageSize());
                 return new PageImpl<>(results, pageable, count);
             } else {
                 // or treat the whole (lazy) list as the result page if it's unpaged
-                return new UnpagedPageImpl<>(allResults, count);
+                return new UnpagedPageImpl<>(allResults, totalCount != null ? totalCount.get() : allResults.size());
+            }
+        }
+    }
+
+    /**
+     * Starts counting the total results of a {@code Page} query, concurrently unless disabled by the
+     * {@link CountConfig} of the template.
+     */
+    @NonNull
+    private TotalCount startTotalCount(@NonNull AbstractDynamoDBQuery<T, ID> dynamoDBQuery, @NonNull Object[] values) {
+        Query<Long> countQuery = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true);
+        CountConfig countConfig = dynamoDBOperations instanceof DynamoDBTemplate template
+                ? template.getCountConfig()
+                : null;
+        if (countConfig != null && !countConfig.isConcurrentPageCount()) {
+            return new TotalCount(null, countQuery);
+        }
+        Executor executor = countConfig != null && countConfig.getPageCountExecutor() != null
+                ? countConfig.getPageCountExecutor()
+                : PAGE_COUNT_EXECUTOR;
+        FutureTask<Long> future = new FutureTask<>(countQuery::getSingleResult);
+        executor.execute(future);
+        return new TotalCount(future, countQuery);
+    }
+
+    /**
+     * The total count of a {@code Page} query, either running concurrently or counted on demand.
+     */
+    private static final class TotalCount {
+
+        @Nullable
+        private final FutureTask<Long> future;
+        @NonNull
+        private final Query<Long> countQuery;
+
+        private TotalCount(@Nullable FutureTask<Long> future, @NonNull Query<Long> countQuery) {
+            this.future = future;
+            this.countQuery = countQuery;
+        }
+
+        long get() {
+            Long countResult;
+            if (future == null) {
+                countResult = countQuery.getSingleResult();
+            } else {
+                try {
+                    countResult = future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(true);
+                    throw new IllegalStateException("Interrupted while waiting for the total count", e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            return countResult != null ? countResult : 0L;
+        }
+
+        /**
+         * Cancels the count if its result isn't needed anymore, e.g. as the page is beyond the results. The counting
+         * thread is interrupted, which stops the count before its next page is read.
+         */
+        void cancel() {
+            if (future != null) {
+                future.cancel(true);
             }
         }
     }
@@ -365,6 +515,56 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
         }
     }
 
+    /**
+     * Executes the {@link AbstractDynamoDBQuery} to return a {@link Window} of entities following the
+     * {@link ScrollPosition} parameter, resuming at the {@code ExclusiveStartKey} the position encodes.
+     */
+    class ScrollExecution implements QueryExecution<T, ID> {
+
+        private final Parameters<?, ?> parameters;
+
+        public ScrollExecution(Parameters<?, ?> parameters) {
+
+            this.parameters = parameters;
+        }
+
+        @NonNull
+        @Override
+        public Object execute(@NonNull AbstractDynamoDBQuery<T, ID> dynamoDBQuery, @NonNull Object[] values) {
+
+            ParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
+            ScrollPosition scrollPosition = accessor.getScrollPosition();
+            Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+            if (!(query instanceof AbstractMultipleEntityQuery<T> multipleEntityQuery)) {
+                throw new UnsupportedOperationException(
+                        "Scrolling is not supported for query method " + method.getName());
+            }
+
+            // The window size is the Limit parameter or the maximum results of the method name, e.g. findTop10By...
+            Limit limit = accessor.getLimit();
+            Integer maxResults = getResultsRestrictionIfApplicable();
+            int size = limit.isLimited() ? limit.max() : maxResults != null ? maxResults : Integer.MAX_VALUE;
+            return multipleEntityQuery.getResultWindow(
+                    scrollPosition != null ? scrollPosition : ScrollPosition.keyset(), size);
+        }
+    }
+
+    /**
+     * Executes the {@link AbstractDynamoDBQuery} to return a {@link Stream} of entities, fetching
+     * the pages of results only as the stream is consumed.
+     */
+    class StreamExecution implements QueryExecution<T, ID> {
+
+        @NonNull
+        @Override
+        public Object execute(@NonNull AbstractDynamoDBQuery<T, ID> dynamoDBQuery, @NonNull Object[] values) {
+            Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+            Stream<T> results = query.getResultStream();
+            Integer maxResults = getResultsRestrictionIfApplicable();
+            return maxResults != null ? results.limit(maxResults) : results;
+        }
+    }
+
     class DeleteExecution implements QueryExecution<T, ID> {
 
         @NonNull
@@ -409,8 +609,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
             if (isCountQuery()) {
                 return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
             } else if (isExistsQuery()) {
-                List<T> resultList = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
-                return resultList != null && !resultList.isEmpty();
+                return dynamoDBQuery.doCreateQueryWithPermissions(values).exists();
             } else {
                 return dynamoDBQuery.doCreateQueryWithPermissions(values).getSingleResult();
             }
@@ -442,7 +641,8 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
      */
     public Object execute(@NonNull Object[] parameters) {
 
-        return getExecution().execute(this, parameters);
+        Object result = getExecution().execute(this, parameters);
+        return method.isProjecting() ? method.convertToProjection(result) : result;
     }
 
     @NonNull
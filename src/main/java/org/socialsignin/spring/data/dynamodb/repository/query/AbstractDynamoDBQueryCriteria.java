@@ -88,6 +88,11 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
      */
     @Nullable
     protected String globalSecondaryIndexName;
+    /**
+     * Whether the index selection ran for the current conditions and sort, so that its result, including the main
+     * table, is reused until they change.
+     */
+    private boolean indexNameSelected;
     /**
      * The sort specification for the query results.
      * Defaults to unsorted if not specified.
@@ -99,12 +104,25 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
      */
     @Nullable
     protected String projection = null;
+    /**
+     * The attributes read by the projection returned by the query method, used when no projection expression is set.
+     * Null or empty means all attributes are returned.
+     */
+    @Nullable
+    protected List<String> projectedAttributes = null;
     /**
      * The maximum number of items to return from the query.
      * Null means no limit is applied.
      */
     @Nullable
     protected Integer limit = null;
+    /**
+     * The maximum number of results to read, e.g. of {@code findTop10By...}. It only becomes the limit of the request
+     * if the request has no filter, otherwise reading pages just stops once enough results were found.
+     * Null means all results are read.
+     */
+    @Nullable
+    protected Integer maxResults = null;
     /**
      * The filter expression for further filtering query results after key conditions.
      * Null means no filter is applied.
@@ -156,11 +174,11 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
                                              @Nullable String rangeKeyAttributeName, @Nullable String rangeKeyPropertyName, @Nullable List<Condition> hashKeyConditions,
                                              @Nullable List<Condition> rangeKeyConditions) {
 
-        // SDK v2: Build QueryRequest using modern keyConditionExpression
-        QueryRequest queryRequest = QueryRequest.builder()
-                .build();
-        queryRequest = queryRequest.toBuilder().tableName(tableName).build();
-        queryRequest = queryRequest.toBuilder().indexName(theIndexName).build();
+        // SDK v2: Build QueryRequest using modern keyConditionExpression. The settings known up front share a single
+        // builder instead of copying the request for each of them
+        QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(theIndexName);
 
         // Build KeyConditionExpression for ALL query types (main table, GSI, and LSI)
         // This is required by DynamoDB SDK v2 for all Query operations
@@ -221,26 +239,37 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
         // Set keyConditionExpression (required for all Query operations in SDK v2)
         if (!keyConditionParts.isEmpty()) {
             String keyConditionExpression = String.join(" AND ", keyConditionParts);
-            queryRequest = queryRequest.toBuilder()
-                    .keyConditionExpression(keyConditionExpression)
-                    .build();
+            requestBuilder.keyConditionExpression(keyConditionExpression);
 
             if (!keyExpressionNames.isEmpty()) {
-                queryRequest = queryRequest.toBuilder().expressionAttributeNames(keyExpressionNames).build();
+                requestBuilder.expressionAttributeNames(keyExpressionNames);
             }
             if (!keyExpressionValues.isEmpty()) {
-                queryRequest = queryRequest.toBuilder().expressionAttributeValues(keyExpressionValues).build();
+                requestBuilder.expressionAttributeValues(keyExpressionValues);
             }
         }
 
         // Handle projection (select specific attributes)
         if (projection != null) {
-            queryRequest = queryRequest.toBuilder().select(Select.SPECIFIC_ATTRIBUTES).build();
-            queryRequest = queryRequest.toBuilder().projectionExpression(projection).build();
+            requestBuilder.select(Select.SPECIFIC_ATTRIBUTES).projectionExpression(projection);
+        } else if (!getProjectedAttributes().isEmpty() && !isApplicableForGlobalSecondaryIndex()) {
+            // Read only the attributes of the returned projection. Index queries keep reading all projected attributes,
+            // as the index may not hold every attribute of the projection
+            Map<String, String> projectionNames = new HashMap<>(keyExpressionNames);
+            List<String> projectionPlaceholders = new ArrayList<>();
+            for (String attributeName : getProjectedAttributes()) {
+                String namePlaceholder = "#proj" + projectionPlaceholders.size();
+                projectionNames.put(namePlaceholder, attributeName);
+                projectionPlaceholders.add(namePlaceholder);
+            }
+            requestBuilder.select(Select.SPECIFIC_ATTRIBUTES)
+                    .projectionExpression(String.join(", ", projectionPlaceholders))
+                    .expressionAttributeNames(projectionNames);
         } else if (isApplicableForGlobalSecondaryIndex()) {
             // For GSI queries without explicit projection, use ALL_PROJECTED_ATTRIBUTES
-            queryRequest = queryRequest.toBuilder().select(Select.ALL_PROJECTED_ATTRIBUTES).build();
+            requestBuilder.select(Select.ALL_PROJECTED_ATTRIBUTES);
         }
+        QueryRequest queryRequest = requestBuilder.build();
 
         // Determine allowed sort properties based on query type
         // Check if this is an LSI query
@@ -396,15 +425,21 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
         queryRequest = applyConsistentReads(queryRequest);
 
-        // SDK v2: Use builder pattern for setting limit
-        if (limit != null) {
-            queryRequest = queryRequest.toBuilder().limit(limit).build();
+        // SDK v2: Use builder pattern for setting limit and filter, copying the request once for both
+        boolean filtered = StringUtils.hasLength(filterExpression);
+        Integer requestLimit = getRequestLimit(filtered);
+        if (requestLimit == null && !filtered) {
+            return queryRequest;
+        }
+        QueryRequest.Builder filterBuilder = queryRequest.toBuilder();
+        if (requestLimit != null) {
+            filterBuilder.limit(requestLimit);
         }
 
         if (filterExpression != null) {
             String filter = filterExpression;
             if (StringUtils.hasLength(filter)) {
-                queryRequest = queryRequest.toBuilder().filterExpression(filter).build();
+                filterBuilder.filterExpression(filter);
 
                 // SDK v2: Build expression attribute names map and merge with existing key condition names
                 if (expressionAttributeNames != null && expressionAttributeNames.length > 0) {
@@ -416,7 +451,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
                         }
                     }
                     if (!attributeNamesMap.isEmpty()) {
-                        queryRequest = queryRequest.toBuilder().expressionAttributeNames(attributeNamesMap).build();
+                        filterBuilder.expressionAttributeNames(attributeNamesMap);
                     }
                 }
 
@@ -437,12 +472,12 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
                         }
                     }
                     if (!attributeValuesMap.isEmpty()) {
-                        queryRequest = queryRequest.toBuilder().expressionAttributeValues(attributeValuesMap).build();
+                        filterBuilder.expressionAttributeValues(attributeValuesMap);
                     }
                 }
             }
         }
-        return queryRequest;
+        return filterBuilder.build();
     }
 
     /**
@@ -677,7 +712,11 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
     @Nullable
     protected String getGlobalSecondaryIndexName() {
 
-        // Lazy evaluate the globalSecondaryIndexName if not already set
+        // Lazy evaluate the globalSecondaryIndexName if not already set. Building a request asks for it many times,
+        // so the outcome is kept until the conditions or the sort change
+        if (indexNameSelected) {
+            return globalSecondaryIndexName;
+        }
 
         // Check if we have a sort requirement
         boolean hasSortRequirement = false;
@@ -799,6 +838,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
                 globalSecondaryIndexName = partialMatchIndexNames.getFirst();
             }
         }
+        indexNameSelected = true;
         return globalSecondaryIndexName;
     }
 
@@ -939,6 +979,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
         hashKeyAttributeValue = getPropertyAttributeValue(getHashKeyPropertyName(), value);
         hashKeyPropertyValue = value;
+        indexNameSelected = false;
         return this;
     }
 
@@ -1134,6 +1175,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
     public DynamoDBQueryCriteria<T, ID> withCondition(@NonNull String propertyName, Condition condition) {
         attributeConditions.add(getAttributeName(propertyName), condition);
         propertyConditions.add(propertyName, condition);
+        indexNameSelected = false;
 
         return this;
     }
@@ -1465,6 +1507,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
     @Override
     public void withSort(Sort sort) {
         this.sort = sort;
+        this.indexNameSelected = false;
     }
 
     /**
@@ -1477,6 +1520,30 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
         this.projection = projection;
     }
 
+    /**
+     * Sets the attributes read by the projection returned by the query method.
+     * Implementation of interface method.
+     * @param projectedAttributes the attribute names, or null to read every attribute
+     */
+    @Override
+    public void withProjectedAttributes(@Nullable List<String> projectedAttributes) {
+        this.projectedAttributes = projectedAttributes;
+    }
+
+    /**
+     * Gets the attributes to read instead of the whole item: the attributes of the projection returned by the query
+     * method, unless a projection expression is set.
+     * @return the attribute names, or an empty list to read every attribute (or only the projection expression)
+     * @since 8.0.1
+     */
+    @NonNull
+    protected List<String> getProjectedAttributes() {
+        if (projection != null || projectedAttributes == null) {
+            return Collections.emptyList();
+        }
+        return projectedAttributes;
+    }
+
     /**
      * Sets the maximum number of items to return from the query.
      * Implementation of interface method.
@@ -1487,6 +1554,32 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
         this.limit = limit;
     }
 
+    /**
+     * Sets the maximum number of results to read.
+     * Implementation of interface method.
+     * @param maxResults the maximum number of results, or null to read all results
+     */
+    @Override
+    public void withMaxResults(@Nullable Integer maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Gets the limit of the request. Without a filter every item a request reads is a result, so the maximum results
+     * can limit it as well. A filter is applied after the limit, so limiting a filtered request to the maximum results
+     * would only make each request evaluate fewer items, and finding them take more round trips.
+     * @param filtered whether the request has a filter
+     * @return the limit of the request, or null to not limit it
+     * @since 8.0.1
+     */
+    @Nullable
+    protected Integer getRequestLimit(boolean filtered) {
+        if (maxResults == null || filtered) {
+            return limit;
+        }
+        return limit != null ? Math.min(limit, maxResults) : maxResults;
+    }
+
     /**
      * Sets the filter expression to further filter query results.
      * Implementation of interface method.
@@ -144,7 +144,7 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
     @NonNull
     protected Query<T> buildSingleEntityLoadQuery(DynamoDBOperations dynamoDBOperations) {
         return new SingleEntityLoadByHashAndRangeKeyQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-                getHashKeyPropertyValue(), getRangeKeyPropertyValue());
+                getHashKeyPropertyValue(), getRangeKeyPropertyValue(), getProjectedAttributes());
     }
 
     @NonNull
@@ -238,9 +238,10 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
                     getHashKeyAttributeName(), rangeKeyAttrName, rangeKeyPropName,
                     getHashKeyConditions(), getRangeKeyConditions());
             return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-                    queryRequest);
+                    queryRequest, maxResults);
         } else {
-            return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, buildScanExpression());
+            return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, buildScanExpression(),
+                    maxResults);
         }
     }
 
@@ -526,9 +527,15 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
             requestBuilder.filterExpression(exprBuilder.build());
         }
 
+        // Read only the attributes of the projection returned by the query method
+        if (!getProjectedAttributes().isEmpty()) {
+            requestBuilder.attributesToProject(getProjectedAttributes());
+        }
+
         // Apply limit if present
-        if (limit != null) {
-            requestBuilder.limit(limit);
+        Integer requestLimit = getRequestLimit(!filterParts.isEmpty());
+        if (requestLimit != null) {
+            requestBuilder.limit(requestLimit);
         }
 
         return requestBuilder.build();
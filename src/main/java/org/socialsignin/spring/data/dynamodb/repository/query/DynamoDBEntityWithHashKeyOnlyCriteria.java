@@ -58,7 +58,8 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 
     @NonNull
     protected Query<T> buildSingleEntityLoadQuery(DynamoDBOperations dynamoDBOperations) {
-        return new SingleEntityLoadByHashKeyQuery<>(dynamoDBOperations, clazz, getHashKeyPropertyValue());
+        return new SingleEntityLoadByHashKeyQuery<>(dynamoDBOperations, clazz, getHashKeyPropertyValue(),
+                getProjectedAttributes());
     }
 
     @NonNull
@@ -83,9 +84,10 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
                     hashKeyConditions,
                     null);  // No range key conditions
             return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-                    queryRequest);
+                    queryRequest, maxResults);
         } else {
-            return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, buildScanExpression());
+            return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, buildScanExpression(),
+                    maxResults);
         }
     }
 
@@ -206,9 +208,15 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
             requestBuilder.filterExpression(exprBuilder.build());
         }
 
+        // Read only the attributes of the projection returned by the query method
+        if (!getProjectedAttributes().isEmpty()) {
+            requestBuilder.attributesToProject(getProjectedAttributes());
+        }
+
         // Apply limit if present
-        if (limit != null) {
-            requestBuilder.limit(limit);
+        Integer requestLimit = getRequestLimit(!filterParts.isEmpty());
+        if (requestLimit != null) {
+            requestBuilder.limit(requestLimit);
         }
 
         return requestBuilder.build();
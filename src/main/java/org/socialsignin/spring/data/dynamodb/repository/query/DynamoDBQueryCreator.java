@@ -27,6 +27,8 @@ import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.util.List;
+
 /**
  * Query creator for DynamoDB entity queries returning entity results.
  *
@@ -35,6 +37,11 @@ import org.springframework.lang.Nullable;
  */
 public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T, ID, T> {
 
+    @Nullable
+    private final List<String> projectedAttributes;
+    @Nullable
+    private final Integer maxResults;
+
     /**
      * Creates a new DynamoDBQueryCreator.
      * @param tree the part tree representing the parsed method name
@@ -52,8 +59,36 @@ public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T,
                                 DynamoDBEntityInformation<T, ID> entityMetadata, @Nullable String projection, @Nullable Integer limit,
                                 QueryConstants.ConsistentReadMode consistentReads, @Nullable String filterExpression,
                                 ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations) {
+        this(tree, parameterAccessor, entityMetadata, projection, null, limit, null, consistentReads, filterExpression,
+                names, values, dynamoDBOperations);
+    }
+
+    /**
+     * Creates a new DynamoDBQueryCreator reading only the attributes of the projection returned by the query method,
+     * and stopping once it found the maximum number of results.
+     * @param tree the part tree representing the parsed method name
+     * @param parameterAccessor the parameter accessor for method parameters
+     * @param entityMetadata the entity metadata
+     * @param projection the projection expression
+     * @param projectedAttributes the attributes read by the returned projection, or null to read every attribute
+     * @param limit the limit for results
+     * @param maxResults the maximum number of results to read, or null to read all results
+     * @param consistentReads the consistent read mode
+     * @param filterExpression the filter expression
+     * @param names the expression attribute names
+     * @param values the expression attribute values
+     * @param dynamoDBOperations the DynamoDB operations
+     * @since 8.0.1
+     */
+    public DynamoDBQueryCreator(@NonNull PartTree tree, @NonNull ParameterAccessor parameterAccessor,
+                                DynamoDBEntityInformation<T, ID> entityMetadata, @Nullable String projection,
+                                @Nullable List<String> projectedAttributes, @Nullable Integer limit,
+                                @Nullable Integer maxResults, QueryConstants.ConsistentReadMode consistentReads, @Nullable String filterExpression,
+                                ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations) {
         super(tree, parameterAccessor, entityMetadata, projection, limit, consistentReads, filterExpression, names,
                 values, dynamoDBOperations);
+        this.projectedAttributes = projectedAttributes;
+        this.maxResults = maxResults;
     }
 
     @NonNull
@@ -64,7 +99,9 @@ public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T,
         } else {
             criteria.withSort(sort);
             criteria.withProjection(projection);
+            criteria.withProjectedAttributes(projectedAttributes);
             criteria.withLimit(limit);
+            criteria.withMaxResults(maxResults);
             criteria.withConsistentReads(consistentReads);
             criteria.withFilterExpression(filterExpression);
             criteria.withExpressionAttributeNames(expressionAttributeNames);
@@ -23,6 +23,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -93,12 +94,28 @@ public interface DynamoDBQueryCriteria<T, ID> {
      */
     void withProjection(@Nullable String projection);
 
+    /**
+     * Sets the attributes read by the projection returned by the query method. An explicit projection expression takes
+     * precedence over them.
+     * @param projectedAttributes the attribute names, or null to read every attribute
+     * @since 8.0.1
+     */
+    void withProjectedAttributes(@Nullable List<String> projectedAttributes);
+
     /**
      * Sets the maximum number of items to return from the query.
      * @param limit the maximum number of items to return
      */
     void withLimit(@Nullable Integer limit);
 
+    /**
+     * Sets the maximum number of results to read. Unlike the limit, it becomes the limit of the request only if no
+     * filter drops the items read, otherwise reading stops once that many results were found.
+     * @param maxResults the maximum number of results, or null to read all results
+     * @since 8.0.1
+     */
+    void withMaxResults(@Nullable Integer maxResults);
+
     /**
      * Sets the consistent read mode for the query.
      * @param reads the consistent read mode
@@ -15,7 +15,9 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -61,10 +63,14 @@ public class DynamoDBQueryLookupStrategy {
         );
 
         protected final DynamoDBOperations dynamoDBOperations;
+        @Nullable
+        protected final DynamoDBAsyncOperations asyncOperations;
 
-        public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+        public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+                                           @Nullable DynamoDBAsyncOperations asyncOperations) {
 
             this.dynamoDBOperations = dynamoDBOperations;
+            this.asyncOperations = asyncOperations;
         }
 
         /**
@@ -88,7 +94,8 @@ public class DynamoDBQueryLookupStrategy {
             // Check if the method is declared in Spring Data base interfaces
             Class<?> declaringClass = method.getDeclaringClass();
             String declaringClassName = declaringClass.getName();
-            return declaringClassName.startsWith("org.springframework.data.repository.");
+            return declaringClassName.startsWith("org.springframework.data.repository.")
+                    || declaringClass == ReactiveDynamoDBCrudRepository.class;
         }
 
         /*
@@ -120,9 +127,10 @@ public class DynamoDBQueryLookupStrategy {
      */
     private static class CreateQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-        public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+        public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+                                         @Nullable DynamoDBAsyncOperations asyncOperations) {
 
-            super(dynamoDBOperations);
+            super(dynamoDBOperations, asyncOperations);
         }
 
         @NonNull
@@ -130,8 +138,11 @@ public class DynamoDBQueryLookupStrategy {
         protected <T, ID> RepositoryQuery createDynamoDBQuery(@NonNull Method method, @NonNull RepositoryMetadata metadata,
                                                               @NonNull ProjectionFactory factory, Class<T> entityClass, Class<ID> idClass, NamedQueries namedQueries) {
             try {
-                return new PartTreeDynamoDBQuery<>(dynamoDBOperations,
-                        new DynamoDBQueryMethod<T, ID>(method, metadata, factory));
+                DynamoDBQueryMethod<T, ID> queryMethod = new DynamoDBQueryMethod<>(method, metadata, factory);
+                if (asyncOperations != null) {
+                    return new ReactivePartTreeDynamoDBQuery<>(dynamoDBOperations, asyncOperations, queryMethod);
+                }
+                return new PartTreeDynamoDBQuery<>(dynamoDBOperations, queryMethod);
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException(
                         String.format("Could not create query metamodel for method %s!", method), e);
@@ -148,9 +159,10 @@ public class DynamoDBQueryLookupStrategy {
      */
     private static class DeclaredQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-        public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+        public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+                                           @Nullable DynamoDBAsyncOperations asyncOperations) {
 
-            super(dynamoDBOperations);
+            super(dynamoDBOperations, asyncOperations);
         }
 
         @Override
@@ -174,11 +186,12 @@ public class DynamoDBQueryLookupStrategy {
         @NonNull
         private final CreateQueryLookupStrategy createStrategy;
 
-        public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+        public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+                                                   @Nullable DynamoDBAsyncOperations asyncOperations) {
 
-            super(dynamoDBOperations);
-            this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations);
-            this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations);
+            super(dynamoDBOperations, asyncOperations);
+            this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations, asyncOperations);
+            this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations, asyncOperations);
         }
 
         @NonNull
@@ -203,14 +216,29 @@ public class DynamoDBQueryLookupStrategy {
      */
     @NonNull
     public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations, @Nullable Key key) {
+        return create(dynamoDBOperations, null, key);
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for reactive repositories. Derived queries are planned with the
+     * blocking operations and executed on the asynchronous operations.
+     * @param dynamoDBOperations The current operation
+     * @param asyncOperations The asynchronous operations executing derived queries, or {@code null} for
+     *            blocking repositories
+     * @param key The key of the entity
+     * @return The created {@link QueryLookupStrategy}
+     */
+    @NonNull
+    public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations,
+                                             @Nullable DynamoDBAsyncOperations asyncOperations, @Nullable Key key) {
 
         if (key == null) {
-            return new CreateQueryLookupStrategy(dynamoDBOperations);
+            return new CreateQueryLookupStrategy(dynamoDBOperations, asyncOperations);
         }
 
         return switch (key) {
-            case CREATE -> new CreateQueryLookupStrategy(dynamoDBOperations);
-            case CREATE_IF_NOT_FOUND -> new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations);
+            case CREATE -> new CreateQueryLookupStrategy(dynamoDBOperations, asyncOperations);
+            case CREATE_IF_NOT_FOUND -> new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations, asyncOperations);
             default -> throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
         };
     }
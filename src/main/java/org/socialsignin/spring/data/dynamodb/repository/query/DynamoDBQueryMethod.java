@@ -17,15 +17,23 @@ package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import org.socialsignin.spring.data.dynamodb.repository.*;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
-import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataSupport;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformationRegistry;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
 
 import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QUERY_LIMIT_UNLIMITED;
@@ -43,6 +51,7 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
     private final Method method;
     private final boolean scanEnabledForRepository;
     private final boolean scanCountEnabledForRepository;
+    private final int scanSegments;
     @Nullable
     private final String projectionExpression;
     @Nullable
@@ -67,6 +76,10 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
         this.scanEnabledForRepository = metadata.getRepositoryInterface().isAnnotationPresent(EnableScan.class);
         this.scanCountEnabledForRepository = metadata.getRepositoryInterface()
                 .isAnnotationPresent(EnableScanCount.class);
+        EnableScan enableScan = method.isAnnotationPresent(EnableScan.class)
+                ? method.getAnnotation(EnableScan.class)
+                : metadata.getRepositoryInterface().getAnnotation(EnableScan.class);
+        this.scanSegments = enableScan != null ? enableScan.segments() : 1;
 
         Query query = method.getAnnotation(Query.class);
         if (query != null) {
@@ -117,15 +130,50 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
         return scanCountEnabledForRepository || method.isAnnotationPresent(EnableScanCount.class);
     }
 
+    /**
+     * Gets the number of segments scans of this query method are split into, see {@link EnableScan#segments()}.
+     * @return the number of segments, 1 scans sequentially
+     */
+    public int getScanSegments() {
+        return scanSegments;
+    }
+
+    /**
+     * Gets the result cache settings of this query method.
+     * @return optional containing the {@link CachedQuery} annotation
+     */
+    @NonNull
+    public Optional<CachedQuery> getCachedQuery() {
+        return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, CachedQuery.class));
+    }
+
+    /**
+     * Whether the {@code Page} results of this query method include the total count, i.e. whether the method isn't
+     * annotated with {@link SkipTotalCount}.
+     * @return false if the total count is skipped
+     */
+    public boolean isTotalCountEnabled() {
+        return !AnnotatedElementUtils.hasAnnotation(method, SkipTotalCount.class);
+    }
+
+    /**
+     * Gets a name identifying this query method, including its declaring repository and parameter types.
+     * @return the unique method name
+     */
+    @NonNull
+    public String getUniqueName() {
+        return method.toGenericString();
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.repository.query.QueryMethod#getEntityInformation()
      */
     @NonNull
     @Override
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @SuppressWarnings("unchecked")
     public DynamoDBEntityInformation<T, ID> getEntityInformation() {
-        return new DynamoDBEntityMetadataSupport(getDomainClass()).getEntityInformation();
+        return DynamoDBEntityInformationRegistry.getInstance().getEntityInformation((Class<T>) getDomainClass());
     }
 
     /**
@@ -147,6 +195,67 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
         return Optional.ofNullable(this.projectionExpression);
     }
 
+    /**
+     * Checks whether the method returns a projection, i.e. an interface, DTO or record other than the entity type.
+     * @return true if the results are converted into a projection
+     * @since 8.0.1
+     */
+    public boolean isProjecting() {
+        return getResultProcessor().getReturnedType().isProjecting();
+    }
+
+    /**
+     * Gets the entity properties read by the projection the method returns: the getters of a closed interface
+     * projection, or the constructor parameters of a DTO or record. Open projections may evaluate any property in
+     * their {@code @Value} expressions, and DTOs with a no-argument constructor copy every property they can write,
+     * so both read the whole entity.
+     * @return the property names, or an empty list if the method returns entities, an open projection or a DTO
+     *         without constructor parameters
+     * @since 8.0.1
+     */
+    @NonNull
+    public List<String> getProjectedProperties() {
+        ReturnedType returnedType = getResultProcessor().getReturnedType();
+        return returnedType.needsCustomConstruction() ? returnedType.getInputProperties() : List.of();
+    }
+
+    /**
+     * Converts the entities returned by the query into the projection the method returns. Interface projections are
+     * backed by the entities, DTOs and records are created from the entity properties matching their constructor
+     * parameters, or the properties they can write when they have a no-argument constructor.
+     * @param result the entity, entities, page, slice, window or stream returned by the query
+     * @return the result holding projections
+     * @since 8.0.1
+     */
+    @Nullable
+    public Object convertToProjection(@Nullable Object result) {
+        ResultProcessor processor = getResultProcessor();
+        Class<?> returnedType = processor.getReturnedType().getReturnedType();
+        if (returnedType.isInterface()) {
+            return processor.processResult(result);
+        }
+        return processor.processResult(result, source -> instantiateDto(returnedType, source));
+    }
+
+    @NonNull
+    private static Object instantiateDto(@NonNull Class<?> dtoType, @NonNull Object entity) {
+        Constructor<?> constructor = BeanUtils.getResolvableConstructor(dtoType);
+        if (constructor.getParameterCount() == 0) {
+            Object dto = BeanUtils.instantiateClass(constructor);
+            BeanUtils.copyProperties(entity, dto);
+            return dto;
+        }
+        String[] parameterNames = BeanUtils.getParameterNames(constructor);
+        BeanWrapper source = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        Object[] arguments = new Object[parameterNames.length];
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (source.isReadableProperty(parameterNames[i])) {
+                arguments[i] = source.getPropertyValue(parameterNames[i]);
+            }
+        }
+        return BeanUtils.instantiateClass(constructor, arguments);
+    }
+
     /**
      * Gets the limit for query results if configured.
      * @return optional containing the limit
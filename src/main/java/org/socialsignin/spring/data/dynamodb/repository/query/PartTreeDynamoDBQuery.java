@@ -17,6 +17,10 @@ package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -24,6 +28,9 @@ import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A query implementation that creates DynamoDB queries from method names using the PartTree parsing strategy.
  * This class parses the method name and constructs appropriate DynamoDB query criteria.
@@ -37,6 +44,8 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
     private final Parameters<?, ?> parameters;
     @NonNull
     private final PartTree tree;
+    @NonNull
+    private final QueryPlan<T, ID> plan;
 
     /**
      * Creates a new PartTreeDynamoDBQuery.
@@ -47,6 +56,9 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
         super(dynamoDBOperations, method);
         this.parameters = method.getParameters();
         this.tree = new PartTree(method.getName(), method.getEntityType());
+        this.plan = new QueryPlan<>(method.getEntityInformation(), method.getProjectionExpression().orElse(null),
+                getProjectedAttributes(), method.getConsistentReadMode(), method.getFilterExpression().orElse(null),
+                method.getExpressionAttributeNames(), method.getExpressionAttributeValues());
     }
 
     /**
@@ -56,12 +68,61 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
      */
     @NonNull
     protected DynamoDBQueryCreator<T, ID> createQueryCreator(@NonNull ParametersParameterAccessor accessor) {
+        return new DynamoDBQueryCreator<>(tree, accessor, plan.entityInformation(), plan.projectionExpression(),
+                plan.projectedAttributes(), getQueryMethod().getLimitResults().orElse(null), getMaxResults(accessor),
+                plan.consistentReadMode(), plan.filterExpression(), plan.expressionAttributeNames(),
+                plan.expressionAttributeValues(), dynamoDBOperations);
+    }
+
+    /**
+     * Gets the attributes read for the projection the method returns, so that only those are requested from DynamoDB.
+     * An explicit {@code @Query(fields)} projection takes precedence. Resolved once, when the query is created.
+     * @return the attribute names, or {@code null} to read whole items
+     * @since 8.0.1
+     */
+    @Nullable
+    protected List<String> getProjectedAttributes() {
         DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
-        return new DynamoDBQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(),
-                queryMethod.getProjectionExpression().orElse(null), queryMethod.getLimitResults().orElse(null),
-                queryMethod.getConsistentReadMode(), queryMethod.getFilterExpression().orElse(null),
-                queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(),
-                dynamoDBOperations);
+        List<String> properties = queryMethod.getProjectedProperties();
+        if (properties.isEmpty() || isDeleteQuery() || queryMethod.getProjectionExpression().isPresent()) {
+            return null;
+        }
+        DynamoDBEntityInformation<T, ID> entityInformation = queryMethod.getEntityInformation();
+        List<String> attributeNames = new ArrayList<>(properties.size());
+        for (String property : properties) {
+            if (entityInformation.isCompositeHashAndRangeKeyProperty(property)) {
+                // The composite id is stored as hash and range key attributes, read the whole item instead
+                return null;
+            }
+            attributeNames.add(entityInformation.getOverriddenAttributeName(property).orElse(property));
+        }
+        return attributeNames;
+    }
+
+    /**
+     * Gets the maximum number of results the query reads: the smaller of the maximum results of the method name, e.g.
+     * {@code findTop10By...}, and a {@link Limit} parameter. Reading pages stops once that many results were found.
+     * It also becomes the {@code Limit} of the request, unless the request has a filter, which would drop items after
+     * they were counted against the limit.
+     * <p>
+     * Page, slice and scroll queries read pages of their own size, so they have no maximum results.
+     * @param accessor the parameter accessor
+     * @return the maximum number of results, or {@code null} to read all results
+     */
+    @Nullable
+    private Integer getMaxResults(@NonNull ParametersParameterAccessor accessor) {
+        DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
+        if (queryMethod.isPageQuery() || queryMethod.isSliceQuery() || queryMethod.isScrollQuery()) {
+            return null;
+        }
+        Integer maxResults = getResultsRestrictionIfApplicable();
+        if (parameters.hasLimitParameter()) {
+            Limit limitParameter = accessor.getLimit();
+            if (limitParameter.isLimited()) {
+                maxResults = maxResults != null ? Math.min(maxResults, limitParameter.max()) : limitParameter.max();
+            }
+        }
+        return maxResults;
     }
 
     /**
@@ -73,10 +134,8 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
     @NonNull
     protected DynamoDBCountQueryCreator<T, ID> createCountQueryCreator(@NonNull ParametersParameterAccessor accessor,
                                                                        boolean pageQuery) {
-        DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
-        return new DynamoDBCountQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(),
-                queryMethod.getFilterExpression().orElse(null), queryMethod.getExpressionAttributeNames(),
-                queryMethod.getExpressionAttributeValues(), dynamoDBOperations, pageQuery);
+        return new DynamoDBCountQueryCreator<>(tree, accessor, plan.entityInformation(), plan.filterExpression(),
+                plan.expressionAttributeNames(), plan.expressionAttributeValues(), dynamoDBOperations, pageQuery);
     }
 
     @NonNull
@@ -128,4 +187,17 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
         return resultsRestiction != null && resultsRestiction.equals(1);
     }
 
+    /**
+     * The settings of the query method that don't depend on the parameter values. Resolving them reflects over the
+     * entity and the method annotations, so it is done once when the repository is created rather than on every
+     * invocation, which only binds the parameter values into new criteria.
+     */
+    private record QueryPlan<T, ID>(DynamoDBEntityInformation<T, ID> entityInformation,
+                                    @Nullable String projectionExpression, @Nullable List<String> projectedAttributes,
+                                    QueryConstants.ConsistentReadMode consistentReadMode,
+                                    @Nullable String filterExpression,
+                                    @Nullable ExpressionAttribute[] expressionAttributeNames,
+                                    @Nullable ExpressionAttribute[] expressionAttributeValues) {
+    }
+
 }
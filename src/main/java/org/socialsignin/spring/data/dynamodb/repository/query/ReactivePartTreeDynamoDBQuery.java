@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking variant of {@link PartTreeDynamoDBQuery} used by
+ * {@link org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository reactive repositories}.
+ * <p>
+ * The query is derived exactly like its blocking counterpart, but executed on {@link DynamoDBAsyncOperations}
+ * and returned as a {@link org.reactivestreams.Publisher}. Query and scan pages are only fetched as the
+ * subscriber signals demand, {@code Top}/{@code First} restrictions cancel the upstream once satisfied.
+ * @param <T> the entity type
+ * @param <ID> the ID type of the entity
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class ReactivePartTreeDynamoDBQuery<T, ID> extends PartTreeDynamoDBQuery<T, ID> {
+
+    @NonNull
+    private final DynamoDBAsyncOperations asyncOperations;
+
+    /**
+     * Creates a new ReactivePartTreeDynamoDBQuery.
+     * @param dynamoDBOperations the DynamoDB operations used to derive the query
+     * @param asyncOperations the asynchronous DynamoDB operations used to execute the query
+     * @param method the query method
+     */
+    public ReactivePartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations,
+                                         @NonNull DynamoDBAsyncOperations asyncOperations,
+                                         @NonNull DynamoDBQueryMethod<T, ID> method) {
+        super(dynamoDBOperations, method);
+        Assert.notNull(asyncOperations, "asyncOperations must not be null!");
+        this.asyncOperations = asyncOperations;
+    }
+
+    @NonNull
+    @Override
+    public Object execute(@NonNull Object[] parameters) {
+        DynamoDBQueryMethod<T, ID> method = getQueryMethod();
+        if (method.isPageQuery() || method.isSliceQuery()) {
+            throw new UnsupportedOperationException("Page and Slice results are not supported by reactive query methods");
+        } else if (method.isModifyingQuery()) {
+            throw new UnsupportedOperationException("Modifying queries not yet supported");
+        }
+
+        if (isCountQuery()) {
+            return doCreateCountQueryWithPermissions(parameters, false).getResultPublisher(asyncOperations);
+        }
+
+        SdkPublisher<T> results = doCreateQueryWithPermissions(parameters).getResultPublisher(asyncOperations);
+        if (isExistsQuery()) {
+            // Cancels the underlying query as soon as the first match arrives
+            AtomicBoolean found = new AtomicBoolean();
+            return FuturePublisher.of(() -> results.limit(1)
+                    .subscribe(entity -> found.set(true))
+                    .thenApply(ignored -> found.get()));
+        } else if (isDeleteQuery()) {
+            return FuturePublisher.ofIterable(() -> deleteAll(results));
+        }
+
+        Integer maxResults = getResultsRestrictionIfApplicable();
+        return maxResults != null ? results.limit(maxResults) : results;
+    }
+
+    /**
+     * Reactive results are emitted as entities, so whole items are read.
+     */
+    @Nullable
+    @Override
+    protected List<String> getProjectedAttributes() {
+        return null;
+    }
+
+    @NonNull
+    private CompletableFuture<List<T>> deleteAll(@NonNull SdkPublisher<T> results) {
+        List<T> entities = Collections.synchronizedList(new ArrayList<>());
+        return results.subscribe(entities::add)
+                .thenCompose(ignored -> asyncOperations.batchDelete(entities))
+                .thenApply(batchResults -> {
+                    Map<Class<?>, List<Object>> entitiesByClass = new HashMap<>();
+                    for (T entity : entities) {
+                        entitiesByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+                    }
+
+                    List<Object> unprocessedEntities = asyncOperations.extractUnprocessedDeleteItems(
+                            batchResults, entitiesByClass);
+                    if (!unprocessedEntities.isEmpty()) {
+                        throw repackageToException(unprocessedEntities, 0, null, BatchDeleteException.class);
+                    }
+                    return entities;
+                });
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry for the {@link DynamoDBEntityInformation} of DynamoDB-annotated domain classes.
+ *
+ * <p>Building the entity information scans all methods and fields of the domain class, so it is done once per domain
+ * class and table name and shared by the repositories and query methods of all application contexts. The repository
+ * factories populate the registry when the repositories are created at startup. The cached entity information is
+ * immutable and may be used from any thread.
+ *
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ * @see DynamoDBEntityMetadataSupport
+ */
+public final class DynamoDBEntityInformationRegistry {
+
+    private static final DynamoDBEntityInformationRegistry INSTANCE = new DynamoDBEntityInformationRegistry();
+
+    private final Map<EntityKey, DynamoDBEntityInformation<?, ?>> entityInformationCache = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies cached entity information. Domain classes mapped to an overridden table name get their own entry.
+     */
+    private record EntityKey(Class<?> domainClass, String tableName) {
+    }
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private DynamoDBEntityInformationRegistry() {
+    }
+
+    /**
+     * Returns the singleton instance of the registry.
+     *
+     * @return the registry instance
+     */
+    @NonNull
+    public static DynamoDBEntityInformationRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the entity information of the given domain class, mapped to its default table name.
+     *
+     * @param <T>         the entity type
+     * @param <ID>        the ID type
+     * @param domainClass the domain class, annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}
+     * @return the cached entity information
+     */
+    @NonNull
+    public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(@NonNull Class<T> domainClass) {
+        return getEntityInformation(domainClass, null);
+    }
+
+    /**
+     * Returns the entity information of the given domain class, mapped to the table name resolved by the given
+     * operations.
+     *
+     * @param <T>                the entity type
+     * @param <ID>               the ID type
+     * @param domainClass        the domain class, annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}
+     * @param dynamoDBOperations the operations resolving overridden table names, or {@code null} to use the default
+     *                           table name
+     * @return the cached entity information
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(@NonNull Class<T> domainClass,
+            @Nullable DynamoDBOperations dynamoDBOperations) {
+        Assert.notNull(domainClass, "Domain type must not be null!");
+
+        String tableName = domainClass.getSimpleName();
+        if (dynamoDBOperations != null) {
+            tableName = dynamoDBOperations.getOverriddenTableName(domainClass, tableName);
+        }
+        return (DynamoDBEntityInformation<T, ID>) entityInformationCache.computeIfAbsent(
+                new EntityKey(domainClass, tableName),
+                key -> new DynamoDBEntityMetadataSupport<T, ID>(domainClass, dynamoDBOperations).getEntityInformation());
+    }
+
+    /**
+     * Clears all cached entity information.
+     *
+     * <p>This method is primarily intended for testing purposes.
+     */
+    public void clear() {
+        entityInformationCache.clear();
+    }
+}
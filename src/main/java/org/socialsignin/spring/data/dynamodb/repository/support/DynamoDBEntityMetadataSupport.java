@@ -29,10 +29,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base support class for DynamoDB entity metadata that handles extraction and caching of hash key information,
  * attribute name overrides, attribute converters, and global secondary index metadata from DynamoDB-annotated entities.
+ * <p>
+ * Key and index properties are collected when the metadata is created. Attribute names and converters are resolved once
+ * per property on first use and shared afterwards, so the metadata may be reused by any number of threads.
  * @param <T> the entity type
  * @param <ID> the ID type
  * @author Prasanna Kumar Ramachandran
@@ -45,13 +49,17 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
     @Nullable
     private String hashKeyPropertyName;
     @NonNull
-    private final List<String> globalIndexHashKeyPropertyNames;
+    private final Set<String> globalIndexHashKeyPropertyNames;
     @NonNull
-    private final List<String> globalIndexRangeKeyPropertyNames;
+    private final Set<String> globalIndexRangeKeyPropertyNames;
 
     private final String dynamoDBTableName;
     @NonNull
     private final Map<String, String[]> globalSecondaryIndexNames;
+    @NonNull
+    private final Map<String, Optional<String>> overriddenAttributeNames = new ConcurrentHashMap<>();
+    @NonNull
+    private final Map<String, Optional<AttributeConverter<?>>> attributeConverters = new ConcurrentHashMap<>();
 
     @Override
     public String getDynamoDBTableName() {
@@ -93,8 +101,8 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
         }
         this.hashKeyPropertyName = null;
         this.globalSecondaryIndexNames = new HashMap<>();
-        this.globalIndexHashKeyPropertyNames = new ArrayList<>();
-        this.globalIndexRangeKeyPropertyNames = new ArrayList<>();
+        this.globalIndexHashKeyPropertyNames = new HashSet<>();
+        this.globalIndexRangeKeyPropertyNames = new HashSet<>();
         ReflectionUtils.doWithMethods(domainType, method -> {
             if (method.getAnnotation(DynamoDbPartitionKey.class) != null) {
                 hashKeyPropertyName = getPropertyNameForAccessorMethod(method);
@@ -230,6 +238,11 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
     @NonNull
     @Override
     public Optional<String> getOverriddenAttributeName(@NonNull final String propertyName) {
+        return overriddenAttributeNames.computeIfAbsent(propertyName, this::findOverriddenAttributeName);
+    }
+
+    @NonNull
+    private Optional<String> findOverriddenAttributeName(@NonNull final String propertyName) {
 
         Method method = findMethod(propertyName);
         if (method != null) {
@@ -254,9 +267,22 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
     }
 
+    /**
+     * Gets the attribute converter for the given property. The converter is created on the first call for each
+     * property and the same instance is returned afterwards.
+     *
+     * @param propertyName the property name
+     * @return the attribute converter, or null if the property needs no conversion
+     */
     @Nullable
     @Override
     public AttributeConverter<?> getAttributeConverterForProperty(@NonNull final String propertyName) {
+        return attributeConverters.computeIfAbsent(propertyName,
+                name -> Optional.ofNullable(createAttributeConverterForProperty(name))).orElse(null);
+    }
+
+    @Nullable
+    private AttributeConverter<?> createAttributeConverterForProperty(@NonNull final String propertyName) {
         // SDK v2 uses @DynamoDbConvertedBy annotation for custom converters
         DynamoDbConvertedBy annotation = null;
 
@@ -418,4 +444,14 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
         return globalIndexRangeKeyPropertyNames.contains(propertyName);
     }
 
+    /**
+     * Gets the names of the properties that are range keys of a global or local secondary index.
+     *
+     * @return an unmodifiable view of the property names
+     */
+    @NonNull
+    protected Set<String> getGlobalIndexRangeKeyPropertyNames() {
+        return Collections.unmodifiableSet(globalIndexRangeKeyPropertyNames);
+    }
+
 }
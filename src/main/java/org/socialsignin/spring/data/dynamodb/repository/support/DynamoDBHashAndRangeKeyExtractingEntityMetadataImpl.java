@@ -20,13 +20,13 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
-import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Entity metadata implementation for DynamoDB entities with both hash and range keys.
@@ -42,6 +42,11 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
     @NonNull
     private final DynamoDBHashAndRangeKeyMethodExtractor<T> hashAndRangeKeyMethodExtractor;
 
+    @NonNull
+    private final Set<String> indexRangeKeyPropertyNames;
+    @NonNull
+    private final Map<String, Boolean> compositeHashAndRangeKeyProperties = new ConcurrentHashMap<>();
+
     @Nullable
     private Method hashKeySetterMethod;
     @Nullable
@@ -55,6 +60,7 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
     public DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl(@NonNull final Class<T> domainType) {
         super(domainType);
         this.hashAndRangeKeyMethodExtractor = new DynamoDBHashAndRangeKeyMethodExtractorImpl<>(getJavaType());
+        this.indexRangeKeyPropertyNames = getGlobalIndexRangeKeyPropertyNames();
         ReflectionUtils.doWithMethods(domainType, method -> {
             if (method.getAnnotation(DynamoDbPartitionKey.class) != null) {
                 String setterMethodName = toSetterMethodNameFromAccessorMethod(method);
@@ -93,24 +99,7 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
     @NonNull
     @Override
     public Set<String> getIndexRangeKeyPropertyNames() {
-        final Set<String> propertyNames = new HashSet<>();
-        ReflectionUtils.doWithMethods(getJavaType(), method -> {
-            if (method.getAnnotation(DynamoDbSecondarySortKey.class) != null) {
-                if (method.getAnnotation(DynamoDbSecondarySortKey.class).indexNames() != null
-                        && method.getAnnotation(DynamoDbSecondarySortKey.class).indexNames().length > 0) {
-                    propertyNames.add(getPropertyNameForAccessorMethod(method));
-                }
-            }
-        });
-        ReflectionUtils.doWithFields(getJavaType(), field -> {
-            if (field.getAnnotation(DynamoDbSecondarySortKey.class) != null) {
-                if (field.getAnnotation(DynamoDbSecondarySortKey.class).indexNames() != null
-                        && field.getAnnotation(DynamoDbSecondarySortKey.class).indexNames().length > 0) {
-                    propertyNames.add(getPropertyNameForField(field));
-                }
-            }
-        });
-        return propertyNames;
+        return indexRangeKeyPropertyNames;
     }
 
     @NonNull
@@ -133,7 +122,7 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 
     @Override
     public boolean isCompositeHashAndRangeKeyProperty(@NonNull String propertyName) {
-        return isFieldAnnotatedWith(propertyName);
+        return compositeHashAndRangeKeyProperties.computeIfAbsent(propertyName, this::isFieldAnnotatedWith);
     }
 
 }
@@ -18,8 +18,12 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
+import org.socialsignin.spring.data.dynamodb.core.RateLimitConfig;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.RateLimited;
 import org.socialsignin.spring.data.dynamodb.repository.query.DynamoDBQueryLookupStrategy;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -112,9 +116,8 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
     @Override
     public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(@NonNull final Class<T> domainClass) {
 
-        final DynamoDBEntityMetadataSupport<T, ID> metadata = new DynamoDBEntityMetadataSupport<>(domainClass,
+        return DynamoDBEntityInformationRegistry.getInstance().getEntityInformation(domainClass,
                 this.dynamoDBOperations);
-        return metadata.getEntityInformation();
     }
 
     @NonNull
@@ -135,10 +138,24 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
     @NonNull
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected <T, ID> DynamoDBCrudRepository<?, ?> getDynamoDBRepository(@NonNull RepositoryMetadata metadata) {
+        registerRateLimit(metadata);
         return new SimpleDynamoDBPagingAndSortingRepository(getEntityInformation(metadata.getDomainType()),
                 dynamoDBOperations, getEnableScanPermissions(metadata));
     }
 
+    /**
+     * Registers the {@link RateLimited} limits of the repository with the table of its domain type.
+     * @param metadata the repository metadata
+     */
+    protected void registerRateLimit(@NonNull RepositoryMetadata metadata) {
+        RateLimited rateLimited = AnnotatedElementUtils.findMergedAnnotation(metadata.getRepositoryInterface(),
+                RateLimited.class);
+        if (rateLimited != null && dynamoDBOperations instanceof DynamoDBTemplate template) {
+            template.setRateLimitConfig(metadata.getDomainType(), new RateLimitConfig(
+                    rateLimited.readCapacityUnitsPerSecond(), rateLimited.writeCapacityUnitsPerSecond()));
+        }
+    }
+
     /**
      * Gets the scan permissions for the given repository metadata.
      * @param metadata the repository metadata
@@ -56,12 +56,22 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
         assert dynamoDBOperations != null;
         assert tableSynchronizer != null;
         assert dynamoDBMappingContextProcessor != null;
-        DynamoDBRepositoryFactory dynamoDBRepositoryFactory = new DynamoDBRepositoryFactory(dynamoDBOperations);
+        DynamoDBRepositoryFactory dynamoDBRepositoryFactory = createDynamoDBRepositoryFactory(dynamoDBOperations);
         dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(tableSynchronizer);
         dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(dynamoDBMappingContextProcessor);
         return dynamoDBRepositoryFactory;
     }
 
+    /**
+     * Creates the repository factory. Subclasses may return a specialized factory.
+     * @param dynamoDBOperations the DynamoDB operations
+     * @return the repository factory
+     */
+    @NonNull
+    protected DynamoDBRepositoryFactory createDynamoDBRepositoryFactory(@NonNull DynamoDBOperations dynamoDBOperations) {
+        return new DynamoDBRepositoryFactory(dynamoDBOperations);
+    }
+
     /**
      * Sets the DynamoDB mapping context processor.
      * @param dynamoDBMappingContextProcessor the mapping context processor
@@ -39,53 +39,72 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
     private boolean countUnpaginatedScanEnabled = false;
     private boolean deleteAllUnpaginatedScanEnabled = false;
 
+    private int findAllScanSegments = 1;
+    private int countScanSegments = 1;
+    private int deleteAllScanSegments = 1;
+
     /**
      * Creates a new EnableScanAnnotationPermissions for the given repository interface.
      * @param repositoryInterface the repository interface to check for scan annotations
      */
     public EnableScanAnnotationPermissions(@NonNull Class<?> repositoryInterface) {
         // Check to see if global EnableScan is declared at interface level
-        if (repositoryInterface.isAnnotationPresent(EnableScan.class)) {
+        EnableScan repositoryEnableScan = repositoryInterface.getAnnotation(EnableScan.class);
+        if (repositoryEnableScan != null) {
             this.findAllUnpaginatedScanEnabled = true;
             this.countUnpaginatedScanEnabled = true;
             this.deleteAllUnpaginatedScanEnabled = true;
             this.findAllPaginatedScanEnabled = true;
-        } else {
-            // Process all method annotations in a single iteration for efficiency
-            // This consolidates three separate loops into one, reducing iteration overhead from O(3n) to O(n)
-            Method[] methods = ReflectionUtils.getAllDeclaredMethods(repositoryInterface);
-            for (Method method : methods) {
-                String methodName = method.getName();
-                Class<?>[] paramTypes = method.getParameterTypes();
-                int paramCount = paramTypes.length;
-
-                // Check for @EnableScan annotation
-                if (method.isAnnotationPresent(EnableScan.class)) {
-                    if (paramCount == 0) {
-                        // Methods with no parameters: findAll(), deleteAll(), count()
-                        switch (methodName) {
-                            case "findAll" -> findAllUnpaginatedScanEnabled = true;
-                            case "deleteAll" -> deleteAllUnpaginatedScanEnabled = true;
-                            case "count" -> countUnpaginatedScanEnabled = true;
+            this.findAllScanSegments = repositoryEnableScan.segments();
+            this.countScanSegments = repositoryEnableScan.segments();
+            this.deleteAllScanSegments = repositoryEnableScan.segments();
+        }
+
+        // Process all method annotations in a single iteration for efficiency, method level segments override the
+        // repository level ones
+        // This consolidates three separate loops into one, reducing iteration overhead from O(3n) to O(n)
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(repositoryInterface);
+        for (Method method : methods) {
+            String methodName = method.getName();
+            Class<?>[] paramTypes = method.getParameterTypes();
+            int paramCount = paramTypes.length;
+
+            // Check for @EnableScan annotation
+            EnableScan enableScan = method.getAnnotation(EnableScan.class);
+            if (enableScan != null) {
+                if (paramCount == 0) {
+                    // Methods with no parameters: findAll(), deleteAll(), count()
+                    switch (methodName) {
+                        case "findAll" -> {
+                            findAllUnpaginatedScanEnabled = true;
+                            findAllScanSegments = enableScan.segments();
+                        }
+                        case "deleteAll" -> {
+                            deleteAllUnpaginatedScanEnabled = true;
+                            deleteAllScanSegments = enableScan.segments();
                         }
-                    } else if (paramCount == 1 && "findAll".equals(methodName)) {
-                        // Methods with single Pageable parameter: findAll(Pageable)
-                        // Cache paramTypes array to avoid multiple getParameterTypes() calls
-                        // Check array bounds defensively before accessing [0]
-                        if (Pageable.class.isAssignableFrom(paramTypes[0])) {
-                            findAllPaginatedScanEnabled = true;
+                        case "count" -> {
+                            countUnpaginatedScanEnabled = true;
+                            countScanSegments = enableScan.segments();
                         }
                     }
+                } else if (paramCount == 1 && "findAll".equals(methodName)) {
+                    // Methods with single Pageable parameter: findAll(Pageable)
+                    // Cache paramTypes array to avoid multiple getParameterTypes() calls
+                    // Check array bounds defensively before accessing [0]
+                    if (Pageable.class.isAssignableFrom(paramTypes[0])) {
+                        findAllPaginatedScanEnabled = true;
+                    }
                 }
+            }
 
-                // Check for @EnableScanCount annotation
-                if (method.isAnnotationPresent(EnableScanCount.class)) {
-                    if (paramCount == 1 && "findAll".equals(methodName)) {
-                        // Use cached paramTypes array from above
-                        // paramCount == 1 guarantees paramTypes[0] exists
-                        if (Pageable.class.isAssignableFrom(paramTypes[0])) {
-                            findAllUnpaginatedScanCountEnabled = true;
-                        }
+            // Check for @EnableScanCount annotation
+            if (method.isAnnotationPresent(EnableScanCount.class)) {
+                if (paramCount == 1 && "findAll".equals(methodName)) {
+                    // Use cached paramTypes array from above
+                    // paramCount == 1 guarantees paramTypes[0] exists
+                    if (Pageable.class.isAssignableFrom(paramTypes[0])) {
+                        findAllUnpaginatedScanCountEnabled = true;
                     }
                 }
             }
@@ -123,4 +142,19 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
         return findAllPaginatedScanEnabled;
     }
 
+    @Override
+    public int getFindAllScanSegments() {
+        return findAllScanSegments;
+    }
+
+    @Override
+    public int getCountScanSegments() {
+        return countScanSegments;
+    }
+
+    @Override
+    public int getDeleteAllScanSegments() {
+        return deleteAllScanSegments;
+    }
+
 }
@@ -51,4 +51,31 @@ public interface EnableScanPermissions {
      */
     boolean isCountUnpaginatedScanEnabled();
 
+    /**
+     * Gets the number of segments the unpaginated findAll scan is split into.
+     * @return the number of segments, 1 scans sequentially
+     * @since 8.0.1
+     */
+    default int getFindAllScanSegments() {
+        return 1;
+    }
+
+    /**
+     * Gets the number of segments the unpaginated count scan is split into.
+     * @return the number of segments, 1 counts sequentially
+     * @since 8.0.1
+     */
+    default int getCountScanSegments() {
+        return 1;
+    }
+
+    /**
+     * Gets the number of segments the unpaginated deleteAll scan is split into.
+     * @return the number of segments, 1 scans sequentially
+     * @since 8.0.1
+     */
+    default int getDeleteAllScanSegments() {
+        return 1;
+    }
+
 }
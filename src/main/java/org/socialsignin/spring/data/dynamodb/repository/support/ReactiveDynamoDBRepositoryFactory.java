@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.query.DynamoDBQueryLookupStrategy;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+
+/**
+ * Repository factory creating {@link org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository}
+ * instances.
+ * <p>
+ * Entity metadata and derived queries are built exactly like for blocking repositories, while all I/O is
+ * executed on the given {@link DynamoDBAsyncOperations}.
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class ReactiveDynamoDBRepositoryFactory extends DynamoDBRepositoryFactory {
+
+    private final DynamoDBOperations dynamoDBOperations;
+    private final DynamoDBAsyncOperations asyncOperations;
+
+    /**
+     * Creates a new reactive DynamoDB repository factory.
+     * @param dynamoDBOperations the DynamoDB operations used for entity metadata and query derivation
+     * @param asyncOperations the asynchronous DynamoDB operations used for query execution
+     */
+    public ReactiveDynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations,
+                                             DynamoDBAsyncOperations asyncOperations) {
+        super(dynamoDBOperations);
+        Assert.notNull(asyncOperations, "asyncOperations must not be null!");
+        this.dynamoDBOperations = dynamoDBOperations;
+        this.asyncOperations = asyncOperations;
+    }
+
+    @NonNull
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+                                                                   @NonNull ValueExpressionDelegate valueExpressionDelegate) {
+        return Optional.of(DynamoDBQueryLookupStrategy.create(dynamoDBOperations, asyncOperations, key));
+    }
+
+    @NonNull
+    @Override
+    protected Class<?> getRepositoryBaseClass(@NonNull RepositoryMetadata metadata) {
+        return SimpleReactiveDynamoDBCrudRepository.class;
+    }
+
+    @NonNull
+    @Override
+    protected Object getTargetRepository(@NonNull RepositoryInformation metadata) {
+        return new SimpleReactiveDynamoDBCrudRepository<>(getEntityInformation(metadata.getDomainType()),
+                asyncOperations, getEnableScanPermissions(metadata));
+    }
+}
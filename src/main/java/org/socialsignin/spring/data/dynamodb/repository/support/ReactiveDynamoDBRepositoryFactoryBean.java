@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.Repository;
+import org.springframework.lang.NonNull;
+
+import java.io.Serializable;
+
+/**
+ * {@link DynamoDBRepositoryFactoryBean} creating
+ * {@link org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository reactive repositories}.
+ * <p>
+ * Requires a {@link DynamoDBAsyncOperations} bean in addition to the regular DynamoDB configuration. Enable via
+ * {@code @EnableDynamoDBRepositories(repositoryFactoryBeanClass = ReactiveDynamoDBRepositoryFactoryBean.class)}.
+ * @param <T> the type of the repository
+ * @param <S> the entity type
+ * @param <ID> the ID type
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class ReactiveDynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+        extends DynamoDBRepositoryFactoryBean<T, S, ID> {
+
+    private DynamoDBAsyncOperations asyncOperations;
+
+    /**
+     * Creates a new ReactiveDynamoDBRepositoryFactoryBean for the given repository interface.
+     * @param repositoryInterface the repository interface
+     */
+    public ReactiveDynamoDBRepositoryFactoryBean(@NonNull Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    @NonNull
+    @Override
+    protected DynamoDBRepositoryFactory createDynamoDBRepositoryFactory(@NonNull DynamoDBOperations dynamoDBOperations) {
+        assert asyncOperations != null;
+        return new ReactiveDynamoDBRepositoryFactory(dynamoDBOperations, asyncOperations);
+    }
+
+    /**
+     * Sets the asynchronous DynamoDB operations.
+     * @param asyncOperations the asynchronous DynamoDB operations
+     */
+    @Autowired
+    public void setDynamoDBAsyncOperations(DynamoDBAsyncOperations asyncOperations) {
+        this.asyncOperations = asyncOperations;
+    }
+}
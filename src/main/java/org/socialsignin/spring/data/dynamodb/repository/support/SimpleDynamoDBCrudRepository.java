@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import org.socialsignin.spring.data.dynamodb.core.BatchWriteResults;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
 import org.socialsignin.spring.data.dynamodb.utils.SortHandler;
@@ -30,6 +33,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -76,7 +80,7 @@ public class SimpleDynamoDBCrudRepository<T, ID>
      * @param value The value to convert
      * @return The AttributeValue representation
      */
-    private AttributeValue toAttributeValue(@NonNull Object value) {
+    static AttributeValue toAttributeValue(@NonNull Object value) {
         return switch (value) {
             case String s -> AttributeValue.builder().s(s).build();
             case Number number -> AttributeValue.builder().n(value.toString()).build();
@@ -171,7 +175,7 @@ public class SimpleDynamoDBCrudRepository<T, ID>
             // Throw exception with actual unprocessed entities
             throw repackageToException(
                     unprocessedEntities,
-                    0, // SDK v2 client handles retries internally
+                    BatchWriteResults.retriesAttempted(batchResults),
                     null, // No exception, just unprocessed items
                     BatchWriteException.class);
         }
@@ -181,7 +185,8 @@ public class SimpleDynamoDBCrudRepository<T, ID>
     public boolean existsById(@NonNull ID id) {
 
         Assert.notNull(id, "The given id must not be null!");
-        return findById(id).isPresent();
+        Object rangeKey = entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null;
+        return dynamoDBOperations.exists(domainType, entityInformation.getHashKey(id), rangeKey);
     }
 
     void assertScanEnabled(boolean scanEnabled, String methodName) {
@@ -196,7 +201,26 @@ public class SimpleDynamoDBCrudRepository<T, ID>
     public List<T> findAll() {
 
         assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
+        return scanAll(enableScanPermissions.getFindAllScanSegments());
+    }
+
+    @NonNull
+    @Override
+    public Stream<T> streamAll() {
+
+        assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "streamAll");
+        MultipleEntityScanExpressionQuery<T> query = new MultipleEntityScanExpressionQuery<>(dynamoDBOperations,
+                domainType, ScanEnhancedRequest.builder().build());
+        query.setScanEnabled(true);
+        return query.getResultStream();
+    }
+
+    @NonNull
+    private List<T> scanAll(int segments) {
         ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().build();
+        if (segments > 1) {
+            return dynamoDBOperations.parallelScan(domainType, scanRequest, segments);
+        }
         return dynamoDBOperations.scan(domainType, scanRequest).items().stream().toList();
     }
 
@@ -204,6 +228,10 @@ public class SimpleDynamoDBCrudRepository<T, ID>
     public long count() {
         assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
         final ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().build();
+        int segments = enableScanPermissions.getCountScanSegments();
+        if (segments > 1) {
+            return dynamoDBOperations.parallelCount(domainType, scanRequest, segments);
+        }
         return dynamoDBOperations.count(domainType, scanRequest);
     }
 
@@ -235,18 +263,40 @@ public class SimpleDynamoDBCrudRepository<T, ID>
         deleteAll(findAllById(bla));
     }
 
+    /**
+     * {@inheritDoc}
+     * @throws BatchDeleteException
+     *             in case of an error during deleting
+     */
     @Override
-    public void deleteAll(@NonNull Iterable<? extends T> entities) {
+    public void deleteAll(@NonNull Iterable<? extends T> entities) throws BatchDeleteException {
 
         Assert.notNull(entities, "The given Iterable of entities not be null!");
-        dynamoDBOperations.batchDelete(entities);
+
+        Map<Class<?>, List<Object>> entitiesByClass = new HashMap<>();
+        for (T entity : entities) {
+            entitiesByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+        }
+
+        List<BatchWriteResult> batchResults = dynamoDBOperations.batchDelete(entities);
+
+        List<Object> unprocessedEntities = dynamoDBOperations.extractUnprocessedDeleteItems(
+                batchResults, entitiesByClass);
+        if (!unprocessedEntities.isEmpty()) {
+            throw repackageToException(
+                    unprocessedEntities,
+                    BatchWriteResults.retriesAttempted(batchResults),
+                    null, // No exception, just unprocessed items
+                    BatchDeleteException.class);
+        }
     }
 
     @Override
     public void deleteAll() {
 
         assertScanEnabled(enableScanPermissions.isDeleteAllUnpaginatedScanEnabled(), "deleteAll");
-        dynamoDBOperations.batchDelete(findAll());
+        int segments = enableScanPermissions.getDeleteAllScanSegments();
+        dynamoDBOperations.batchDelete(segments > 1 ? scanAll(segments) : findAll());
     }
 
     /**
@@ -16,11 +16,16 @@
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
+import org.socialsignin.spring.data.dynamodb.core.PageTokenCache;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
@@ -69,6 +74,13 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
         ensureNoSort(pageable);
 
+        PageTokenCache pageTokenCache = dynamoDBOperations instanceof DynamoDBTemplate template
+                ? template.getPageTokenCache()
+                : null;
+        if (pageTokenCache != null && pageable.isPaged()) {
+            return findPageFromCheckpoint(pageable, pageTokenCache);
+        }
+
         // Scan to the end of the page after the requested page
         long scanTo = pageable.getOffset() + (2L * pageable.getPageSize());
         ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder()
@@ -96,6 +108,43 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
     }
 
+    /**
+     * Scans only the requested page, continuing at the checkpoint the page token cache holds for its offset or an
+     * earlier one, instead of scanning all entities before it.
+     */
+    @NonNull
+    private Page<T> findPageFromCheckpoint(@NonNull Pageable pageable, @NonNull PageTokenCache pageTokenCache) {
+        assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(), "findAll(Pageable pageable)");
+        assertScanCountEnabled(enableScanPermissions.isFindAllUnpaginatedScanCountEnabled(),
+                "findAll(Pageable pageable)");
+
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().build();
+        MultipleEntityScanExpressionQuery<T> query = new MultipleEntityScanExpressionQuery<>(dynamoDBOperations,
+                domainType, scanRequest);
+        query.setScanEnabled(true);
+        query.setPageTokenCache(pageTokenCache);
+        List<T> results = query.getResultPage(pageable.getOffset(), pageable.getPageSize()).items();
+        if (results.isEmpty() && pageable.getOffset() > 0) {
+            return new PageImpl<>(new ArrayList<>());
+        }
+
+        long totalCount = dynamoDBOperations.count(domainType, scanRequest);
+        return new PageImpl<>(results, pageable, totalCount);
+    }
+
+    @NonNull
+    @Override
+    public Window<T> findAll(@NonNull ScrollPosition scrollPosition, int size) {
+        Assert.notNull(scrollPosition, "scrollPosition must not be null!");
+        assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(),
+                "findAll(ScrollPosition scrollPosition, int size)");
+
+        MultipleEntityScanExpressionQuery<T> query = new MultipleEntityScanExpressionQuery<>(dynamoDBOperations,
+                domainType, ScanEnhancedRequest.builder().build());
+        query.setScanEnabled(true);
+        return query.getResultWindow(scrollPosition, size);
+    }
+
     private long scanThroughResults(@NonNull Iterator<T> paginatedScanListIterator, long resultsToScan) {
         long processed = 0;
         while (paginatedScanListIterator.hasNext() && processed < resultsToScan) {
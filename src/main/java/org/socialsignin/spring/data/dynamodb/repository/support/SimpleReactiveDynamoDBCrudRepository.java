@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.socialsignin.spring.data.dynamodb.utils.FuturePublisher;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+/**
+ * Default implementation of the {@link ReactiveDynamoDBCrudRepository} interface backed by
+ * {@link DynamoDBAsyncOperations}.
+ * @param <T>
+ *            the type of the entity to handle
+ * @param <ID>
+ *            the type of the entity's identifier
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public class SimpleReactiveDynamoDBCrudRepository<T, ID> implements ReactiveDynamoDBCrudRepository<T, ID>, ExceptionHandler {
+
+    /** The entity information for this repository */
+    protected final DynamoDBEntityInformation<T, ID> entityInformation;
+
+    /** The domain class type */
+    protected final Class<T> domainType;
+
+    /** The scan permissions configuration */
+    protected final EnableScanPermissions enableScanPermissions;
+
+    /** The asynchronous DynamoDB operations instance */
+    protected final DynamoDBAsyncOperations asyncOperations;
+
+    /**
+     * Creates a new SimpleReactiveDynamoDBCrudRepository.
+     * @param entityInformation the entity information
+     * @param asyncOperations the asynchronous DynamoDB operations
+     * @param enableScanPermissions the scan permissions configuration
+     */
+    public SimpleReactiveDynamoDBCrudRepository(@NonNull DynamoDBEntityInformation<T, ID> entityInformation,
+                                                DynamoDBAsyncOperations asyncOperations,
+                                                EnableScanPermissions enableScanPermissions) {
+        Assert.notNull(entityInformation, "entityInformation must not be null");
+        Assert.notNull(asyncOperations, "asyncOperations must not be null");
+
+        this.entityInformation = entityInformation;
+        this.asyncOperations = asyncOperations;
+        this.domainType = entityInformation.getJavaType();
+        this.enableScanPermissions = enableScanPermissions;
+    }
+
+    @NonNull
+    @Override
+    public <S extends T> Publisher<S> save(@NonNull S entity) {
+        Assert.notNull(entity, "The entity must not be null!");
+        return FuturePublisher.of(() -> asyncOperations.save(entity));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Signals a {@link BatchWriteException} if entities remain unprocessed.
+     */
+    @NonNull
+    @Override
+    public <S extends T> Publisher<S> saveAll(@NonNull Iterable<S> entities) {
+        Assert.notNull(entities, "The given Iterable of entities not be null!");
+
+        Map<Class<?>, List<Object>> entitiesByClass = groupByClass(entities);
+        return FuturePublisher.ofIterable(() -> asyncOperations.batchSave(entities).thenApply(batchResults -> {
+            List<Object> unprocessedEntities = asyncOperations.extractUnprocessedPutItems(batchResults, entitiesByClass);
+            if (!unprocessedEntities.isEmpty()) {
+                throw repackageToException(unprocessedEntities, 0, null, BatchWriteException.class);
+            }
+            return entities;
+        }));
+    }
+
+    @NonNull
+    @Override
+    public Publisher<T> findById(@NonNull ID id) {
+        Assert.notNull(id, "The given id must not be null!");
+        return FuturePublisher.of(() -> load(id));
+    }
+
+    @NonNull
+    @Override
+    public Publisher<Boolean> existsById(@NonNull ID id) {
+        Assert.notNull(id, "The given id must not be null!");
+        return FuturePublisher.of(() -> load(id).thenApply(Objects::nonNull));
+    }
+
+    @NonNull
+    private CompletableFuture<T> load(@NonNull ID id) {
+        if (entityInformation.isRangeKeyAware()) {
+            return asyncOperations.load(domainType, entityInformation.getHashKey(id),
+                    entityInformation.getRangeKey(id));
+        }
+        return asyncOperations.load(domainType, entityInformation.getHashKey(id));
+    }
+
+    void assertScanEnabled(boolean scanEnabled, String methodName) {
+        Assert.isTrue(scanEnabled, "Scanning for unpaginated " + methodName + "() queries is not enabled.  "
+                + "To enable, re-implement the " + methodName
+                + "() method in your repository interface and annotate with @EnableScan, or "
+                + "enable scanning for all repository methods by annotating your repository interface with @EnableScan");
+    }
+
+    @NonNull
+    @Override
+    public Publisher<T> findAll() {
+        assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
+        return asyncOperations.scanPublisher(domainType, ScanEnhancedRequest.builder().build()).items();
+    }
+
+    @NonNull
+    @Override
+    public Publisher<T> findAllById(@NonNull Iterable<ID> ids) {
+        Assert.notNull(ids, "The given ids must not be null!");
+
+        AtomicInteger idx = new AtomicInteger();
+        List<Key> keys = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+
+            Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
+
+            Key.Builder key = Key.builder().partitionValue(SimpleDynamoDBCrudRepository
+                    .toAttributeValue(Objects.requireNonNull(entityInformation.getHashKey(id))));
+            if (entityInformation.isRangeKeyAware()) {
+                key.sortValue(SimpleDynamoDBCrudRepository
+                        .toAttributeValue(Objects.requireNonNull(entityInformation.getRangeKey(id))));
+            }
+            return key.build();
+        }).toList();
+
+        return FuturePublisher.ofIterable(
+                () -> asyncOperations.<T>batchLoad(Collections.singletonMap(domainType, keys)));
+    }
+
+    @NonNull
+    @Override
+    public Publisher<Long> count() {
+        assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
+        return FuturePublisher.of(() -> asyncOperations.count(domainType, ScanEnhancedRequest.builder().build())
+                .thenApply(Integer::longValue));
+    }
+
+    @NonNull
+    @Override
+    public Publisher<Void> deleteById(@NonNull ID id) {
+        Assert.notNull(id, "The given id must not be null!");
+
+        return FuturePublisher.of(() -> load(id).thenCompose(entity -> {
+            if (entity == null) {
+                throw new EmptyResultDataAccessException(
+                        String.format("No %s entity with id %s exists!", domainType, id), 1);
+            }
+            return asyncOperations.delete(entity).thenApply(deleted -> (Void) null);
+        }));
+    }
+
+    @NonNull
+    @Override
+    public Publisher<Void> delete(@NonNull T entity) {
+        Assert.notNull(entity, "The entity must not be null!");
+        return FuturePublisher.of(() -> asyncOperations.delete(entity).thenApply(deleted -> (Void) null));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Signals a {@link BatchDeleteException} if entities remain unprocessed.
+     */
+    @NonNull
+    @Override
+    public Publisher<Void> deleteAll(@NonNull Iterable<? extends T> entities) {
+        Assert.notNull(entities, "The given Iterable of entities not be null!");
+
+        Map<Class<?>, List<Object>> entitiesByClass = groupByClass(entities);
+        return FuturePublisher.of(() -> asyncOperations.batchDelete(entities).thenApply(batchResults -> {
+            List<Object> unprocessedEntities = asyncOperations.extractUnprocessedDeleteItems(batchResults, entitiesByClass);
+            if (!unprocessedEntities.isEmpty()) {
+                throw repackageToException(unprocessedEntities, 0, null, BatchDeleteException.class);
+            }
+            return (Void) null;
+        }));
+    }
+
+    @NonNull
+    private static Map<Class<?>, List<Object>> groupByClass(@NonNull Iterable<?> entities) {
+        Map<Class<?>, List<Object>> entitiesByClass = new HashMap<>();
+        for (Object entity : entities) {
+            entitiesByClass.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+        }
+        return entitiesByClass;
+    }
+
+    /**
+     * Gets the entity information for this repository.
+     * @return the entity information
+     */
+    @NonNull
+    public DynamoDBEntityInformation<T, ID> getEntityInformation() {
+        return this.entityInformation;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.utils;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.lang.NonNull;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link SdkPublisher} that emits the outcome of a {@link CompletableFuture}.
+ * <p>
+ * Bridges the future-based {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations} to the
+ * Reactive Streams {@link org.reactivestreams.Publisher} contract without requiring a reactive library. The
+ * publisher is cold: the future is obtained from its supplier on the first request of each subscription, so nothing
+ * is executed until a subscriber signals demand, and every subscription executes the operation again. A
+ * {@code null} result completes the publisher without emitting an element, a failed future is signalled via
+ * {@link Subscriber#onError(Throwable)} with the {@link CompletionException} unwrapped, and iterable results are
+ * emitted element by element according to the subscriber's demand.
+ * @param <T> the element type
+ * @author Prasanna Kumar Ramachandran
+ * @since 8.0.1
+ */
+public final class FuturePublisher<T> implements SdkPublisher<T> {
+
+    @NonNull
+    private final Supplier<? extends CompletableFuture<? extends Iterable<? extends T>>> futureSupplier;
+
+    private FuturePublisher(
+            @NonNull Supplier<? extends CompletableFuture<? extends Iterable<? extends T>>> futureSupplier) {
+        this.futureSupplier = futureSupplier;
+    }
+
+    /**
+     * Creates a publisher emitting at most one element, the value of the future returned by the given supplier.
+     * @param futureSupplier starts the operation to publish, called on the first request of each subscription
+     * @param <T> the element type
+     * @return publisher emitting the future's value, or completing empty if the value is {@code null}
+     */
+    @NonNull
+    public static <T> SdkPublisher<T> of(@NonNull Supplier<CompletableFuture<T>> futureSupplier) {
+        Objects.requireNonNull(futureSupplier, "futureSupplier must not be null");
+        return new FuturePublisher<T>(() -> futureSupplier.get()
+                .thenApply(value -> value != null ? List.of(value) : List.<T>of()));
+    }
+
+    /**
+     * Creates a publisher emitting every element of the iterable the future returned by the given supplier completes
+     * with.
+     * @param futureSupplier starts the operation to publish, called on the first request of each subscription
+     * @param <T> the element type
+     * @return publisher emitting the elements on demand
+     */
+    @NonNull
+    public static <T> SdkPublisher<T> ofIterable(
+            @NonNull Supplier<? extends CompletableFuture<? extends Iterable<? extends T>>> futureSupplier) {
+        Objects.requireNonNull(futureSupplier, "futureSupplier must not be null");
+        return new FuturePublisher<>(futureSupplier);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        subscriber.onSubscribe(new FutureSubscription<>(subscriber, futureSupplier));
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static final class FutureSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final Supplier<? extends CompletableFuture<? extends Iterable<? extends T>>> futureSupplier;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile Iterator<? extends T> iterator;
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+        // Only accessed from within the serialized drain loop
+        private boolean done;
+
+        FutureSubscription(Subscriber<? super T> subscriber,
+                           Supplier<? extends CompletableFuture<? extends Iterable<? extends T>>> futureSupplier) {
+            this.subscriber = subscriber;
+            this.futureSupplier = futureSupplier;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reactive Streams rule 3.9
+                error = new IllegalArgumentException("Requested element count must be positive but was " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+                if (!cancelled && started.compareAndSet(false, true)) {
+                    start();
+                }
+            }
+            drain();
+        }
+
+        private void start() {
+            CompletableFuture<? extends Iterable<? extends T>> future;
+            try {
+                future = Objects.requireNonNull(futureSupplier.get(), "futureSupplier returned null");
+            } catch (RuntimeException e) {
+                error = e;
+                return;
+            }
+            future.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    error = unwrap(throwable);
+                } else {
+                    iterator = result != null ? result.iterator() : Collections.emptyIterator();
+                }
+                drain();
+            });
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!done && !cancelled) {
+                    Throwable failure = error;
+                    Iterator<? extends T> source = iterator;
+                    if (failure != null) {
+                        done = true;
+                        subscriber.onError(failure);
+                    } else if (source != null) {
+                        long demand = requested.get();
+                        long emitted = 0;
+                        while (emitted != demand && !cancelled && source.hasNext()) {
+                            subscriber.onNext(source.next());
+                            emitted++;
+                        }
+                        if (emitted > 0 && demand != Long.MAX_VALUE) {
+                            // Unbounded demand stays unbounded (Reactive Streams rule 3.17)
+                            requested.addAndGet(-emitted);
+                        }
+                        if (!cancelled && !source.hasNext()) {
+                            done = true;
+                            subscriber.onComplete();
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
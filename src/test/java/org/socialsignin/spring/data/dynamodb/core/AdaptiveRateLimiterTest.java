@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AdaptiveRateLimiter}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class AdaptiveRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RateLimitConfig config;
+
+    @BeforeEach
+    public void setUp() {
+        config = new RateLimitConfig.Builder()
+                .minCapacityUnitsPerSecond(10)
+                .decreaseFactor(0.5)
+                .recoveryRatePerSecond(0.05)
+                .build();
+    }
+
+    private AdaptiveRateLimiter limiter(double capacityUnitsPerSecond) {
+        return new AdaptiveRateLimiter(capacityUnitsPerSecond, config, clock::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    public void unlimitedPassesRequestsThrough() {
+        AdaptiveRateLimiter limiter = limiter(RateLimitConfig.UNLIMITED);
+
+        assertFalse(limiter.isLimited());
+        assertEquals("ok", limiter.execute(1_000_000, () -> "ok", response -> null));
+        limiter.onThrottle();
+        assertEquals(0, limiter.getRate());
+    }
+
+    @Test
+    public void throttleDecreasesRateMultiplicativelyDownToMinimum() {
+        AdaptiveRateLimiter limiter = limiter(100);
+
+        limiter.onThrottle();
+        assertEquals(50, limiter.getRate(), 0.001);
+        limiter.onThrottle();
+        assertEquals(25, limiter.getRate(), 0.001);
+        limiter.onThrottle();
+        limiter.onThrottle();
+        assertEquals(10, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void rateRecoversLinearlyUpToCeiling() {
+        AdaptiveRateLimiter limiter = limiter(100);
+        limiter.onThrottle();
+
+        advanceSeconds(2);
+        assertEquals(60, limiter.getRate(), 0.001);
+
+        advanceSeconds(60);
+        assertEquals(100, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void throttlingExceptionDecreasesRateAndIsRethrown() {
+        AdaptiveRateLimiter limiter = limiter(100);
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder()
+                .message("throttled")
+                .build();
+
+        ProvisionedThroughputExceededException thrown = assertThrows(ProvisionedThroughputExceededException.class,
+                () -> limiter.execute(1, () -> {
+                    throw throttled;
+                }, response -> null));
+
+        assertSame(throttled, thrown);
+        assertEquals(50, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void otherExceptionsLeaveRateUnchanged() {
+        AdaptiveRateLimiter limiter = limiter(100);
+
+        assertThrows(IllegalStateException.class, () -> limiter.execute(1, () -> {
+            throw new IllegalStateException("boom");
+        }, response -> null));
+
+        assertEquals(100, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void executeRecordsConsumedCapacity() {
+        AdaptiveRateLimiter limiter = limiter(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        String response = limiter.execute(1, () -> {
+            calls.incrementAndGet();
+            return "page";
+        }, page -> ConsumedCapacity.builder().capacityUnits(40.0).build());
+
+        assertEquals("page", response);
+        assertEquals(1, calls.get());
+        // 40 of the 100 units of the initial burst are spent, so 60 more fit without waiting
+        long start = System.nanoTime();
+        limiter.acquire(60);
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void interruptedWaitGivesReservationBackAndSendsNoRequest() {
+        AdaptiveRateLimiter limiter = limiter(10);
+        AtomicInteger calls = new AtomicInteger();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class, () -> limiter.execute(20, () -> calls.incrementAndGet(),
+                    response -> null));
+            assertTrue(Thread.currentThread().isInterrupted());
+            assertEquals(0, calls.get());
+
+            // The 20 units were given back, so the initial burst of 10 is available without waiting
+            limiter.acquire(10);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void isThrottlingRecognizesThrottlingErrors() {
+        assertTrue(AdaptiveRateLimiter.isThrottling(ProvisionedThroughputExceededException.builder().build()));
+        assertFalse(AdaptiveRateLimiter.isThrottling(new IllegalStateException()));
+        assertFalse(AdaptiveRateLimiter.isThrottling(null));
+    }
+}
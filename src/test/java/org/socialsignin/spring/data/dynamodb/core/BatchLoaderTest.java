@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchLoadException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BatchLoader}.
+ * @author Prasanna Kumar Ramachandran
+ */
+@ExtendWith(MockitoExtension.class)
+public class BatchLoaderTest {
+
+    private static final BatchWriteRetryConfig FAST_RETRIES = new BatchWriteRetryConfig.Builder()
+            .maxRetries(2)
+            .baseDelayMs(1L)
+            .maxDelayMs(1L)
+            .useJitter(false)
+            .build();
+
+    @Mock
+    private DynamoDbEnhancedClient enhancedClient;
+    @Mock
+    private DynamoDbTable<User> userTable;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        lenient().when(userTable.tableName()).thenReturn("User");
+        lenient().when(userTable.keyFrom(any())).thenAnswer(invocation ->
+                key(invocation.<User>getArgument(0).getId()));
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+
+    private static User user(String id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private BatchGetResultPageIterable pages(List<User> results, List<Key> unprocessedKeys) {
+        BatchGetResultPage page = mock(BatchGetResultPage.class);
+        when(page.resultsForTable(userTable)).thenReturn(results);
+        when(page.unprocessedKeysForTable(userTable)).thenReturn(unprocessedKeys);
+        BatchGetResultPageIterable pages = mock(BatchGetResultPageIterable.class);
+        when(pages.iterator()).thenAnswer(invocation -> List.of(page).iterator());
+        return pages;
+    }
+
+    private BatchLoader loader(BatchLoadConfig.Builder config) {
+        return new BatchLoader(enhancedClient, config.retryConfig(FAST_RETRIES).build());
+    }
+
+    @Test
+    public void dedupesKeysAndPreservesInputOrder() {
+        BatchGetResultPageIterable pages = pages(List.of(user("u1"), user("u2")), Collections.emptyList());
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(pages);
+
+        List<Object> results = loader(new BatchLoadConfig.Builder().preserveInputOrder(true))
+                .load(Map.of(userTable, List.of(key("u2"), key("u1"), key("u2"))));
+
+        assertEquals(List.of("u2", "u1"), results.stream().map(u -> ((User) u).getId()).collect(Collectors.toList()));
+        ArgumentCaptor<BatchGetItemEnhancedRequest> request = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(enhancedClient).batchGetItem(request.capture());
+        assertEquals(2, request.getValue().readBatches().get(0).keysAndAttributes().keys().size());
+    }
+
+    @Test
+    public void matchesNumberKeysByValueWhenPreservingInputOrder() {
+        User stored = user("5");
+        doReturn(Key.builder().partitionValue(AttributeValue.fromN("5.0")).build()).when(userTable).keyFrom(stored);
+        BatchGetResultPageIterable pages = pages(List.of(stored), Collections.emptyList());
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(pages);
+        Key requested = Key.builder().partitionValue(AttributeValue.fromN("5")).build();
+        Key duplicate = Key.builder().partitionValue(AttributeValue.fromN("5.00")).build();
+
+        List<Object> results = loader(new BatchLoadConfig.Builder().preserveInputOrder(true))
+                .load(Map.of(userTable, List.of(requested, duplicate)));
+
+        assertEquals(List.of(stored), results);
+        ArgumentCaptor<BatchGetItemEnhancedRequest> request = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(enhancedClient).batchGetItem(request.capture());
+        assertEquals(1, request.getValue().readBatches().get(0).keysAndAttributes().keys().size());
+    }
+
+    @Test
+    public void retriesUnprocessedKeys() {
+        BatchGetResultPageIterable firstAttempt = pages(List.of(user("u1")), List.of(key("u2")));
+        BatchGetResultPageIterable secondAttempt = pages(List.of(user("u2")), Collections.emptyList());
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(firstAttempt, secondAttempt);
+
+        List<Object> results = loader(new BatchLoadConfig.Builder()).load(Map.of(userTable, List.of(key("u1"), key("u2"))));
+
+        assertEquals(2, results.size());
+        ArgumentCaptor<BatchGetItemEnhancedRequest> requests = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(enhancedClient, times(2)).batchGetItem(requests.capture());
+        assertEquals(1, requests.getAllValues().get(1).readBatches().get(0).keysAndAttributes().keys().size());
+    }
+
+    @Test
+    public void throwsWhenKeysRemainUnprocessedAfterRetries() {
+        BatchGetResultPageIterable pages = pages(Collections.emptyList(), List.of(key("u1")));
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(pages);
+
+        BatchLoadException exception = assertThrows(BatchLoadException.class,
+                () -> loader(new BatchLoadConfig.Builder()).load(Map.of(userTable, List.of(key("u1")))));
+
+        assertEquals(2, exception.getRetriesAttempted());
+        assertEquals(List.of(key("u1")), exception.getUnprocessedKeys());
+        verify(enhancedClient, times(3)).batchGetItem(any(BatchGetItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void splitsKeysIntoConcurrentChunks() {
+        List<User> users = IntStream.range(0, 250).mapToObj(i -> user("u" + i)).collect(Collectors.toList());
+        List<Key> keys = new ArrayList<>();
+        users.forEach(u -> keys.add(key(u.getId())));
+        BatchGetResultPageIterable pages = pages(List.of(user("u0")), Collections.emptyList());
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(pages);
+
+        List<Object> results = loader(new BatchLoadConfig.Builder().maxConcurrency(3)).load(Map.of(userTable, keys));
+
+        assertEquals(3, results.size());
+        verify(enhancedClient, times(3)).batchGetItem(any(BatchGetItemEnhancedRequest.class));
+    }
+}
@@ -167,4 +167,24 @@ class BatchWriteRetryConfigTest {
                     String.format("Retry %d should have delay %dms but got %dms", i, expected, actual));
         }
     }
+
+    @Test
+    void retryBudgetShouldLimitRetries() {
+        RetryBudget budget = new RetryBudget(2, 0);
+
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void builderShouldAcceptRetryBudget() {
+        RetryBudget budget = RetryBudget.unlimited();
+        BatchWriteRetryConfig config = new BatchWriteRetryConfig.Builder()
+                .retryBudget(budget)
+                .build();
+
+        assertSame(budget, config.getRetryBudget());
+        assertNotNull(new BatchWriteRetryConfig().getRetryBudget());
+    }
 }
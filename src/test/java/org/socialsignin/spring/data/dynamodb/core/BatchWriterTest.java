@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BatchWriter}.
+ * @author Prasanna Kumar Ramachandran
+ */
+@ExtendWith(MockitoExtension.class)
+public class BatchWriterTest {
+
+    @Mock
+    private DynamoDbEnhancedClient enhancedClient;
+    @Mock
+    private DynamoDbTable<Object> userTable;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        lenient().when(userTable.tableSchema()).thenReturn((TableSchema) TableSchemaFactory.createTableSchema(User.class));
+        lenient().when(userTable.tableName()).thenReturn("User");
+    }
+
+    private static BatchWriteRetryConfig.Builder fastRetries() {
+        return new BatchWriteRetryConfig.Builder()
+                .maxRetries(3)
+                .baseDelayMs(1L)
+                .maxDelayMs(1L)
+                .useJitter(false);
+    }
+
+    private static User user(String id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private BatchWriteResult unprocessedPuts(List<Object> unprocessed) {
+        BatchWriteResult result = mock(BatchWriteResult.class);
+        when(result.unprocessedPutItemsForTable(userTable)).thenReturn(unprocessed);
+        return result;
+    }
+
+    private BatchWriter writer(BatchWriteRetryConfig retryConfig) {
+        return new BatchWriter(enhancedClient, new BatchWriteConfig.Builder().sequential().build(), retryConfig,
+                domainClass -> userTable);
+    }
+
+    @Test
+    public void resubmitsUnprocessedItems() {
+        User first = user("u1");
+        User second = user("u2");
+        BatchWriteResult firstAttempt = unprocessedPuts(List.of(second));
+        BatchWriteResult lastAttempt = unprocessedPuts(Collections.emptyList());
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(firstAttempt, lastAttempt);
+
+        BatchWriteResults results = writer(fastRetries().build()).write(List.of(first, second), BatchWriter.Operation.PUT);
+
+        assertEquals(List.of(lastAttempt), results);
+        assertEquals(1, results.getRetriesAttempted());
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> requests = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient, times(2)).batchWriteItem(requests.capture());
+        assertEquals(1, requests.getAllValues().get(1).writeBatches().get(0).writeRequests().size());
+    }
+
+    @Test
+    public void resubmitsUnprocessedDeletesByKey() {
+        BatchWriteResult firstAttempt = mock(BatchWriteResult.class);
+        when(firstAttempt.unprocessedDeleteItemsForTable(userTable))
+                .thenReturn(List.of(Key.builder().partitionValue("u1").build()));
+        BatchWriteResult lastAttempt = mock(BatchWriteResult.class);
+        when(lastAttempt.unprocessedDeleteItemsForTable(userTable)).thenReturn(Collections.emptyList());
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(firstAttempt, lastAttempt);
+
+        BatchWriteResults results = writer(fastRetries().build()).write(List.of(user("u1")), BatchWriter.Operation.DELETE);
+
+        assertEquals(1, results.getRetriesAttempted());
+        verify(enhancedClient, times(2)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void stopsAfterMaxRetries() {
+        User user = user("u1");
+        BatchWriteResult result = unprocessedPuts(List.of(user));
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(result);
+
+        BatchWriteResults results = writer(fastRetries().build()).write(List.of(user), BatchWriter.Operation.PUT);
+
+        assertEquals(3, results.getRetriesAttempted());
+        assertEquals(List.of(user), results.get(0).unprocessedPutItemsForTable(userTable));
+        verify(enhancedClient, times(4)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void stopsWhenRetryBudgetIsExhausted() {
+        User user = user("u1");
+        BatchWriteResult result = unprocessedPuts(List.of(user));
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(result);
+
+        BatchWriteRetryConfig retryConfig = fastRetries().retryBudget(new RetryBudget(1, 0)).build();
+        BatchWriteResults results = writer(retryConfig).write(List.of(user), BatchWriter.Operation.PUT);
+
+        assertEquals(1, results.getRetriesAttempted());
+        verify(enhancedClient, times(2)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+        assertFalse(retryConfig.getRetryBudget().tryAcquire());
+    }
+
+    @Test
+    public void splitsItemsIntoChunksOf25() {
+        List<Object> users = IntStream.range(0, 60).mapToObj(i -> user("u" + i)).collect(Collectors.toList());
+        BatchWriteResult result = unprocessedPuts(Collections.emptyList());
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(result);
+
+        BatchWriteResults results = writer(fastRetries().build()).write(users, BatchWriter.Operation.PUT);
+
+        assertEquals(3, results.size());
+        assertEquals(0, results.getRetriesAttempted());
+    }
+
+    @Test
+    public void writesChunksConcurrentlyAndKeepsChunkOrder() {
+        List<Object> users = IntStream.range(0, 60).mapToObj(i -> user("u" + i)).collect(Collectors.toList());
+        BatchWriteResult fullChunk = unprocessedPuts(Collections.emptyList());
+        BatchWriteResult lastChunk = unprocessedPuts(Collections.emptyList());
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemEnhancedRequest request = invocation.getArgument(0);
+            return request.writeBatches().get(0).writeRequests().size() == 25 ? fullChunk : lastChunk;
+        });
+
+        BatchWriter writer = new BatchWriter(enhancedClient, new BatchWriteConfig.Builder().maxConcurrency(3).build(),
+                fastRetries().build(), domainClass -> userTable);
+        BatchWriteResults results = writer.write(users, BatchWriter.Operation.PUT);
+
+        assertEquals(List.of(fullChunk, fullChunk, lastChunk), results);
+        verify(enhancedClient, times(3)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BufferedWriter}.
+ * @author Prasanna Kumar Ramachandran
+ */
+@ExtendWith(MockitoExtension.class)
+public class BufferedWriterTest {
+
+    private static final TableSchema<User> USER_SCHEMA = TableSchemaFactory.createTableSchema(User.class);
+
+    @Mock
+    private DynamoDBOperations dynamoDBOperations;
+
+    private final List<List<Object>> writtenBatches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        lenient().doReturn(USER_SCHEMA).when(dynamoDBOperations).getTableModel(User.class);
+        lenient().when(dynamoDBOperations.batchSave(any())).thenAnswer(invocation -> {
+            List<Object> batch = new ArrayList<>();
+            ((Iterable<?>) invocation.getArgument(0)).forEach(batch::add);
+            writtenBatches.add(batch);
+            return List.of();
+        });
+    }
+
+    private static User user(String id, String name) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        return user;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void writesFullBatchWithoutWaitingForLinger() throws Exception {
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .maxBatchSize(3)
+                .lingerMs(60_000L)
+                .build())) {
+            List<CompletableFuture<User>> futures = List.of(
+                    writer.save(user("u1", "a")), writer.save(user("u2", "b")), writer.save(user("u3", "c")));
+
+            for (CompletableFuture<User> future : futures) {
+                await(future);
+            }
+            assertEquals(1, writtenBatches.size());
+            assertEquals(3, writtenBatches.get(0).size());
+        }
+    }
+
+    @Test
+    public void writesPartialBatchOnceLingerExpires() throws Exception {
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .lingerMs(5L)
+                .build())) {
+            User user = user("u1", "a");
+
+            assertSame(user, await(writer.save(user)));
+            assertEquals(List.of(List.of(user)), writtenBatches);
+            assertEquals(0, writer.getPendingCount());
+        }
+    }
+
+    @Test
+    public void coalescesSavesOfSameKeyLastWriteWins() throws Exception {
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .maxBatchSize(2)
+                .lingerMs(60_000L)
+                .build())) {
+            User first = user("u1", "first");
+            User second = user("u1", "second");
+            User other = user("u2", "other");
+
+            CompletableFuture<User> firstSave = writer.save(first);
+            CompletableFuture<User> secondSave = writer.save(second);
+            CompletableFuture<User> otherSave = writer.save(other);
+
+            assertSame(second, await(firstSave));
+            assertSame(second, await(secondSave));
+            assertSame(other, await(otherSave));
+            assertEquals(List.of(List.of(second, other)), writtenBatches);
+        }
+    }
+
+    @Test
+    public void failsEntitiesLeftUnprocessed() throws Exception {
+        when(dynamoDBOperations.extractUnprocessedPutItems(any(), anyMap())).thenReturn(List.of(user("u2", "b")));
+
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .maxBatchSize(2)
+                .lingerMs(60_000L)
+                .build())) {
+            CompletableFuture<User> processed = writer.save(user("u1", "a"));
+            CompletableFuture<User> unprocessed = writer.save(user("u2", "b"));
+
+            assertEquals("u1", await(processed).getId());
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> await(unprocessed));
+            BatchWriteException cause = assertInstanceOf(BatchWriteException.class, thrown.getCause());
+            assertEquals(1, cause.getUnprocessedEntities().size());
+        }
+    }
+
+    @Test
+    public void failsWholeBatchWhenWriteThrows() {
+        doThrow(new IllegalStateException("boom")).when(dynamoDBOperations).batchSave(any());
+
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig())) {
+            CompletableFuture<User> save = writer.save(user("u1", "a"));
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> await(save));
+            assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        }
+    }
+
+    @Test
+    public void closeWritesBufferedEntitiesAndRejectsFurtherSaves() {
+        BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .lingerMs(60_000L)
+                .build());
+        CompletableFuture<User> save = writer.save(user("u1", "a"));
+
+        writer.close();
+
+        assertTrue(save.isDone());
+        assertFalse(save.isCompletedExceptionally());
+        assertThrows(IllegalStateException.class, () -> writer.save(user("u2", "b")));
+    }
+
+    @Test
+    public void splitsBatchesAtByteLimit() throws Exception {
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .maxBatchBytes(1L)
+                .lingerMs(60_000L)
+                .build())) {
+            await(writer.save(user("u1", "a")));
+            await(writer.save(user("u2", "b")));
+
+            assertEquals(2, writtenBatches.size());
+        }
+    }
+
+    @Test
+    public void rewritesUnacknowledgedJournalEntries(@TempDir Path directory) throws Exception {
+        Path journalFile = directory.resolve("writes.journal");
+        User acknowledged = user("u1", "a");
+        User unacknowledged = user("u2", "b");
+        try (BufferedWriteJournal journal = new BufferedWriteJournal(journalFile)) {
+            long sequence = journal.append(User.class, USER_SCHEMA.itemToMap(acknowledged, true));
+            journal.append(User.class, USER_SCHEMA.itemToMap(unacknowledged, true));
+            journal.acknowledge(sequence);
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .journal(journalFile)
+                .build())) {
+            writer.flush();
+
+            assertEquals(1, writtenBatches.size());
+            User recovered = (User) writtenBatches.get(0).get(0);
+            assertEquals("u2", recovered.getId());
+            assertEquals("b", recovered.getName());
+            assertEquals(0, Files.size(journalFile));
+        }
+    }
+
+    @Test
+    public void keepsFailedWritesInJournalForRecovery(@TempDir Path directory) throws Exception {
+        Path journalFile = directory.resolve("writes.journal");
+        doThrow(new IllegalStateException("boom")).when(dynamoDBOperations).batchSave(any());
+
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .journal(journalFile)
+                .build())) {
+            CompletableFuture<User> save = writer.save(user("u1", "a"));
+
+            assertThrows(ExecutionException.class, () -> await(save));
+        }
+
+        doAnswer(invocation -> {
+            List<Object> batch = new ArrayList<>();
+            ((Iterable<?>) invocation.getArgument(0)).forEach(batch::add);
+            writtenBatches.add(batch);
+            return List.of();
+        }).when(dynamoDBOperations).batchSave(any());
+
+        try (BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .journal(journalFile)
+                .build())) {
+            writer.flush();
+
+            assertEquals(1, writtenBatches.size());
+            User recovered = (User) writtenBatches.get(0).get(0);
+            assertEquals("u1", recovered.getId());
+            assertEquals("a", recovered.getName());
+            assertEquals(0, Files.size(journalFile));
+        }
+    }
+
+    @Test
+    public void closeWaitsForBufferedEntitiesWhenInterrupted(@TempDir Path directory) throws Exception {
+        Path journalFile = directory.resolve("writes.journal");
+        BufferedWriter writer = new BufferedWriter(dynamoDBOperations, new BufferedWriterConfig.Builder()
+                .lingerMs(60_000L)
+                .journal(journalFile)
+                .build());
+        CompletableFuture<User> save = writer.save(user("u1", "a"));
+
+        Thread.currentThread().interrupt();
+        try {
+            writer.close();
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertTrue(save.isDone());
+        assertFalse(save.isCompletedExceptionally());
+        assertEquals(0, Files.size(journalFile));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CoalescingLoader}.
+ * @author Prasanna Kumar Ramachandran
+ */
+@ExtendWith(MockitoExtension.class)
+public class CoalescingLoaderTest {
+
+    @Mock
+    private DynamoDbTable<User> userTable;
+
+    private final List<Map<DynamoDbTable<?>, List<Key>>> requests = new CopyOnWriteArrayList<>();
+
+    private final Function<Map<DynamoDbTable<?>, List<Key>>, List<Object>> batchGet = keysByTable -> {
+        requests.add(keysByTable);
+        List<Object> entities = new ArrayList<>();
+        for (Key key : keysByTable.getOrDefault(userTable, List.of())) {
+            String id = key.partitionKeyValue().s();
+            if (!id.startsWith("missing")) {
+                entities.add(user(id));
+            }
+        }
+        return entities;
+    };
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        lenient().when(userTable.tableName()).thenReturn("User");
+        lenient().when(userTable.tableSchema()).thenReturn((TableSchema) TableSchemaFactory.createTableSchema(User.class));
+        lenient().when(userTable.keyFrom(any())).thenAnswer(invocation -> key(((User) invocation.getArgument(0)).getId()));
+    }
+
+    private static User user(String id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+
+    private List<User> loadConcurrently(CoalescingLoader loader, List<String> ids) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ids.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<User>> futures = new ArrayList<>();
+            for (String id : ids) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return loader.load(userTable, key(id));
+                }));
+            }
+            start.countDown();
+            List<User> users = new ArrayList<>();
+            for (Future<User> future : futures) {
+                users.add(future.get());
+            }
+            return users;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void coalescesConcurrentLoadsIntoOneBatch() throws Exception {
+        CoalescingLoader loader = new CoalescingLoader(new LoadCoalescingConfig.Builder()
+                .windowMicros(200_000L)
+                .build(), batchGet);
+
+        List<User> users = loadConcurrently(loader, List.of("u1", "u2", "missing", "u3"));
+
+        assertEquals(1, requests.size());
+        assertEquals(4, requests.get(0).get(userTable).size());
+        assertEquals("u1", users.get(0).getId());
+        assertEquals("u2", users.get(1).getId());
+        assertNull(users.get(2));
+        assertEquals("u3", users.get(3).getId());
+    }
+
+    @Test
+    public void concurrentLoadsOfSameKeyShareOneFetch() throws Exception {
+        CoalescingLoader loader = new CoalescingLoader(new LoadCoalescingConfig.Builder()
+                .windowMicros(200_000L)
+                .build(), batchGet);
+
+        List<User> users = loadConcurrently(loader, List.of("u1", "u1", "u1"));
+
+        assertEquals(1, requests.size());
+        assertEquals(List.of(key("u1")), requests.get(0).get(userTable));
+        users.forEach(user -> assertEquals("u1", user.getId()));
+    }
+
+    @Test
+    public void fetchesFullBatchWithoutWaitingForWindow() {
+        CoalescingLoader loader = new CoalescingLoader(new LoadCoalescingConfig.Builder()
+                .windowMicros(60_000_000L)
+                .maxBatchSize(1)
+                .build(), batchGet);
+
+        User user = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> loader.load(userTable, key("u1")));
+
+        assertEquals("u1", user.getId());
+    }
+
+    @Test
+    public void sequentialLoadsFetchAgain() {
+        CoalescingLoader loader = new CoalescingLoader(new LoadCoalescingConfig.Builder()
+                .windowMicros(0L)
+                .build(), batchGet);
+
+        loader.load(userTable, key("u1"));
+        loader.load(userTable, key("u1"));
+
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void failedFetchFailsEveryLoad() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CoalescingLoader loader = new CoalescingLoader(new LoadCoalescingConfig.Builder()
+                .windowMicros(0L)
+                .build(), keysByTable -> {
+                    throw failure;
+                });
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> loader.load(userTable, key("u1")));
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    public void matchesNumberKeysByValue() {
+        User stored = user("5");
+        doReturn(Key.builder().partitionValue(AttributeValue.fromN("5.0")).build()).when(userTable).keyFrom(stored);
+        CoalescingLoader loader = new CoalescingLoader(new LoadCoalescingConfig.Builder()
+                .windowMicros(0L)
+                .build(), keysByTable -> List.of(stored));
+
+        User user = loader.load(userTable, Key.builder().partitionValue(AttributeValue.fromN("5")).build());
+
+        assertSame(stored, user);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CountCache}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class CountCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private CountCache cache(long ttlMs, int maxCachedCounts) {
+        return new CountCache(new CountConfig(1, false, ttlMs, maxCachedCounts), clock::get);
+    }
+
+    private int count(CountCache cache, String tableName, String request) {
+        return cache.getOrCount(tableName, request, counts::incrementAndGet);
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    public void cachesCountsUntilTtlExpires() {
+        CountCache cache = cache(1000, 10);
+
+        assertEquals(1, count(cache, "user", "all"));
+        advanceMillis(999);
+        assertEquals(1, count(cache, "user", "all"));
+        assertEquals(2, count(cache, "user", "active"));
+
+        advanceMillis(1);
+        assertEquals(3, count(cache, "user", "all"));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedCounts() {
+        CountCache cache = cache(1000, 2);
+
+        count(cache, "user", "a");
+        count(cache, "user", "b");
+        count(cache, "user", "a");
+        count(cache, "user", "c");
+
+        assertEquals(1, count(cache, "user", "a"));
+        assertEquals(4, count(cache, "user", "b"));
+    }
+
+    @Test
+    public void invalidatesCountsOfWrittenTable() {
+        CountCache cache = cache(1000, 10);
+        count(cache, "user", "all");
+        count(cache, "order", "all");
+
+        cache.invalidateTable("user");
+
+        assertEquals(3, count(cache, "user", "all"));
+        assertEquals(2, count(cache, "order", "all"));
+    }
+
+    @Test
+    public void doesNotCacheCountRacingWithWrite() {
+        CountCache cache = cache(1000, 10);
+
+        cache.getOrCount("user", "all", () -> {
+            cache.invalidateTable("user");
+            return 7;
+        });
+
+        assertEquals(1, count(cache, "user", "all"));
+    }
+}
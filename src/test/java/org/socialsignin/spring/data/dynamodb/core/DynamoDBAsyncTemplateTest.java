@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.springframework.context.ApplicationContext;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DynamoDBAsyncTemplateTest {
+    @Mock
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    @Mock
+    private DynamoDbAsyncClient dynamoDB;
+    @Mock
+    private TableNameResolver tableNameResolver;
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private DynamoDBMappingContext mappingContext;
+    @Mock
+    private DynamoDbAsyncTable<User> userTable;
+
+    private DynamoDBAsyncTemplate asyncTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mappingContext.getMarshallingMode()).thenReturn(MarshallingMode.SDK_V2_NATIVE);
+        lenient().when(tableNameResolver.resolveTableName(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+
+        asyncTemplate = new DynamoDBAsyncTemplate(dynamoDB, enhancedClient, tableNameResolver, mappingContext);
+        asyncTemplate.setApplicationContext(applicationContext);
+    }
+
+    @Test
+    public void testConstructorRequiresClients() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDBAsyncTemplate(null, enhancedClient, null, null));
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDBAsyncTemplate(dynamoDB, null, null, null));
+
+        // TableNameResolver and MappingContext are optional
+        assertNotNull(new DynamoDBAsyncTemplate(dynamoDB, enhancedClient, null, null).getMappingContext());
+    }
+
+    @Test
+    public void testLoadCompletesWithEntityAndEmitsEvent() {
+        User user = new User();
+        user.setId("id1");
+        when(userTable.getItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(user));
+
+        CompletableFuture<User> future = asyncTemplate.load(User.class, "id1");
+
+        assertSame(user, future.join());
+        ArgumentCaptor<Key> keyCaptor = ArgumentCaptor.forClass(Key.class);
+        verify(userTable).getItem(keyCaptor.capture());
+        assertEquals("id1", keyCaptor.getValue().partitionKeyValue().s());
+        verify(applicationContext).publishEvent(any(AfterLoadEvent.class));
+    }
+
+    @Test
+    public void testLoadNotFoundDoesNotEmitEvent() {
+        when(userTable.getItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertNull(asyncTemplate.load(User.class, "missing").join());
+        verify(applicationContext, never()).publishEvent(any(AfterLoadEvent.class));
+    }
+
+    @Test
+    public void testSaveEmitsEventsAroundUpdate() {
+        User user = new User();
+        user.setId("id1");
+        when(userTable.updateItem(user)).thenReturn(CompletableFuture.completedFuture(user));
+
+        assertSame(user, asyncTemplate.save(user).join());
+        verify(applicationContext).publishEvent(any(BeforeSaveEvent.class));
+        verify(applicationContext).publishEvent(any(AfterSaveEvent.class));
+    }
+
+    @Test
+    public void testSaveFailurePropagatesWithoutAfterEvent() {
+        User user = new User();
+        user.setId("id1");
+        when(userTable.updateItem(user)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> asyncTemplate.save(user).join());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        verify(applicationContext, never()).publishEvent(any(AfterSaveEvent.class));
+    }
+
+    @Test
+    public void testCountQueryRequestFollowsLastEvaluatedKey() {
+        Map<String, AttributeValue> lastKey = Map.of("Id", AttributeValue.builder().s("id5").build());
+        QueryRequest request = QueryRequest.builder().tableName("User").build();
+
+        when(dynamoDB.query(any(QueryRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(QueryResponse.builder().count(5).lastEvaluatedKey(lastKey).build()),
+                CompletableFuture.completedFuture(QueryResponse.builder().count(3).build()));
+
+        assertEquals(8, asyncTemplate.count(User.class, request).join());
+
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDB, times(2)).query(captor.capture());
+        assertEquals(Select.COUNT, captor.getAllValues().get(0).select());
+        assertEquals(lastKey, captor.getAllValues().get(1).exclusiveStartKey());
+    }
+
+    @Test
+    public void testQueryRequestMapsItemsOfAllPages() {
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        Map<String, AttributeValue> lastKey = Map.of("Id", AttributeValue.builder().s("id1").build());
+
+        when(dynamoDB.query(any(QueryRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(QueryResponse.builder()
+                        .items(List.of(Map.of("Id", AttributeValue.builder().s("id1").build())))
+                        .lastEvaluatedKey(lastKey)
+                        .build()),
+                CompletableFuture.completedFuture(QueryResponse.builder()
+                        .items(List.of(Map.of("Id", AttributeValue.builder().s("id2").build())))
+                        .build()));
+
+        List<User> users = asyncTemplate.query(User.class, QueryRequest.builder().tableName("User").build()).join();
+
+        assertEquals(List.of("id1", "id2"), users.stream().map(User::getId).toList());
+        verify(dynamoDB, times(2)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    public void testTableIsResolvedOnce() {
+        when(userTable.getItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        asyncTemplate.load(User.class, "id1").join();
+        asyncTemplate.load(User.class, "id2").join();
+
+        verify(enhancedClient, times(1)).table(eq("User"), any());
+    }
+}
@@ -18,6 +18,7 @@ package org.socialsignin.spring.data.dynamodb.core;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
@@ -26,12 +27,36 @@ import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
 import org.springframework.context.ApplicationContext;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -157,6 +182,100 @@ public class DynamoDBTemplateTest {
         });
     }
 
+    private static RateLimitConfig rateLimitConfig() {
+        return new RateLimitConfig.Builder()
+                .readCapacityUnitsPerSecond(100)
+                .writeCapacityUnitsPerSecond(100)
+                .build();
+    }
+
+    /**
+     * Asserts that the limiter can't cover the given units without waiting: with the thread interrupted, waiting fails.
+     */
+    private static void assertWaitsForCapacity(AdaptiveRateLimiter limiter, double units) {
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class, () -> limiter.acquire(units));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testBatchLoad_RecordsConsumedCapacityWithRateLimiter() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        lenient().when(userTable.keyFrom(any())).thenReturn(Key.builder().partitionValue("u1").build());
+        User user = new User();
+        user.setId("u1");
+        BatchGetResultPage page = mock(BatchGetResultPage.class);
+        when(page.resultsForTable(userTable)).thenReturn(List.of(user));
+        when(page.unprocessedKeysForTable(userTable)).thenReturn(List.of());
+        when(page.consumedCapacity()).thenReturn(List.of(
+                ConsumedCapacity.builder().tableName("User").capacityUnits(40.0).build()));
+        BatchGetResultPageIterable pages = mock(BatchGetResultPageIterable.class);
+        when(pages.iterator()).thenAnswer(invocation -> List.of(page).iterator());
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(pages);
+        dynamoDBTemplate.setRateLimitConfig(User.class, rateLimitConfig());
+
+        List<User> loaded = dynamoDBTemplate.batchLoad(Map.of(User.class, List.of(Key.builder().partitionValue("u1").build())));
+
+        assertEquals(List.of(user), loaded);
+        ArgumentCaptor<BatchGetItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(enhancedClient).batchGetItem(captor.capture());
+        assertEquals(ReturnConsumedCapacity.TOTAL, captor.getValue().returnConsumedCapacity());
+        // 40 of the 100 units are spent rather than the estimated one, so 70 more don't fit
+        assertWaitsForCapacity(dynamoDBTemplate.getRateLimiter(User.class).reads(), 70);
+    }
+
+    @Test
+    public void testBatchSave_RecordsConsumedCapacityWithRateLimiter() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        User user = new User();
+        user.setId("u1");
+        BatchWriteResult result = mock(BatchWriteResult.class);
+        when(result.unprocessedPutItemsForTable(userTable)).thenReturn(List.of());
+        when(result.consumedCapacity()).thenReturn(List.of(
+                ConsumedCapacity.builder().tableName("User").capacityUnits(30.0).build()));
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(result);
+        dynamoDBTemplate.setRateLimitConfig(User.class, rateLimitConfig());
+
+        dynamoDBTemplate.batchSave(List.of(user));
+
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(captor.capture());
+        assertEquals(ReturnConsumedCapacity.TOTAL, captor.getValue().returnConsumedCapacity());
+        // 30 of the 100 units are spent rather than the estimated one, so 80 more don't fit
+        assertWaitsForCapacity(dynamoDBTemplate.getRateLimiter(User.class).writes(), 80);
+    }
+
+    @Test
+    public void testBatchSave_InterruptedWhileWaitingForCapacitySendsNoRequest() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        lenient().when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        dynamoDBTemplate.setRateLimitConfig(User.class, new RateLimitConfig.Builder()
+                .writeCapacityUnitsPerSecond(1)
+                .build());
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setId("u" + i);
+            users.add(user);
+        }
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class, () -> dynamoDBTemplate.batchSave(users));
+        } finally {
+            Thread.interrupted();
+        }
+        verify(enhancedClient, never()).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+
     @Test
     public void testCountQuery() {
         // SDK v2: Use QueryEnhancedRequest instead of DynamoDBQueryExpression
@@ -179,6 +298,94 @@ public class DynamoDBTemplateTest {
         });
     }
 
+    @Test
+    public void testParallelCount_SumsCountsOfAllSegments() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(dynamoDB.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            return ScanResponse.builder().count(request.segment() + 1).build();
+        });
+
+        int count = dynamoDBTemplate.parallelCount(User.class, ScanEnhancedRequest.builder().build(), 4);
+
+        assertEquals(1 + 2 + 3 + 4, count);
+        for (int segment = 0; segment < 4; segment++) {
+            verify(dynamoDB).scan(ScanRequest.builder()
+                    .tableName("User")
+                    .select(Select.COUNT)
+                    .segment(segment)
+                    .totalSegments(4)
+                    .build());
+        }
+    }
+
+    @Test
+    public void testCountScan_StopsBetweenPagesWhenInterrupted() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(dynamoDB.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            // E.g. the concurrent total count of a page is cancelled while the first page is read
+            Thread.currentThread().interrupt();
+            return ScanResponse.builder()
+                    .count(1)
+                    .lastEvaluatedKey(Map.of("Id", AttributeValue.fromS("u1")))
+                    .build();
+        });
+
+        try {
+            assertThrows(IllegalStateException.class,
+                    () -> dynamoDBTemplate.count(User.class, ScanEnhancedRequest.builder().build()));
+        } finally {
+            Thread.interrupted();
+        }
+        verify(dynamoDB, times(1)).scan(any(ScanRequest.class));
+    }
+
+    @Test
+    public void testCountQuery_SelectsCountOnly() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        when(dynamoDB.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().count(3).build());
+
+        int count = dynamoDBTemplate.count(User.class, QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(k -> k.partitionValue("u1")))
+                .build());
+
+        assertEquals(3, count);
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDB).query(captor.capture());
+        assertEquals(Select.COUNT, captor.getValue().select());
+        assertEquals("User", captor.getValue().tableName());
+        assertEquals(AttributeValue.fromS("u1"), captor.getValue().expressionAttributeValues().values().iterator().next());
+    }
+
+    @Test
+    public void testCountScan_ApproximateAndCachedUntilWrite() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(dynamoDB.describeTable(any(DescribeTableRequest.class))).thenReturn(DescribeTableResponse.builder()
+                .table(TableDescription.builder().itemCount(42L).build())
+                .build());
+        dynamoDBTemplate.setCountConfig(new CountConfig.Builder()
+                .approximate(true)
+                .cacheTtlMs(60_000L)
+                .build());
+
+        assertEquals(42, dynamoDBTemplate.count(User.class, ScanEnhancedRequest.builder().build()));
+        assertEquals(42, dynamoDBTemplate.count(User.class, ScanEnhancedRequest.builder().build()));
+        verify(dynamoDB, times(1)).describeTable(any(DescribeTableRequest.class));
+        verify(dynamoDB, never()).scan(any(ScanRequest.class));
+
+        User user = new User();
+        user.setId("u1");
+        dynamoDBTemplate.delete(user);
+        dynamoDBTemplate.count(User.class, ScanEnhancedRequest.builder().build());
+
+        verify(dynamoDB, times(2)).describeTable(any(DescribeTableRequest.class));
+    }
+
     @Test
     public void testLoadByHashKey_WhenDynamoDBMapperReturnsNull() {
         // SDK v2: This will fail with NPE since we're using mocks, but we can verify the method signature works
@@ -195,4 +402,112 @@ public class DynamoDBTemplateTest {
         });
     }
 
+    @Test
+    public void testQueryRequest_FetchesPagesLazily() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+
+        Map<String, AttributeValue> lastEvaluatedKey = Map.of("Id", AttributeValue.fromS("u1"));
+        QueryRequest queryRequest = QueryRequest.builder().tableName("User").build();
+        when(dynamoDB.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(Map.of("Id", AttributeValue.fromS("u1"))))
+                        .count(1)
+                        .lastEvaluatedKey(lastEvaluatedKey)
+                        .build())
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(Map.of("Id", AttributeValue.fromS("u2"))))
+                        .count(1)
+                        .build());
+
+        PageIterable<User> pages = dynamoDBTemplate.query(User.class, queryRequest);
+        verifyNoInteractions(dynamoDB);
+
+        Iterator<Page<User>> iterator = pages.iterator();
+        Page<User> firstPage = iterator.next();
+        assertEquals("u1", firstPage.items().get(0).getId());
+        assertEquals(lastEvaluatedKey, firstPage.lastEvaluatedKey());
+        verify(dynamoDB, times(1)).query(any(QueryRequest.class));
+
+        assertTrue(iterator.hasNext());
+        Page<User> secondPage = iterator.next();
+        assertEquals("u2", secondPage.items().get(0).getId());
+        assertFalse(iterator.hasNext());
+        verify(dynamoDB).query(queryRequest.toBuilder().exclusiveStartKey(lastEvaluatedKey).build());
+    }
+
+    @Test
+    public void testExists_ReadsOnlyKeyAttributes() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        when(dynamoDB.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(Map.of("Id", AttributeValue.fromS("u1"))).build())
+                .thenReturn(GetItemResponse.builder().build());
+
+        assertTrue(dynamoDBTemplate.exists(User.class, "u1", null));
+        assertFalse(dynamoDBTemplate.exists(User.class, "u2", null));
+
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDB, times(2)).getItem(captor.capture());
+        GetItemRequest request = captor.getAllValues().get(0);
+        assertEquals("User", request.tableName());
+        assertEquals(Map.of("Id", AttributeValue.fromS("u1")), request.key());
+        assertEquals("#key0", request.projectionExpression());
+        assertEquals(Map.of("#key0", "Id"), request.expressionAttributeNames());
+        verify(userTable, never()).getItem(any(Key.class));
+    }
+
+    @Test
+    public void testLoad_ReadsOnlyProjectedAttributes() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                .item(Map.of("name", AttributeValue.fromS("Alice")))
+                .build());
+
+        User user = dynamoDBTemplate.load(User.class, "u1", null, List.of("name"));
+
+        assertEquals("Alice", user.getName());
+        assertNull(user.getId());
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDB).getItem(captor.capture());
+        assertEquals(Map.of("Id", AttributeValue.fromS("u1")), captor.getValue().key());
+        assertEquals("#proj0", captor.getValue().projectionExpression());
+        assertEquals(Map.of("#proj0", "name"), captor.getValue().expressionAttributeNames());
+        verify(userTable, never()).getItem(any(Key.class));
+    }
+
+
+    @Test
+    public void testLoad_ServedFromEntityCacheUntilDeleted() {
+        when(enhancedClient.table(anyString(), any())).thenAnswer(invocation -> userTable);
+        when(userTable.tableName()).thenReturn("User");
+        when(userTable.tableSchema()).thenReturn(TableSchemaFactory.createTableSchema(User.class));
+        User user = new User();
+        user.setId("u1");
+        user.setName("Alice");
+        Key key = Key.builder().partitionValue("u1").build();
+        when(userTable.getItem(any(Key.class))).thenReturn(user);
+        when(userTable.keyFrom(any())).thenReturn(key);
+        dynamoDBTemplate.setEntityCacheConfig(new EntityCacheConfig());
+
+        User first = dynamoDBTemplate.load(User.class, "u1");
+        User second = dynamoDBTemplate.load(User.class, "u1");
+
+        assertEquals("Alice", first.getName());
+        assertEquals("Alice", second.getName());
+        assertNotSame(first, second);
+        verify(userTable, times(1)).getItem(any(Key.class));
+        EntityCache.Stats stats = dynamoDBTemplate.getEntityCache().getStats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+
+        dynamoDBTemplate.delete(second);
+        dynamoDBTemplate.load(User.class, "u1");
+
+        verify(userTable, times(2)).getItem(any(Key.class));
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.annotation.DynamoDBCacheTtl;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EntityCache}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class EntityCacheTest {
+
+    private static final String TABLE = "Item";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private EntityCache cache(EntityCacheConfig config) {
+        return new EntityCache(config, clock::get);
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+
+    private static Map<String, AttributeValue> item(String id) {
+        return Map.of("id", AttributeValue.fromS(id));
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private void load(EntityCache cache, Class<?> domainClass, String id, Map<String, AttributeValue> item) {
+        cache.putLoaded(domainClass, TABLE, key(id), item, cache.version(TABLE, key(id)));
+    }
+
+    @Test
+    public void cachesLoadedItemsUntilTtlExpires() {
+        EntityCache cache = cache(new EntityCacheConfig.Builder().ttlMs(1_000L).build());
+        load(cache, Object.class, "a", item("a"));
+
+        advanceMillis(999L);
+        assertEquals(item("a"), cache.get(TABLE, key("a")).attributes());
+
+        advanceMillis(1L);
+        assertNull(cache.get(TABLE, key("a")));
+        assertEquals(new EntityCache.Stats(1, 1, 0, 0), cache.getStats());
+    }
+
+    @Test
+    public void cachesMissesForNegativeTtl() {
+        EntityCache cache = cache(new EntityCacheConfig.Builder().negativeTtlMs(100L).build());
+        load(cache, Object.class, "missing", null);
+
+        EntityCache.CachedItem cached = cache.get(TABLE, key("missing"));
+        assertNotNull(cached);
+        assertNull(cached.attributes());
+
+        advanceMillis(100L);
+        assertNull(cache.get(TABLE, key("missing")));
+    }
+
+    @Test
+    public void doesNotCacheMissesWithoutNegativeTtl() {
+        EntityCache cache = cache(new EntityCacheConfig.Builder().negativeTtlMs(0L).build());
+        load(cache, Object.class, "missing", null);
+
+        assertNull(cache.get(TABLE, key("missing")));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedItems() {
+        EntityCache cache = cache(new EntityCacheConfig.Builder().maximumSize(2).build());
+        load(cache, Object.class, "a", item("a"));
+        load(cache, Object.class, "b", item("b"));
+        cache.get(TABLE, key("a"));
+
+        load(cache, Object.class, "c", item("c"));
+
+        assertNotNull(cache.get(TABLE, key("a")));
+        assertNull(cache.get(TABLE, key("b")));
+        assertNotNull(cache.get(TABLE, key("c")));
+        assertEquals(1, cache.getStats().evictionCount());
+        assertEquals(2, cache.getStats().size());
+    }
+
+    @Test
+    public void doesNotCacheItemsLoadedBeforeConcurrentWrite() {
+        EntityCache cache = cache(new EntityCacheConfig());
+        long version = cache.version(TABLE, key("a"));
+
+        cache.invalidate(TABLE, key("a"));
+        cache.putLoaded(Object.class, TABLE, key("a"), item("stale"), version);
+
+        assertNull(cache.get(TABLE, key("a")));
+    }
+
+    @Test
+    public void writesPopulateAndInvalidate() {
+        EntityCache cache = cache(new EntityCacheConfig());
+
+        cache.putWritten(Object.class, TABLE, key("a"), item("a"));
+        assertEquals(item("a"), cache.get(TABLE, key("a")).attributes());
+
+        cache.invalidate(TABLE, key("a"));
+        assertNull(cache.get(TABLE, key("a")));
+    }
+
+    @Test
+    public void invalidatesWholeTable() {
+        EntityCache cache = cache(new EntityCacheConfig());
+        cache.putWritten(Object.class, TABLE, key("a"), item("a"));
+        cache.putWritten(Object.class, "Other", key("a"), item("a"));
+
+        cache.invalidateAll(TABLE);
+
+        assertNull(cache.get(TABLE, key("a")));
+        assertNotNull(cache.get("Other", key("a")));
+    }
+
+    @Test
+    public void honorsTtlAnnotation() {
+        EntityCache cache = cache(new EntityCacheConfig.Builder().ttlMs(60_000L).build());
+        load(cache, ShortLived.class, "a", item("a"));
+        load(cache, Uncached.class, "b", item("b"));
+
+        assertTrue(cache.isCached(ShortLived.class));
+        assertFalse(cache.isCached(Uncached.class));
+        assertNull(cache.get(TABLE, key("b")));
+
+        advanceMillis(10L);
+        assertNull(cache.get(TABLE, key("a")));
+    }
+
+    @DynamoDBCacheTtl(10)
+    private static class ShortLived {
+    }
+
+    @DynamoDBCacheTtl(0)
+    private static class Uncached {
+    }
+}
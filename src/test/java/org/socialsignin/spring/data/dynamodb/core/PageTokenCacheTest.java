@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.query.AbstractMultipleEntityQuery;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PageTokenCache}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class PageTokenCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private PageTokenCache cache(int maxRequests, int maxCheckpointsPerRequest) {
+        return new PageTokenCache(new PageTokenCacheConfig(maxRequests, maxCheckpointsPerRequest, 1000),
+                domainClass -> domainClass.getSimpleName(), clock::get);
+    }
+
+    private static Map<String, AttributeValue> key(int index) {
+        return Map.of("Id", AttributeValue.fromN(String.valueOf(index)));
+    }
+
+    /**
+     * Reads pages of a table holding the users 0 to {@code size - 1} in order.
+     */
+    private static class TablePagesQuery extends AbstractMultipleEntityQuery<User> {
+        private final int size;
+        private int itemsRead;
+
+        TablePagesQuery(PageTokenCache cache, int size) {
+            super(null, User.class);
+            this.size = size;
+            setPageTokenCache(cache);
+        }
+
+        @Override
+        public List<User> getResultList() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Object getPageTokenKey() {
+            return "all users";
+        }
+
+        @Override
+        protected Page<User> readPage(Map<String, AttributeValue> exclusiveStartKey, int limit) {
+            int start = exclusiveStartKey == null ? 0 : Integer.parseInt(exclusiveStartKey.get("Id").n()) + 1;
+            int end = Math.min(start + limit, size);
+            List<User> items = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                User user = new User();
+                user.setId(String.valueOf(i));
+                items.add(user);
+            }
+            itemsRead += items.size();
+            return Page.create(items, end < size ? key(end - 1) : null);
+        }
+    }
+
+    private static List<String> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+
+    @Test
+    public void nextPageContinuesAtCheckpointOfPreviousPage() {
+        PageTokenCache cache = cache(10, 10);
+        TablePagesQuery query = new TablePagesQuery(cache, 25);
+
+        assertEquals(List.of("10", "11", "12", "13", "14"), ids(query.getResultPage(10, 5).items()));
+        assertEquals(15, query.itemsRead);
+
+        assertEquals(List.of("15", "16", "17", "18", "19"), ids(query.getResultPage(15, 5).items()));
+        assertEquals(20, query.itemsRead);
+
+        // Jumping ahead continues at the closest earlier checkpoint
+        assertEquals(List.of("22", "23", "24"), ids(query.getResultPage(22, 5).items()));
+        assertEquals(25, query.itemsRead);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void pagesBeyondTheEndOfTheResultsAreEmptyWithoutReads() {
+        PageTokenCache cache = cache(10, 10);
+        TablePagesQuery query = new TablePagesQuery(cache, 8);
+
+        assertEquals(List.of("5", "6", "7"), ids(query.getResultPage(5, 5).items()));
+        int itemsRead = query.itemsRead;
+
+        assertTrue(query.getResultPage(10, 5).items().isEmpty());
+        assertEquals(itemsRead, query.itemsRead);
+    }
+
+    @Test
+    public void seekStartsAtFirstItemWithoutCheckpoint() {
+        PageTokenCache.Cursor cursor = cache(10, 10).seek(User.class, "all users", 40);
+
+        assertEquals(0, cursor.getOffset());
+        assertNull(cursor.getExclusiveStartKey());
+        assertFalse(cursor.isExhausted());
+    }
+
+    @Test
+    public void checkpointsExpireAfterTtl() {
+        PageTokenCache cache = cache(10, 10);
+        cache.seek(User.class, "all users", 0).advance(10, key(9));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(10, cache.seek(User.class, "all users", 10).getOffset());
+
+        // Using the checkpoints extends their TTL
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(10, cache.seek(User.class, "all users", 10).getOffset());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertEquals(0, cache.seek(User.class, "all users", 10).getOffset());
+    }
+
+    @Test
+    public void evictsLowestCheckpointsAndLeastRecentlyUsedRequests() {
+        PageTokenCache cache = cache(1, 2);
+        PageTokenCache.Cursor cursor = cache.seek(User.class, "all users", 0);
+        cursor.advance(10, key(9));
+        cursor.advance(10, key(19));
+        cursor.advance(10, key(29));
+
+        assertEquals(0, cache.seek(User.class, "all users", 15).getOffset());
+        assertEquals(20, cache.seek(User.class, "all users", 25).getOffset());
+
+        cache.seek(User.class, "active users", 0).advance(10, key(9));
+        assertEquals(0, cache.seek(User.class, "all users", 25).getOffset());
+    }
+
+    @Test
+    public void writesInvalidateCheckpointsOfTheirTable() {
+        PageTokenCache cache = cache(10, 10);
+        cache.seek(User.class, "all users", 0).advance(10, key(9));
+        PageTokenCache.Cursor racingCursor = cache.seek(User.class, "all users", 10);
+
+        cache.invalidateTable("User");
+        racingCursor.advance(10, key(19));
+
+        // Neither the checkpoint before nor the one read while writing are kept
+        assertEquals(0, cache.seek(User.class, "all users", 25).getOffset());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PrefetchingPageIterator}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class PrefetchingPageIteratorTest {
+
+    private final AtomicInteger fetched = new AtomicInteger();
+
+    /**
+     * Pages holding a single number each, from 0 to {@code count - 1}, failing at page {@code failAt}.
+     */
+    private Iterator<Page<Integer>> pages(int count, int failAt) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return fetched.get() < count;
+            }
+
+            @Override
+            public Page<Integer> next() {
+                int page = fetched.getAndIncrement();
+                if (page == failAt) {
+                    throw new IllegalStateException("Page " + page + " failed");
+                }
+                return Page.create(List.of(page));
+            }
+        };
+    }
+
+    private static List<Integer> readAll(Iterator<Page<Integer>> iterator) {
+        List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(page -> items.addAll(page.items()));
+        return items;
+    }
+
+    @Test
+    public void testFetchesUpToDepthAhead() {
+        PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<>(pages(10, -1), 2, Runnable::run);
+        assertEquals(0, fetched.get());
+
+        assertEquals(List.of(0), iterator.next().items());
+        assertEquals(3, fetched.get());
+        assertEquals(List.of(1), iterator.next().items());
+        assertEquals(4, fetched.get());
+
+        assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 9), readAll(iterator));
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testFailureAfterBufferedPages() {
+        PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<>(pages(10, 2), 2, Runnable::run);
+
+        assertEquals(List.of(0), iterator.next().items());
+        assertEquals(List.of(1), iterator.next().items());
+        IllegalStateException e = assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertEquals("Page 2 failed", e.getMessage());
+        assertFalse(iterator.hasNext());
+        assertEquals(3, fetched.get());
+    }
+
+    @Test
+    public void testCloseStopsFetching() {
+        PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<>(pages(10, -1), 1, Runnable::run);
+
+        iterator.next();
+        iterator.close();
+        assertFalse(iterator.hasNext());
+        assertEquals(2, fetched.get());
+    }
+
+    @Test
+    public void testVirtualThreads() {
+        PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<>(pages(100, -1), 3, null);
+
+        List<Integer> items = readAll(iterator);
+        assertEquals(100, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i));
+        }
+    }
+
+    @Test
+    public void testInvalidDepth() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrefetchingPageIterator<>(pages(1, -1), 0, Runnable::run));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class QueryResultCacheTest {
+
+    private static final TableSchema<User> USER_SCHEMA = TableSchemaFactory.createTableSchema(User.class);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final QueryResultCache cache = new QueryResultCache(domainClass -> "user", domainClass -> USER_SCHEMA,
+            clock::get);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private static User user(String id, String name) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        return user;
+    }
+
+    private List<User> query(QueryResultCache.Region region, String request) {
+        return region.getOrLoad(User.class, request, () -> {
+            executions.incrementAndGet();
+            return List.of(user("1", request));
+        });
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    public void cachesResultsPerRequest() {
+        QueryResultCache.Region region = cache.getRegion("findByName", 1000, 10);
+
+        List<User> first = query(region, "a");
+        List<User> second = query(region, "a");
+        query(region, "b");
+
+        assertEquals(2, executions.get());
+        assertEquals(first, second);
+        assertNotSame(first.get(0), second.get(0), "Hits must return copies of the cached entities");
+        assertEquals(1, region.getHitCount());
+        assertEquals(2, region.getMissCount());
+    }
+
+    @Test
+    public void reusesRegionByName() {
+        assertSame(cache.getRegion("findByName", 1000, 10), cache.getRegion("findByName", 5, 1));
+    }
+
+    @Test
+    public void expiresResultsAfterTtl() {
+        QueryResultCache.Region region = cache.getRegion("findByName", 1000, 10);
+
+        query(region, "a");
+        advanceMillis(999);
+        query(region, "a");
+        assertEquals(1, executions.get());
+
+        advanceMillis(1);
+        query(region, "a");
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedRequests() {
+        QueryResultCache.Region region = cache.getRegion("findByName", 1000, 2);
+
+        query(region, "a");
+        query(region, "b");
+        query(region, "a");
+        query(region, "c");
+
+        assertEquals(2, region.size());
+        executions.set(0);
+        query(region, "a");
+        assertEquals(0, executions.get());
+        query(region, "b");
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void invalidatesResultsOfWrittenTable() {
+        QueryResultCache.Region region = cache.getRegion("findByName", 1000, 10);
+        query(region, "a");
+
+        cache.invalidate(User.class);
+        query(region, "a");
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void doesNotCacheResultsReadBeforeConcurrentWrite() {
+        QueryResultCache.Region region = cache.getRegion("findByName", 1000, 10);
+
+        region.getOrLoad(User.class, "a", () -> {
+            executions.incrementAndGet();
+            cache.invalidateTable("user");
+            return List.of(user("1", "stale"));
+        });
+        query(region, "a");
+
+        assertEquals(2, executions.get());
+        assertEquals(1, region.size());
+    }
+
+    @Test
+    public void clearEvictsAllResults() {
+        QueryResultCache.Region region = cache.getRegion("findByName", 1000, 10);
+        query(region, "a");
+
+        cache.clear();
+
+        assertEquals(0, region.size());
+        query(region, "a");
+        assertEquals(2, executions.get());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.socialsignin.spring.data.dynamodb.core.StaticTableSchemaGeneratorTest.Sample;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares mapping items with the schema of {@link StaticTableSchemaGenerator} against the one of
+ * {@link TableSchema#fromBean(Class)}. Not run as part of the tests; run {@link #main(String[])} with the test
+ * classpath, e.g. from the IDE.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticTableSchemaGeneratorBenchmark {
+
+    private TableSchema<Sample> generatedSchema;
+    private TableSchema<Sample> beanSchema;
+    private Sample sample;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setUp() {
+        generatedSchema = StaticTableSchemaGenerator.generateSchema(Sample.class);
+        beanSchema = TableSchema.fromBean(Sample.class);
+
+        sample = new Sample();
+        sample.setId("id-1");
+        sample.setCount(42);
+        sample.setActive(true);
+        sample.setScore(1.5d);
+        sample.setTotal(7L);
+        item = beanSchema.itemToMap(sample, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> itemToMapGenerated() {
+        return generatedSchema.itemToMap(sample, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> itemToMapFromBean() {
+        return beanSchema.itemToMap(sample, true);
+    }
+
+    @Benchmark
+    public Sample mapToItemGenerated() {
+        return generatedSchema.mapToItem(item);
+    }
+
+    @Benchmark
+    public Sample mapToItemFromBean() {
+        return beanSchema.mapToItem(item);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StaticTableSchemaGeneratorBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.core.StaticTableSchemaGenerator.AccessorBinding;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StaticTableSchemaGeneratorTest {
+
+    @Test
+    public void testGenerateSchema_MapsObjectAndPrimitiveProperties() {
+        TableSchema<Sample> schema = StaticTableSchemaGenerator.generateSchema(Sample.class);
+
+        Sample sample = new Sample();
+        sample.setId("id-1");
+        sample.setCount(42);
+        sample.setActive(true);
+        sample.setScore(1.5d);
+        sample.setTotal(7L);
+
+        Map<String, AttributeValue> item = schema.itemToMap(sample, true);
+
+        assertEquals("id-1", item.get("Id").s());
+        assertEquals("42", item.get("count").n());
+        assertTrue(item.get("active").bool());
+        assertEquals("1.5", item.get("score").n());
+        assertEquals("7", item.get("total").n());
+
+        Sample mapped = schema.mapToItem(item);
+
+        assertEquals("id-1", mapped.getId());
+        assertEquals(42, mapped.getCount());
+        assertTrue(mapped.isActive());
+        assertEquals(1.5d, mapped.getScore());
+        assertEquals(7L, mapped.getTotal());
+    }
+
+    @Test
+    public void testGenerateSchema_LeavesMissingAttributesUnset() {
+        TableSchema<Sample> schema = StaticTableSchemaGenerator.generateSchema(Sample.class);
+
+        Sample mapped = schema.mapToItem(Map.of("Id", AttributeValue.fromS("id-2")));
+
+        assertEquals("id-2", mapped.getId());
+        assertEquals(0, mapped.getCount());
+        assertFalse(mapped.isActive());
+        assertNull(mapped.getTotal());
+    }
+
+    @Test
+    public void testGenerateSchema_BindsAccessorsWithLambdaMetafactory() throws NoSuchMethodException {
+        assertEquals(AccessorBinding.LAMBDA_METAFACTORY, StaticTableSchemaGenerator.getAccessorBinding(
+                StaticTableSchemaGenerator.createNewItemSupplier(Sample.class)));
+
+        Function<Sample, Object> idGetter = StaticTableSchemaGenerator.createGetterFunction(Sample.class,
+                Sample.class.getMethod("getId"));
+        Function<Sample, Object> countGetter = StaticTableSchemaGenerator.createGetterFunction(Sample.class,
+                Sample.class.getMethod("getCount"));
+        BiConsumer<Sample, Object> idSetter = StaticTableSchemaGenerator.createSetterConsumer(Sample.class,
+                Sample.class.getMethod("setId", String.class), String.class);
+        BiConsumer<Sample, Object> countSetter = StaticTableSchemaGenerator.createSetterConsumer(Sample.class,
+                Sample.class.getMethod("setCount", int.class), int.class);
+
+        assertEquals(AccessorBinding.LAMBDA_METAFACTORY, StaticTableSchemaGenerator.getAccessorBinding(idGetter));
+        assertEquals(AccessorBinding.LAMBDA_METAFACTORY, StaticTableSchemaGenerator.getAccessorBinding(countGetter));
+        assertEquals(AccessorBinding.LAMBDA_METAFACTORY, StaticTableSchemaGenerator.getAccessorBinding(idSetter));
+        assertEquals(AccessorBinding.LAMBDA_METAFACTORY, StaticTableSchemaGenerator.getAccessorBinding(countSetter));
+
+        // The bound accessors box and unbox primitive values
+        Sample sample = new Sample();
+        idSetter.accept(sample, "id-3");
+        countSetter.accept(sample, 3);
+        assertEquals("id-3", idGetter.apply(sample));
+        assertEquals(3, countGetter.apply(sample));
+    }
+
+    @DynamoDbBean
+    public static class Sample {
+
+        private String id;
+        private int count;
+        private boolean active;
+        private double score;
+        private Long total;
+
+        @DynamoDbPartitionKey
+        @DynamoDbAttribute("Id")
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public Long getTotal() {
+            return total;
+        }
+
+        public void setTotal(Long total) {
+            this.total = total;
+        }
+    }
+}
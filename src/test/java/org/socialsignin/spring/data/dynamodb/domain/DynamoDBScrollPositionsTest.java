@@ -0,0 +1,105 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link DynamoDBScrollPositions}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class DynamoDBScrollPositionsTest {
+
+    @Test
+    public void testRoundTripOfScalarKeyAttributes() {
+        Map<String, AttributeValue> key = Map.of("Id", AttributeValue.fromS("user-1"), "Rank",
+                AttributeValue.fromN("42"), "Hash", AttributeValue.fromB(SdkBytes.fromByteArray(new byte[] { 1, 2 })));
+
+        KeysetScrollPosition position = DynamoDBScrollPositions.after(key);
+        String token = (String) position.getKeys().get(DynamoDBScrollPositions.EXCLUSIVE_START_KEY);
+
+        assertFalse(position.isInitial());
+        assertEquals(key, DynamoDBScrollPositions.exclusiveStartKey(position));
+        assertEquals(key, DynamoDBScrollPositions.exclusiveStartKey(DynamoDBScrollPositions.fromToken(token)));
+    }
+
+    @Test
+    public void testInitialPositions() {
+        assertTrue(DynamoDBScrollPositions.after(null).isInitial());
+        assertTrue(DynamoDBScrollPositions.after(Map.of()).isInitial());
+        assertTrue(DynamoDBScrollPositions.fromToken(null).isInitial());
+        assertNull(DynamoDBScrollPositions.exclusiveStartKey(ScrollPosition.keyset()));
+        assertNull(DynamoDBScrollPositions.exclusiveStartKey(ScrollPosition.offset()));
+    }
+
+    @Test
+    public void testUnsupportedPositionsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBScrollPositions.exclusiveStartKey(ScrollPosition.offset(10)));
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBScrollPositions.exclusiveStartKey(ScrollPosition.backward(Map.of("Id", "1"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBScrollPositions.exclusiveStartKey(ScrollPosition.forward(Map.of("Id", "1"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBScrollPositions.exclusiveStartKey(DynamoDBScrollPositions.fromToken("not-a-token")));
+    }
+
+    @Test
+    public void testTokenWithOversizedBinaryLengthIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeShort(1);
+            out.writeUTF("Hash");
+            out.writeByte('B');
+            out.writeInt(Integer.MAX_VALUE);
+            out.write(new byte[] { 1, 2 });
+        }
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBScrollPositions.exclusiveStartKey(DynamoDBScrollPositions.fromToken(token)));
+    }
+
+    @Test
+    public void testTokenWithBinaryLengthBeyondInputIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeShort(1);
+            out.writeUTF("Hash");
+            out.writeByte('B');
+            out.writeInt(1000);
+            out.write(new byte[] { 1, 2 });
+        }
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBScrollPositions.exclusiveStartKey(DynamoDBScrollPositions.fromToken(token)));
+    }
+}
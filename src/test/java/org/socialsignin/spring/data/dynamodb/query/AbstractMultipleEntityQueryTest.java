@@ -21,10 +21,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.domain.DynamoDBScrollPositions;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,6 +54,30 @@ public class AbstractMultipleEntityQueryTest {
         }
     }
 
+    private static class TestPagedQuery extends AbstractMultipleEntityQuery<User> {
+        private final Deque<Page<User>> pages;
+        private final List<Map<String, AttributeValue>> startKeys = new ArrayList<>();
+        private final List<Integer> limits = new ArrayList<>();
+
+        @SafeVarargs
+        public TestPagedQuery(DynamoDBOperations dynamoDBOperations, Page<User>... pages) {
+            super(dynamoDBOperations, User.class);
+            this.pages = new ArrayDeque<>(Arrays.asList(pages));
+        }
+
+        @Override
+        public List<User> getResultList() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Page<User> readPage(Map<String, AttributeValue> exclusiveStartKey, int limit) {
+            startKeys.add(exclusiveStartKey);
+            limits.add(limit);
+            return pages.removeFirst();
+        }
+    }
+
     @Mock
     private DynamoDBOperations dynamoDBOperations;
     @Mock
@@ -76,4 +109,34 @@ public class AbstractMultipleEntityQueryTest {
 
         assertTrue(exception.getMessage().contains("result returns more than one elements"));
     }
+
+    @Test
+    public void testResultWindowReadsUntilSizeAndResumesAtLastEvaluatedKey() {
+        Map<String, AttributeValue> firstKey = Map.of("Id", AttributeValue.fromS("1"));
+        Map<String, AttributeValue> secondKey = Map.of("Id", AttributeValue.fromS("3"));
+        TestPagedQuery query = new TestPagedQuery(dynamoDBOperations, Page.create(List.of(entity), firstKey),
+                Page.create(List.of(entity, entity), secondKey));
+
+        Window<User> window = query.getResultWindow(DynamoDBScrollPositions.after(Map.of("Id", AttributeValue.fromS("0"))), 3);
+
+        assertEquals(3, window.size());
+        assertTrue(window.hasNext());
+        assertEquals(List.of(3, 2), query.limits);
+        assertEquals(Map.of("Id", AttributeValue.fromS("0")), query.startKeys.get(0));
+        assertEquals(firstKey, query.startKeys.get(1));
+        assertEquals(secondKey, DynamoDBScrollPositions.exclusiveStartKey(window.positionAt(2)));
+        assertThrows(UnsupportedOperationException.class, () -> window.positionAt(0));
+    }
+
+    @Test
+    public void testResultWindowEndsWithoutLastEvaluatedKey() {
+        TestPagedQuery query = new TestPagedQuery(dynamoDBOperations, Page.create(List.of(entity)));
+
+        Window<User> window = query.getResultWindow(ScrollPosition.keyset(), 5);
+
+        assertEquals(1, window.size());
+        assertFalse(window.hasNext());
+        assertNull(query.startKeys.get(0));
+        assertTrue(window.positionAt(0).isInitial());
+    }
 }
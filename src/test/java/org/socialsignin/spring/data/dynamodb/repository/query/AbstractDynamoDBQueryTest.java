@@ -23,7 +23,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.query.AbstractMultipleEntityQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.SkipTotalCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,15 +33,20 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.core.TypeInformation;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
@@ -49,6 +56,9 @@ public class AbstractDynamoDBQueryTest {
 
     public interface UserRepository extends CrudRepository<User, String> {
         Page<User> findByName(String name, Pageable pageable);
+
+        @SkipTotalCount
+        Page<User> findByEmailAddress(String emailAddress, Pageable pageable);
     }
 
     @Mock
@@ -117,7 +127,7 @@ public class AbstractDynamoDBQueryTest {
     public void setUp() {
         doReturn(Page.class).when(typeInformation).getType();
         doReturn(typeInformation).when(metadata)
-                .getReturnType(ArgumentMatchers.argThat(argument -> "findByName".equals(argument.getName())));
+                .getReturnType(ArgumentMatchers.argThat(argument -> argument.getDeclaringClass() == UserRepository.class));
         doReturn(TypeInformation.of(Page.class)).when(metadata).getDomainTypeInformation();
         doReturn(UserRepository.class).when(metadata).getRepositoryInterface();
         doReturn(User.class).when(metadata).getReturnedDomainClass(any());
@@ -185,4 +195,69 @@ public class AbstractDynamoDBQueryTest {
         verify(content).iterator();
     }
 
+    @Test
+    public void testPagedReadsOnlyUpToEndOfPageWhileCounting() throws NoSuchMethodException, SecurityException {
+        resultsRestrictionIfApplicable = null;
+        List<Integer> limits = new ArrayList<>();
+        query = new AbstractMultipleEntityQuery<User>(dynamoDBOperations, User.class) {
+            @Override
+            public List<User> getResultList() {
+                throw new UnsupportedOperationException("The whole result list must not be read");
+            }
+
+            @Override
+            protected Object getPageTokenKey() {
+                return "findByName";
+            }
+
+            @Override
+            protected software.amazon.awssdk.enhanced.dynamodb.model.Page<User> readPage(
+                    Map<String, AttributeValue> exclusiveStartKey, int limit) {
+                limits.add(limit);
+                return software.amazon.awssdk.enhanced.dynamodb.model.Page.create(generateContent(limit),
+                        Map.of("Id", AttributeValue.fromS("id")));
+            }
+        };
+        AtomicReference<Thread> countThread = new AtomicReference<>();
+        when(countQuery.getSingleResult()).thenAnswer(invocation -> {
+            countThread.set(Thread.currentThread());
+            return 100L;
+        });
+
+        Method method = UserRepository.class.getMethod("findByName", String.class, Pageable.class);
+        DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+                factory);
+        TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+        Page<User> actualPage = (Page<User>) underTest.execute(new Object[] { "testName", PageRequest.of(1, 10) });
+
+        assertEquals(List.of(10, 10), limits);
+        assertEquals(10, actualPage.getNumberOfElements());
+        assertEquals(100, actualPage.getTotalElements());
+        assertNotSame(Thread.currentThread(), countThread.get());
+    }
+
+    @Test
+    public void testPagedWithoutTotalCount() throws NoSuchMethodException, SecurityException {
+        resultsRestrictionIfApplicable = null;
+        List<User> content = generateContent(15);
+
+        Method method = UserRepository.class.getMethod("findByEmailAddress", String.class, Pageable.class);
+        DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+                factory);
+
+        when(query.getResultList()).thenReturn(content);
+
+        TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+        Page<User> firstPage = (Page<User>) underTest.execute(new Object[] { "testEmail", PageRequest.of(0, 10) });
+        Page<User> lastPage = (Page<User>) underTest.execute(new Object[] { "testEmail", PageRequest.of(1, 10) });
+
+        assertEquals(10, firstPage.getNumberOfElements());
+        assertTrue(firstPage.hasNext());
+        assertEquals(5, lastPage.getNumberOfElements());
+        assertEquals(15, lastPage.getTotalElements());
+        assertTrue(lastPage.isLast());
+        verifyNoInteractions(countQuery);
+    }
 }
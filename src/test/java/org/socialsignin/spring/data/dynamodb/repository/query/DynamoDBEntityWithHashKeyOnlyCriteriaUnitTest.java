@@ -27,8 +27,15 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -178,4 +185,58 @@ public class DynamoDBEntityWithHashKeyOnlyCriteriaUnitTest
         assertFalse(hasIndexRangeKeyCondition);
     }
 
+    @Test
+    public void testBuildScanExpression_WhenProjectedAttributesAreSetReadsOnlyThoseAttributes() {
+        criteria.withProjectedAttributes(List.of("name", "postCode"));
+
+        assertEquals(List.of("name", "postCode"), criteria.buildScanExpression().attributesToProject());
+    }
+
+    @Test
+    public void testBuildScanExpression_WhenProjectionExpressionIsSetIgnoresProjectedAttributes() {
+        criteria.withProjection("name");
+        criteria.withProjectedAttributes(List.of("name", "postCode"));
+
+        assertNull(criteria.buildScanExpression().attributesToProject());
+    }
+
+    @Test
+    public void testBuildQueryRequest_WhenProjectedAttributesAreSetReadsOnlyThoseAttributes() {
+        criteria.withProjectedAttributes(List.of("name", "postCode"));
+
+        QueryRequest queryRequest = buildQueryRequestForHashKey("someId");
+
+        assertEquals("#pk0 = :kval0", queryRequest.keyConditionExpression());
+        assertEquals(Select.SPECIFIC_ATTRIBUTES, queryRequest.select());
+        assertEquals("#proj0, #proj1", queryRequest.projectionExpression());
+        assertEquals(Map.of("#pk0", "id", "#proj0", "name", "#proj1", "postCode"),
+                queryRequest.expressionAttributeNames());
+    }
+
+    @Test
+    public void testBuildQueryRequest_WhenProjectionExpressionIsSetIgnoresProjectedAttributes() {
+        criteria.withProjection("name");
+        criteria.withProjectedAttributes(List.of("name", "postCode"));
+
+        QueryRequest queryRequest = buildQueryRequestForHashKey("someId");
+
+        assertEquals(Select.SPECIFIC_ATTRIBUTES, queryRequest.select());
+        assertEquals("name", queryRequest.projectionExpression());
+        assertEquals(Map.of("#pk0", "id"), queryRequest.expressionAttributeNames());
+    }
+
+    @Test
+    public void testBuildQueryRequest_WhenNoProjectedAttributesAreSetReadsWholeItems() {
+        QueryRequest queryRequest = buildQueryRequestForHashKey("someId");
+
+        assertNull(queryRequest.select());
+        assertNull(queryRequest.projectionExpression());
+    }
+
+    private QueryRequest buildQueryRequestForHashKey(String hashKey) {
+        Condition hashKeyCondition = Condition.builder().comparisonOperator(ComparisonOperator.EQ)
+                .attributeValueList(AttributeValue.fromS(hashKey)).build();
+        return criteria.buildQueryRequest("user", null, "id", null, null, List.of(hashKeyCondition), null);
+    }
+
 }
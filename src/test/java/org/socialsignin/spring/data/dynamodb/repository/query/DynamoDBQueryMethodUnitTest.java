@@ -0,0 +1,175 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DynamoDBQueryMethodUnitTest {
+
+    public interface UserRepository extends CrudRepository<User, String> {
+        List<User> findByName(String name);
+
+        List<UserName> findByPostCode(String postCode);
+
+        List<UserDisplayName> findByNumberOfPlaylists(Integer numberOfPlaylists);
+
+        List<UserSummary> findByJoinYear(Date joinYear);
+
+        List<UserNameBean> findByLeaveDate(Instant leaveDate);
+    }
+
+    public interface UserName {
+        String getName();
+    }
+
+    public interface UserDisplayName {
+        @Value("#{target.name + ' (' + target.postCode + ')'}")
+        String getDisplayName();
+    }
+
+    public record UserSummary(String name, String postCode) {
+    }
+
+    public static class UserNameBean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static DynamoDBQueryMethod<User, String> queryMethod(String methodName, Class<?> parameterType)
+            throws NoSuchMethodException {
+        return new DynamoDBQueryMethod<>(UserRepository.class.getMethod(methodName, parameterType),
+                new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+    }
+
+    private static User user(String name, String postCode) {
+        User user = new User();
+        user.setId("someId");
+        user.setName(name);
+        user.setPostCode(postCode);
+        return user;
+    }
+
+    @Test
+    public void testGetProjectedProperties_WhenReturningEntitiesIsEmpty() throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByName", String.class);
+
+        assertFalse(method.isProjecting());
+        assertEquals(List.of(), method.getProjectedProperties());
+    }
+
+    @Test
+    public void testGetProjectedProperties_WhenReturningClosedInterfaceProjectionReturnsItsProperties()
+            throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByPostCode", String.class);
+
+        assertTrue(method.isProjecting());
+        assertEquals(List.of("name"), method.getProjectedProperties());
+    }
+
+    @Test
+    public void testGetProjectedProperties_WhenReturningOpenInterfaceProjectionIsEmpty() throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByNumberOfPlaylists", Integer.class);
+
+        // The @Value expression may read any property, so the whole item is read
+        assertTrue(method.isProjecting());
+        assertEquals(List.of(), method.getProjectedProperties());
+    }
+
+    @Test
+    public void testGetProjectedProperties_WhenReturningRecordReturnsItsComponents() throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByJoinYear", Date.class);
+
+        assertTrue(method.isProjecting());
+        assertEquals(List.of("name", "postCode"), method.getProjectedProperties());
+    }
+
+    @Test
+    public void testGetProjectedProperties_WhenReturningNoArgDtoIsEmpty() throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByLeaveDate", Instant.class);
+
+        // The DTO is populated through its setters, which may write any property, so the whole item is read
+        assertTrue(method.isProjecting());
+        assertEquals(List.of(), method.getProjectedProperties());
+    }
+
+    @Test
+    public void testConvertToProjection_WhenReturningInterfaceProjectionWrapsEntities() throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByPostCode", String.class);
+
+        Object result = method.convertToProjection(List.of(user("someName", "somePostCode")));
+
+        List<?> projections = assertInstanceOf(List.class, result);
+        assertEquals(1, projections.size());
+        UserName projection = assertInstanceOf(UserName.class, projections.getFirst());
+        assertEquals("someName", projection.getName());
+    }
+
+    @Test
+    public void testConvertToProjection_WhenReturningOpenInterfaceProjectionEvaluatesExpression()
+            throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByNumberOfPlaylists", Integer.class);
+
+        Object result = method.convertToProjection(List.of(user("someName", "somePostCode")));
+
+        List<?> projections = assertInstanceOf(List.class, result);
+        UserDisplayName projection = assertInstanceOf(UserDisplayName.class, projections.getFirst());
+        assertEquals("someName (somePostCode)", projection.getDisplayName());
+    }
+
+    @Test
+    public void testConvertToProjection_WhenReturningRecordCreatesRecordsFromEntityProperties()
+            throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByJoinYear", Date.class);
+
+        Object result = method.convertToProjection(List.of(user("someName", "somePostCode")));
+
+        assertEquals(List.of(new UserSummary("someName", "somePostCode")), result);
+    }
+
+    @Test
+    public void testConvertToProjection_WhenReturningNoArgDtoCopiesEntityProperties() throws NoSuchMethodException {
+        DynamoDBQueryMethod<User, String> method = queryMethod("findByLeaveDate", Instant.class);
+
+        Object result = method.convertToProjection(List.of(user("someName", "somePostCode")));
+
+        List<?> projections = assertInstanceOf(List.class, result);
+        assertEquals(1, projections.size());
+        UserNameBean projection = assertInstanceOf(UserNameBean.class, projections.getFirst());
+        assertEquals("someName", projection.getName());
+    }
+
+}
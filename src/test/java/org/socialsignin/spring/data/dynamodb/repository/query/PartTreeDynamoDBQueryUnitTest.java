@@ -24,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.TableSchemaFactory;
 import org.socialsignin.spring.data.dynamodb.domain.sample.DynamoDBYearMarshaller;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
@@ -133,6 +134,10 @@ public class PartTreeDynamoDBQueryUnitTest {
         Mockito.lenient().when(mockUserQueryResults.iterator()).thenReturn(List.of(mockUserPage).iterator());
         Mockito.lenient().when(mockPlaylistScanResults.iterator()).thenReturn(List.of(mockPlaylistPage).iterator());
         Mockito.lenient().when(mockPlaylistQueryResults.iterator()).thenReturn(List.of(mockPlaylistPage).iterator());
+
+        // Exists queries project the key attributes of the table
+        Mockito.lenient().doReturn(TableSchemaFactory.createTableSchema(User.class))
+                .when(mockDynamoDBOperations).getTableModel(User.class);
     }
 
     private <T, ID extends Serializable> void setupCommonMocksForThisRepositoryMethod(
@@ -208,6 +213,20 @@ public class PartTreeDynamoDBQueryUnitTest {
         Mockito.verify(mockDynamoDBOperations).load(User.class, "someId");
     }
 
+    @Test
+    public void testExecute_WhenInvokedRepeatedlyResolvesMethodSettingsOnce() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findById", 1, "id", null);
+        Mockito.when(mockDynamoDBOperations.load(User.class, "someId")).thenReturn(mockUser);
+
+        assertEquals(mockUser, partTreeDynamoDBQuery.execute(new Object[] { "someId" }));
+        assertEquals(mockUser, partTreeDynamoDBQuery.execute(new Object[] { "someId" }));
+
+        Mockito.verify(mockDynamoDBUserQueryMethod, Mockito.times(1)).getEntityInformation();
+        Mockito.verify(mockDynamoDBUserQueryMethod, Mockito.times(1)).getConsistentReadMode();
+        Mockito.verify(mockDynamoDBOperations, Mockito.times(2)).load(User.class, "someId");
+    }
+
     @Test
     public void testExecute_WhenFinderMethodIsFindingSingleEntityWithCompositeId_WithSingleStringParameter_WhenFindingByHashAndRangeKey() {
         setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
@@ -1291,6 +1310,67 @@ Mockito.when(mockDynamoDBPlaylistQueryMethod.isScanEnabled()).thenReturn(true);
         Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.capture(), scanEnhancedCaptor.capture());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecute_WhenTopQueryHasFilterStopsScanWithoutLimit() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findTop2ByName", 1, "id", null);
+        Mockito.when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+        Mockito.when(mockDynamoDBUserQueryMethod.isScanEnabled()).thenReturn(true);
+        software.amazon.awssdk.enhanced.dynamodb.model.Page<User> nextPage =
+                Mockito.mock(software.amazon.awssdk.enhanced.dynamodb.model.Page.class);
+        Mockito.when(mockUserScanResults.iterator()).thenReturn(List.of(
+                software.amazon.awssdk.enhanced.dynamodb.model.Page.create(List.of(mockUser, mockUser)), nextPage)
+                .iterator());
+        Mockito.when(mockDynamoDBOperations.scan(ArgumentMatchers.any(Class.class), ArgumentMatchers.any(software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest.class)))
+                .thenReturn(mockUserScanResults);
+
+        Object o = partTreeDynamoDBQuery.execute(new Object[] { "someName" });
+
+        assertEquals(List.of(mockUser, mockUser), o);
+        Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.capture(), scanEnhancedCaptor.capture());
+        // DynamoDB filters the items after applying the limit, so the scan isn't limited to 2 items, but it stops
+        // once 2 results were found
+        assertNotNull(scanEnhancedCaptor.getValue().filterExpression());
+        assertNull(scanEnhancedCaptor.getValue().limit());
+        Mockito.verifyNoInteractions(nextPage);
+    }
+
+    @Test
+    public void testExecute_WhenTopQueryHasNoFilterPushesMaxResultsIntoQueryLimit() {
+        setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
+                Playlist.class, "findTop2ByUserName", 1, "userName", "playlistName");
+        Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
+        Mockito.when(mockDynamoDBOperations.query(ArgumentMatchers.any(Class.class), ArgumentMatchers.any(QueryRequest.class)))
+                .thenReturn(mockPlaylistQueryResults);
+
+        Object o = partTreeDynamoDBQuery.execute(new Object[] { "someUserName" });
+
+        assertEquals(List.of(mockPlaylist), o);
+        Mockito.verify(mockDynamoDBOperations).query(playlistClassCaptor.capture(), queryResultCaptor.capture());
+        // Every item the query reads is a result, so it reads at most 2 items
+        assertNull(queryResultCaptor.getValue().filterExpression());
+        assertEquals(2, queryResultCaptor.getValue().limit());
+    }
+
+    @Test
+    public void testExecute_WhenTopQueryHasFilterExpressionDoesNotPushMaxResultsIntoQueryLimit() {
+        Mockito.when(mockDynamoDBPlaylistQueryMethod.getFilterExpression())
+                .thenReturn(Optional.of("attribute_exists(displayName)"));
+        setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
+                Playlist.class, "findTop2ByUserName", 1, "userName", "playlistName");
+        Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
+        Mockito.when(mockDynamoDBOperations.query(ArgumentMatchers.any(Class.class), ArgumentMatchers.any(QueryRequest.class)))
+                .thenReturn(mockPlaylistQueryResults);
+
+        Object o = partTreeDynamoDBQuery.execute(new Object[] { "someUserName" });
+
+        assertEquals(List.of(mockPlaylist), o);
+        Mockito.verify(mockDynamoDBOperations).query(playlistClassCaptor.capture(), queryResultCaptor.capture());
+        assertEquals("attribute_exists(displayName)", queryResultCaptor.getValue().filterExpression());
+        assertNull(queryResultCaptor.getValue().limit());
+    }
+
     @Test
     public void testExecute_WhenFinderMethodIsFindingSingleEntity_WithSingleStringParameter_WhenNotFindingByHashKey_WhenDynamoAttributeNameOverridden() {
         setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
@@ -3263,11 +3343,8 @@ Mockito.when(mockDynamoDBPlaylistQueryMethod.isScanEnabled()).thenReturn(true);
         // Return empty scan results (no entities found)
         @SuppressWarnings("unchecked")
         PageIterable<User> emptyResults = Mockito.mock(PageIterable.class);
-        @SuppressWarnings("unchecked")
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<User> emptyItems = Mockito.mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
 
-        Mockito.when(emptyItems.spliterator()).thenReturn(List.<User>of().spliterator());
-        Mockito.when(emptyResults.items()).thenReturn(emptyItems);
+        Mockito.when(emptyResults.iterator()).thenReturn(Collections.emptyIterator());
         Mockito.when(mockDynamoDBOperations.scan(ArgumentMatchers.any(Class.class), ArgumentMatchers.any(software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest.class)))
                 .thenReturn(emptyResults);
 
@@ -3334,6 +3411,10 @@ Mockito.when(mockDynamoDBPlaylistQueryMethod.isScanEnabled()).thenReturn(true);
 
         // Verify that the expected DynamoDBOperations method was called
         Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.capture(), scanEnhancedCaptor.capture());
+
+        // Only the key attributes are read, and the filter requires reading on until the first match
+        assertEquals(List.of("Id"), scanEnhancedCaptor.getValue().attributesToProject());
+        assertNull(scanEnhancedCaptor.getValue().limit());
     }
 
     @Test
@@ -3397,11 +3478,8 @@ Mockito.when(mockDynamoDBPlaylistQueryMethod.isScanEnabled()).thenReturn(true);
         // Return empty scan results (no entities found)
         @SuppressWarnings("unchecked")
         PageIterable<User> emptyResults = Mockito.mock(PageIterable.class);
-        @SuppressWarnings("unchecked")
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<User> emptyItems = Mockito.mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
 
-        Mockito.when(emptyItems.spliterator()).thenReturn(List.<User>of().spliterator());
-        Mockito.when(emptyResults.items()).thenReturn(emptyItems);
+        Mockito.when(emptyResults.iterator()).thenReturn(Collections.emptyIterator());
         Mockito.when(mockDynamoDBOperations.scan(ArgumentMatchers.any(Class.class), ArgumentMatchers.any(software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest.class)))
                 .thenReturn(emptyResults);
 
@@ -0,0 +1,64 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DynamoDBEntityInformationRegistryTest {
+
+    private final DynamoDBEntityInformationRegistry registry = DynamoDBEntityInformationRegistry.getInstance();
+
+    @Test
+    public void testGetEntityInformation_ReturnsSameInstanceForSameDomainClass() {
+        DynamoDBEntityInformation<User, String> first = registry.getEntityInformation(User.class);
+        DynamoDBEntityInformation<User, String> second = registry.getEntityInformation(User.class);
+
+        assertSame(first, second);
+        assertEquals("User", first.getDynamoDBTableName());
+    }
+
+    @Test
+    public void testGetEntityInformation_ReturnsSameInstanceForHashAndRangeKeyDomainClass() {
+        DynamoDBEntityInformation<Playlist, Object> first = registry.getEntityInformation(Playlist.class);
+
+        assertSame(first, registry.getEntityInformation(Playlist.class));
+        assertTrue(first.isRangeKeyAware());
+    }
+
+    @Test
+    public void testGetEntityInformation_KeepsOverriddenTableNameApart() {
+        DynamoDBOperations dynamoDBOperations = mock(DynamoDBOperations.class);
+        when(dynamoDBOperations.getOverriddenTableName(User.class, "User")).thenReturn("prefix_User");
+
+        DynamoDBEntityInformation<User, String> overridden = registry.getEntityInformation(User.class,
+                dynamoDBOperations);
+
+        assertEquals("prefix_User", overridden.getDynamoDBTableName());
+        assertSame(overridden, registry.getEntityInformation(User.class, dynamoDBOperations));
+        assertNotSame(overridden, registry.getEntityInformation(User.class));
+        assertEquals("User", registry.getEntityInformation(User.class).getDynamoDBTableName());
+    }
+}
@@ -19,7 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * SDK v2 Migration Notes:
@@ -43,4 +47,19 @@ public class DynamoDBEntityMetadataSupportUnitTest {
         AttributeConverter<?> methodAnnotation = support.getAttributeConverterForProperty("leaveDate");
         assertNotNull(methodAnnotation);
     }
+
+    @Test
+    public void testGetAttributeConverterForProperty_ReturnsSameConverterOnRepeatedCalls() {
+        DynamoDBEntityMetadataSupport<User, ?> support = new DynamoDBEntityMetadataSupport<>(User.class);
+        AttributeConverter<?> first = support.getAttributeConverterForProperty("joinYear");
+        assertSame(first, support.getAttributeConverterForProperty("joinYear"));
+    }
+
+    @Test
+    public void testGetOverriddenAttributeName_ResolvesOncePerProperty() {
+        DynamoDBEntityMetadataSupport<User, ?> support = new DynamoDBEntityMetadataSupport<>(User.class);
+        assertEquals(Optional.of("Id"), support.getOverriddenAttributeName("id"));
+        assertSame(support.getOverriddenAttributeName("id"), support.getOverriddenAttributeName("id"));
+        assertEquals(Optional.empty(), support.getOverriddenAttributeName("unknownProperty"));
+    }
 }
@@ -25,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -67,6 +68,14 @@ public class EnableScanAnnotationPermissionTest {
 
     }
 
+    @EnableScan(segments = 8)
+    public interface SampleSegmentedRepository {
+        @EnableScan(segments = 32)
+        int count();
+
+        List<User> findAll();
+    }
+
     @BeforeEach
     public void setUp() {
 
@@ -105,4 +114,14 @@ public class EnableScanAnnotationPermissionTest {
         assertFalse(underTest.isFindAllUnpaginatedScanEnabled());
     }
 
+    @Test
+    public void testSampleSegmentedRepository() {
+        EnableScanAnnotationPermissions underTest = new EnableScanAnnotationPermissions(SampleSegmentedRepository.class);
+
+        assertEquals(8, underTest.getFindAllScanSegments());
+        assertEquals(8, underTest.getDeleteAllScanSegments());
+        assertEquals(32, underTest.getCountScanSegments());
+        assertEquals(1, new EnableScanAnnotationPermissions(SampleRepository.class).getFindAllScanSegments());
+    }
+
 }
@@ -22,21 +22,27 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.BatchWriteResults;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -161,6 +167,47 @@ public class SimpleDynamoDBCrudRepositoryTest {
         assertEquals(testUser, actual.get(0));
     }
 
+    @Test
+    public void testStreamAllFetchesPagesAsConsumed() {
+        AtomicInteger pagesFetched = new AtomicInteger();
+        Iterator<Page<User>> pages = List.of(Page.create(List.of(testUser, testUser)), Page.create(List.of(testUser)),
+                Page.create(List.of(testUser))).iterator();
+        PageIterable<User> pageIterable = PageIterable.create(() -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return pages.hasNext();
+            }
+
+            @Override
+            public Page<User> next() {
+                pagesFetched.incrementAndGet();
+                return pages.next();
+            }
+        });
+
+        when(mockEnableScanPermissions.isFindAllUnpaginatedScanEnabled()).thenReturn(true);
+        when(dynamoDBOperations.scan(eq(User.class), any(ScanEnhancedRequest.class))).thenReturn(pageIterable);
+        when(dynamoDBOperations.prefetching(pageIterable)).thenReturn(pageIterable);
+
+        Stream<User> users = repoForEntityWithOnlyHashKey.streamAll();
+        Iterator<User> iterator = users.iterator();
+        iterator.next();
+        iterator.next();
+        assertEquals(1, pagesFetched.get());
+        iterator.next();
+        assertEquals(2, pagesFetched.get());
+
+        // Closing the stream stops fetching pages
+        users.close();
+        assertFalse(iterator.hasNext());
+        assertEquals(2, pagesFetched.get());
+    }
+
+    @Test
+    public void testStreamAllRequiresScanPermission() {
+        assertThrows(IllegalArgumentException.class, () -> repoForEntityWithOnlyHashKey.streamAll());
+    }
+
     /**
      * /**
      *
@@ -189,11 +236,12 @@ public class SimpleDynamoDBCrudRepositoryTest {
     @Test
     public void existsEntityWithOnlyHashKey() {
         when(entityWithSimpleIdInformation.getHashKey(1l)).thenReturn(1l);
-        when(dynamoDBOperations.load(User.class, 1l)).thenReturn(null);
+        when(dynamoDBOperations.exists(User.class, 1l, null)).thenReturn(false);
 
         boolean actual = repoForEntityWithOnlyHashKey.existsById(1l);
 
         assertFalse(actual);
+        verify(dynamoDBOperations, never()).load(User.class, 1l);
     }
 
     @Test
@@ -226,6 +274,16 @@ public class SimpleDynamoDBCrudRepositoryTest {
         assertEquals(testPlaylist, playlist.get());
     }
 
+    @Test
+    public void existsEntityWithHashAndRangeKey() {
+        when(entityWithCompositeIdInformation.isRangeKeyAware()).thenReturn(true);
+        when(entityWithCompositeIdInformation.getHashKey(testPlaylistId)).thenReturn("michael");
+        when(entityWithCompositeIdInformation.getRangeKey(testPlaylistId)).thenReturn("playlist1");
+        when(dynamoDBOperations.exists(Playlist.class, "michael", "playlist1")).thenReturn(true);
+
+        assertTrue(repoForEntityWithHashAndRangeKey.existsById(testPlaylistId));
+    }
+
     @Test
     public void testSave() {
         final long id = ThreadLocalRandom.current().nextLong();
@@ -297,4 +355,35 @@ public class SimpleDynamoDBCrudRepositoryTest {
 
         assertTrue(exception.getMessage().contains("Batch write operation failed"));
     }
+
+    @Test
+    public void testBatchSaveFailureReportsRetries() {
+        User user = new User();
+        List<User> entities = List.of(user);
+        when(dynamoDBOperations.batchSave(anyIterable()))
+                .thenReturn(new BatchWriteResults(List.of(Mockito.mock(BatchWriteResult.class)), 3));
+        when(dynamoDBOperations.extractUnprocessedPutItems(anyList(), anyMap())).thenReturn(List.of(user));
+
+        BatchWriteException exception = assertThrows(BatchWriteException.class, () -> {
+            repoForEntityWithOnlyHashKey.saveAll(entities);
+        });
+
+        assertEquals(3, exception.getRetriesAttempted());
+    }
+
+    @Test
+    public void testBatchDeleteFailure() {
+        User user = new User();
+        List<User> entities = List.of(user);
+        when(dynamoDBOperations.batchDelete(anyIterable()))
+                .thenReturn(new BatchWriteResults(List.of(Mockito.mock(BatchWriteResult.class)), 2));
+        when(dynamoDBOperations.extractUnprocessedDeleteItems(anyList(), anyMap())).thenReturn(List.of(user));
+
+        BatchDeleteException exception = assertThrows(BatchDeleteException.class, () -> {
+            repoForEntityWithOnlyHashKey.deleteAll(entities);
+        });
+
+        assertEquals(2, exception.getRetriesAttempted());
+        assertEquals(List.of(user), exception.getUnprocessedEntities(User.class));
+    }
 }
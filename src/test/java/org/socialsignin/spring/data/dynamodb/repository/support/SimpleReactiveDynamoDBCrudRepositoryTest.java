@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBAsyncOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SimpleReactiveDynamoDBCrudRepository}.
+ * @author Prasanna Kumar Ramachandran
+ */
+@ExtendWith(MockitoExtension.class)
+public class SimpleReactiveDynamoDBCrudRepositoryTest {
+
+    @Mock
+    private DynamoDBAsyncOperations asyncOperations;
+    @Mock
+    private EnableScanPermissions enableScanPermissions;
+    @Mock
+    private DynamoDBEntityInformation<User, String> entityInformation;
+
+    private SimpleReactiveDynamoDBCrudRepository<User, String> repository;
+
+    @BeforeEach
+    public void setUp() {
+        when(entityInformation.getJavaType()).thenReturn(User.class);
+        repository = new SimpleReactiveDynamoDBCrudRepository<>(entityInformation, asyncOperations,
+                enableScanPermissions);
+    }
+
+    private static <E> List<E> collect(Publisher<E> publisher) {
+        List<E> results = new ArrayList<>();
+        SdkPublisher.adapt(publisher).subscribe(results::add).join();
+        return results;
+    }
+
+    @Test
+    public void findByIdEmitsLoadedEntity() {
+        User user = new User();
+        when(entityInformation.getHashKey("id1")).thenReturn("id1");
+        when(asyncOperations.load(User.class, "id1")).thenReturn(CompletableFuture.completedFuture(user));
+
+        assertEquals(List.of(user), collect(repository.findById("id1")));
+    }
+
+    @Test
+    public void findByIdCompletesEmptyWhenNotFound() {
+        when(entityInformation.getHashKey("id1")).thenReturn("id1");
+        when(asyncOperations.load(User.class, "id1")).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertTrue(collect(repository.findById("id1")).isEmpty());
+        assertEquals(List.of(false), collect(repository.existsById("id1")));
+    }
+
+    @Test
+    public void findAllRequiresScanPermission() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findAll());
+        verify(asyncOperations, never()).scanPublisher(any(), any());
+    }
+
+    @Test
+    public void countUsesScanCount() {
+        when(enableScanPermissions.isCountUnpaginatedScanEnabled()).thenReturn(true);
+        when(asyncOperations.count(eq(User.class), any(ScanEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(42));
+
+        assertEquals(List.of(42L), collect(repository.count()));
+    }
+
+    @Test
+    public void saveAllSignalsUnprocessedEntities() {
+        User user = new User();
+        List<User> users = List.of(user);
+        List<BatchWriteResult> results = Collections.emptyList();
+        when(asyncOperations.batchSave(users)).thenReturn(CompletableFuture.completedFuture(results));
+        when(asyncOperations.extractUnprocessedPutItems(eq(results), anyMap())).thenReturn(List.of(user));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> collect(repository.saveAll(users)));
+        assertInstanceOf(BatchWriteException.class, exception.getCause());
+    }
+
+    @Test
+    public void deleteByIdSignalsErrorWhenNotFound() {
+        when(entityInformation.getHashKey("id1")).thenReturn("id1");
+        when(asyncOperations.load(User.class, "id1")).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> collect(repository.deleteById("id1")));
+        assertInstanceOf(EmptyResultDataAccessException.class, exception.getCause());
+        verify(asyncOperations, never()).delete(any());
+    }
+
+    @Test
+    public void saveRunsOncePerSubscription() {
+        User user = new User();
+        when(asyncOperations.save(user)).thenReturn(CompletableFuture.completedFuture(user));
+
+        Publisher<User> publisher = repository.save(user);
+        verify(asyncOperations, never()).save(any());
+
+        assertEquals(List.of(user), collect(publisher));
+        assertEquals(List.of(user), collect(publisher));
+        verify(asyncOperations, times(2)).save(user);
+    }
+
+    @Test
+    public void deleteDoesNothingWithoutSubscriber() {
+        repository.delete(new User());
+        repository.deleteById("id1");
+
+        verify(asyncOperations, never()).delete(any());
+        verify(asyncOperations, never()).load(any(), any());
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/prasanna0586/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.utils;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FuturePublisher}.
+ * @author Prasanna Kumar Ramachandran
+ */
+public class FuturePublisherTest {
+
+    @Test
+    public void emitsValueOfCompletedFuture() {
+        List<String> results = new ArrayList<>();
+        FuturePublisher.of(() -> CompletableFuture.completedFuture("value")).subscribe(results::add).join();
+
+        assertEquals(List.of("value"), results);
+    }
+
+    @Test
+    public void completesEmptyForNullValue() {
+        List<Object> results = new ArrayList<>();
+        FuturePublisher.of(() -> CompletableFuture.completedFuture(null)).subscribe(results::add).join();
+
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void emitsOnlyRequestedElements() {
+        SdkPublisher<Integer> publisher = FuturePublisher.ofIterable(
+                () -> CompletableFuture.completedFuture(List.of(1, 2, 3)));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertEquals(List.of(1, 2), subscriber.items);
+        assertFalse(subscriber.completed.get());
+
+        subscriber.subscription.request(1);
+        assertEquals(List.of(1, 2, 3), subscriber.items);
+        assertTrue(subscriber.completed.get());
+    }
+
+    @Test
+    public void emitsAfterLateCompletion() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        FuturePublisher.of(() -> future).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.items.isEmpty());
+
+        future.complete("late");
+        assertEquals(List.of("late"), subscriber.items);
+        assertTrue(subscriber.completed.get());
+    }
+
+    @Test
+    public void signalsUnwrappedFailure() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        FuturePublisher.of(() -> CompletableFuture.<String>failedFuture(failure).thenApply(value -> value))
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertSame(failure, subscriber.error.get());
+    }
+
+    @Test
+    public void rejectsNonPositiveRequest() {
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        FuturePublisher.of(() -> CompletableFuture.completedFuture("value")).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error.get());
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void startsOperationOnFirstRequestOfEachSubscription() {
+        AtomicInteger invocations = new AtomicInteger();
+        SdkPublisher<Integer> publisher = FuturePublisher.of(
+                () -> CompletableFuture.completedFuture(invocations.incrementAndGet()));
+        assertEquals(0, invocations.get());
+
+        RecordingSubscriber<Integer> first = new RecordingSubscriber<>();
+        publisher.subscribe(first);
+        assertEquals(0, invocations.get());
+
+        first.subscription.request(1);
+        first.subscription.request(1);
+        assertEquals(1, invocations.get());
+        assertEquals(List.of(1), first.items);
+
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        publisher.subscribe(second);
+        second.subscription.request(1);
+        assertEquals(2, invocations.get());
+        assertEquals(List.of(2), second.items);
+    }
+
+    @Test
+    public void doesNotStartOperationWhenCancelledBeforeRequest() {
+        AtomicInteger invocations = new AtomicInteger();
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        FuturePublisher.of(() -> CompletableFuture.completedFuture(invocations.incrementAndGet()))
+                .subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertEquals(0, invocations.get());
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void signalsFailureOfSupplier() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        FuturePublisher.<String>of(() -> {
+            throw failure;
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertSame(failure, subscriber.error.get());
+    }
+
+    @Test
+    public void emitsAllElementsForUnboundedDemand() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        FuturePublisher.ofIterable(() -> CompletableFuture.completedFuture(List.of(1, 2, 3))).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(1, 2, 3), subscriber.items);
+        assertTrue(subscriber.completed.get());
+        assertNull(subscriber.error.get());
+    }
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+        private final List<T> items = new ArrayList<>();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.set(true);
+        }
+    }
+}